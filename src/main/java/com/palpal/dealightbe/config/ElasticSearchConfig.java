@@ -1,6 +1,9 @@
 package com.palpal.dealightbe.config;
 
+import java.time.Duration;
+
 import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.elasticsearch.client.ClientConfiguration;
 import org.springframework.data.elasticsearch.client.RestClients;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 @EnableElasticsearchRepositories
 @RequiredArgsConstructor
 @Configuration
+@ConditionalOnProperty(name = "search.backend", havingValue = "elasticsearch", matchIfMissing = true)
 public class ElasticSearchConfig extends AbstractElasticsearchConfiguration {
 
 	private final ElasticSearchProperty elasticSearchProperty;
@@ -21,6 +25,8 @@ public class ElasticSearchConfig extends AbstractElasticsearchConfiguration {
 		int port = elasticSearchProperty.getPort();
 		ClientConfiguration clientConfiguration = ClientConfiguration.builder()
 			.connectedTo(host + ":" + port)
+			.withConnectTimeout(Duration.ofMillis(elasticSearchProperty.getConnectTimeoutMillis()))
+			.withSocketTimeout(Duration.ofMillis(elasticSearchProperty.getSocketTimeoutMillis()))
 			.build();
 
 		return RestClients.create(clientConfiguration)
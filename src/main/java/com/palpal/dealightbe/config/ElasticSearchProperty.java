@@ -14,4 +14,39 @@ public class ElasticSearchProperty {
 
 	private String host;
 	private int port;
+
+	private long connectTimeoutMillis = 1000;
+	private long socketTimeoutMillis = 5000;
+
+	private long bulkSizeMb = 5;
+	private int bulkConcurrentRequests = 2;
+	private int bulkMaxRetries = 5;
+	private long bulkInitialBackoffMillis = 100;
+	private long bulkCloseTimeoutSeconds = 300;
+
+	private int indexerPageSize = 500;
+	private int indexerMaxPagesPerRun = 20;
+	private long indexerLagMillis = 2000;
+
+	// 재구축 후 되돌릴 수 있도록 현재 인덱스 외에 남겨 둘 이전 버전 수
+	private int retainedIndexVersions = 1;
+
+	private int rebuildWorkers = 4;
+	private int rebuildPartitions = 16;
+	// MySQL Connector/J 는 Integer.MIN_VALUE 일 때 행 단위로 스트리밍한다. useCursorFetch=true 를 쓰면 양수로 둔다.
+	private int rebuildFetchSize = Integer.MIN_VALUE;
+
+	private int consistencyRangeSize = 1000;
+	private long consistencyRangePauseMillis = 200;
+	private boolean consistencyRepairEnabled = false;
+
+	private long searchCacheTtlSeconds = 30;
+	private long searchCacheMaxSize = 10_000;
+
+	private float breakerFailureRateThreshold = 50;
+	private float breakerSlowCallRateThreshold = 50;
+	private long breakerSlowCallMillis = 1000;
+	private int breakerSlidingWindowSize = 50;
+	private int breakerMinimumCalls = 20;
+	private long breakerOpenSeconds = 30;
 }
@@ -0,0 +1,66 @@
+package com.palpal.dealightbe.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.palpal.dealightbe.global.cache.EntityCacheRegion;
+
+@Configuration
+public class EntityCacheConfig {
+
+	private static final URI CACHE_MANAGER_URI = URI.create("dealight:entity-cache");
+
+	// 영역마다 크기와 만료 시간을 정해 만들어 두고, Hibernate 는 이 CacheManager 의 캐시만 쓴다.
+	@Bean(destroyMethod = "close")
+	public CacheManager entityCacheManager(EntityCacheProperty entityCacheProperty) {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+			.getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+
+		for (String region : EntityCacheRegion.ALL) {
+			if (cacheManager.getCache(region) == null) {
+				cacheManager.createCache(region, regionConfiguration(entityCacheProperty));
+			}
+		}
+
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperty entityCacheProperty,
+		CacheManager entityCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, entityCacheProperty.isEnabled());
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+			// 영역별 적중률 지표를 위해 통계를 켜되, 세션마다 남는 통계 로그는 끈다.
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+			hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+		};
+	}
+
+	// Hibernate 는 분해한 불변 상태를 저장하므로 값 복사(store-by-value) 없이 참조로 둔다.
+	private CaffeineConfiguration<Object, Object> regionConfiguration(EntityCacheProperty entityCacheProperty) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStoreByValue(false);
+		configuration.setMaximumSize(OptionalLong.of(entityCacheProperty.getMaxSize()));
+		configuration.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(
+			new Duration(TimeUnit.SECONDS, entityCacheProperty.getTtlSeconds())));
+
+		return configuration;
+	}
+}
@@ -0,0 +1,25 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 업체, 주소, 권한, 업체 휴무일을 담는 Hibernate 2차 캐시 설정.
+ * 영역마다 entity-cache.max-size 개까지 두고, 무효화 메시지를 놓친 인스턴스도 entity-cache.ttl-seconds 가 지나면 DB 에서 다시 읽는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+@Getter
+@Setter
+public class EntityCacheProperty {
+
+	// false 면 2차 캐시 없이 매번 DB 에서 읽는다.
+	private boolean enabled = true;
+
+	private long maxSize = 10_000;
+
+	private long ttlSeconds = 600;
+}
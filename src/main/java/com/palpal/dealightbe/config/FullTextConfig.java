@@ -0,0 +1,19 @@
+package com.palpal.dealightbe.config;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.palpal.dealightbe.global.fulltext.FullTextFunctionContributor;
+
+@Configuration
+public class FullTextConfig {
+
+	// 업체/상품명 키워드 검색의 match_against 함수를 등록한다.
+	@Bean
+	public HibernatePropertiesCustomizer fullTextFunctionCustomizer() {
+		return hibernateProperties -> hibernateProperties.put(
+			EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR, new FullTextFunctionContributor());
+	}
+}
@@ -6,7 +6,9 @@ import javax.persistence.PersistenceContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.palpal.dealightbe.global.fulltext.FullTextIndexStatus;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 @Configuration
@@ -20,4 +22,10 @@ public class JpaConfig {
 	public JPAQueryFactory queryFactory() {
 		return new JPAQueryFactory(entityManager);
 	}
+
+	// 업체 키워드 검색이 FULLTEXT 인덱스를 쓸 수 있는지 판단하므로, QueryDSL 저장소를 쓰는 모든 곳에 함께 등록한다.
+	@Bean
+	public FullTextIndexStatus fullTextIndexStatus(JdbcTemplate jdbcTemplate) {
+		return new FullTextIndexStatus(jdbcTemplate);
+	}
 }
@@ -0,0 +1,24 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * search.backend=lucene 일 때 사용하는 내장 Lucene 색인 설정.
+ * Elasticsearch 없이 띄우려면 spring.data.elasticsearch.repositories.enabled=false,
+ * management.health.elasticsearch.enabled=false 도 함께 설정한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "search.lucene")
+@Getter
+@Setter
+public class LuceneSearchProperty {
+
+	private String indexPath = "data/store-index";
+
+	// 자동완성 후보를 고를 때 훑어보는 최대 업체 수
+	private int suggestScanSize = 1000;
+}
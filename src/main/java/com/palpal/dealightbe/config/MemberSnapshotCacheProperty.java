@@ -0,0 +1,22 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * providerId 별 회원 정보(회원 id, 권한, 업체 id) 캐시 설정.
+ * 다른 인스턴스에서 바뀐 권한은 member.snapshot-cache.ttl-seconds 가 지나야 반영되므로 짧게 둔다.
+ */
+@Component
+@ConfigurationProperties(prefix = "member.snapshot-cache")
+@Getter
+@Setter
+public class MemberSnapshotCacheProperty {
+
+	private long maxSize = 10_000;
+
+	private long ttlSeconds = 30;
+}
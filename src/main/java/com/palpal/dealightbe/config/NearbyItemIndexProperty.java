@@ -0,0 +1,24 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회원 홈 피드를 메모리에서 답하는 주변 상품 격자 색인 설정.
+ * 반영 주기는 item.nearby-index.flush-interval-millis, 전체 재적재 주기는 item.nearby-index.reload-interval-millis 로 정한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "item.nearby-index")
+@Getter
+@Setter
+public class NearbyItemIndexProperty {
+
+	// false 면 항상 SQL 로 조회한다.
+	private boolean enabled = true;
+
+	// 격자 한 칸의 위도/경도 크기, 0.05도는 위도 방향 약 5.5km 로 3km 반경 조회가 2x2 칸 안팎에서 끝난다.
+	private double cellSizeDegrees = 0.05;
+}
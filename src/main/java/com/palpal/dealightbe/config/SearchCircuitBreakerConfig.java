@@ -0,0 +1,55 @@
+package com.palpal.dealightbe.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SearchCircuitBreakerConfig {
+
+	public static final String STORE_SEARCH = "storeSearch";
+
+	private final ElasticSearchProperty elasticSearchProperty;
+
+	@Bean
+	public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+		CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+
+		return circuitBreakerRegistry;
+	}
+
+	// 잘못된 정렬 조건 같은 요청 오류는 ES 장애가 아니므로 실패로 세지 않는다.
+	@Bean
+	public CircuitBreaker storeSearchCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+		CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+			.failureRateThreshold(elasticSearchProperty.getBreakerFailureRateThreshold())
+			.slowCallRateThreshold(elasticSearchProperty.getBreakerSlowCallRateThreshold())
+			.slowCallDurationThreshold(Duration.ofMillis(elasticSearchProperty.getBreakerSlowCallMillis()))
+			.slidingWindowSize(elasticSearchProperty.getBreakerSlidingWindowSize())
+			.minimumNumberOfCalls(elasticSearchProperty.getBreakerMinimumCalls())
+			.waitDurationInOpenState(Duration.ofSeconds(elasticSearchProperty.getBreakerOpenSeconds()))
+			.ignoreExceptions(BusinessException.class)
+			.build();
+
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(STORE_SEARCH, circuitBreakerConfig);
+		circuitBreaker.getEventPublisher()
+			.onStateTransition(event -> log.warn("SEARCH:CIRCUIT_BREAKER:{} : {}", event.getCircuitBreakerName(),
+				event.getStateTransition()));
+
+		return circuitBreaker;
+	}
+}
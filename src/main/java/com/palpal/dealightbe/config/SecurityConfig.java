@@ -15,6 +15,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.palpal.dealightbe.domain.auth.application.CustomAuthAccessDeniedHandler;
 import com.palpal.dealightbe.domain.auth.application.CustomAuthenticationEntryPoint;
+import com.palpal.dealightbe.domain.auth.application.TokenRevocationService;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache;
 import com.palpal.dealightbe.domain.auth.domain.Jwt;
 import com.palpal.dealightbe.domain.auth.filter.JwtAuthenticationFilter;
 
@@ -30,6 +32,8 @@ public class SecurityConfig {
 	private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 	private final CustomAuthAccessDeniedHandler customAuthAccessDeniedHandler;
 	private final Jwt jwt;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Bean
 	CorsConfigurationSource corsConfigurationSource() {
@@ -53,6 +57,7 @@ public class SecurityConfig {
 			.authorizeRequests()
 			// 운영자용 URL
 			.antMatchers("/h2-console/**", "/actuator/**").hasAnyRole("ADMIN")
+			.antMatchers("/api/search/admin/**").hasAnyRole("ADMIN")
 			// 서비스 URL
 			.antMatchers("/api/auth/signup", "/api/auth/duplicate").permitAll()
 			.antMatchers("/api/**").permitAll()
@@ -69,7 +74,8 @@ public class SecurityConfig {
 			.authenticationEntryPoint(customAuthenticationEntryPoint)
 			.accessDeniedHandler(customAuthAccessDeniedHandler)
 			.and()
-			.addFilterBefore(new JwtAuthenticationFilter(jwt), UsernamePasswordAuthenticationFilter.class)
+			.addFilterBefore(new JwtAuthenticationFilter(jwt, verifiedTokenCache, tokenRevocationService),
+				UsernamePasswordAuthenticationFilter.class)
 			.build();
 	}
 }
@@ -0,0 +1,27 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 폐기된 토큰 id 를 담는 로컬 Bloom filter 설정.
+ * expected-insertions 는 리프레시 토큰 만료 기간 동안 폐기될 토큰 수보다 넉넉하게 잡는다.
+ * 시작할 때 Redis 에서 Bloom filter 를 만들지 못하면 initial-rebuild-attempts 만큼 다시 시도한 뒤 기동을 멈춘다.
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.token-revocation")
+@Getter
+@Setter
+public class TokenRevocationProperty {
+
+	private long expectedInsertions = 100_000;
+
+	private double falsePositiveRate = 0.01;
+
+	private int initialRebuildAttempts = 5;
+
+	private long initialRebuildBackoffMillis = 2_000;
+}
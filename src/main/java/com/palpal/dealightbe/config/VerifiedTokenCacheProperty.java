@@ -0,0 +1,22 @@
+package com.palpal.dealightbe.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 인증 필터가 검증을 마친 토큰을 재사용하는 캐시 설정.
+ * 항목은 토큰 만료 시각에 지워지며, max-ttl-seconds 보다 오래 남지 않는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.verified-token-cache")
+@Getter
+@Setter
+public class VerifiedTokenCacheProperty {
+
+	private long maxSize = 10_000;
+
+	private long maxTtlSeconds = 600;
+}
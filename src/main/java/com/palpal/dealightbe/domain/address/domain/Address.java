@@ -4,16 +4,23 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.palpal.dealightbe.global.BaseEntity;
+import com.palpal.dealightbe.global.cache.EntityCacheRegion;
 
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Entity
-@Table(name = "addresses")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.ADDRESS)
+// 주변 업체 조회의 위도/경도 범위 조건이 테이블 전체를 읽지 않도록 좌표에 인덱스를 둔다.
+@Table(name = "addresses", indexes = {@Index(name = "index_coordinates", columnList = "yCoordinate, xCoordinate")})
 public class Address extends BaseEntity {
 
 	@Id
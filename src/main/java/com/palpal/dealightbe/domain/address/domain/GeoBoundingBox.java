@@ -0,0 +1,33 @@
+package com.palpal.dealightbe.domain.address.domain;
+
+/**
+ * 중심 좌표에서 반경 distanceKm 인 원을 감싸는 위도/경도 사각형.
+ * 거리 계산(하버사인) 전에 좌표 인덱스로 후보를 좁히는 데 쓰며, 사각형 안이라도 원 밖인 모서리는 정확한 거리 조건이 거른다.
+ */
+public record GeoBoundingBox(
+	double minX,
+	double maxX,
+	double minY,
+	double maxY
+) {
+
+	private static final double EARTH_RADIUS_KM = 6371;
+	private static final double MAX_LATITUDE = 90;
+	private static final double MAX_LONGITUDE = 180;
+
+	// x 는 경도, y 는 위도
+	public static GeoBoundingBox around(double xCoordinate, double yCoordinate, double distanceKm) {
+		double latitudeDelta = Math.toDegrees(distanceKm / EARTH_RADIUS_KM);
+		double longitudeDelta = Math.toDegrees(distanceKm / (EARTH_RADIUS_KM * Math.cos(Math.toRadians(yCoordinate))));
+
+		double minY = Math.max(-MAX_LATITUDE, yCoordinate - latitudeDelta);
+		double maxY = Math.min(MAX_LATITUDE, yCoordinate + latitudeDelta);
+		// 극점 근처에서는 경도 폭이 발산하므로 모든 경도를 후보로 둔다.
+		if (!Double.isFinite(longitudeDelta) || minY == -MAX_LATITUDE || maxY == MAX_LATITUDE) {
+			return new GeoBoundingBox(-MAX_LONGITUDE, MAX_LONGITUDE, minY, maxY);
+		}
+
+		return new GeoBoundingBox(Math.max(-MAX_LONGITUDE, xCoordinate - longitudeDelta),
+			Math.min(MAX_LONGITUDE, xCoordinate + longitudeDelta), minY, maxY);
+	}
+}
@@ -0,0 +1,31 @@
+package com.palpal.dealightbe.domain.address.domain;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
+
+/**
+ * 주소 좌표와 기준 좌표 사이의 거리(km) 조건과 정렬식을 만드는 QueryDSL 도우미.
+ * 반경 조건은 좌표 인덱스를 타는 GeoBoundingBox 범위로 후보를 먼저 좁히고, 하버사인 거리는 후보에만 계산한다.
+ */
+public final class GeoDistanceExpressions {
+
+	private static final String HAVERSINE = "(6371 * ACOS(COS(RADIANS({0})) * COS(RADIANS({1}.yCoordinate)) * COS(RADIANS({1}.xCoordinate) - RADIANS({2})) + SIN(RADIANS({0})) * SIN(RADIANS({1}.yCoordinate))))";
+
+	private GeoDistanceExpressions() {
+	}
+
+	// x 는 경도, y 는 위도
+	public static BooleanExpression within(QAddress address, double xCoordinate, double yCoordinate,
+		double distanceKm) {
+		GeoBoundingBox boundingBox = GeoBoundingBox.around(xCoordinate, yCoordinate, distanceKm);
+
+		return address.yCoordinate.between(boundingBox.minY(), boundingBox.maxY())
+			.and(address.xCoordinate.between(boundingBox.minX(), boundingBox.maxX()))
+			.and(Expressions.booleanTemplate(HAVERSINE + " <= {3}", yCoordinate, address, xCoordinate, distanceKm));
+	}
+
+	public static NumberTemplate<Double> distanceKm(QAddress address, double xCoordinate, double yCoordinate) {
+		return Expressions.numberTemplate(Double.class, HAVERSINE, yCoordinate, address, xCoordinate);
+	}
+}
@@ -17,8 +17,10 @@ import com.palpal.dealightbe.domain.auth.application.dto.response.MemberAuthRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthLoginRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthUserInfoRes;
 import com.palpal.dealightbe.domain.auth.domain.Jwt;
+import com.palpal.dealightbe.domain.auth.domain.VerifiedJwt;
 import com.palpal.dealightbe.domain.auth.exception.InvalidRoleException;
 import com.palpal.dealightbe.domain.image.ImageService;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.member.domain.MemberRole;
@@ -32,6 +34,8 @@ import com.palpal.dealightbe.global.error.ErrorCode;
 import com.palpal.dealightbe.global.error.exception.BusinessException;
 import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,7 +52,10 @@ public class AuthService {
 	private final NotificationService notificationService;
 	private final MemberRoleRepository memberRoleRepository;
 	private final ImageService imageService;
+	private final MemberContext memberContext;
 	private final Jwt jwt;
+	private final TokenRevocationService tokenRevocationService;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	@Transactional(readOnly = true)
 	public OAuthLoginRes authenticate(OAuthUserInfoRes oAuthUserInfoRes) {
@@ -113,6 +120,7 @@ public class AuthService {
 		}
 
 		deleteMember(providerId, member);
+		memberContext.evict(providerId);
 
 		log.info("회원탈퇴에 성공했습니다.");
 	}
@@ -163,6 +171,7 @@ public class AuthService {
 		List<MemberRole> assignableMemberRoles = createMemberRoles(RoleType.ROLE_STORE, member);
 		List<MemberRole> savedMemberRoles = memberRoleRepository.saveAll(assignableMemberRoles);
 		member.updateMemberRoles(savedMemberRoles);
+		memberContext.evict(providerId);
 
 		String accessToken = jwt.createAccessToken(member);
 		String refreshToken = jwt.createRefreshToken(member);
@@ -170,9 +179,39 @@ public class AuthService {
 		return createMemberAuthRes(member, accessToken, refreshToken);
 	}
 
-	public void logout(Long providerId) {
+	public void logout(Long providerId, String accessToken, String refreshToken) {
 		log.info("사용자(ProviderId:{})의 로그아웃을 진행합니다...", providerId);
 		notificationService.deleteAll(providerId);
+
+		VerifiedJwt verifiedJwt = jwt.verify(accessToken);
+		tokenRevocationService.revoke(verifiedJwt.tokenId(), verifiedJwt.expiration());
+		verifiedTokenCache.evict(accessToken);
+
+		if (refreshToken != null) {
+			revokeRefreshToken(providerId, refreshToken);
+		}
+		log.info("사용자(ProviderId:{})의 토큰을 폐기했습니다.", providerId);
+	}
+
+	// 이미 만료된 Refresh Token 은 재발급에 쓸 수 없으므로 폐기하지 않고, 다른 사용자의 토큰은 폐기할 수 없다.
+	private void revokeRefreshToken(Long providerId, String refreshToken) {
+		VerifiedJwt verifiedRefreshToken;
+		try {
+			verifiedRefreshToken = jwt.verify(refreshToken);
+		} catch (ExpiredJwtException e) {
+			log.info("AUTH:REVOKE:REFRESH_TOKEN_EXPIRED : providerId => {}", providerId);
+			return;
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new BusinessException(ErrorCode.INVALID_TOKEN_FORMAT);
+		}
+
+		if (!String.valueOf(providerId).equals(verifiedRefreshToken.subject())) {
+			log.warn("AUTH:REVOKE:REFRESH_TOKEN_OWNER_MISMATCH : providerId => {}, subject => {}", providerId,
+				verifiedRefreshToken.subject());
+			throw new BusinessException(ErrorCode.ACCESS_DENIED);
+		}
+
+		tokenRevocationService.revoke(verifiedRefreshToken.tokenId(), verifiedRefreshToken.expiration());
 	}
 
 	private boolean checkRefreshTokenAroundExpiryDate(String refreshToken) {
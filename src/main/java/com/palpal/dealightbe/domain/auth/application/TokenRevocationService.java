@@ -0,0 +1,191 @@
+package com.palpal.dealightbe.domain.auth.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.palpal.dealightbe.config.TokenRevocationProperty;
+import com.palpal.dealightbe.global.cache.BloomFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰 id(jti)를 남은 유효기간만큼 Redis 에 보관한다.
+ * 요청마다 Redis 를 조회하지 않도록 인스턴스마다 Bloom filter 를 두고, Bloom filter 가 있다고 답한 드문 경우에만 Redis 를 확인한다.
+ * 폐기는 Redis 채널로 다른 인스턴스의 Bloom filter 에도 전파되고, 만료된 id 를 걸러내기 위해 주기적으로 Redis 에서 다시 만든다.
+ * 채널 메시지를 놓친 인스턴스는 다음 재생성(rebuild-interval-millis)까지 그 토큰을 받아들인다. 이 구간만 fail-open 이다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+	static final String REVOKED_TOKEN_CHANNEL = "auth:token-revoked";
+	private static final String REVOKED_TOKEN_KEY_PREFIX = "auth:revoked:";
+	private static final int SCAN_COUNT = 1_000;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final TokenRevocationProperty tokenRevocationProperty;
+	private final MeterRegistry meterRegistry;
+
+	// 폐기 추가와 Bloom filter 교체가 엇갈려 교체 직전에 들어온 폐기가 빠지지 않도록 둘을 같은 락으로 묶는다.
+	private final Object filterLock = new Object();
+	private volatile BloomFilter revokedTokenIds;
+	private BloomFilter rebuildingTokenIds;
+
+	public TokenRevocationService(StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer, TokenRevocationProperty tokenRevocationProperty,
+		MeterRegistry meterRegistry) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.tokenRevocationProperty = tokenRevocationProperty;
+		this.meterRegistry = meterRegistry;
+		this.revokedTokenIds = createBloomFilter();
+	}
+
+	@PostConstruct
+	public void initialize() {
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> addLocally(new String(message.getBody(), StandardCharsets.UTF_8)),
+			ChannelTopic.of(REVOKED_TOKEN_CHANNEL));
+		rebuildOnStartup();
+	}
+
+	public void revoke(String tokenId, Date expiration) {
+		if (tokenId == null || expiration == null) {
+			return;
+		}
+
+		Duration remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+		if (remaining.isNegative() || remaining.isZero()) {
+			return;
+		}
+
+		stringRedisTemplate.opsForValue().set(REVOKED_TOKEN_KEY_PREFIX + tokenId, "1", remaining);
+		addLocally(tokenId);
+		stringRedisTemplate.convertAndSend(REVOKED_TOKEN_CHANNEL, tokenId);
+		log.info("AUTH:REVOKE:TOKEN : tokenId => {}, remaining => {}", tokenId, remaining);
+	}
+
+	// jti 가 없는 토큰(폐기 기능 이전에 발급된 토큰)은 개별 폐기 대상이 아니다.
+	public boolean isRevoked(String tokenId) {
+		if (tokenId == null || !revokedTokenIds.mightContain(tokenId)) {
+			return false;
+		}
+
+		// Bloom filter 가 있다고 답했을 때만 Redis 를 확인한다. Redis 를 확인할 수 없으면 폐기된 것으로 본다.
+		boolean revoked;
+		try {
+			revoked = Boolean.TRUE.equals(stringRedisTemplate.hasKey(REVOKED_TOKEN_KEY_PREFIX + tokenId));
+		} catch (RuntimeException e) {
+			log.warn("AUTH:REVOKE:LOOKUP_FAILED : tokenId => {}", tokenId, e);
+			revoked = true;
+		}
+		meterRegistry.counter("auth.token.revocation.lookups", "result", revoked ? "revoked" : "false-positive")
+			.increment();
+
+		return revoked;
+	}
+
+	/**
+	 * Bloom filter 는 원소를 지울 수 없으므로 Redis 에 남아 있는 폐기 id 로 새로 만들어 교체한다.
+	 * 다시 만드는 동안 들어온 폐기는 새 Bloom filter 에도 넣어 빠지지 않게 한다.
+	 */
+	@Scheduled(fixedDelayString = "${auth.token-revocation.rebuild-interval-millis:600000}")
+	public void rebuild() {
+		tryRebuild();
+	}
+
+	void addLocally(String tokenId) {
+		synchronized (filterLock) {
+			revokedTokenIds.put(tokenId);
+			if (rebuildingTokenIds != null) {
+				rebuildingTokenIds.put(tokenId);
+			}
+		}
+	}
+
+	/**
+	 * 빈 Bloom filter 로 요청을 받으면 이미 폐기된 토큰이 다음 재생성까지 통과하므로, 처음 만들기에 실패하면 다시 시도하고
+	 * 끝내 실패하면 기동을 멈춘다.
+	 */
+	private void rebuildOnStartup() {
+		int attempts = Math.max(1, tokenRevocationProperty.getInitialRebuildAttempts());
+		for (int attempt = 1; attempt <= attempts; attempt++) {
+			if (tryRebuild()) {
+				return;
+			}
+			log.warn("AUTH:REVOKE:INITIAL_REBUILD_RETRY : attempt => {}/{}", attempt, attempts);
+			if (attempt < attempts) {
+				sleep(tokenRevocationProperty.getInitialRebuildBackoffMillis() * attempt);
+			}
+		}
+
+		throw new IllegalStateException("폐기된 토큰 목록을 Redis 에서 불러오지 못했습니다.");
+	}
+
+	private boolean tryRebuild() {
+		BloomFilter rebuilt = createBloomFilter();
+		synchronized (filterLock) {
+			rebuildingTokenIds = rebuilt;
+		}
+
+		ScanOptions scanOptions = ScanOptions.scanOptions()
+			.match(REVOKED_TOKEN_KEY_PREFIX + "*")
+			.count(SCAN_COUNT)
+			.build();
+		Long count;
+		try {
+			count = stringRedisTemplate.execute((RedisCallback<Long>)connection -> {
+				long scanned = 0;
+				try (Cursor<byte[]> keys = connection.scan(scanOptions)) {
+					while (keys.hasNext()) {
+						String key = new String(keys.next(), StandardCharsets.UTF_8);
+						rebuilt.put(key.substring(REVOKED_TOKEN_KEY_PREFIX.length()));
+						scanned++;
+					}
+				}
+				return scanned;
+			});
+		} catch (RuntimeException e) {
+			synchronized (filterLock) {
+				rebuildingTokenIds = null;
+			}
+			log.warn("AUTH:REVOKE:REBUILD_FAILED", e);
+			return false;
+		}
+
+		synchronized (filterLock) {
+			revokedTokenIds = rebuilt;
+			rebuildingTokenIds = null;
+		}
+		log.info("AUTH:REVOKE:REBUILD : revokedTokens => {}", count);
+		return true;
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("폐기된 토큰 목록을 불러오는 중 중단되었습니다.", e);
+		}
+	}
+
+	private BloomFilter createBloomFilter() {
+		return new BloomFilter(tokenRevocationProperty.getExpectedInsertions(),
+			tokenRevocationProperty.getFalsePositiveRate());
+	}
+}
@@ -0,0 +1,110 @@
+package com.palpal.dealightbe.domain.auth.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.palpal.dealightbe.config.VerifiedTokenCacheProperty;
+import com.palpal.dealightbe.domain.auth.domain.JwtAuthentication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 같은 액세스 토큰으로 반복되는 요청이 서명 검증과 권한 객체 생성을 다시 하지 않도록 검증된 인증 정보를 보관한다.
+ * 키는 토큰 원문 대신 SHA-256 해시를 쓰고, 항목은 토큰 만료 시각(최대 max-ttl-seconds)에 지워진다.
+ * 검증에 실패한 토큰은 보관하지 않고, 폐기 여부는 캐시에서 찾은 경우에도 요청마다 따로 확인한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final Cache<String, VerifiedToken> cache;
+	private final MeterRegistry meterRegistry;
+
+	public VerifiedTokenCache(VerifiedTokenCacheProperty verifiedTokenCacheProperty, MeterRegistry meterRegistry) {
+		long maxTtlNanos = Duration.ofSeconds(verifiedTokenCacheProperty.getMaxTtlSeconds()).toNanos();
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(verifiedTokenCacheProperty.getMaxSize())
+			.expireAfter(new TokenExpiry(maxTtlNanos))
+			.recordStats()
+			.build();
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void registerMetrics() {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+	}
+
+	public VerifiedToken find(String token) {
+		VerifiedToken verifiedToken = cache.getIfPresent(hash(token));
+		if (verifiedToken == null || verifiedToken.isExpired()) {
+			return null;
+		}
+
+		return verifiedToken;
+	}
+
+	public void put(String token, VerifiedToken verifiedToken) {
+		if (!verifiedToken.isExpired()) {
+			cache.put(hash(token), verifiedToken);
+		}
+	}
+
+	public void evict(String token) {
+		cache.invalidate(hash(token));
+	}
+
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public record VerifiedToken(
+		String tokenId,
+		JwtAuthentication principal,
+		List<SimpleGrantedAuthority> authorities,
+		long expiresAtMillis
+	) {
+
+		public boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAtMillis;
+		}
+	}
+
+	private record TokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			long untilExpiry = Duration.ofMillis(value.expiresAtMillis() - System.currentTimeMillis()).toNanos();
+
+			return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
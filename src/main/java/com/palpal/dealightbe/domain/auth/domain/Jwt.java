@@ -1,13 +1,13 @@
 package com.palpal.dealightbe.domain.auth.domain;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -21,26 +21,38 @@ import com.palpal.dealightbe.domain.member.domain.RoleType;
 import com.palpal.dealightbe.global.error.ErrorCode;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 서명 키와 파서는 생성 시점에 한 번만 만들어 두고 모든 토큰 생성, 검증에서 재사용한다.
+ * 검증은 verify 한 번으로 서명과 만료를 확인하고 Subject, 권한, 만료일을 함께 돌려준다.
+ */
 @Slf4j
 @Component
 public class Jwt {
 
+	private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
 	private final String issuer;
-	private final String tokenSecret;
 	private final Long accessTokenExpiry;
 	private final Long refreshTokenExpiry;
+	private final SecretKey signingKey;
+	private final JwtParser jwtParser;
 
 	public Jwt(JwtConfig jwtConfig) {
 		log.debug("Jwt 객체를 생성합니다...");
 		validateJwtProperties(jwtConfig);
 		this.issuer = jwtConfig.getIssuer();
-		this.tokenSecret = jwtConfig.getTokenSecret();
 		this.accessTokenExpiry = jwtConfig.getAccessTokenExpiry();
 		this.refreshTokenExpiry = jwtConfig.getRefreshTokenExpiry();
+		this.signingKey = createSigningKey(jwtConfig.getTokenSecret());
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(signingKey)
+			.build();
 		log.debug("Jwt 객체 생성에 성공했습니다.");
 	}
 
@@ -69,12 +81,13 @@ public class Jwt {
 		}
 
 		return Jwts.builder()
+			.setId(UUID.randomUUID().toString())
 			.setSubject(subject)
 			.setIssuer(issuer)
 			.setIssuedAt(now)
 			.setExpiration(expiryDate)
 			.claim("Authorities", authorities)
-			.signWith(SignatureAlgorithm.HS256, tokenSecret)
+			.signWith(signingKey, SIGNATURE_ALGORITHM)
 			.compact();
 	}
 
@@ -103,52 +116,26 @@ public class Jwt {
 		}
 
 		return Jwts.builder()
+			.setId(UUID.randomUUID().toString())
 			.setSubject(subject)
 			.setIssuer(issuer)
 			.setIssuedAt(now)
 			.setExpiration(expiryDate)
 			.claim("Authorities", authorities)
-			.signWith(SignatureAlgorithm.HS256, tokenSecret)
+			.signWith(signingKey, SIGNATURE_ALGORITHM)
 			.compact();
 	}
 
-	public String getSubject(String jwt) {
-		log.debug("Jwt(value: {})로부터 Subject를 가져옵니다...", jwt);
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(tokenSecret)
-			.build()
-			.parseClaimsJws(jwt)
-			.getBody();
-
-		String subject = claims.getSubject();
-		log.debug("Subject({})를 가져오는데 성공했습니다.", subject);
-		return subject;
-	}
-
-	public Collection<? extends GrantedAuthority> getAuthorities(String jwt) {
-		log.debug("Jwt(value: {})로부터 Authority를 가져옵니다...", jwt);
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(tokenSecret)
-			.build()
-			.parseClaimsJws(jwt)
+	public VerifiedJwt verify(String jwt) {
+		log.debug("Jwt(value: {})의 유효성 검증을 시작합니다...", jwt);
+		Claims claims = jwtParser.parseClaimsJws(jwt)
 			.getBody();
 
-		String authoritiesFromToken = claims.get("Authorities", String.class);
-		List<SimpleGrantedAuthority> authorities = Arrays.stream(authoritiesFromToken.split(","))
-			.map(SimpleGrantedAuthority::new)
-			.toList();
-		log.debug("Authorities({})를 가져오는데 성공했습니다.", authorities);
-
-		return authorities;
-	}
+		VerifiedJwt verifiedJwt = new VerifiedJwt(claims.getId(), claims.getSubject(),
+			claims.get("Authorities", String.class), claims.getExpiration());
+		log.debug("Jwt(value: {})의 유효성이 검증되었습니다. Subject({})", jwt, verifiedJwt.subject());
 
-	public void validateToken(String jwt) {
-		log.debug("Jwt(value: {})의 유효성 검증을 시작합니다...", jwt);
-		Jwts.parserBuilder()
-			.setSigningKey(tokenSecret)
-			.build()
-			.parseClaimsJws(jwt);
-		log.debug("Jwt(value: {})의 유효성이 검증되었습니다.", jwt);
+		return verifiedJwt;
 	}
 
 	private void validateJwtProperties(JwtConfig jwtConfig) {
@@ -166,14 +153,22 @@ public class Jwt {
 		log.debug("JwtConfig 설정 값 검증에 성공했습니다.");
 	}
 
+	// 토큰 생성 시 signWith(SignatureAlgorithm, String) 가 하던 것과 같이 Base64 로 디코딩하고 키 길이를 검증한다.
+	private SecretKey createSigningKey(String tokenSecret) {
+		byte[] keyBytes = Decoders.BASE64.decode(tokenSecret);
+		if (keyBytes.length == 0) {
+			throw new IllegalArgumentException("Token Secret 정보가 올바르지 않습니다.");
+		}
+
+		SecretKey secretKey = new SecretKeySpec(keyBytes, SIGNATURE_ALGORITHM.getJcaName());
+		SIGNATURE_ALGORITHM.assertValidSigningKey(secretKey);
+
+		return secretKey;
+	}
+
 	public Date getExpiryDate(String jwt) {
 		log.debug("Jwt(value: {})로부터 토큰의 유효기간을 가져옵니다...", jwt);
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(tokenSecret)
-			.build()
-			.parseClaimsJws(jwt)
-			.getBody();
-		Date expiration = claims.getExpiration();
+		Date expiration = verify(jwt).expiration();
 		log.debug("토큰의 유효기간({})을 가져오는데 성공했습니다.", expiration);
 
 		return expiration;
@@ -0,0 +1,25 @@
+package com.palpal.dealightbe.domain.auth.domain;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 서명과 만료가 검증된 토큰에서 인증에 필요한 값만 꺼내 둔 결과.
+ * tokenId(jti)는 폐기 여부 확인에 쓰며, jti 없이 발급된 이전 토큰은 null 이다.
+ */
+public record VerifiedJwt(
+	String tokenId,
+	String subject,
+	String authorities,
+	Date expiration
+) {
+
+	public List<SimpleGrantedAuthority> grantedAuthorities() {
+		return Arrays.stream(authorities.split(","))
+			.map(SimpleGrantedAuthority::new)
+			.toList();
+	}
+}
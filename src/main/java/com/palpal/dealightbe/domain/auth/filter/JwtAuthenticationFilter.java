@@ -1,7 +1,6 @@
 package com.palpal.dealightbe.domain.auth.filter;
 
 import java.io.IOException;
-import java.util.Collection;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -9,7 +8,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
@@ -17,9 +15,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palpal.dealightbe.domain.auth.application.TokenRevocationService;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache.VerifiedToken;
 import com.palpal.dealightbe.domain.auth.domain.Jwt;
 import com.palpal.dealightbe.domain.auth.domain.JwtAuthentication;
 import com.palpal.dealightbe.domain.auth.domain.JwtAuthenticationToken;
+import com.palpal.dealightbe.domain.auth.domain.VerifiedJwt;
 import com.palpal.dealightbe.global.error.ErrorCode;
 import com.palpal.dealightbe.global.error.ErrorResponse;
 
@@ -32,6 +34,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final Jwt jwt;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -40,32 +44,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			String token = parseTokenFromHttpRequest(request);
 			log.debug("JwtAuthenticationFilter에서 token({}) 검증을 시작합니다...", token);
 			if (token != null) {
-				try {
-					jwt.validateToken(token);
-				} catch (ExpiredJwtException e) {
-					log.error("JWT({})가 만료되었습니다. 만료일: {}", token, e.getClaims().getExpiration());
-					// 토큰이 만료된 경우 401 Unauthorized를 보낸다.
-					writeErrorResponse(response, ErrorCode.EXPIRED_TOKEN, HttpServletResponse.SC_UNAUTHORIZED);
-					return;
-				} catch (RuntimeException e) {
-					log.error("JWT({})의 유효성(형식, 서명 등)이 올바르지 않습니다.", token);
-					// 토큰이 올바르지 않은 경우 401 Unauthorized를 보낸다.
-					writeErrorResponse(response, ErrorCode.INVALID_TOKEN_FORMAT, HttpServletResponse.SC_UNAUTHORIZED);
-					return;
+				VerifiedToken verifiedToken = verifiedTokenCache.find(token);
+				if (verifiedToken == null) {
+					VerifiedJwt verifiedJwt;
+					try {
+						verifiedJwt = jwt.verify(token);
+					} catch (ExpiredJwtException e) {
+						log.error("JWT({})가 만료되었습니다. 만료일: {}", token, e.getClaims().getExpiration());
+						// 토큰이 만료된 경우 401 Unauthorized를 보낸다.
+						writeErrorResponse(response, ErrorCode.EXPIRED_TOKEN, HttpServletResponse.SC_UNAUTHORIZED);
+						return;
+					} catch (RuntimeException e) {
+						log.error("JWT({})의 유효성(형식, 서명 등)이 올바르지 않습니다.", token);
+						// 토큰이 올바르지 않은 경우 401 Unauthorized를 보낸다.
+						writeErrorResponse(response, ErrorCode.INVALID_TOKEN_FORMAT, HttpServletResponse.SC_UNAUTHORIZED);
+						return;
+					}
+
+					try {
+						verifiedToken = createVerifiedToken(token, verifiedJwt);
+					} catch (RuntimeException e) {
+						log.error("JWT({})로부터 인증정보를 만드는데 실패했습니다: {}", token, e.getMessage());
+						// 토큰이 정상적으로 검증되었는데, 인증객체를 만드는데 실패했다면 서버 오류로 생각
+						writeErrorResponse(response, ErrorCode.UNABLE_TO_CREATE_AUTHENTICATION,
+							HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+						return;
+					}
+					verifiedTokenCache.put(token, verifiedToken);
 				}
 
-				try {
-					JwtAuthentication authentication = createJwtAuthentication(token);
-					JwtAuthenticationToken authenticationToken = createJwtAuthenticationToken(request, token,
-						authentication);
-					SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-				} catch (RuntimeException e) {
-					log.error("JWT({})로부터 인증정보를 만드는데 실패했습니다: {}", token, e.getMessage());
-					// 토큰이 정상적으로 검증되었는데, 인증객체를 만드는데 실패했다면 서버 오류로 생각
-					writeErrorResponse(response, ErrorCode.UNABLE_TO_CREATE_AUTHENTICATION,
-						HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+				// 캐시에서 찾은 토큰도 다른 인스턴스에서 폐기되었을 수 있으므로 매번 확인한다.
+				if (tokenRevocationService.isRevoked(verifiedToken.tokenId())) {
+					log.error("JWT({})는 폐기된 토큰입니다.", token);
+					verifiedTokenCache.evict(token);
+					writeErrorResponse(response, ErrorCode.REVOKED_TOKEN, HttpServletResponse.SC_UNAUTHORIZED);
 					return;
 				}
+
+				JwtAuthenticationToken authenticationToken = createJwtAuthenticationToken(request, verifiedToken);
+				SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 			}
 		}
 
@@ -97,19 +114,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		return StringUtils.hasText(jwtWithBearer) && jwtWithBearer.startsWith("Bearer ");
 	}
 
-	private JwtAuthenticationToken createJwtAuthenticationToken(HttpServletRequest request, String token,
-		JwtAuthentication authentication) {
-		Collection<? extends GrantedAuthority> authorities = jwt.getAuthorities(token);
-		JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(authentication, null, authorities);
+	// 캐시된 인증 정보를 요청마다 재사용하므로 요청에 따라 달라지는 details 만 새 인증 객체에 담는다.
+	private JwtAuthenticationToken createJwtAuthenticationToken(HttpServletRequest request,
+		VerifiedToken verifiedToken) {
+		JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(verifiedToken.principal(), null,
+			verifiedToken.authorities());
 		authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 		return authenticationToken;
 	}
 
-	private JwtAuthentication createJwtAuthentication(String token) {
-		String jwtSubject = jwt.getSubject(token);
+	private VerifiedToken createVerifiedToken(String token, VerifiedJwt verifiedJwt) {
+		JwtAuthentication authentication = new JwtAuthentication(verifiedJwt.subject(), token);
 
-		return new JwtAuthentication(jwtSubject, token);
+		return new VerifiedToken(verifiedJwt.tokenId(), authentication, verifiedJwt.grantedAuthorities(),
+			verifiedJwt.expiration().getTime());
 	}
 
 	private void writeErrorResponse(HttpServletResponse response, ErrorCode errorCode, int statusCode) throws
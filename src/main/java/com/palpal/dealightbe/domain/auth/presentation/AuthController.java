@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,6 +20,7 @@ import com.palpal.dealightbe.domain.auth.application.dto.request.MemberSignupAut
 import com.palpal.dealightbe.domain.auth.application.dto.response.MemberAuthRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthLoginRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthUserInfoRes;
+import com.palpal.dealightbe.global.aop.AccessToken;
 import com.palpal.dealightbe.global.aop.ProviderId;
 import com.palpal.dealightbe.global.aop.RefreshToken;
 
@@ -29,6 +31,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+	private static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+
 	private final OAuth2AuthorizationService oAuth2AuthorizationService;
 	private final AuthService authService;
 
@@ -91,10 +95,12 @@ public class AuthController {
 			.body(memberAuthRes);
 	}
 
+	@AccessToken
 	@ProviderId
 	@PostMapping("/logout")
-	public ResponseEntity<Void> logout(Long providerId) {
-		authService.logout(providerId);
+	public ResponseEntity<Void> logout(Long providerId, String accessToken,
+		@RequestHeader(value = REFRESH_TOKEN_HEADER, required = false) String refreshToken) {
+		authService.logout(providerId, accessToken, refreshToken);
 
 		return ResponseEntity
 			.noContent()
@@ -4,9 +4,10 @@ import static com.palpal.dealightbe.global.error.ErrorCode.DUPLICATED_ITEM_NAME;
 import static com.palpal.dealightbe.global.error.ErrorCode.NOT_FOUND_ITEM;
 import static com.palpal.dealightbe.global.error.ErrorCode.NOT_FOUND_STORE;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.palpal.dealightbe.domain.image.ImageService;
@@ -15,9 +16,13 @@ import com.palpal.dealightbe.domain.item.application.dto.request.ItemReq;
 import com.palpal.dealightbe.domain.item.application.dto.response.ItemRes;
 import com.palpal.dealightbe.domain.item.application.dto.response.ItemsRes;
 import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemCursor;
 import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemSlice;
+import com.palpal.dealightbe.domain.item.domain.StoreItemsChangedEvent;
 import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
 import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.store.domain.Store;
 import com.palpal.dealightbe.domain.store.domain.StoreRepository;
 import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
@@ -42,6 +47,9 @@ public class ItemService {
 	private final StoreRepository storeRepository;
 	private final UpdatedStoreRepository updatedStoreRepository;
 	private final ImageService imageService;
+	private final NearbyItemIndex nearbyItemIndex;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final MemberContext memberContext;
 
 	public ItemRes create(ItemReq itemReq, Long providerId, ImageUploadReq imageUploadReq) {
 		Store store = getStore(providerId);
@@ -61,10 +69,10 @@ public class ItemService {
 				return new BusinessException(ErrorCode.NOT_FOUND_UPDATED_STORE);
 			});
 
-		UpdatedItem updatedItem = UpdatedItem.from(item);
+		UpdatedItem updatedItem = UpdatedItem.from(savedItem);
 		updatedItem.updateStore(updatedStore);
-		updatedItemRepository.save(updatedItem);
-		updatedStore.addItem(updatedItem);
+		updatedStore.addItem(updatedItemRepository.save(updatedItem));
+		applicationEventPublisher.publishEvent(new StoreItemsChangedEvent(store.getId()));
 
 		return ItemRes.from(savedItem);
 	}
@@ -77,24 +85,34 @@ public class ItemService {
 	}
 
 	@Transactional(readOnly = true)
-	public ItemsRes findAllForStore(Long providerId, Pageable pageable) {
+	public ItemsRes findAllForStore(Long providerId, String cursor, Pageable pageable) {
 		Store store = getStore(providerId);
 
-		Slice<Item> items = itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(store.getId(), pageable);
+		ItemSlice items = itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(store.getId(), ItemCursor.decode(cursor), pageable);
 
 		return ItemsRes.from(items);
 	}
 
-	@Transactional(readOnly = true)
-	public ItemsRes findAllForMember(double xCoordinate, double yCoordinate, String sortBy, Pageable pageable) {
-		Slice<Item> items = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(xCoordinate, yCoordinate, sortBy, pageable);
+	// 메모리 색인으로 답할 때 커넥션을 잡지 않도록 트랜잭션 없이 실행한다. SQL 조회는 업체와 주소를 함께 읽어 지연 로딩이 없다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ItemsRes findAllForMember(double xCoordinate, double yCoordinate, String sortBy, String cursor, Pageable pageable) {
+		ItemCursor itemCursor = ItemCursor.decode(cursor);
+		if (itemCursor != null && !itemCursor.hasNearbyOrigin()) {
+			log.warn("GET:READ:INVALID_ITEM_CURSOR : {}", cursor);
+			throw new BusinessException(ErrorCode.INVALID_ITEM_CURSOR);
+		}
 
-		return ItemsRes.from(items);
+		return nearbyItemIndex.findAll(xCoordinate, yCoordinate, sortBy, itemCursor, pageable)
+			.orElseGet(() -> {
+				ItemSlice items = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(xCoordinate, yCoordinate, sortBy, itemCursor, pageable);
+
+				return ItemsRes.from(items);
+			});
 	}
 
 	@Transactional(readOnly = true)
-	public ItemsRes findAllByStoreId(Long storeId, Pageable pageable) {
-		Slice<Item> items = itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(storeId, pageable);
+	public ItemsRes findAllByStoreId(Long storeId, String cursor, Pageable pageable) {
+		ItemSlice items = itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(storeId, ItemCursor.decode(cursor), pageable);
 
 		return ItemsRes.from(items);
 	}
@@ -112,6 +130,7 @@ public class ItemService {
 
 		Item updatedItem = ItemReq.toItem(itemReq, store, imageUrl);
 		item.update(updatedItem);
+		applicationEventPublisher.publishEvent(new StoreItemsChangedEvent(store.getId()));
 
 		return ItemRes.from(item);
 	}
@@ -126,6 +145,7 @@ public class ItemService {
 		imageService.delete(imageUrl);
 
 		itemRepository.delete(item);
+		applicationEventPublisher.publishEvent(new StoreItemsChangedEvent(store.getId()));
 	}
 
 	public String saveImage(ImageUploadReq imageUploadReq) {
@@ -153,7 +173,13 @@ public class ItemService {
 	}
 
 	private Store getStore(Long providerId) {
-		return storeRepository.findByMemberProviderId(providerId)
+		Long storeId = memberContext.getStoreId(providerId);
+		if (storeId == null) {
+			log.warn("GET:READ:NOT_FOUND_STORE_BY_MEMBER_PROVIDER_ID : {}", providerId);
+			throw new EntityNotFoundException(NOT_FOUND_STORE);
+		}
+
+		return storeRepository.findById(storeId)
 			.orElseThrow(() -> {
 				log.warn("GET:READ:NOT_FOUND_STORE_BY_MEMBER_PROVIDER_ID : {}", providerId);
 				return new EntityNotFoundException(NOT_FOUND_STORE);
@@ -0,0 +1,444 @@
+package com.palpal.dealightbe.domain.item.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.palpal.dealightbe.config.NearbyItemIndexProperty;
+import com.palpal.dealightbe.domain.address.domain.Address;
+import com.palpal.dealightbe.domain.address.domain.GeoBoundingBox;
+import com.palpal.dealightbe.domain.item.application.dto.response.ItemRes;
+import com.palpal.dealightbe.domain.item.application.dto.response.ItemsRes;
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemCursor;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemStockChangedEvent;
+import com.palpal.dealightbe.domain.item.domain.StoreItemsChangedEvent;
+import com.palpal.dealightbe.domain.store.domain.Store;
+import com.palpal.dealightbe.global.ListSortType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 홈 피드(3km 안 영업 중인 업체의 상품)를 메모리에서 답하는 격자 색인.
+ * 위도/경도를 일정한 간격의 칸으로 나눠 칸마다 영업 중인 업체 id 를 두고, 업체마다 피드에 그대로 내려줄 상품 스냅샷을 둔다.
+ * 업체 상태, 상품 등록/수정/삭제, 재고 변경은 커밋 이후 업체 단위로 모았다가 짧은 주기로 DB 에서 다시 읽어 교체한다.
+ * 모은 업체 id 는 반영할 때 Redis 로 다른 인스턴스에도 알려 같은 주기로 반영하게 하고, 놓친 메시지는 주기적인 전체 재적재로 맞춘다.
+ * 메시지는 "인스턴스 id" 한 줄 뒤에 업체 id 를 쉼표로 이어 담는다. 첫 적재 전에는 비어 있음을 알려 SQL 로 조회하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyItemIndex {
+
+	private static final double EARTH_RADIUS_KM = 6371;
+	private static final double SEARCH_RADIUS_KM = 3;
+	private static final int MINUTES_PER_DAY = 24 * 60;
+	private static final String QUERY_METRIC = "item.nearby.queries";
+	private static final String SOURCE_TAG = "source";
+	static final String CHANGED_CHANNEL = "item:nearby-index:changed";
+	private static final String LINE_DELIMITER = "\n";
+	private static final String ID_DELIMITER = ",";
+
+	private final ItemRepository itemRepository;
+	private final NearbyItemIndexProperty nearbyItemIndexProperty;
+	private final MeterRegistry meterRegistry;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final Set<Long> pendingStoreIds = ConcurrentHashMap.newKeySet();
+	// 이 인스턴스의 커밋에서 모은 업체 id 중 아직 다른 인스턴스에 알리지 않은 것
+	private final Set<Long> unpublishedStoreIds = ConcurrentHashMap.newKeySet();
+	// 전체 재적재와 업체별 반영이 서로의 결과를 덮어쓰지 않도록 한 번에 하나만 실행한다.
+	private final Object refreshLock = new Object();
+
+	private volatile Grid grid;
+
+	/**
+	 * 적재가 끝났으면 SQL 조회와 같은 순서(정렬 값, 수정 시각 내림차순, id 내림차순)로 한 페이지를 돌려주고, 아니면 비어 있는 값을 돌려준다.
+	 * 커서는 SQL 조회와 같은 형식이라 적재 전후로 조회 경로가 바뀌어도 이어서 조회할 수 있다.
+	 */
+	public Optional<ItemsRes> findAll(double xCoordinate, double yCoordinate, String sortBy, ItemCursor cursor,
+		Pageable pageable) {
+		Grid current = grid;
+		if (!nearbyItemIndexProperty.isEnabled() || current == null) {
+			meterRegistry.counter(QUERY_METRIC, SOURCE_TAG, "database").increment();
+			return Optional.empty();
+		}
+
+		double originX = cursor == null ? xCoordinate : cursor.xCoordinate();
+		double originY = cursor == null ? yCoordinate : cursor.yCoordinate();
+		int referenceSecondOfDay = cursor == null ? LocalTime.now().toSecondOfDay() : cursor.referenceSecondOfDay();
+		ListSortType sortType = ListSortType.findSortType(sortBy);
+		Comparator<Candidate> comparator = comparatorOf(sortType);
+
+		// 커서에는 초 단위로 남기고, 마감순 정렬 값은 SQL 조회와 같이 분 단위로 계산한다.
+		List<Candidate> candidates = current.findWithin(originX, originY, SEARCH_RADIUS_KM, sortType,
+			referenceSecondOfDay / 60);
+		if (cursor != null) {
+			Candidate last = new Candidate(null, cursor.sortValue(), cursor.updatedAt(), cursor.id());
+			// 정렬 값을 DB 와 다르게 계산해 생긴 미세한 차이로 커서의 상품이 다시 나오지 않도록 id 도 함께 거른다.
+			candidates.removeIf(candidate -> comparator.compare(candidate, last) <= 0
+				|| candidate.itemId().equals(cursor.id()));
+		}
+		candidates.sort(comparator);
+
+		int from = cursor == null ? (int)Math.min(pageable.getOffset(), candidates.size()) : 0;
+		int to = Math.min(candidates.size(), from + pageable.getPageSize());
+		List<Candidate> page = candidates.subList(from, to);
+		boolean hasNext = candidates.size() > to;
+		String nextCursor = null;
+		if (hasNext && !page.isEmpty()) {
+			Candidate last = page.get(page.size() - 1);
+			nextCursor = new ItemCursor(last.sortValue(), last.updatedAt(), last.itemId(), originX, originY,
+				referenceSecondOfDay).encode();
+		}
+		meterRegistry.counter(QUERY_METRIC, SOURCE_TAG, "memory").increment();
+
+		return Optional.of(new ItemsRes(page.stream().map(Candidate::itemRes).toList(), hasNext, nextCursor));
+	}
+
+	@PostConstruct
+	public void initialize() {
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+			ChannelTopic.of(CHANGED_CHANNEL));
+	}
+
+	// 롤백된 변경은 반영하지 않도록 커밋 이후에만 모은다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStoreItemsChanged(StoreItemsChangedEvent event) {
+		collect(event.storeId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStockChanged(ItemStockChangedEvent event) {
+		collect(event.storeId());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		reload();
+	}
+
+	// Redis 메시지를 놓친 변경도 맞추도록 주기적으로 전체를 다시 읽는다.
+	@Scheduled(fixedDelayString = "${item.nearby-index.reload-interval-millis:300000}",
+		initialDelayString = "${item.nearby-index.reload-interval-millis:300000}")
+	public void reload() {
+		if (!nearbyItemIndexProperty.isEnabled()) {
+			return;
+		}
+
+		synchronized (refreshLock) {
+			long startedAt = System.nanoTime();
+			try {
+				Grid loaded = new Grid(nearbyItemIndexProperty.getCellSizeDegrees());
+				Collection<NearbyStore> stores = toNearbyStores(itemRepository.findAllInOpenedStores()).values();
+				stores.forEach(loaded::put);
+				grid = loaded;
+
+				log.info("ITEM:NEARBY_INDEX:RELOADED : stores => {}, items => {}, elapsed => {}ms", stores.size(),
+					stores.stream().mapToInt(store -> store.items().size()).sum(),
+					Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+			} catch (RuntimeException e) {
+				log.error("ITEM:NEARBY_INDEX:RELOAD_FAILED : loaded => {}", grid != null, e);
+			}
+		}
+	}
+
+	// 인스턴스마다 모은 변경을 1초마다 반영, 대기열이 인스턴스별이므로 분산 락을 걸지 않는다.
+	@Scheduled(fixedDelayString = "${item.nearby-index.flush-interval-millis:1000}")
+	public void flush() {
+		publish(drain(unpublishedStoreIds));
+		if (pendingStoreIds.isEmpty()) {
+			return;
+		}
+
+		synchronized (refreshLock) {
+			Set<Long> storeIds = drain(pendingStoreIds);
+			Grid current = grid;
+			// 아직 적재 전이면 다음 전체 적재가 변경분까지 읽는다.
+			if (current == null || storeIds.isEmpty()) {
+				return;
+			}
+
+			try {
+				// 이벤트가 도착한 순서와 커밋 순서가 다를 수 있으므로 반영 시점의 상태를 다시 읽는다.
+				Map<Long, NearbyStore> refreshed = toNearbyStores(
+					itemRepository.findAllInOpenedStoresByStoreIds(storeIds));
+				storeIds.forEach(storeId -> {
+					NearbyStore nearbyStore = refreshed.get(storeId);
+					if (nearbyStore == null) {
+						current.remove(storeId);
+					} else {
+						current.put(nearbyStore);
+					}
+				});
+			} catch (RuntimeException e) {
+				pendingStoreIds.addAll(storeIds);
+				log.warn("ITEM:NEARBY_INDEX:FLUSH_FAILED : stores => {}", storeIds.size(), e);
+			}
+		}
+	}
+
+	private void collect(Long storeId) {
+		pendingStoreIds.add(storeId);
+		unpublishedStoreIds.add(storeId);
+	}
+
+	// 한 주기에 모인 업체 id 를 메시지 하나로 보낸다. 실패하면 다른 인스턴스는 다음 전체 재적재 때 맞춘다.
+	private void publish(Set<Long> storeIds) {
+		if (storeIds.isEmpty()) {
+			return;
+		}
+
+		String message = instanceId + LINE_DELIMITER + storeIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(ID_DELIMITER));
+		try {
+			stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, message);
+		} catch (RuntimeException e) {
+			log.warn("ITEM:NEARBY_INDEX:PUBLISH_FAILED : stores => {}", storeIds.size(), e);
+		}
+	}
+
+	// 자신이 보낸 메시지는 이미 대기열에 있으므로 무시하고, 다른 인스턴스의 변경은 다음 반영 때 함께 다시 읽는다.
+	void receive(String message) {
+		String[] lines = message.split(LINE_DELIMITER, 2);
+		if (lines.length != 2 || instanceId.equals(lines[0])) {
+			return;
+		}
+
+		for (String storeId : lines[1].split(ID_DELIMITER)) {
+			try {
+				pendingStoreIds.add(Long.valueOf(storeId));
+			} catch (NumberFormatException e) {
+				log.warn("ITEM:NEARBY_INDEX:INVALID_MESSAGE : {}", storeId);
+			}
+		}
+	}
+
+	private Set<Long> drain(Set<Long> storeIds) {
+		Set<Long> drained = new HashSet<>();
+		for (Long storeId : storeIds) {
+			if (storeIds.remove(storeId)) {
+				drained.add(storeId);
+			}
+		}
+
+		return drained;
+	}
+
+	// 영업 중인 업체의 상품만 읽으므로, 결과에 없는 업체는 영업을 마쳤거나 남은 상품이 없는 업체다.
+	private Map<Long, NearbyStore> toNearbyStores(List<Item> items) {
+		Map<Long, List<Item>> itemsByStoreId = items.stream()
+			.collect(Collectors.groupingBy(item -> item.getStore().getId(), LinkedHashMap::new, Collectors.toList()));
+
+		Map<Long, NearbyStore> stores = new LinkedHashMap<>();
+		itemsByStoreId.forEach((storeId, storeItems) -> stores.put(storeId, NearbyStore.of(storeId, storeItems)));
+
+		return stores;
+	}
+
+	private Comparator<Candidate> comparatorOf(ListSortType sortType) {
+		Comparator<Candidate> comparator = Comparator.comparingDouble(Candidate::sortValue);
+		if (sortType == ListSortType.DISCOUNT_RATE) {
+			comparator = comparator.reversed();
+		}
+
+		return comparator
+			.thenComparing(Candidate::updatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+			.thenComparing(Candidate::itemId, Comparator.reverseOrder());
+	}
+
+	// GeoDistanceExpressions 의 HAVERSINE 과 같은 식
+	static double distanceKm(double fromX, double fromY, double toX, double toY) {
+		double cosine = Math.cos(Math.toRadians(fromY)) * Math.cos(Math.toRadians(toY))
+			* Math.cos(Math.toRadians(toX) - Math.toRadians(fromX))
+			+ Math.sin(Math.toRadians(fromY)) * Math.sin(Math.toRadians(toY));
+
+		// 같은 좌표에서 부동소수 오차로 1 을 넘으면 ACOS 가 NaN 이 된다.
+		return EARTH_RADIUS_KM * Math.acos(Math.min(1, cosine));
+	}
+
+	private record Candidate(
+		ItemRes itemRes,
+		double sortValue,
+		LocalDateTime updatedAt,
+		Long itemId
+	) {
+
+		static Candidate of(NearbyItem item, double sortValue) {
+			return new Candidate(item.itemRes(), sortValue, item.updatedAt(), item.itemRes().itemId());
+		}
+	}
+
+	private record NearbyItem(
+		ItemRes itemRes,
+		double discountRate,
+		int closeMinuteOfDay,
+		LocalDateTime updatedAt
+	) {
+
+		static NearbyItem from(Item item) {
+			double discountRate = item.getDiscountRate() == null
+				? Item.calculateDiscountRate(item.getDiscountPrice(), item.getOriginalPrice()) : item.getDiscountRate();
+			Store store = item.getStore();
+			int closeMinuteOfDay = store.getCloseMinuteOfDay() != null ? store.getCloseMinuteOfDay()
+				: store.getCloseTime() == null ? MINUTES_PER_DAY : Store.toMinuteOfDay(store.getCloseTime());
+
+			return new NearbyItem(ItemRes.from(item), discountRate, closeMinuteOfDay, item.getUpdatedAt());
+		}
+
+		// 이미 마감 시각이 지난 업체는 다음 날 마감으로 본다. ItemRepositoryImpl 의 DEADLINE 과 같은 기준이다.
+		int deadlineMinutes(int referenceMinuteOfDay) {
+			return closeMinuteOfDay < referenceMinuteOfDay ? closeMinuteOfDay + MINUTES_PER_DAY : closeMinuteOfDay;
+		}
+
+		double sortValue(ListSortType sortType, double distanceKm, int referenceMinuteOfDay) {
+			return switch (sortType) {
+				case DISCOUNT_RATE -> discountRate;
+				case DEADLINE -> deadlineMinutes(referenceMinuteOfDay);
+				case DISTANCE -> distanceKm;
+			};
+		}
+	}
+
+	private record NearbyStore(
+		Long storeId,
+		double xCoordinate,
+		double yCoordinate,
+		List<NearbyItem> items
+	) {
+
+		static NearbyStore of(Long storeId, List<Item> items) {
+			Store store = items.get(0).getStore();
+			Address address = store.getAddress();
+
+			return new NearbyStore(storeId, address.getXCoordinate(), address.getYCoordinate(),
+				items.stream().map(NearbyItem::from).toList());
+		}
+	}
+
+	/**
+	 * 칸 좌표를 하나의 long 키로 묶어 칸마다 업체 id 를 둔다.
+	 * 업체 스냅샷은 통째로 교체하므로 조회 중에 바뀌어도 한 업체의 상품이 섞여 보이지 않는다.
+	 */
+	private static class Grid {
+
+		private final double cellSizeDegrees;
+		private final Map<Long, NearbyStore> stores = new ConcurrentHashMap<>();
+		private final Map<Long, Set<Long>> storeIdsByCell = new ConcurrentHashMap<>();
+
+		Grid(double cellSizeDegrees) {
+			this.cellSizeDegrees = cellSizeDegrees;
+		}
+
+		void put(NearbyStore nearbyStore) {
+			long cell = cellOf(nearbyStore.xCoordinate(), nearbyStore.yCoordinate());
+			storeIdsByCell.compute(cell, (key, storeIds) -> {
+				Set<Long> cellStoreIds = storeIds == null ? ConcurrentHashMap.newKeySet() : storeIds;
+				cellStoreIds.add(nearbyStore.storeId());
+				return cellStoreIds;
+			});
+
+			NearbyStore previous = stores.put(nearbyStore.storeId(), nearbyStore);
+			// 주소가 바뀌어 칸을 옮긴 업체는 이전 칸에서 뺀다.
+			if (previous != null) {
+				long previousCell = cellOf(previous.xCoordinate(), previous.yCoordinate());
+				if (previousCell != cell) {
+					removeFromCell(previousCell, nearbyStore.storeId());
+				}
+			}
+		}
+
+		void remove(Long storeId) {
+			NearbyStore previous = stores.remove(storeId);
+			if (previous != null) {
+				removeFromCell(cellOf(previous.xCoordinate(), previous.yCoordinate()), storeId);
+			}
+		}
+
+		List<Candidate> findWithin(double xCoordinate, double yCoordinate, double distanceKm, ListSortType sortType,
+			int referenceMinuteOfDay) {
+			GeoBoundingBox boundingBox = GeoBoundingBox.around(xCoordinate, yCoordinate, distanceKm);
+			List<Candidate> candidates = new ArrayList<>();
+
+			for (long row = indexOf(boundingBox.minY()); row <= indexOf(boundingBox.maxY()); row++) {
+				for (long column = indexOf(boundingBox.minX()); column <= indexOf(boundingBox.maxX()); column++) {
+					long cell = keyOf(row, column);
+					Set<Long> storeIds = storeIdsByCell.get(cell);
+					if (storeIds == null) {
+						continue;
+					}
+
+					for (Long storeId : storeIds) {
+						NearbyStore nearbyStore = stores.get(storeId);
+						// 칸을 옮기는 중인 업체가 두 칸에서 모두 보이지 않도록 현재 위치의 칸에서만 센다.
+						if (nearbyStore == null
+							|| cellOf(nearbyStore.xCoordinate(), nearbyStore.yCoordinate()) != cell) {
+							continue;
+						}
+
+						double distance = distanceKm(xCoordinate, yCoordinate, nearbyStore.xCoordinate(),
+							nearbyStore.yCoordinate());
+						if (distance <= distanceKm) {
+							nearbyStore.items().forEach(item -> candidates.add(
+								Candidate.of(item, item.sortValue(sortType, distance, referenceMinuteOfDay))));
+						}
+					}
+				}
+			}
+
+			return candidates;
+		}
+
+		private void removeFromCell(long cell, Long storeId) {
+			storeIdsByCell.computeIfPresent(cell, (key, storeIds) -> {
+				storeIds.remove(storeId);
+				return storeIds.isEmpty() ? null : storeIds;
+			});
+		}
+
+		private long cellOf(double xCoordinate, double yCoordinate) {
+			return keyOf(indexOf(yCoordinate), indexOf(xCoordinate));
+		}
+
+		private long indexOf(double degrees) {
+			return (long)Math.floor(degrees / cellSizeDegrees);
+		}
+
+		private static long keyOf(long row, long column) {
+			return (row << 32) | (column & 0xffffffffL);
+		}
+	}
+}
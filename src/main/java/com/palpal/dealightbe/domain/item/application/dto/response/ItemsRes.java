@@ -2,22 +2,21 @@ package com.palpal.dealightbe.domain.item.application.dto.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Slice;
-
-import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemSlice;
 
 public record ItemsRes(
 	List<ItemRes> items,
-	boolean hasNext
+	boolean hasNext,
+	String cursor
 ) {
 
-	public static ItemsRes from(Slice<Item> items) {
+	public static ItemsRes from(ItemSlice items) {
 
 		List<ItemRes> itemResList = items.stream()
 			.map(ItemRes::from)
 			.toList();
+		String cursor = items.getNextCursor() == null ? null : items.getNextCursor().encode();
 
-		return new ItemsRes(itemResList, items.hasNext());
+		return new ItemsRes(itemResList, items.hasNext(), cursor);
 	}
 }
@@ -10,6 +10,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -32,7 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 @Entity
 @Where(clause = "is_deleted = false")
 @SQLDelete(sql = "UPDATE items SET is_deleted = true WHERE id = ?")
-@Table(name = "items")
+@Table(name = "items", indexes = {@Index(name = "index_discount_rate", columnList = "isDeleted, discountRate")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Item extends BaseEntity {
 
@@ -49,6 +50,9 @@ public class Item extends BaseEntity {
 
 	private int originalPrice;
 
+	// 할인율 정렬이 인덱스를 타도록 가격이 바뀔 때마다 함께 저장한다.
+	private Double discountRate;
+
 	@Column(length = 300)
 	private String description;
 
@@ -69,6 +73,7 @@ public class Item extends BaseEntity {
 		this.stock = stock;
 		this.discountPrice = discountPrice;
 		this.originalPrice = originalPrice;
+		this.discountRate = calculateDiscountRate(discountPrice, originalPrice);
 		this.description = description;
 		this.image = image;
 		this.store = store;
@@ -85,6 +90,7 @@ public class Item extends BaseEntity {
 		this.stock = item.getStock();
 		this.discountPrice = item.getDiscountPrice();
 		this.originalPrice = item.getOriginalPrice();
+		this.discountRate = calculateDiscountRate(item.getDiscountPrice(), item.getOriginalPrice());
 		this.description = item.getDescription();
 		this.image = item.getImage();
 	}
@@ -109,4 +115,12 @@ public class Item extends BaseEntity {
 			throw new BusinessException(INVALID_ITEM_DISCOUNT_PRICE);
 		}
 	}
+
+	public static double calculateDiscountRate(int discountPrice, int originalPrice) {
+		if (originalPrice == 0) {
+			return 0;
+		}
+
+		return (originalPrice - discountPrice) * 1.0 / originalPrice;
+	}
 }
@@ -0,0 +1,71 @@
+package com.palpal.dealightbe.domain.item.domain;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.palpal.dealightbe.global.error.ErrorCode;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 목록에서 마지막으로 내려준 상품의 (정렬 값, 수정 시각, id) 를 담아 클라이언트에는 불투명한 문자열로 전달한다.
+ * 다음 페이지는 offset 없이 이 값보다 뒤에 오는 상품만 찾으므로 페이지가 깊어져도 첫 페이지와 비용이 같다.
+ * 주변 상품 목록은 사용자가 이동했거나 시간이 흘렀더라도 첫 페이지의 기준 좌표와 시각으로 정렬 값을 계산해 이어서 조회한다.
+ */
+@Slf4j
+public record ItemCursor(
+	Double sortValue,
+	LocalDateTime updatedAt,
+	Long id,
+	Double xCoordinate,
+	Double yCoordinate,
+	Integer referenceSecondOfDay
+) {
+
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+		.addModule(new JavaTimeModule())
+		.build();
+
+	public static ItemCursor of(LocalDateTime updatedAt, Long id) {
+		return new ItemCursor(null, updatedAt, id, null, null, null);
+	}
+
+	public String encode() {
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+		} catch (JsonProcessingException e) {
+			log.error("ITEM:CURSOR:ENCODE_FAILED : {}", this, e);
+			throw new BusinessException(ErrorCode.JSON_PARSING_ERROR);
+		}
+	}
+
+	// 첫 페이지 요청처럼 커서가 없으면 null 을 돌려준다.
+	public static ItemCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			ItemCursor itemCursor = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), ItemCursor.class);
+			if (itemCursor.updatedAt() == null || itemCursor.id() == null) {
+				throw new IllegalArgumentException("updatedAt and id are required");
+			}
+
+			return itemCursor;
+		} catch (IllegalArgumentException | IOException e) {
+			log.warn("ITEM:CURSOR:INVALID : {}", cursor);
+			throw new BusinessException(ErrorCode.INVALID_ITEM_CURSOR);
+		}
+	}
+
+	// 주변 상품 목록의 커서는 기준 좌표와 시각, 정렬 값이 모두 있어야 이어서 조회할 수 있다.
+	public boolean hasNearbyOrigin() {
+		return sortValue != null && xCoordinate != null && yCoordinate != null && referenceSecondOfDay != null;
+	}
+}
@@ -10,10 +10,12 @@ import org.springframework.data.elasticsearch.annotations.Setting;
 
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
+@EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Document(indexName = "item")
 @Mapping(mappingPath = "elastic/item-mapping.json")
@@ -23,6 +25,9 @@ public class ItemDocument {
 	@Id
 	private String id;
 
+	// 원본 상품 id, 재고 갱신이 nested 문서를 찾을 때 쓴다.
+	private Long itemId;
+
 	private String name;
 
 	private String storeId;
@@ -33,23 +38,30 @@ public class ItemDocument {
 
 	private double discountRate;
 
+	private int stock;
+
 	@Builder
-	public ItemDocument(String id, String name, String storeId, int discountPrice, int originalPrice) {
+	public ItemDocument(String id, Long itemId, String name, String storeId, int discountPrice, int originalPrice,
+		int stock) {
 		this.id = id;
+		this.itemId = itemId;
 		this.name = name;
 		this.storeId = storeId;
 		this.discountPrice = discountPrice;
 		this.originalPrice = originalPrice;
+		this.stock = stock;
 		this.discountRate = calculateDiscountRate(originalPrice, discountPrice);
 	}
 
 	public static ItemDocument from(UpdatedItem item) {
 		return ItemDocument.builder()
 			.id(String.valueOf(item.getId()))
+			.itemId(item.getItemId())
 			.name(item.getName())
 			.storeId(String.valueOf(item.getStore().getId()))
 			.discountPrice(item.getDiscountPrice())
 			.originalPrice(item.getOriginalPrice())
+			.stock(item.getStock())
 			.build();
 	}
 
@@ -41,4 +41,11 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositor
 		WHERE oi.id IS NULL AND i.is_deleted = true;
 		""", nativeQuery = true)
 	void clearItemsDeleted();
+
+	@Modifying
+	@Query(value = """
+		UPDATE Item i SET i.discountRate = (i.originalPrice - i.discountPrice) * 1.0 / i.originalPrice
+		WHERE i.discountRate IS NULL AND i.originalPrice > 0
+		""")
+	int fillMissingDiscountRates();
 }
@@ -1,12 +1,18 @@
 package com.palpal.dealightbe.domain.item.domain;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 
 public interface ItemRepositoryCustom {
 
-	Slice<Item> findAllByStoreIdOrderByUpdatedAtDesc(Long storeId, Pageable pageable);
+	ItemSlice findAllByStoreIdOrderByUpdatedAtDesc(Long storeId, ItemCursor cursor, Pageable pageable);
+
+	ItemSlice findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(double xCoordinate, double yCoordinate,
+		String sortBy, ItemCursor cursor, Pageable pageable);
+
+	List<Item> findAllInOpenedStores();
 
-	Slice<Item> findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(double xCoordinate, double yCoordinate,
-		String sortBy, Pageable pageable);
+	List<Item> findAllInOpenedStoresByStoreIds(Collection<Long> storeIds);
 }
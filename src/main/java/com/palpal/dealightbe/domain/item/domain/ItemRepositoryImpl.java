@@ -1,19 +1,25 @@
 package com.palpal.dealightbe.domain.item.domain;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 
+import com.palpal.dealightbe.domain.address.domain.GeoDistanceExpressions;
 import com.palpal.dealightbe.domain.address.domain.QAddress;
 import com.palpal.dealightbe.domain.store.domain.QStore;
 import com.palpal.dealightbe.domain.store.domain.StoreStatus;
 import com.palpal.dealightbe.global.ListSortType;
-import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.BooleanTemplate;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -22,9 +28,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
-	private static final String HAVERSINE = "(6371 * ACOS(COS(RADIANS({0})) * COS(RADIANS({1}.yCoordinate)) * COS(RADIANS({1}.xCoordinate) - RADIANS({2})) + SIN(RADIANS({0})) * SIN(RADIANS({1}.yCoordinate))))";
-	private static final String DEADLINE = "CASE WHEN {0} < CURTIME() THEN (24 * 60 * 60 + (HOUR({0}) * 3600 + MINUTE({0}) * 60 + SECOND({0}))) ELSE (HOUR({0}) * 3600 + MINUTE({0}) * 60 + SECOND({0})) END";
-	private static final String DISCOUNT_RATE = "(item.originalPrice - item.discountPrice) * 1.0 / item.originalPrice";
+	private static final double SEARCH_RADIUS_KM = 3;
+	private static final String DEADLINE = "CASE WHEN {0} < {1} THEN ({0} + 24 * 60) ELSE {0} END";
 
 	private final JPAQueryFactory queryFactory;
 
@@ -33,111 +38,144 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 	private QAddress address = QAddress.address;
 
 	@Override
-	public Slice<Item> findAllByStoreIdOrderByUpdatedAtDesc(Long storeId, Pageable pageable) {
-		List<Long> itemIds = queryFactory
-			.select(item.id)
+	public ItemSlice findAllByStoreIdOrderByUpdatedAtDesc(Long storeId, ItemCursor cursor, Pageable pageable) {
+		List<Tuple> rows = queryFactory
+			.select(item.id, item.updatedAt)
 			.from(item)
-			.leftJoin(item.store, store)
-			.leftJoin(store.address, address)
-			.where(item.store.id.eq(storeId))
-			.orderBy(item.updatedAt.desc())
-			.offset(pageable.getOffset())
+			.where(item.store.id.eq(storeId),
+				afterCursor(null, true, cursor))
+			.orderBy(item.updatedAt.desc(), item.id.desc())
+			.offset(cursor == null ? pageable.getOffset() : 0)
 			.limit(pageable.getPageSize() + 1)
 			.fetch();
 
-		List<Item> result = queryFactory
-			.selectFrom(item)
-			.join(item.store, store).fetchJoin()
-			.join(store.address, address).fetchJoin()
-			.where(item.id.in(itemIds))
-			.orderBy(item.updatedAt.desc())
-			.fetch();
-
-		return checkLastPage(pageable, result);
+		return fetchPage(rows, pageable, last -> ItemCursor.of(last.get(item.updatedAt), last.get(item.id)));
 	}
 
 	@Override
-	public Slice<Item> findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(double xCoordinate, double yCoordinate, String sortBy, Pageable pageable) {
-		BooleanExpression distancePredicate = getDistancePredicate(xCoordinate, yCoordinate);
+	public ItemSlice findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(double xCoordinate, double yCoordinate, String sortBy, ItemCursor cursor, Pageable pageable) {
+		// 커서가 있으면 첫 페이지의 기준 좌표와 시각으로 정렬 값을 계산해야 페이지 사이에 순서가 바뀌지 않는다.
+		double originX = cursor == null ? xCoordinate : cursor.xCoordinate();
+		double originY = cursor == null ? yCoordinate : cursor.yCoordinate();
+		int referenceSecondOfDay = cursor == null ? LocalTime.now().toSecondOfDay() : cursor.referenceSecondOfDay();
 
-		OrderSpecifier[] orderSpecifiers = orderSpecifiers(xCoordinate, yCoordinate, sortBy);
+		ListSortType sortType = ListSortType.findSortType(sortBy);
+		NumberExpression<Double> sortExpression = sortExpression(sortType, originX, originY, referenceSecondOfDay);
+		boolean ascending = sortType != ListSortType.DISCOUNT_RATE;
 
-		List<Long> itemIds = queryFactory
-			.select(item.id)
+		List<Tuple> rows = queryFactory
+			.select(item.id, item.updatedAt, sortExpression)
 			.from(item)
-			.leftJoin(item.store, store)
-			.leftJoin(store.address, address)
+			.join(item.store, store)
+			.join(store.address, address)
 			.where(store.storeStatus.eq(StoreStatus.OPENED),
-				distancePredicate)
-			.orderBy(orderSpecifiers)
-			.offset(pageable.getOffset())
+				getDistancePredicate(originX, originY),
+				afterCursor(sortExpression, ascending, cursor))
+			.orderBy(ascending ? sortExpression.asc() : sortExpression.desc(), item.updatedAt.desc(), item.id.desc())
+			.offset(cursor == null ? pageable.getOffset() : 0)
 			.limit(pageable.getPageSize() + 1)
 			.fetch();
 
-		List<Item> result = queryFactory
+		// 정렬 값은 DB 가 계산한 값을 그대로 커서에 담아야 다음 페이지의 비교에서 경계의 상품이 빠지거나 겹치지 않는다.
+		return fetchPage(rows, pageable, last -> new ItemCursor(last.get(2, Number.class).doubleValue(),
+			last.get(item.updatedAt), last.get(item.id), originX, originY, referenceSecondOfDay));
+	}
+
+	@Override
+	public List<Item> findAllInOpenedStores() {
+
+		return findAllInOpenedStoresWhere(null);
+	}
+
+	@Override
+	public List<Item> findAllInOpenedStoresByStoreIds(Collection<Long> storeIds) {
+
+		return findAllInOpenedStoresWhere(store.id.in(storeIds));
+	}
+
+	// 피드 응답에 필요한 업체와 주소를 함께 읽어 영속성 컨텍스트 밖에서도 지연 로딩 없이 쓸 수 있게 한다.
+	private List<Item> findAllInOpenedStoresWhere(BooleanExpression storeCondition) {
+
+		return queryFactory
 			.selectFrom(item)
 			.join(item.store, store).fetchJoin()
 			.join(store.address, address).fetchJoin()
-			.where(item.id.in(itemIds))
-			.orderBy(orderSpecifiers)
+			.where(store.storeStatus.eq(StoreStatus.OPENED),
+				storeCondition)
 			.fetch();
-
-		return checkLastPage(pageable, result);
 	}
 
-	private OrderSpecifier[] orderSpecifiers(double xCoordinate, double yCoordinate, String sortBy) {
-		ListSortType sortType = ListSortType.findSortType(sortBy);
-
+	private NumberExpression<Double> sortExpression(ListSortType sortType, double xCoordinate, double yCoordinate, int referenceSecondOfDay) {
 		switch (sortType) {
-			case DISTANCE -> {
-				return createOrderSpecifier(getDistanceWithin3KmExpression(xCoordinate, yCoordinate).asc());
-			}
-
 			case DISCOUNT_RATE -> {
-				return createOrderSpecifier(getDiscountRateExpression().desc());
+				return item.discountRate;
 			}
 
 			case DEADLINE -> {
-				return createOrderSpecifier(getDeadlineExpression().asc());
+				return getDeadlineExpression(referenceSecondOfDay);
 			}
 		}
 
-		return createOrderSpecifier(getDistanceWithin3KmExpression(xCoordinate, yCoordinate).asc());
+		return getDistanceWithin3KmExpression(xCoordinate, yCoordinate);
 	}
 
-	private BooleanTemplate getDistancePredicate(double xCoordinate, double yCoordinate) {
+	// (정렬 값, 수정 시각 내림차순, id 내림차순) 순서에서 커서보다 뒤에 오는 상품
+	private BooleanExpression afterCursor(NumberExpression<Double> sortExpression, boolean ascending, ItemCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
 
-		return Expressions.booleanTemplate(HAVERSINE + " <= 3", yCoordinate, address, xCoordinate);
-	}
+		BooleanExpression afterTie = item.updatedAt.lt(cursor.updatedAt())
+			.or(item.updatedAt.eq(cursor.updatedAt()).and(item.id.lt(cursor.id())));
+		if (sortExpression == null) {
+			return afterTie;
+		}
 
-	private OrderSpecifier[] createOrderSpecifier(OrderSpecifier<Double> orderSpecifier) {
+		BooleanExpression afterSortValue = ascending ? sortExpression.gt(cursor.sortValue()) : sortExpression.lt(cursor.sortValue());
 
-		return new OrderSpecifier[]{orderSpecifier, item.updatedAt.desc()};
+		return afterSortValue.or(sortExpression.eq(cursor.sortValue()).and(afterTie));
 	}
 
-	private NumberTemplate<Double> getDistanceWithin3KmExpression(double xCoordinate, double yCoordinate) {
+	// 정렬과 페이지 나눔은 id 만 고르는 쿼리에서 끝내고, 고른 상품만 업체와 주소까지 읽어 같은 순서로 돌려준다.
+	private ItemSlice fetchPage(List<Tuple> rows, Pageable pageable, Function<Tuple, ItemCursor> cursorOf) {
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		List<Tuple> pageRows = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+		if (pageRows.isEmpty()) {
+			return new ItemSlice(new ArrayList<>(), pageable, false, null);
+		}
 
-		return Expressions.numberTemplate(Double.class, HAVERSINE, yCoordinate, address, xCoordinate);
-	}
+		List<Long> itemIds = pageRows.stream()
+			.map(row -> row.get(item.id))
+			.toList();
+		Map<Long, Item> itemsById = queryFactory
+			.selectFrom(item)
+			.join(item.store, store).fetchJoin()
+			.join(store.address, address).fetchJoin()
+			.where(item.id.in(itemIds))
+			.fetch().stream()
+			.collect(Collectors.toMap(Item::getId, Function.identity()));
 
-	private NumberTemplate<Double> getDiscountRateExpression() {
+		List<Item> result = itemIds.stream()
+			.map(itemsById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+		ItemCursor nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
 
-		return Expressions.numberTemplate(Double.class, DISCOUNT_RATE);
+		return new ItemSlice(result, pageable, hasNext, nextCursor);
 	}
 
-	private NumberTemplate<Double> getDeadlineExpression() {
-
-		return Expressions.numberTemplate(Double.class, DEADLINE, store.closeTime);
+	private BooleanExpression getDistancePredicate(double xCoordinate, double yCoordinate) {
+		return GeoDistanceExpressions.within(address, xCoordinate, yCoordinate, SEARCH_RADIUS_KM);
 	}
 
-	private Slice<Item> checkLastPage(Pageable pageable, List<Item> results) {
-		boolean hasNext = false;
+	private NumberTemplate<Double> getDistanceWithin3KmExpression(double xCoordinate, double yCoordinate) {
 
-		if (results.size() > pageable.getPageSize()) {
-			hasNext = true;
-			results.remove(pageable.getPageSize());
-		}
+		return GeoDistanceExpressions.distanceKm(address, xCoordinate, yCoordinate);
+	}
+
+	// 기준 시각보다 이른 마감 시각은 다음 날 마감으로 본다. 저장된 분 단위 마감 시각을 그대로 비교해 시간 함수를 행마다 계산하지 않는다.
+	private NumberTemplate<Double> getDeadlineExpression(int referenceSecondOfDay) {
 
-		return new SliceImpl<>(results, pageable, hasNext);
+		return Expressions.numberTemplate(Double.class, DEADLINE, store.closeMinuteOfDay, referenceSecondOfDay / 60);
 	}
 }
@@ -0,0 +1,22 @@
+package com.palpal.dealightbe.domain.item.domain;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import lombok.Getter;
+
+/**
+ * 한 페이지의 상품과 다음 페이지를 이어서 조회할 커서. 마지막 페이지면 nextCursor 는 null 이다.
+ */
+@Getter
+public class ItemSlice extends SliceImpl<Item> {
+
+	private final transient ItemCursor nextCursor;
+
+	public ItemSlice(List<Item> content, Pageable pageable, boolean hasNext, ItemCursor nextCursor) {
+		super(content, pageable, hasNext);
+		this.nextCursor = nextCursor;
+	}
+}
@@ -0,0 +1,20 @@
+package com.palpal.dealightbe.domain.item.domain;
+
+/**
+ * 주문 생성/취소로 상품 재고가 바뀌었음을 알린다.
+ * soldOutChanged 는 이번 변경으로 품절이 되었거나 품절에서 풀렸는지를 나타낸다.
+ */
+public record ItemStockChangedEvent(
+	Long itemId,
+	Long storeId,
+	boolean soldOutChanged
+) {
+
+	public static ItemStockChangedEvent ordered(Item item) {
+		return new ItemStockChangedEvent(item.getId(), item.getStore().getId(), item.getStock() == 0);
+	}
+
+	public static ItemStockChangedEvent restored(Item item, int quantity) {
+		return new ItemStockChangedEvent(item.getId(), item.getStore().getId(), item.getStock() == quantity);
+	}
+}
@@ -0,0 +1,9 @@
+package com.palpal.dealightbe.domain.item.domain;
+
+/**
+ * 업체의 상품 목록이나 회원 피드에 함께 보이는 업체 정보(영업 상태, 주소, 마감 시각)가 바뀌었음을 알린다.
+ */
+public record StoreItemsChangedEvent(
+	Long storeId
+) {
+}
@@ -1,5 +1,6 @@
 package com.palpal.dealightbe.domain.item.domain;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -7,6 +8,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -23,7 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Getter
 @Entity
-@Table(name = "updated_items")
+@Table(name = "updated_items", indexes = {@Index(name = "index_item_id", columnList = "item_id")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UpdatedItem {
 
@@ -31,6 +33,10 @@ public class UpdatedItem {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
+	// 재고 변경을 색인된 nested 문서에 바로 반영할 때 상품을 찾는 값. 이 컬럼이 생기기 전의 행은 null 이다.
+	@Column(name = "item_id")
+	private Long itemId;
+
 	private String name;
 	private int stock;
 	private int discountPrice;
@@ -45,8 +51,10 @@ public class UpdatedItem {
 	private DocumentStatus documentStatus = DocumentStatus.READY;
 
 	@Builder
-	public UpdatedItem(Long id, String name, int stock, int discountPrice, int originalPrice, UpdatedStore store) {
+	public UpdatedItem(Long id, Long itemId, String name, int stock, int discountPrice, int originalPrice,
+		UpdatedStore store) {
 		this.id = id;
+		this.itemId = itemId;
 		this.name = name;
 		this.stock = stock;
 		this.discountPrice = discountPrice;
@@ -56,6 +64,7 @@ public class UpdatedItem {
 
 	public static UpdatedItem from(Item item) {
 		return UpdatedItem.builder()
+			.itemId(item.getId())
 			.name(item.getName())
 			.stock(item.getStock())
 			.discountPrice(item.getDiscountPrice())
@@ -63,6 +72,10 @@ public class UpdatedItem {
 			.build();
 	}
 
+	public void updateStock(int stock) {
+		this.stock = stock;
+	}
+
 	public void updateDocumentStatus(DocumentStatus status) {
 		this.documentStatus = status;
 	}
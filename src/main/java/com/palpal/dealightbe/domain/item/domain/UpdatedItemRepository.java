@@ -1,12 +1,23 @@
 package com.palpal.dealightbe.domain.item.domain;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface UpdatedItemRepository extends JpaRepository<UpdatedItem, Long> {
 
-	@Query("SELECT ui FROM UpdatedItem ui WHERE ui.documentStatus != 'DONE'")
-	List<UpdatedItem> findAllByDocumentStatusIsReady();
+	List<UpdatedItem> findAllByItemIdIn(Collection<Long> itemIds);
+
+	// 상품명은 업체 안에서 중복되지 않으므로 업체와 이름으로 원본 상품을 찾는다.
+	@Modifying
+	@Query(value = """
+		UPDATE updated_items ui
+		JOIN items i ON i.store_id = ui.store_id AND i.name = ui.name AND i.is_deleted = false
+		SET ui.item_id = i.id
+		WHERE ui.item_id IS NULL
+		""", nativeQuery = true)
+	int fillMissingItemIds();
 }
@@ -3,37 +3,26 @@ package com.palpal.dealightbe.domain.item.infrastructure;
 
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Repository;
 
 import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexer;
 
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "elasticsearch", matchIfMissing = true)
 public class ItemSearchRepositoryImpl {
 
 	private final ElasticsearchOperations operations;
-	private static final int BATCH_SIZE = 500;
+	private final BulkIndexer bulkIndexer;
 
-	public void bulkInsertOrUpdate(List<ItemDocument> itemDocuments) {
-		for (int i = 0; i < itemDocuments.size(); i += BATCH_SIZE) {
-			int endIndex = Math.min(i + BATCH_SIZE, itemDocuments.size());
-			List<ItemDocument> batch = itemDocuments.subList(i, endIndex);
-
-			bulkIndexBatch(batch);
-		}
-	}
-
-	private void bulkIndexBatch(List<ItemDocument> batch) {
-		List<UpdateQuery> updateQueries = batch.stream().map(itemDocument ->
-			UpdateQuery.builder(String.valueOf(itemDocument.getId()))
-				.withDocument(operations.getElasticsearchConverter().mapObject(itemDocument))
-				.withDocAsUpsert(true)
-				.build()).toList();
-
-		operations.bulkUpdate(updateQueries, operations.getIndexCoordinatesFor(ItemDocument.class));
+	public BulkIndexResult bulkInsertOrUpdate(List<ItemDocument> itemDocuments) {
+		return bulkIndexer.upsertAll(itemDocuments, ItemDocument::getId,
+			operations.getIndexCoordinatesFor(ItemDocument.class));
 	}
 }
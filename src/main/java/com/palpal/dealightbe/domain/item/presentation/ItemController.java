@@ -51,31 +51,31 @@ public class ItemController {
 
 	@ProviderId
 	@GetMapping("/stores")
-	public ResponseEntity<ItemsRes> findAllForStore(Long providerId, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size) {
+	public ResponseEntity<ItemsRes> findAllForStore(Long providerId, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size, @RequestParam(required = false) String cursor) {
 		page = Math.max(page - 1, 0);
 		PageRequest pageable = PageRequest.of(page, size);
 
-		ItemsRes itemsRes = itemService.findAllForStore(providerId, pageable);
+		ItemsRes itemsRes = itemService.findAllForStore(providerId, cursor, pageable);
 
 		return ResponseEntity.ok(itemsRes);
 	}
 
 	@GetMapping("/members")
-	public ResponseEntity<ItemsRes> findAllForMember(@RequestParam("x-coordinate") double xCoordinate, @RequestParam("y-coordinate") double yCoordinate, @RequestParam(value = "sort-by", required = false, defaultValue = "distance") String sortBy, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size) {
+	public ResponseEntity<ItemsRes> findAllForMember(@RequestParam("x-coordinate") double xCoordinate, @RequestParam("y-coordinate") double yCoordinate, @RequestParam(value = "sort-by", required = false, defaultValue = "distance") String sortBy, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size, @RequestParam(required = false) String cursor) {
 		page = Math.max(page - 1, 0);
 		PageRequest pageable = PageRequest.of(page, size);
 
-		ItemsRes itemsRes = itemService.findAllForMember(xCoordinate, yCoordinate, sortBy, pageable);
+		ItemsRes itemsRes = itemService.findAllForMember(xCoordinate, yCoordinate, sortBy, cursor, pageable);
 
 		return ResponseEntity.ok(itemsRes);
 	}
 
 	@GetMapping("/stores/{storeId}")
-	public ResponseEntity<ItemsRes> findAllByStoreId(@PathVariable Long storeId, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size) {
+	public ResponseEntity<ItemsRes> findAllByStoreId(@PathVariable Long storeId, @RequestParam(required = false, defaultValue = "0") int page, @RequestParam(required = false, defaultValue = DEFAULT_PAGE_SIZE) int size, @RequestParam(required = false) String cursor) {
 		page = Math.max(page - 1, 0);
 		PageRequest pageable = PageRequest.of(page, size);
 
-		ItemsRes itemsRes = itemService.findAllByStoreId(storeId, pageable);
+		ItemsRes itemsRes = itemService.findAllByStoreId(storeId, cursor, pageable);
 
 		return ResponseEntity.ok(itemsRes);
 	}
@@ -0,0 +1,74 @@
+package com.palpal.dealightbe.domain.member.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.palpal.dealightbe.domain.member.domain.MemberSnapshot;
+import com.palpal.dealightbe.global.error.ErrorCode;
+import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 회원 정보를 요청마다 한 번만 읽어 두는 요청 범위 컨텍스트.
+ * 처음 쓸 때 MemberSnapshotCache 에서 읽고, 같은 요청 안의 다음 조회는 다시 캐시나 DB 를 거치지 않는다.
+ * 요청 범위 빈이므로 웹 요청을 처리하는 흐름에서만 쓴다.
+ */
+@Slf4j
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class MemberContext {
+
+	private final MemberSnapshotCache memberSnapshotCache;
+
+	private MemberSnapshot snapshot;
+
+	public MemberSnapshot get(Long providerId) {
+		if (snapshot != null && snapshot.providerId().equals(providerId)) {
+			return snapshot;
+		}
+
+		snapshot = memberSnapshotCache.find(providerId)
+			.orElseThrow(() -> notFoundMember(providerId));
+
+		return snapshot;
+	}
+
+	/**
+	 * 회원이 등록한 업체 id, 업체가 없으면 null.
+	 * 다른 인스턴스에서 방금 업체를 등록했을 수 있으므로 업체가 없다고 캐시된 값은 한 번 다시 읽는다.
+	 */
+	public Long getStoreId(Long providerId) {
+		MemberSnapshot current = get(providerId);
+		if (!current.hasStore()) {
+			snapshot = memberSnapshotCache.reload(providerId)
+				.orElseThrow(() -> notFoundMember(providerId));
+			current = snapshot;
+		}
+
+		return current.storeId();
+	}
+
+	// 다른 인스턴스에서 바뀌었을 수 있는 권한을 캐시를 거치지 않고 DB 에서 다시 읽는다.
+	public MemberSnapshot reload(Long providerId) {
+		snapshot = memberSnapshotCache.reload(providerId)
+			.orElseThrow(() -> notFoundMember(providerId));
+
+		return snapshot;
+	}
+
+	public void evict(Long providerId) {
+		if (snapshot != null && snapshot.providerId().equals(providerId)) {
+			snapshot = null;
+		}
+		memberSnapshotCache.evict(providerId);
+	}
+
+	private EntityNotFoundException notFoundMember(Long providerId) {
+		log.warn("GET:READ:NOT_FOUND_MEMBER_BY_PROVIDER_ID : {}", providerId);
+
+		return new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER);
+	}
+}
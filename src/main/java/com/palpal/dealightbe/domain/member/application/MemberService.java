@@ -30,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class MemberService {
 
+	// 프로필 조회/수정은 스냅샷에 없는 회원 정보(이름, 주소, 이미지)를 쓰므로 MemberContext 가 아니라 회원 엔티티를 읽는다.
 	private final MemberRepository memberRepository;
 	private final ImageService imageService;
 
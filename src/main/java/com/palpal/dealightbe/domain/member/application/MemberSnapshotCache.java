@@ -0,0 +1,70 @@
+package com.palpal.dealightbe.domain.member.application;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palpal.dealightbe.config.MemberSnapshotCacheProperty;
+import com.palpal.dealightbe.domain.member.domain.MemberRepository;
+import com.palpal.dealightbe.domain.member.domain.MemberSnapshot;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 요청마다 providerId 로 회원과 업체를 다시 조회하지 않도록 회원 정보를 짧게 캐시한다.
+ * 없는 회원은 캐시하지 않고, 권한이 바뀌거나 업체를 등록하거나 탈퇴하면 이 인스턴스에서는 바로 지운다.
+ */
+@Component
+public class MemberSnapshotCache {
+
+	private final Cache<Long, MemberSnapshot> cache;
+	private final MemberRepository memberRepository;
+	private final StoreRepository storeRepository;
+	private final MeterRegistry meterRegistry;
+
+	public MemberSnapshotCache(MemberSnapshotCacheProperty memberSnapshotCacheProperty,
+		MemberRepository memberRepository, StoreRepository storeRepository, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(memberSnapshotCacheProperty.getMaxSize())
+			.expireAfterWrite(Duration.ofSeconds(memberSnapshotCacheProperty.getTtlSeconds()))
+			.recordStats()
+			.build();
+		this.memberRepository = memberRepository;
+		this.storeRepository = storeRepository;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void registerMetrics() {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "memberSnapshot");
+	}
+
+	public Optional<MemberSnapshot> find(Long providerId) {
+		MemberSnapshot cached = cache.getIfPresent(providerId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		return reload(providerId);
+	}
+
+	// 캐시된 값이 오래되었을 수 있을 때(업체가 없다고 캐시된 경우 등) DB 에서 다시 읽는다.
+	public Optional<MemberSnapshot> reload(Long providerId) {
+		Optional<MemberSnapshot> loaded = memberRepository.findMemberWithRolesAndRoleByProviderId(providerId)
+			.map(member -> MemberSnapshot.of(member, storeRepository.findIdByMemberProviderId(providerId).orElse(null)));
+		loaded.ifPresentOrElse(snapshot -> cache.put(providerId, snapshot), () -> cache.invalidate(providerId));
+
+		return loaded;
+	}
+
+	public void evict(Long providerId) {
+		cache.invalidate(providerId);
+	}
+}
@@ -0,0 +1,27 @@
+package com.palpal.dealightbe.domain.member.domain;
+
+import java.util.List;
+
+/**
+ * 인증된 요청이 반복해서 조회하던 회원 정보(회원 id, 권한, 업체 id)만 담은 불변 값.
+ * 업체를 등록하지 않은 회원은 storeId 가 null 이다.
+ */
+public record MemberSnapshot(
+	Long memberId,
+	Long providerId,
+	List<RoleType> roles,
+	Long storeId
+) {
+
+	public static MemberSnapshot of(Member member, Long storeId) {
+		List<RoleType> roles = member.getMemberRoles().stream()
+			.map(memberRole -> memberRole.getRole().getType())
+			.toList();
+
+		return new MemberSnapshot(member.getId(), member.getProviderId(), roles, storeId);
+	}
+
+	public boolean hasStore() {
+		return storeId != null;
+	}
+}
@@ -26,8 +26,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
-import com.palpal.dealightbe.domain.member.domain.MemberRepository;
+import com.palpal.dealightbe.domain.member.domain.MemberSnapshot;
 import com.palpal.dealightbe.domain.member.domain.RoleType;
 import com.palpal.dealightbe.domain.notification.application.dto.NotificationUserInfo;
 import com.palpal.dealightbe.domain.notification.application.dto.response.NotificationRes;
@@ -38,7 +39,6 @@ import com.palpal.dealightbe.domain.notification.domain.NotificationRepository;
 import com.palpal.dealightbe.domain.order.domain.Order;
 import com.palpal.dealightbe.domain.order.domain.OrderStatus;
 import com.palpal.dealightbe.domain.store.domain.Store;
-import com.palpal.dealightbe.domain.store.domain.StoreRepository;
 import com.palpal.dealightbe.global.error.ErrorCode;
 import com.palpal.dealightbe.global.error.exception.BusinessException;
 import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
@@ -53,9 +53,8 @@ public class NotificationService {
 	private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 
 	private final NotificationRepository notificationRepository;
-	private final MemberRepository memberRepository;
-	private final StoreRepository storeRepository;
 	private final EmitterRepository emitterRepository;
+	private final MemberContext memberContext;
 
 	private final StringRedisTemplate stringRedisTemplate;
 
@@ -93,28 +92,26 @@ public class NotificationService {
 		return emitter;
 	}
 
+	// 구독하는 동안 채널이 바뀌지 않으므로, 다른 인스턴스에서 바뀐 권한으로 잘못된 채널을 고르지 않도록 캐시된 값 대신 다시 읽는다.
 	private NotificationUserInfo findNotificationRoleByProviderId(Long providerId) {
+		MemberSnapshot memberSnapshot = memberContext.reload(providerId);
+		if (memberSnapshot.roles().isEmpty()) {
+			log.warn("GET:READ:NOT_FOUND_MEMBER_BY_ID : {}", providerId);
+			throw new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER);
+		}
 
-		Member member = memberRepository.findMemberWithRolesAndRoleByProviderId(providerId)
-			.orElseThrow(() -> {
-				log.warn("GET:READ:NOT_FOUND_MEMBER_BY_ID : {}", providerId);
-				return new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER);
-			});
-
-		Long id = member.getId();
-		RoleType userType = member.getMemberRoles().get(0).getRole().getType();
+		RoleType userType = memberSnapshot.roles().get(0);
 
 		if (userType == RoleType.ROLE_STORE) {
-			Store store = storeRepository.findByMemberProviderId(providerId)
-				.orElseThrow(() -> {
-					log.warn("GET:READ:NOT_FOUND_STORE_BY_PROVIDER_ID : {}", providerId);
-					return new EntityNotFoundException(ErrorCode.NOT_FOUND_STORE);
-				});
-			id = store.getId();
-			return new NotificationUserInfo(id, RoleType.ROLE_STORE);
+			Long storeId = memberSnapshot.storeId();
+			if (storeId == null) {
+				log.warn("GET:READ:NOT_FOUND_STORE_BY_PROVIDER_ID : {}", providerId);
+				throw new EntityNotFoundException(ErrorCode.NOT_FOUND_STORE);
+			}
+			return new NotificationUserInfo(storeId, RoleType.ROLE_STORE);
 		}
 
-		return new NotificationUserInfo(id, RoleType.ROLE_MEMBER);
+		return new NotificationUserInfo(memberSnapshot.memberId(), RoleType.ROLE_MEMBER);
 	}
 
 	private NotificationRes serialize(final Message message) {
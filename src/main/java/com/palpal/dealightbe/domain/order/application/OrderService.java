@@ -10,7 +10,9 @@ import static com.palpal.dealightbe.global.error.ErrorCode.NOT_FOUND_STORE;
 import static com.palpal.dealightbe.global.error.ErrorCode.UNAUTHORIZED_REQUEST;
 
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.palpal.dealightbe.domain.item.domain.Item;
 import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemStockChangedEvent;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.notification.application.NotificationService;
@@ -52,6 +56,8 @@ public class OrderService {
 	private final ItemRepository itemRepository;
 	private final OrderItemRepository orderItemRepository;
 	private final NotificationService notificationService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final MemberContext memberContext;
 
 	public OrderRes create(OrderCreateReq orderCreateReq, Long memberProviderId) {
 		long storeId = orderCreateReq.storeId();
@@ -78,6 +84,10 @@ public class OrderService {
 
 		String changedStatus = request.status();
 		order.changeStatus(member, changedStatus);
+		if (order.getOrderStatus() == OrderStatus.CANCELED) {
+			order.getOrderItems().forEach(orderItem -> applicationEventPublisher.publishEvent(
+				ItemStockChangedEvent.restored(orderItem.getItem(), orderItem.getQuantity())));
+		}
 		notificationService.send(member, store, order, OrderStatus.valueOf(changedStatus));
 
 		return OrderStatusUpdateRes.from(order);
@@ -95,9 +105,10 @@ public class OrderService {
 
 	@Transactional(readOnly = true)
 	public OrdersRes findAllByStoreId(Long storeId, Long memberProviderId, String status, Pageable pageable) {
-		Store store = getStore(storeId);
+		getStore(storeId);
 
-		if (!store.isSameOwnerAndTheRequester(memberProviderId)) {
+		// 업체 주인을 지연 로딩하지 않고 요청한 회원이 등록한 업체 id 와 비교한다.
+		if (!Objects.equals(storeId, memberContext.getStoreId(memberProviderId))) {
 			throw new BusinessException(UNAUTHORIZED_REQUEST);
 		}
 
@@ -136,6 +147,7 @@ public class OrderService {
 			});
 	}
 
+	// 주문 생성/상태 변경 검증(validateOrderUpdater 등)과 알림 저장에 회원 엔티티가 필요하므로 스냅샷이 아닌 엔티티를 읽는다.
 	private Member getMember(Long memberProviderId) {
 		return memberRepository.findMemberByProviderId(memberProviderId)
 			.orElseThrow(() -> {
@@ -167,6 +179,7 @@ public class OrderService {
 
 				return new EntityNotFoundException(NOT_FOUND_ITEM);
 			});
+		applicationEventPublisher.publishEvent(ItemStockChangedEvent.ordered(item));
 
 		return OrderProductReq.toOrderItem(item, order, request);
 
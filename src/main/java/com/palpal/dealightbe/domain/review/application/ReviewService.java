@@ -9,6 +9,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.order.domain.Order;
 import com.palpal.dealightbe.domain.order.domain.OrderRepository;
 import com.palpal.dealightbe.domain.review.application.dto.request.ReviewCreateReq;
@@ -18,8 +19,6 @@ import com.palpal.dealightbe.domain.review.application.dto.response.ReviewStatis
 import com.palpal.dealightbe.domain.review.application.dto.response.StoreReviewsRes;
 import com.palpal.dealightbe.domain.review.domain.Review;
 import com.palpal.dealightbe.domain.review.domain.ReviewRepository;
-import com.palpal.dealightbe.domain.store.domain.Store;
-import com.palpal.dealightbe.domain.store.domain.StoreRepository;
 import com.palpal.dealightbe.global.error.exception.BusinessException;
 import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
 
@@ -32,9 +31,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReviewService {
 
-	private final StoreRepository storeRepository;
 	private final OrderRepository orderRepository;
 	private final ReviewRepository reviewRepository;
+	private final MemberContext memberContext;
 
 	public ReviewCreateRes create(Long orderId, ReviewCreateReq request, Long memberProviderId) {
 		Order order = getOrder(orderId);
@@ -55,19 +54,14 @@ public class ReviewService {
 		return StoreReviewsRes.of(id, reviews);
 	}
 
+	// 요청한 회원이 등록한 업체만 조회하므로 업체와 업체 주인을 다시 읽지 않는다.
 	@Transactional(readOnly = true)
 	public StoreReviewsRes findByStoreOwnerProviderId(Long providerId) {
-		Store store = getStoreByProviderId(providerId);
+		Long storeId = getStoreIdByProviderId(providerId);
 
-		if (!store.isSameOwnerAndTheRequester(providerId)) {
-			log.warn("GET:READ:NOT A STORE OWNER : STORE OWNER {}, REQUESTER {}",
-				store.getMember().getId(), providerId);
-			throw new BusinessException(UNAUTHORIZED_REQUEST);
-		}
+		List<ReviewStatistics> reviews = reviewRepository.selectStatisticsByStoreId(storeId);
 
-		List<ReviewStatistics> reviews = reviewRepository.selectStatisticsByStoreId(store.getId());
-
-		return StoreReviewsRes.of(store.getId(), reviews);
+		return StoreReviewsRes.of(storeId, reviews);
 	}
 
 	@Transactional(readOnly = true)
@@ -88,12 +82,14 @@ public class ReviewService {
 			});
 	}
 
-	private Store getStoreByProviderId(Long providerId) {
-		return storeRepository.findByMemberProviderId(providerId)
-			.orElseThrow(() -> {
-				log.warn("GET:READ:NOT_FOUND_STORE_BY_OWNER_PROVIDER_ID : {}", providerId);
-				return new EntityNotFoundException(NOT_FOUND_STORE);
-			});
+	private Long getStoreIdByProviderId(Long providerId) {
+		Long storeId = memberContext.getStoreId(providerId);
+		if (storeId == null) {
+			log.warn("GET:READ:NOT_FOUND_STORE_BY_OWNER_PROVIDER_ID : {}", providerId);
+			throw new EntityNotFoundException(NOT_FOUND_STORE);
+		}
+
+		return storeId;
 	}
 
 	private void checkMemberAuthority(Long memberProviderId, Order order) {
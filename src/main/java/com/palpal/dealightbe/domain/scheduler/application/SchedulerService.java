@@ -5,13 +5,18 @@ import static com.palpal.dealightbe.domain.order.domain.Order.STORAGE_PERIOD_MON
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
 import com.palpal.dealightbe.domain.notification.domain.NotificationRepository;
 import com.palpal.dealightbe.domain.order.domain.OrderRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
+import com.palpal.dealightbe.global.lock.DistributedLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,14 +28,17 @@ import lombok.extern.slf4j.Slf4j;
 public class SchedulerService {
 
 	private final ItemRepository itemRepository;
+	private final UpdatedItemRepository updatedItemRepository;
 	private final OrderRepository orderRepository;
 	private final NotificationRepository notificationRepository;
+	private final StoreRepository storeRepository;
 
 	private static final String NOTIFICATION_DEFAULT_SCHEDULING_PERIOD = "0 0 2 ? * TUE";  //매주 화요일 새벽 2시에 진행
 	private static final String ORDER_STORAGE_PERIOD = "* * 1 * * ?";
 	private static final String ITEM_STORAGE_PERIOD = "* * 1 * * ?";
 
 	@Scheduled(cron = NOTIFICATION_DEFAULT_SCHEDULING_PERIOD)
+	@DistributedLock(key = "scheduler:cleanup-read-notifications", lockAtLeastFor = 60)
 	public void cleanupReadNotifications() {
 		notificationRepository.deleteReadNotifications();
 
@@ -39,6 +47,7 @@ public class SchedulerService {
 	}
 
 	@Scheduled(cron = ORDER_STORAGE_PERIOD)
+	@DistributedLock(key = "scheduler:cleanup-orders")
 	public void cleanUpOrders() {
 		List<Long> orderIdsToDelete = orderRepository.findAllByUpdatedMoreThan(STORAGE_PERIOD_MONTH);
 
@@ -48,7 +57,20 @@ public class SchedulerService {
 	}
 
 	@Scheduled(cron = ITEM_STORAGE_PERIOD)
+	@DistributedLock(key = "scheduler:cleanup-items")
 	public void cleanUpItems() {
 		itemRepository.clearItemsDeleted();
 	}
+
+	// 정렬용 컬럼(할인율, 분 단위 마감 시각)과 updated_items 의 상품 id 가 생기기 전에 저장된 행은 시작할 때 한 번 채운다.
+	@EventListener(ApplicationReadyEvent.class)
+	@DistributedLock(key = "scheduler:backfill-sort-columns")
+	public void backfillSortColumns() {
+		int items = itemRepository.fillMissingDiscountRates();
+		int stores = storeRepository.fillMissingCloseMinutes();
+		int updatedItems = updatedItemRepository.fillMissingItemIds();
+
+		log.info("RUN:BACKFILL_SORT_COLUMNS : items => {}, stores => {}, updatedItems => {}", items, stores,
+			updatedItems);
+	}
 }
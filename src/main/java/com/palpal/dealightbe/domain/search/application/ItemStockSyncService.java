@@ -0,0 +1,136 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemStockChangedEvent;
+import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문/취소로 바뀐 상품 재고를 짧은 주기로 모아 업체 문서의 nested items 에 반영한다.
+ * 같은 상품의 변경은 하나로 합치고 업체마다 스크립트 갱신 한 건만 보내므로, 주문이 몰려도 주기당 쓰기는 재고가 바뀐 업체 수를 넘지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemStockSyncService {
+
+	private final ItemRepository itemRepository;
+	private final UpdatedItemRepository updatedItemRepository;
+	private final StoreSearchRepository storeSearchRepository;
+	private final StoreSearchCache storeSearchCache;
+	private final MeterRegistry meterRegistry;
+
+	// 상품 id -> 업체 id
+	private final Map<Long, Long> pendingItems = new ConcurrentHashMap<>();
+	private final Set<Long> soldOutChangedStoreIds = ConcurrentHashMap.newKeySet();
+
+	// 롤백된 주문의 재고는 반영하지 않도록 커밋 이후에만 모은다.
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStockChanged(ItemStockChangedEvent event) {
+		pendingItems.put(event.itemId(), event.storeId());
+		if (event.soldOutChanged()) {
+			soldOutChangedStoreIds.add(event.storeId());
+		}
+		meterRegistry.counter("search.stock.events").increment();
+	}
+
+	@Transactional
+	public void flush() {
+		Map<Long, Long> storeIdByItemId = drainPendingItems();
+		if (storeIdByItemId.isEmpty()) {
+			return;
+		}
+		Set<Long> soldOutChanged = drainSoldOutChangedStoreIds();
+
+		// 이벤트가 도착한 순서와 커밋 순서가 다를 수 있으므로 반영 시점의 재고를 다시 읽는다.
+		Map<Long, Integer> stockByItemId = itemRepository.findAllById(storeIdByItemId.keySet()).stream()
+			.collect(Collectors.toMap(Item::getId, Item::getStock));
+		// 이후 재색인이 오래된 재고로 되돌리지 않도록 색인 원본도 함께 맞춘다.
+		updatedItemRepository.findAllByItemIdIn(stockByItemId.keySet())
+			.forEach(updatedItem -> updatedItem.updateStock(stockByItemId.get(updatedItem.getItemId())));
+
+		Map<String, Map<String, Integer>> stocksByStoreId = new HashMap<>();
+		stockByItemId.forEach((itemId, stock) -> stocksByStoreId
+			.computeIfAbsent(String.valueOf(storeIdByItemId.get(itemId)), storeId -> new HashMap<>())
+			.put(String.valueOf(itemId), stock));
+
+		BulkIndexResult result = storeSearchRepository.bulkUpdateItemStocks(stocksByStoreId);
+		meterRegistry.counter("search.stock.updates").increment(result.succeeded());
+		Set<String> retriedStoreIds = requeueRetryableFailures(result, storeIdByItemId, soldOutChanged);
+
+		List<String> evictedStoreIds = soldOutChanged.stream()
+			.map(String::valueOf)
+			.filter(storeId -> !retriedStoreIds.contains(storeId))
+			.toList();
+		if (!evictedStoreIds.isEmpty()) {
+			storeSearchCache.evictAround(storeSearchRepository.findAllByIds(evictedStoreIds));
+		}
+
+		log.info("SEARCH:STOCK:FLUSHED : items => {}, stores => {}, failed => {}", stockByItemId.size(),
+			stocksByStoreId.size(), result.failures().size());
+	}
+
+	private Map<Long, Long> drainPendingItems() {
+		Map<Long, Long> drained = new HashMap<>();
+		for (Long itemId : pendingItems.keySet()) {
+			Long storeId = pendingItems.remove(itemId);
+			if (storeId != null) {
+				drained.put(itemId, storeId);
+			}
+		}
+
+		return drained;
+	}
+
+	private Set<Long> drainSoldOutChangedStoreIds() {
+		Set<Long> drained = new HashSet<>();
+		for (Long storeId : soldOutChangedStoreIds) {
+			if (soldOutChangedStoreIds.remove(storeId)) {
+				drained.add(storeId);
+			}
+		}
+
+		return drained;
+	}
+
+	// 색인되지 않은 업체(404)는 다음 증분 색인이 재고까지 담아 올리므로 다시 넣지 않는다.
+	private Set<String> requeueRetryableFailures(BulkIndexResult result, Map<Long, Long> storeIdByItemId,
+		Set<Long> soldOutChanged) {
+		Set<String> retriedStoreIds = result.failures().stream()
+			.filter(failure -> failure.status() != HttpStatus.NOT_FOUND.value())
+			.map(BulkIndexFailure::id)
+			.collect(Collectors.toSet());
+
+		storeIdByItemId.forEach((itemId, storeId) -> {
+			if (retriedStoreIds.contains(String.valueOf(storeId))) {
+				pendingItems.putIfAbsent(itemId, storeId);
+				if (soldOutChanged.contains(storeId)) {
+					soldOutChangedStoreIds.add(storeId);
+				}
+			}
+		});
+
+		return retriedStoreIds;
+	}
+}
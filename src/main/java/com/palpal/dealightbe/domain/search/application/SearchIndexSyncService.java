@@ -0,0 +1,190 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
+import com.palpal.dealightbe.domain.item.infrastructure.ItemSearchRepositoryImpl;
+import com.palpal.dealightbe.domain.search.domain.IndexWatermark;
+import com.palpal.dealightbe.domain.search.domain.IndexWatermarkRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * updated_stores 의 (updatedAt, id) 를 기준으로 마지막 색인 위치 이후의 변경분만 읽어 ES 에 반영한다.
+ * 아직 커밋되지 않았을 수 있는 최근 변경은 indexerLagMillis 만큼 늦게 읽는다.
+ * 다시 시도하면 성공할 수 있는 실패에서만 워터마크를 멈추고, 매핑 오류처럼 계속 실패할 문서는 기록만 하고 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SearchIndexSyncService {
+
+	private static final String STORE_WATERMARK = "store";
+
+	private final UpdatedStoreRepository updatedStoreRepository;
+	private final IndexWatermarkRepository indexWatermarkRepository;
+	private final StoreSearchRepository storeSearchRepository;
+	// 상품 인덱스는 Elasticsearch 백엔드에서만 유지한다.
+	private final Optional<ItemSearchRepositoryImpl> itemSearchRepositoryImpl;
+	private final StoreSearchCache storeSearchCache;
+	private final ElasticSearchProperty elasticSearchProperty;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicLong lagSeconds = new AtomicLong();
+	private final AtomicLong backlog = new AtomicLong();
+
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder("search.indexer.lag.seconds", lagSeconds, AtomicLong::get)
+			.tag("index", STORE_WATERMARK)
+			.register(meterRegistry);
+		Gauge.builder("search.indexer.backlog", backlog, AtomicLong::get)
+			.tag("index", STORE_WATERMARK)
+			.register(meterRegistry);
+	}
+
+	public void syncChanges() {
+		IndexWatermark watermark = indexWatermarkRepository.findById(STORE_WATERMARK)
+			.orElseGet(() -> IndexWatermark.initial(STORE_WATERMARK));
+		LocalDateTime until = LocalDateTime.now().minus(Duration.ofMillis(elasticSearchProperty.getIndexerLagMillis()));
+		int pageSize = elasticSearchProperty.getIndexerPageSize();
+
+		for (int page = 0; page < elasticSearchProperty.getIndexerMaxPagesPerRun(); page++) {
+			List<UpdatedStore> changes = updatedStoreRepository.findChangesAfter(watermark.getUpdatedAt(),
+				watermark.getLastId(), until, PageRequest.of(0, pageSize));
+			if (changes.isEmpty()) {
+				break;
+			}
+
+			boolean completed = indexPage(changes, watermark);
+			if (!completed || changes.size() < pageSize) {
+				break;
+			}
+		}
+
+		updateMetrics(watermark);
+	}
+
+	// 이 시각 이후에 바뀐 업체는 아직 증분 색인을 기다리고 있다.
+	@Transactional(readOnly = true)
+	public LocalDateTime syncedUntil() {
+		return indexWatermarkRepository.findById(STORE_WATERMARK)
+			.orElseGet(() -> IndexWatermark.initial(STORE_WATERMARK))
+			.getUpdatedAt();
+	}
+
+	// 재구축 중에 들어온 변경을 새 인덱스에 다시 반영하도록 워터마크를 되돌린다. 이미 더 앞이라면 그대로 둔다.
+	public void rewindTo(LocalDateTime updatedAt) {
+		IndexWatermark watermark = indexWatermarkRepository.findById(STORE_WATERMARK)
+			.orElseGet(() -> IndexWatermark.initial(STORE_WATERMARK));
+		LocalDateTime rewindAt = updatedAt.minus(Duration.ofMillis(elasticSearchProperty.getIndexerLagMillis()));
+		if (watermark.getUpdatedAt().isBefore(rewindAt)) {
+			return;
+		}
+
+		watermark.advance(rewindAt, 0L);
+		indexWatermarkRepository.save(watermark);
+		log.info("SEARCH:SYNC:REWOUND : updatedAt => {}", rewindAt);
+	}
+
+	private boolean indexPage(List<UpdatedStore> changes, IndexWatermark watermark) {
+		List<Long> storeIds = changes.stream()
+			.map(UpdatedStore::getId)
+			.toList();
+		updatedStoreRepository.findAllWithItemsByIdIn(storeIds);
+
+		List<StoreDocument> storeDocuments = StoreDocument.convertToStoreDocuments(changes);
+		BulkIndexResult storeResult = storeSearchRepository.bulkInsertOrUpdate(storeDocuments);
+
+		List<UpdatedItem> items = changes.stream()
+			.flatMap(updatedStore -> updatedStore.getItems().stream())
+			.toList();
+		BulkIndexResult itemResult = itemSearchRepositoryImpl
+			.map(repository -> repository.bulkInsertOrUpdate(ItemDocument.convertToItemDocuments(items)))
+			.orElseGet(BulkIndexResult::empty);
+
+		Map<String, String> storeIdByItemId = items.stream()
+			.collect(Collectors.toMap(item -> String.valueOf(item.getId()),
+				item -> String.valueOf(item.getStore().getId()), (first, second) -> first));
+		skipPermanentFailures(storeResult, itemResult, storeIdByItemId);
+
+		Set<String> failedStoreIds = collectRetryableFailedStoreIds(storeResult, itemResult, storeIdByItemId);
+		List<UpdatedStore> indexed = changes.stream()
+			.takeWhile(updatedStore -> !failedStoreIds.contains(String.valueOf(updatedStore.getId())))
+			.toList();
+
+		storeSearchCache.evictAround(storeDocuments);
+
+		if (!indexed.isEmpty()) {
+			UpdatedStore last = indexed.get(indexed.size() - 1);
+			watermark.advance(last.getUpdatedAt(), last.getId());
+			indexWatermarkRepository.save(watermark);
+			updatedStoreRepository.markAllAsDoneByIdIn(indexed.stream().map(UpdatedStore::getId).toList());
+		}
+
+		if (!failedStoreIds.isEmpty()) {
+			log.warn("SEARCH:SYNC:STOPPED_AT_FAILURE : failedStoreIds => {}", failedStoreIds);
+			return false;
+		}
+
+		return true;
+	}
+
+	// 상품 색인이 실패한 업체도 실패로 보고 워터마크를 그 앞에서 멈춘다.
+	private Set<String> collectRetryableFailedStoreIds(BulkIndexResult storeResult, BulkIndexResult itemResult,
+		Map<String, String> storeIdByItemId) {
+		Set<String> failedStoreIds = new HashSet<>(storeResult.retryableFailedIds());
+		itemResult.retryableFailedIds().stream()
+			.map(storeIdByItemId::get)
+			.filter(Objects::nonNull)
+			.forEach(failedStoreIds::add);
+
+		return failedStoreIds;
+	}
+
+	private void skipPermanentFailures(BulkIndexResult storeResult, BulkIndexResult itemResult,
+		Map<String, String> storeIdByItemId) {
+		storeResult.permanentFailures().forEach(failure -> skip("store", failure.id(), failure));
+		itemResult.permanentFailures().forEach(failure -> skip("item", storeIdByItemId.get(failure.id()), failure));
+	}
+
+	private void skip(String document, String storeId, BulkIndexFailure failure) {
+		log.error("SEARCH:SYNC:SKIPPED_PERMANENT_FAILURE : document => {}, id => {}, storeId => {}, status => {}, "
+			+ "message => {}", document, failure.id(), storeId, failure.status(), failure.message());
+		meterRegistry.counter("search.indexer.skipped", "document", document).increment();
+	}
+
+	// 밀린 변경이 없으면 지연도 0 으로 본다.
+	private void updateMetrics(IndexWatermark watermark) {
+		long pending = updatedStoreRepository.countChangesAfter(watermark.getUpdatedAt(), watermark.getLastId());
+		backlog.set(pending);
+		lagSeconds.set(pending == 0 ? 0 : Duration.between(watermark.getUpdatedAt(), LocalDateTime.now()).toSeconds());
+	}
+}
@@ -1,115 +1,177 @@
 package com.palpal.dealightbe.domain.search.application;
 
-import static com.palpal.dealightbe.domain.item.domain.ItemDocument.convertToItemDocuments;
-
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.elasticsearch.geometry.Point;
+import org.elasticsearch.geometry.utils.Geohash;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.RestStatusException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.palpal.dealightbe.domain.item.domain.ItemDocument;
-import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
-import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
-import com.palpal.dealightbe.domain.item.infrastructure.ItemSearchRepositoryImpl;
-import com.palpal.dealightbe.domain.store.application.dto.response.StoresInfoSliceRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSuggestRes;
+import com.palpal.dealightbe.domain.store.application.dto.response.StoreInfoSliceRes;
+import com.palpal.dealightbe.domain.store.domain.Store;
 import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
 import com.palpal.dealightbe.domain.store.domain.StoreStatus;
 import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
 import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
-import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepositoryImpl;
-import com.palpal.dealightbe.global.error.ErrorCode;
-import com.palpal.dealightbe.global.error.exception.BusinessException;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchSlice;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SearchService {
 
+	private static final int MULTI_GET_SIZE = 1000;
+	private static final int MAX_SUGGEST_SIZE = 10;
+
 	private final UpdatedStoreRepository updatedStoreRepository;
-	private final StoreSearchRepositoryImpl storeSearchRepositoryImpl;
-	private final UpdatedItemRepository updatedItemRepository;
-	private final ItemSearchRepositoryImpl itemSearchRepositoryImpl;
+	private final StoreSearchRepository storeSearchRepository;
+	private final StoreSearchCache storeSearchCache;
+	private final StoreRepository storeRepository;
+	private final CircuitBreaker storeSearchCircuitBreaker;
 
+	// 같은 셀의 요청은 셀 중심 좌표로 한 번만 검색해, 누가 먼저 요청했는지와 관계없이 같은 결과를 캐시한다.
 	@Transactional(readOnly = true)
-	public StoresInfoSliceRes searchToES(double xCoordinate, double yCoordinate, String keyword, String sortBy, Pageable pageable) {
-		Slice<StoreDocument> storeDocuments = storeSearchRepositoryImpl.searchStores(xCoordinate, yCoordinate, keyword, sortBy, pageable);
-
-		return StoresInfoSliceRes.fromDocuments(storeDocuments);
+	public StoreSearchRes searchToES(double xCoordinate, double yCoordinate, String keyword, String sortBy,
+		String cursor, Pageable pageable) {
+		StoreSearchCacheKey cacheKey = StoreSearchCacheKey.of(xCoordinate, yCoordinate, keyword, sortBy, cursor,
+			pageable);
+
+		// 차단기가 열렸거나 ES 에 연결/응답 오류가 난 경우만 MySQL 로 대신한다. 그 밖의 예외는 코드 오류이므로 그대로 던진다.
+		try {
+			return storeSearchCache.get(cacheKey, this::search);
+		} catch (CallNotPermittedException | DataAccessResourceFailureException | NoSuchIndexException
+				 | UncategorizedElasticsearchException | RestStatusException e) {
+			log.warn("SEARCH:FALLBACK_TO_DB : cause => {}", e.getClass().getSimpleName(), e);
+			return searchFromDatabase(xCoordinate, yCoordinate, cacheKey);
+		}
 	}
 
-	public void uploadToES() {
-		List<UpdatedStore> updatedStoreList = updatedStoreRepository.findAllByDocumentStatusIsReady();
-		validateAndBulkStores(updatedStoreList, storeSearchRepositoryImpl);
+	@Transactional(readOnly = true)
+	public StoreSuggestRes suggest(String keyword, Double xCoordinate, Double yCoordinate, int size) {
+		if (keyword.isBlank()) {
+			return new StoreSuggestRes(List.of());
+		}
 
-		List<UpdatedItem> updatedItemList = updatedItemRepository.findAllByDocumentStatusIsReady();
-		validateAndBulkItems(updatedItemList, itemSearchRepositoryImpl);
+		int suggestSize = Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE);
+		List<String> keywords = storeSearchRepository.suggestKeywords(keyword.strip(), xCoordinate, yCoordinate,
+			suggestSize);
 
-		markDocumentsAsDone(updatedItemList, updatedStoreList);
+		return new StoreSuggestRes(keywords);
 	}
 
+	@Transactional(readOnly = true)
 	public void updateStatusToES() {
-		List<UpdatedStore> updatedStoreList = updatedStoreRepository.findAllByDocumentStatusIsDone();
-		updateStoreDocuments(updatedStoreList, storeSearchRepositoryImpl);
-	}
+		List<UpdatedStore> updatedStoreList = updatedStoreRepository.findAllWithItemsByDocumentStatusIsDone();
 
-	private void validateAndBulkStores(List<UpdatedStore> updatedStoreList, StoreSearchRepositoryImpl storeSearchRepository) {
-		if (updatedStoreList.isEmpty()) {
-			throw new BusinessException(ErrorCode.UPDATABLE_STORE_NOT_EXIST);
-		}
-
-		List<StoreDocument> storeDocumentsToBulkInsertOrUpdate = updatedStoreList.stream()
-			.map(StoreDocument::from)
-			.collect(Collectors.toList());
-
-		if (!storeDocumentsToBulkInsertOrUpdate.isEmpty()) {
-			storeSearchRepository.bulkInsertOrUpdate(storeDocumentsToBulkInsertOrUpdate);
+		for (int i = 0; i < updatedStoreList.size(); i += MULTI_GET_SIZE) {
+			int endIndex = Math.min(i + MULTI_GET_SIZE, updatedStoreList.size());
+			updateStoreDocuments(updatedStoreList.subList(i, endIndex));
 		}
 	}
 
-	private void validateAndBulkItems(List<UpdatedItem> updatedItemList, ItemSearchRepositoryImpl itemSearchRepository) {
-		List<ItemDocument> itemDocumentsToBulkInsertOrUpdate = updatedItemList.stream()
-			.map(ItemDocument::from)
-			.collect(Collectors.toList());
+	// 문서를 한 번의 mget 으로 가져와 비교하고, 상태나 상품이 달라진 업체만 하나의 bulk 요청으로 부분 업데이트한다.
+	private void updateStoreDocuments(List<UpdatedStore> updatedStoreList) {
+		List<String> storeIds = updatedStoreList.stream()
+			.map(updatedStore -> String.valueOf(updatedStore.getId()))
+			.toList();
 
-		if (!itemDocumentsToBulkInsertOrUpdate.isEmpty()) {
-			itemSearchRepository.bulkInsertOrUpdate(itemDocumentsToBulkInsertOrUpdate);
-		}
-	}
-
-	private void markDocumentsAsDone(List<UpdatedItem> updatedItemList, List<UpdatedStore> updatedStoreList) {
-		updatedItemList.forEach(UpdatedItem::markAsDone);
+		Map<String, StoreDocument> existingStoreDocuments = storeSearchRepository.findAllByIds(storeIds).stream()
+			.collect(Collectors.toMap(StoreDocument::getId, Function.identity()));
 
-		updatedStoreList.forEach(UpdatedStore::markAsDone);
-	}
+		Map<String, StoreStatus> changedStatuses = new HashMap<>();
+		Map<String, StoreDocument> itemChangedStores = new HashMap<>();
 
-	private void updateStoreDocuments(List<UpdatedStore> updatedStoreList, StoreSearchRepositoryImpl storeSearchRepositoryImpl) {
 		updatedStoreList.forEach(updatedStore -> {
-			StoreDocument existingStoreDocument = storeSearchRepositoryImpl.findById(String.valueOf(updatedStore.getId()));
-			if (existingStoreDocument != null) {
-				updateStoreStatusIfNeeded(updatedStore, existingStoreDocument, storeSearchRepositoryImpl);
-				updateStoreItemsIfNeeded(updatedStore, storeSearchRepositoryImpl);
+			String storeId = String.valueOf(updatedStore.getId());
+			StoreDocument existingStoreDocument = existingStoreDocuments.get(storeId);
+			if (existingStoreDocument == null) {
+				return;
+			}
+
+			if (updatedStore.getStoreStatus() != existingStoreDocument.getStoreStatus()) {
+				changedStatuses.put(storeId, updatedStore.getStoreStatus());
+			}
+
+			StoreDocument currentStoreDocument = StoreDocument.from(updatedStore);
+			if (!isSameItems(currentStoreDocument.getItems(), existingStoreDocument.getItems())) {
+				itemChangedStores.put(storeId, currentStoreDocument);
 			}
 		});
+
+		if (changedStatuses.isEmpty() && itemChangedStores.isEmpty()) {
+			return;
+		}
+
+		storeSearchRepository.bulkUpdateStatusAndItems(changedStatuses, itemChangedStores);
+
+		Set<String> changedStoreIds = new HashSet<>(changedStatuses.keySet());
+		changedStoreIds.addAll(itemChangedStores.keySet());
+		storeSearchCache.evictAround(changedStoreIds.stream().map(existingStoreDocuments::get).toList());
 	}
 
-	private void updateStoreStatusIfNeeded(UpdatedStore updatedStore, StoreDocument existingStoreDocument, StoreSearchRepositoryImpl storeSearchRepository) {
-		StoreStatus currentStatus = updatedStore.getStoreStatus();
-		StoreStatus existingStatus = existingStoreDocument.getStoreStatus();
+	private StoreSearchRes search(StoreSearchCacheKey key) {
+		StoreSearchCursor cursor = key.cursor();
+		long searchedAt = cursor == null ? System.currentTimeMillis() : cursor.searchedAt();
+		List<Object> searchAfter = cursor == null ? null : cursor.sortValues();
+		Point center = Geohash.toPoint(key.cell());
 
-		if (currentStatus != existingStatus) {
-			storeSearchRepository.updateStoreStatus(String.valueOf(updatedStore.getId()), currentStatus);
-		}
+		StoreSearchSlice storeSearchSlice = storeSearchCircuitBreaker.executeSupplier(
+			() -> storeSearchRepository.searchStores(center.getX(), center.getY(), key.keyword(),
+				key.sortType().getType(), searchedAt, searchAfter, PageRequest.of(key.page(), key.size())));
+
+		String nextCursor = storeSearchSlice.hasNext()
+			? new StoreSearchCursor(key.cell(), searchedAt, storeSearchSlice.lastSortValues()).encode()
+			: null;
+
+		return StoreSearchRes.of(storeSearchSlice, nextCursor);
 	}
 
-	private void updateStoreItemsIfNeeded(UpdatedStore updatedStore, StoreSearchRepositoryImpl storeSearchRepository) {
-		if (updatedStore.getItems() != null && !updatedStore.getItems().isEmpty()) {
-			storeSearchRepository.updateStoreItems(String.valueOf(updatedStore.getId()), convertToItemDocuments(updatedStore.getItems()));
+	/**
+	 * ES 가 느리거나 차단기가 열려 있으면 MySQL 로 첫 페이지만 제공한다.
+	 * MySQL 쿼리는 ES 커서나 offset 을 이어받을 수 없으므로 다음 페이지 요청에는 빈 결과를 돌려준다.
+	 */
+	private StoreSearchRes searchFromDatabase(double xCoordinate, double yCoordinate, StoreSearchCacheKey key) {
+		if (key.cursor() != null || key.page() > 0) {
+			return new StoreSearchRes(List.of(), false, null);
 		}
+
+		Slice<Store> stores = storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(xCoordinate,
+			yCoordinate, key.keyword(), key.sortType().getType(), null, PageRequest.of(0, key.size()));
+		List<StoreInfoSliceRes> storeInfoSliceRes = stores.stream()
+			.map(StoreInfoSliceRes::from)
+			.toList();
+
+		return new StoreSearchRes(storeInfoSliceRes, false, null);
 	}
 
+	private boolean isSameItems(List<ItemDocument> currentItems, List<ItemDocument> existingItems) {
+		Set<ItemDocument> current = currentItems == null ? Set.of() : new HashSet<>(currentItems);
+		Set<ItemDocument> existing = existingItems == null ? Set.of() : new HashSet<>(existingItems);
+
+		return current.equals(existing);
+	}
 }
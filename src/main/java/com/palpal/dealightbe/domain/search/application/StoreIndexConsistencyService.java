@@ -0,0 +1,349 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreIndexDriftRes;
+import com.palpal.dealightbe.domain.store.domain.Store;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.lock.DistributedLock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * updated_stores 와 업체 색인을 업체 id 구간별로 비교해 빠진 문서, 원본에 없는 문서, 내용이 다른 문서를 찾는다.
+ * 구간마다 건수와 문서별 체크섬(상태, 마감 시각, 상품 id/재고)만 비교하고 구간 사이에 쉬어 검색 트래픽에 주는 부담을 줄인다.
+ * repair 이면 구간마다 바로 원본 문서를 다시 올리고 원본에 없는 문서를 지운다.
+ * storeId 필드가 없는 예전 문서는 구간 조회에 잡히지 않으므로 먼저 문서 id 로 모아 두고 원본과 짝을 맞춘다.
+ * 재구축과 증분 색인은 색인 원본만 읽으므로, 색인 원본이 원본 테이블(stores, items)과 달라진 업체도 같은 구간에서 찾아 보고한다.
+ * 이 차이는 색인을 고쳐서는 없어지지 않으므로 repair 여도 보고만 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreIndexConsistencyService {
+
+	private static final int REPORTED_IDS_LIMIT = 100;
+	private static final String DRIFT_METRIC = "search.consistency.drift";
+	private static final String TYPE_TAG = "type";
+
+	private final UpdatedStoreRepository updatedStoreRepository;
+	private final StoreRepository storeRepository;
+	private final StoreSearchRepository storeSearchRepository;
+	private final SearchIndexSyncService searchIndexSyncService;
+	private final StoreSearchCache storeSearchCache;
+	private final ElasticSearchProperty elasticSearchProperty;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicLong lastMissing = new AtomicLong();
+	private final AtomicLong lastExtra = new AtomicLong();
+	private final AtomicLong lastMismatched = new AtomicLong();
+	private final AtomicLong lastCopyDrift = new AtomicLong();
+	private final AtomicReference<StoreIndexDriftRes> lastResult = new AtomicReference<>();
+
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder(DRIFT_METRIC, lastMissing, AtomicLong::get).tag(TYPE_TAG, "missing").register(meterRegistry);
+		Gauge.builder(DRIFT_METRIC, lastExtra, AtomicLong::get).tag(TYPE_TAG, "extra").register(meterRegistry);
+		Gauge.builder(DRIFT_METRIC, lastMismatched, AtomicLong::get).tag(TYPE_TAG, "mismatched")
+			.register(meterRegistry);
+		Gauge.builder(DRIFT_METRIC, lastCopyDrift, AtomicLong::get).tag(TYPE_TAG, "copy").register(meterRegistry);
+	}
+
+	public StoreIndexDriftRes check() {
+		return check(elasticSearchProperty.isConsistencyRepairEnabled());
+	}
+
+	// 관리자 요청용. 비동기 스레드에서 스케줄러와 같은 락을 잡고 실행하며, 결과는 lastResult() 로 확인한다.
+	@Async
+	@DistributedLock(key = "scheduler:search-consistency", lockAtLeastFor = 60)
+	public void checkInBackground(boolean repair) {
+		check(repair);
+	}
+
+	// 이 인스턴스에서 마지막으로 끝난 검사 결과
+	public Optional<StoreIndexDriftRes> lastResult() {
+		return Optional.ofNullable(lastResult.get());
+	}
+
+	public StoreIndexDriftRes check(boolean repair) {
+		long startedAt = System.nanoTime();
+		// 증분 색인이 아직 반영하지 않은 변경은 드리프트가 아니므로 비교에서 뺀다.
+		LocalDateTime syncedUntil = searchIndexSyncService.syncedUntil();
+		int rangeSize = elasticSearchProperty.getConsistencyRangeSize();
+		long maxId = updatedStoreRepository.findMaxId();
+		DriftReport report = new DriftReport();
+		List<String> legacyIds = storeSearchRepository.findIdsWithoutStoreId(rangeSize);
+		Set<String> unmatchedLegacyIds = new HashSet<>(legacyIds);
+		report.indexedCount += legacyIds.size();
+
+		boolean completed = true;
+		for (long fromId = 1; fromId <= maxId; fromId += rangeSize) {
+			compareRange(fromId, Math.min(maxId, fromId + rangeSize - 1), syncedUntil, repair, unmatchedLegacyIds,
+				report);
+			if (!pause()) {
+				completed = false;
+				break;
+			}
+		}
+		// 최대 id 를 읽은 뒤 생긴 업체와, 원본의 최대 id 보다 큰 id 로 남은 문서를 한 번에 확인한다.
+		compareRange(maxId + 1, Long.MAX_VALUE, syncedUntil, repair, unmatchedLegacyIds, report);
+		// 모든 구간을 비교했을 때만 짝을 찾지 못한 예전 문서를 원본에 없는 문서로 본다.
+		if (completed) {
+			removeExtraLegacy(unmatchedLegacyIds, repair, report);
+		}
+
+		if (report.repairedCount > 0) {
+			storeSearchCache.evictAll();
+		}
+		lastMissing.set(report.missingCount);
+		lastExtra.set(report.extraCount);
+		lastMismatched.set(report.mismatchedCount);
+		lastCopyDrift.set(report.copyDriftCount);
+
+		StoreIndexDriftRes storeIndexDriftRes = report.toResponse(repair,
+			Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+		lastResult.set(storeIndexDriftRes);
+		log.info("SEARCH:CONSISTENCY:CHECKED : source => {}, indexed => {}, missing => {}, extra => {}, "
+				+ "mismatched => {}, copyDrift => {}, repaired => {}, elapsed => {}ms", storeIndexDriftRes.sourceCount(),
+			storeIndexDriftRes.indexedCount(), storeIndexDriftRes.missingCount(), storeIndexDriftRes.extraCount(),
+			storeIndexDriftRes.mismatchedCount(), storeIndexDriftRes.copyDriftCount(), report.repairedCount,
+			storeIndexDriftRes.elapsedMillis());
+
+		return storeIndexDriftRes;
+	}
+
+	private void compareRange(long fromId, long toId, LocalDateTime syncedUntil, boolean repair,
+		Set<String> unmatchedLegacyIds, DriftReport report) {
+		List<UpdatedStore> sources = updatedStoreRepository.findAllWithItemsByIdBetween(fromId, toId);
+		Map<String, StoreDocument> indexed = storeSearchRepository.findAllInIdRange(fromId, toId,
+				elasticSearchProperty.getConsistencyRangeSize()).stream()
+			.collect(Collectors.toMap(StoreDocument::getId, Function.identity()));
+		int indexedCount = indexed.size();
+		compareCopies(fromId, toId, sources, report);
+
+		List<StoreDocument> upserts = new ArrayList<>();
+		List<String> deletes = new ArrayList<>();
+		int missing = 0;
+		int mismatched = 0;
+		int skipped = 0;
+
+		for (UpdatedStore source : sources) {
+			StoreDocument indexedDocument = indexed.remove(String.valueOf(source.getId()));
+			boolean legacy = indexedDocument == null && unmatchedLegacyIds.remove(String.valueOf(source.getId()));
+			if (source.getUpdatedAt() != null && source.getUpdatedAt().isAfter(syncedUntil)) {
+				skipped++;
+				continue;
+			}
+
+			StoreDocument sourceDocument = StoreDocument.from(source);
+			if (legacy) {
+				// 문서는 있지만 storeId 가 없어 구간 조회에서 빠지므로, 다시 올려 storeId 를 채운다.
+				mismatched++;
+				report.addMismatched(sourceDocument.getId());
+				upserts.add(sourceDocument);
+			} else if (indexedDocument == null) {
+				missing++;
+				report.addMissing(sourceDocument.getId());
+				upserts.add(sourceDocument);
+			} else if (checksumOf(sourceDocument) != checksumOf(indexedDocument)) {
+				mismatched++;
+				report.addMismatched(sourceDocument.getId());
+				upserts.add(sourceDocument);
+			}
+		}
+		// 원본 목록에서 짝을 찾지 못하고 남은 문서는 원본에 없는 문서다.
+		indexed.keySet().forEach(id -> {
+			report.addExtra(id);
+			deletes.add(id);
+		});
+
+		report.sourceCount += sources.size();
+		report.indexedCount += indexedCount;
+		report.skippedCount += skipped;
+		if (missing + mismatched + deletes.size() > 0) {
+			log.warn("SEARCH:CONSISTENCY:RANGE_DRIFT : from => {}, to => {}, source => {}, missing => {}, "
+				+ "extra => {}, mismatched => {}", fromId, toId, sources.size(), missing, deletes.size(), mismatched);
+		}
+
+		if (repair && !upserts.isEmpty()) {
+			report.repairedCount += storeSearchRepository.bulkInsertOrUpdate(upserts).succeeded();
+		}
+		if (repair && !deletes.isEmpty()) {
+			report.repairedCount += storeSearchRepository.bulkDelete(deletes).succeeded();
+		}
+	}
+
+	private void compareCopies(long fromId, long toId, List<UpdatedStore> copies, DriftReport report) {
+		Map<Long, String> sourceKeys = storeRepository.findAllWithAddressAndItemsByIdBetween(fromId, toId).stream()
+			.collect(Collectors.toMap(Store::getId, StoreIndexConsistencyService::copyKeyOf));
+
+		int copyDrift = 0;
+		for (UpdatedStore copy : copies) {
+			String sourceKey = sourceKeys.remove(copy.getId());
+			if (!copyKeyOf(copy).equals(sourceKey)) {
+				copyDrift++;
+				report.addCopyDrift(String.valueOf(copy.getId()));
+			}
+		}
+		// 색인 원본에 아예 없는 업체
+		for (Long storeId : sourceKeys.keySet()) {
+			copyDrift++;
+			report.addCopyDrift(String.valueOf(storeId));
+		}
+
+		if (copyDrift > 0) {
+			log.warn("SEARCH:CONSISTENCY:COPY_DRIFT : from => {}, to => {}, drift => {}", fromId, toId, copyDrift);
+		}
+	}
+
+	private void removeExtraLegacy(Set<String> unmatchedLegacyIds, boolean repair, DriftReport report) {
+		if (unmatchedLegacyIds.isEmpty()) {
+			return;
+		}
+
+		List<String> deletes = List.copyOf(unmatchedLegacyIds);
+		deletes.forEach(report::addExtra);
+		log.warn("SEARCH:CONSISTENCY:LEGACY_EXTRA : extra => {}", deletes.size());
+
+		if (repair) {
+			report.repairedCount += storeSearchRepository.bulkDelete(deletes).succeeded();
+		}
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(elasticSearchProperty.getConsistencyRangePauseMillis());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("SEARCH:CONSISTENCY:INTERRUPTED");
+			return false;
+		}
+	}
+
+	// 검색 결과에 영향을 주는 필드만 비교한다. 상품은 id 순으로 정렬해 순서 차이는 무시한다.
+	static long checksumOf(StoreDocument storeDocument) {
+		StringBuilder key = new StringBuilder()
+			.append(storeDocument.getStoreStatus())
+			.append('|')
+			.append(storeDocument.getCloseTime());
+		if (storeDocument.getItems() != null) {
+			storeDocument.getItems().stream()
+				.sorted(Comparator.comparing(ItemDocument::getId))
+				.forEach(item -> key.append('|').append(item.getId()).append(':').append(item.getStock()));
+		}
+
+		CRC32 crc32 = new CRC32();
+		crc32.update(key.toString().getBytes(StandardCharsets.UTF_8));
+
+		return crc32.getValue();
+	}
+
+	// 색인 문서를 만드는 필드만 비교한다. 상품은 원본 상품 id 순으로 정렬해 순서 차이는 무시한다.
+	static String copyKeyOf(Store store) {
+		Stream<String> items = store.getItems().stream()
+			.map(item -> itemKeyOf(item.getId(), item.getName(), item.getStock(), item.getDiscountPrice(),
+				item.getOriginalPrice()));
+
+		return storeKeyOf(store.getStoreStatus(), store.getName(), store.getCloseTime(),
+			store.getAddress().getXCoordinate(), store.getAddress().getYCoordinate(), items);
+	}
+
+	static String copyKeyOf(UpdatedStore copy) {
+		Stream<String> items = copy.getItems().stream()
+			.map(item -> itemKeyOf(item.getItemId(), item.getName(), item.getStock(), item.getDiscountPrice(),
+				item.getOriginalPrice()));
+
+		return storeKeyOf(copy.getStoreStatus(), copy.getName(), copy.getCloseTime(), copy.getXCoordinate(),
+			copy.getYCoordinate(), items);
+	}
+
+	private static String storeKeyOf(StoreStatus storeStatus, String name, LocalTime closeTime, double xCoordinate,
+		double yCoordinate, Stream<String> items) {
+		return storeStatus + "|" + name + "|" + closeTime + "|" + xCoordinate + "|" + yCoordinate + "|"
+			+ items.sorted().collect(Collectors.joining(","));
+	}
+
+	private static String itemKeyOf(Long itemId, String name, int stock, int discountPrice, int originalPrice) {
+		return itemId + ":" + name + ":" + stock + ":" + discountPrice + ":" + originalPrice;
+	}
+
+	private static class DriftReport {
+
+		private long sourceCount;
+		private long indexedCount;
+		private long skippedCount;
+		private long missingCount;
+		private long extraCount;
+		private long mismatchedCount;
+		private long copyDriftCount;
+		private long repairedCount;
+		private final List<String> missingIds = new ArrayList<>();
+		private final List<String> extraIds = new ArrayList<>();
+		private final List<String> mismatchedIds = new ArrayList<>();
+		private final List<String> copyDriftIds = new ArrayList<>();
+
+		void addMissing(String id) {
+			missingCount++;
+			addLimited(missingIds, id);
+		}
+
+		void addExtra(String id) {
+			extraCount++;
+			addLimited(extraIds, id);
+		}
+
+		void addMismatched(String id) {
+			mismatchedCount++;
+			addLimited(mismatchedIds, id);
+		}
+
+		void addCopyDrift(String id) {
+			copyDriftCount++;
+			addLimited(copyDriftIds, id);
+		}
+
+		StoreIndexDriftRes toResponse(boolean repaired, long elapsedMillis) {
+			return new StoreIndexDriftRes(sourceCount, indexedCount, skippedCount, missingCount, extraCount,
+				mismatchedCount, List.copyOf(missingIds), List.copyOf(extraIds), List.copyOf(mismatchedIds),
+				copyDriftCount, List.copyOf(copyDriftIds), repaired, elapsedMillis);
+		}
+
+		private void addLimited(List<String> ids, String id) {
+			if (ids.size() < REPORTED_IDS_LIMIT) {
+				ids.add(id);
+			}
+		}
+	}
+}
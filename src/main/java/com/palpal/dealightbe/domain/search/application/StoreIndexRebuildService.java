@@ -0,0 +1,268 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static com.palpal.dealightbe.global.error.ErrorCode.SEARCH_REINDEX_ALREADY_RUNNING;
+import static com.palpal.dealightbe.global.error.ErrorCode.SEARCH_REINDEX_COUNT_MISMATCH;
+import static com.palpal.dealightbe.global.error.ErrorCode.SEARCH_REINDEX_FAILED;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreReindexRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreReindexStatusRes;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSourceReader;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSourceReader.IdRange;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+import com.palpal.dealightbe.global.lock.LockHandle;
+import com.palpal.dealightbe.global.lock.RedisLockManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 색인 원본(updated_stores)의 업체를 새 색인에 처음부터 적재한 뒤, 문서 수를 검증하고 조회 대상을 원자적으로 교체한다.
+ * 적재하는 동안 들어온 변경은 증분 색인이 기존 인덱스에 계속 반영하고, 교체 후 워터마크를 되돌려 새 인덱스에 다시 반영한다.
+ * 조회 중인 색인의 매핑이 오래됐으면 시작할 때 같은 방식으로 재구축한다. 관리자 요청은 락만 잡고 바로 돌아가며, 재구축은 별도 스레드에서 진행하고 결과는 status() 로 확인한다.
+ * 색인 원본이 원본 테이블과 달라진 차이는 재구축으로 고쳐지지 않으며, 정합성 검사가 copyDrift 로 보고한다.
+ * 재고 반영은 업체의 updatedAt 을 바꾸지 않아 워터마크를 되돌려도 다시 반영되지 않으므로, 교체 후 정합성 검사를 복구 모드로 돌려 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreIndexRebuildService {
+
+	private static final String REBUILD_LOCK = "search:store-rebuild";
+	private static final String SYNC_LOCK = "scheduler:search-sync";
+	private static final Duration LOCK_LEASE = Duration.ofSeconds(30);
+	private static final Duration SYNC_LOCK_WAIT = Duration.ofSeconds(30);
+	private static final long SYNC_LOCK_RETRY_MILLIS = 200;
+	private static final String REBUILD_THREAD_PREFIX = "search-rebuild-";
+	private static final String RUNNER_THREAD_PREFIX = "search-rebuild-runner-";
+
+	private final StoreSourceReader storeSourceReader;
+	private final StoreSearchRepository storeSearchRepository;
+	private final SearchIndexSyncService searchIndexSyncService;
+	private final StoreIndexConsistencyService storeIndexConsistencyService;
+	private final StoreSearchCache storeSearchCache;
+	private final RedisLockManager redisLockManager;
+	private final ElasticSearchProperty elasticSearchProperty;
+
+	private final ExecutorService runner = Executors.newSingleThreadExecutor(
+		new CustomizableThreadFactory(RUNNER_THREAD_PREFIX));
+	private final AtomicReference<StoreReindexStatusRes> lastStatus = new AtomicReference<>(
+		StoreReindexStatusRes.idle());
+
+	// 다른 인스턴스가 재구축 중이면 요청 스레드에서 바로 예외를 던지고, 락을 잡았으면 재구축을 넘기고 돌아온다.
+	public void start() {
+		LockHandle rebuildLock = acquireRebuildLock();
+		lastStatus.set(StoreReindexStatusRes.running());
+
+		try {
+			runner.execute(() -> {
+				try {
+					lastStatus.set(StoreReindexStatusRes.completed(rebuildLocked(rebuildLock)));
+				} catch (RuntimeException e) {
+					log.error("SEARCH:REBUILD:FAILED : failure => {}", failureOf(e), e);
+					lastStatus.set(StoreReindexStatusRes.failed(failureOf(e)));
+				}
+			});
+		} catch (RuntimeException e) {
+			redisLockManager.unlock(rebuildLock);
+			lastStatus.set(StoreReindexStatusRes.failed(failureOf(e)));
+			throw e;
+		}
+	}
+
+	// id 가 text 로 매핑된 이전 인덱스에서는 search_after 정렬이 실패하므로, 시작할 때 확인해 새 버전 인덱스로 재구축한 뒤 별칭을 교체한다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfMappingOutdated() {
+		if (!storeSearchRepository.requiresRebuild()) {
+			return;
+		}
+
+		log.warn("SEARCH:REBUILD:MAPPING_OUTDATED : rebuilding in background");
+		try {
+			start();
+		} catch (BusinessException e) {
+			log.info("SEARCH:REBUILD:SKIPPED : reason => {}", e.getErrorCode());
+		}
+	}
+
+	// 이 인스턴스에서 마지막으로 시작한 재구축의 상태
+	public StoreReindexStatusRes status() {
+		return lastStatus.get();
+	}
+
+	public StoreReindexRes rebuild() {
+		return rebuildLocked(acquireRebuildLock());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		runner.shutdownNow();
+	}
+
+	private String failureOf(RuntimeException e) {
+		if (e instanceof BusinessException businessException) {
+			return businessException.getErrorCode().name();
+		}
+
+		return e.getClass().getSimpleName();
+	}
+
+	private LockHandle acquireRebuildLock() {
+		return redisLockManager.tryLock(REBUILD_LOCK, LOCK_LEASE)
+			.orElseThrow(() -> new BusinessException(SEARCH_REINDEX_ALREADY_RUNNING));
+	}
+
+	private StoreReindexRes rebuildLocked(LockHandle rebuildLock) {
+		long startedAt = System.nanoTime();
+
+		try {
+			LocalDateTime snapshotAt = LocalDateTime.now();
+			String newIndex = storeSearchRepository.createRebuildTarget();
+			log.info("SEARCH:REBUILD:STARTED : index => {}", newIndex);
+
+			long documentCount = rebuildInto(newIndex);
+			swap(newIndex, snapshotAt);
+			storeIndexConsistencyService.checkInBackground(true);
+
+			long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+			log.info("SEARCH:REBUILD:SWAPPED : index => {}, documents => {}, elapsed => {}ms", newIndex, documentCount,
+				elapsedMillis);
+
+			return new StoreReindexRes(newIndex, documentCount, elapsedMillis);
+		} finally {
+			redisLockManager.unlock(rebuildLock);
+		}
+	}
+
+	private long rebuildInto(String newIndex) {
+		try {
+			long sourceCount = loadAll(newIndex);
+			storeSearchRepository.finishLoading(newIndex);
+
+			long indexedCount = storeSearchRepository.count(newIndex);
+			if (indexedCount != sourceCount) {
+				log.error("SEARCH:REBUILD:COUNT_MISMATCH : index => {}, source => {}, indexed => {}", newIndex,
+					sourceCount, indexedCount);
+				throw new BusinessException(SEARCH_REINDEX_COUNT_MISMATCH);
+			}
+
+			return indexedCount;
+		} catch (RuntimeException e) {
+			storeSearchRepository.discard(newIndex);
+			throw e;
+		}
+	}
+
+	// 업체 id 구간을 나눠 작업 스레드마다 원본 테이블을 스트리밍하므로, 메모리 사용량은 테이블 크기와 상관없이 (작업 스레드 수 x 배치)로 제한된다.
+	private long loadAll(String index) {
+		Optional<IdRange> idRange = storeSourceReader.findIdRange();
+		if (idRange.isEmpty()) {
+			return 0;
+		}
+
+		List<IdRange> partitions = idRange.get().split(elasticSearchProperty.getRebuildPartitions());
+		int workers = Math.min(elasticSearchProperty.getRebuildWorkers(), partitions.size());
+		ExecutorService executor = Executors.newFixedThreadPool(workers,
+			new CustomizableThreadFactory(REBUILD_THREAD_PREFIX));
+
+		try {
+			List<Future<Long>> futures = partitions.stream()
+				.map(partition -> executor.submit(() -> loadPartition(index, partition)))
+				.toList();
+
+			long sourceCount = 0;
+			for (Future<Long> future : futures) {
+				sourceCount += future.get();
+			}
+
+			return sourceCount;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof BusinessException businessException) {
+				throw businessException;
+			}
+			log.error("SEARCH:REBUILD:LOAD_FAILED : index => {}", index, e.getCause());
+			throw new BusinessException(SEARCH_REINDEX_FAILED);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(SEARCH_REINDEX_FAILED);
+		} finally {
+			// 한 구간이 실패하면 나머지 구간도 다음 배치에서 멈추도록 인터럽트한다.
+			executor.shutdownNow();
+		}
+	}
+
+	private long loadPartition(String index, IdRange partition) {
+		long loadedCount = storeSourceReader.stream(partition, elasticSearchProperty.getRebuildFetchSize(),
+			elasticSearchProperty.getIndexerPageSize(), batch -> {
+				if (Thread.currentThread().isInterrupted()) {
+					throw new BusinessException(SEARCH_REINDEX_FAILED);
+				}
+
+				BulkIndexResult result = storeSearchRepository.bulkInsertOrUpdate(batch, index);
+				if (result.hasFailures()) {
+					log.error("SEARCH:REBUILD:BULK_FAILED : index => {}, failedIds => {}", index, result.failedIds());
+					throw new BusinessException(SEARCH_REINDEX_FAILED);
+				}
+			});
+
+		log.info("SEARCH:REBUILD:PARTITION_LOADED : index => {}, from => {}, to => {}, stores => {}", index,
+			partition.fromId(), partition.toId(), loadedCount);
+		return loadedCount;
+	}
+
+	// 교체와 워터마크 되돌리기 사이에 증분 색인이 워터마크를 덮어쓰지 않도록 증분 색인 락을 잡고 진행한다.
+	private void swap(String newIndex, LocalDateTime snapshotAt) {
+		LockHandle syncLock = acquireSyncLock().orElseThrow(() -> {
+			storeSearchRepository.discard(newIndex);
+			return new BusinessException(SEARCH_REINDEX_FAILED);
+		});
+
+		try {
+			storeSearchRepository.publish(newIndex);
+			searchIndexSyncService.rewindTo(snapshotAt);
+			storeSearchCache.evictAll();
+		} finally {
+			redisLockManager.unlock(syncLock);
+		}
+	}
+
+	private Optional<LockHandle> acquireSyncLock() {
+		long deadline = System.nanoTime() + SYNC_LOCK_WAIT.toNanos();
+
+		while (System.nanoTime() < deadline) {
+			Optional<LockHandle> lockHandle = redisLockManager.tryLock(SYNC_LOCK, LOCK_LEASE);
+			if (lockHandle.isPresent()) {
+				return lockHandle;
+			}
+
+			try {
+				Thread.sleep(SYNC_LOCK_RETRY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+		}
+
+		log.warn("SEARCH:REBUILD:SYNC_LOCK_TIMEOUT : wait => {}s", SYNC_LOCK_WAIT.toSeconds());
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,111 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import org.elasticsearch.geometry.utils.Geohash;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업체 검색 결과를 geohash 셀 단위로 짧게 캐시한다.
+ * 색인된 업체가 바뀌면 그 업체가 속한 영역과 이웃 영역(검색 반경 3km 를 덮는다)의 결과를 모든 인스턴스에서 비운다.
+ */
+@Slf4j
+@Component
+public class StoreSearchCache {
+
+	static final String INVALIDATION_CHANNEL = "search:store-cache:invalidate";
+	private static final String ALL_REGIONS = "*";
+	private static final String REGION_DELIMITER = ",";
+
+	private final Cache<StoreSearchCacheKey, StoreSearchRes> cache;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	public StoreSearchCache(ElasticSearchProperty elasticSearchProperty, StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(elasticSearchProperty.getSearchCacheMaxSize())
+			.expireAfterWrite(Duration.ofSeconds(elasticSearchProperty.getSearchCacheTtlSeconds()))
+			.recordStats()
+			.build();
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@PostConstruct
+	public void initialize() {
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeSearch");
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> evictLocally(new String(message.getBody())), ChannelTopic.of(INVALIDATION_CHANNEL));
+	}
+
+	public StoreSearchRes get(StoreSearchCacheKey key, Function<StoreSearchCacheKey, StoreSearchRes> loader) {
+		return cache.get(key, loader);
+	}
+
+	public void evictAround(Collection<StoreDocument> storeDocuments) {
+		Set<String> regions = new HashSet<>();
+
+		storeDocuments.stream()
+			.map(StoreDocument::getLocation)
+			.filter(Objects::nonNull)
+			.map(location -> Geohash.stringEncode(location.getLon(), location.getLat(),
+				StoreSearchCacheKey.REGION_PRECISION))
+			.forEach(region -> {
+				regions.add(region);
+				Geohash.getNeighbors(region).forEach(neighbor -> regions.add(neighbor.toString()));
+			});
+
+		if (!regions.isEmpty()) {
+			publish(String.join(REGION_DELIMITER, regions));
+		}
+	}
+
+	public void evictAll() {
+		publish(ALL_REGIONS);
+	}
+
+	// 구독이 끊겨도 자신의 캐시는 비워지도록 로컬에서 먼저 비우고 다른 인스턴스에 알린다.
+	private void publish(String regions) {
+		evictLocally(regions);
+
+		try {
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, regions);
+		} catch (RuntimeException e) {
+			log.warn("SEARCH:CACHE:PUBLISH_FAILED : regions => {}", regions, e);
+		}
+	}
+
+	void evictLocally(String regions) {
+		if (ALL_REGIONS.equals(regions)) {
+			cache.invalidateAll();
+			return;
+		}
+
+		Set<String> evictedRegions = Set.copyOf(List.of(regions.split(REGION_DELIMITER)));
+		cache.asMap().keySet().removeIf(key -> evictedRegions.contains(key.region()));
+	}
+}
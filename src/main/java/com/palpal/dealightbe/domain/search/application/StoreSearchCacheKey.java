@@ -0,0 +1,50 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.util.Locale;
+
+import org.elasticsearch.geometry.utils.Geohash;
+import org.springframework.data.domain.Pageable;
+
+import com.palpal.dealightbe.global.ListSortType;
+
+/**
+ * 요청 좌표를 geohash 셀로 묶어, 몇 미터 떨어진 사용자의 같은 검색이 같은 키를 갖도록 한다.
+ */
+public record StoreSearchCacheKey(
+	String cell,
+	String keyword,
+	ListSortType sortType,
+	int page,
+	int size,
+	StoreSearchCursor cursor
+) {
+
+	// 7자리 셀은 약 150m x 150m, 5자리 영역은 약 4.9km x 4.9km 이다.
+	static final int CELL_PRECISION = 7;
+	static final int REGION_PRECISION = 5;
+
+	public static StoreSearchCacheKey of(double xCoordinate, double yCoordinate, String keyword, String sortBy,
+		String cursor, Pageable pageable) {
+		ListSortType sortType = ListSortType.findSortType(sortBy);
+
+		if (cursor != null && !cursor.isBlank()) {
+			StoreSearchCursor storeSearchCursor = StoreSearchCursor.decode(cursor);
+
+			return new StoreSearchCacheKey(storeSearchCursor.cell(), normalize(keyword), sortType, 0,
+				pageable.getPageSize(), storeSearchCursor);
+		}
+
+		String cell = Geohash.stringEncode(xCoordinate, yCoordinate, CELL_PRECISION);
+
+		return new StoreSearchCacheKey(cell, normalize(keyword), sortType, pageable.getPageNumber(),
+			pageable.getPageSize(), null);
+	}
+
+	public String region() {
+		return cell.substring(0, REGION_PRECISION);
+	}
+
+	private static String normalize(String keyword) {
+		return keyword.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,51 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palpal.dealightbe.global.error.ErrorCode;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 기준 셀, 기준 시각, 마지막 문서의 정렬 값을 담아 클라이언트에는 불투명한 문자열로 전달한다.
+ * 다음 페이지는 사용자가 이동했더라도 첫 페이지와 같은 셀과 시각을 기준으로 이어서 조회한다.
+ */
+@Slf4j
+public record StoreSearchCursor(
+	String cell,
+	long searchedAt,
+	List<Object> sortValues
+) {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	public String encode() {
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(this));
+		} catch (JsonProcessingException e) {
+			log.error("SEARCH:CURSOR:ENCODE_FAILED : {}", this, e);
+			throw new BusinessException(ErrorCode.JSON_PARSING_ERROR);
+		}
+	}
+
+	public static StoreSearchCursor decode(String cursor) {
+		try {
+			StoreSearchCursor storeSearchCursor = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor),
+				StoreSearchCursor.class);
+			if (storeSearchCursor.cell() == null || storeSearchCursor.cell().length() != StoreSearchCacheKey.CELL_PRECISION
+				|| storeSearchCursor.sortValues() == null) {
+				throw new IllegalArgumentException("cell and sortValues are required");
+			}
+
+			return storeSearchCursor;
+		} catch (IllegalArgumentException | IOException e) {
+			log.warn("SEARCH:CURSOR:INVALID : {}", cursor);
+			throw new BusinessException(ErrorCode.INVALID_SEARCH_CURSOR);
+		}
+	}
+}
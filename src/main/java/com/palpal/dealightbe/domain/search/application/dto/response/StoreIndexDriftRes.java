@@ -0,0 +1,21 @@
+package com.palpal.dealightbe.domain.search.application.dto.response;
+
+import java.util.List;
+
+// id 목록은 앞에서부터 일부만 담고, 건수는 전체를 센다. copyDrift 는 색인 원본(updated_stores)이 원본 테이블과 다른 업체다.
+public record StoreIndexDriftRes(
+	long sourceCount,
+	long indexedCount,
+	long skippedCount,
+	long missingCount,
+	long extraCount,
+	long mismatchedCount,
+	List<String> missingIds,
+	List<String> extraIds,
+	List<String> mismatchedIds,
+	long copyDriftCount,
+	List<String> copyDriftIds,
+	boolean repaired,
+	long elapsedMillis
+) {
+}
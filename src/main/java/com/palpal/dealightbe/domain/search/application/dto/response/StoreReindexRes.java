@@ -0,0 +1,8 @@
+package com.palpal.dealightbe.domain.search.application.dto.response;
+
+public record StoreReindexRes(
+	String index,
+	long documentCount,
+	long elapsedMillis
+) {
+}
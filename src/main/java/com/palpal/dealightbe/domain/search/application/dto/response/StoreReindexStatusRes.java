@@ -0,0 +1,24 @@
+package com.palpal.dealightbe.domain.search.application.dto.response;
+
+public record StoreReindexStatusRes(
+	String status,
+	StoreReindexRes result,
+	String failure
+) {
+
+	public static StoreReindexStatusRes idle() {
+		return new StoreReindexStatusRes("IDLE", null, null);
+	}
+
+	public static StoreReindexStatusRes running() {
+		return new StoreReindexStatusRes("RUNNING", null, null);
+	}
+
+	public static StoreReindexStatusRes completed(StoreReindexRes result) {
+		return new StoreReindexStatusRes("COMPLETED", result, null);
+	}
+
+	public static StoreReindexStatusRes failed(String failure) {
+		return new StoreReindexStatusRes("FAILED", null, failure);
+	}
+}
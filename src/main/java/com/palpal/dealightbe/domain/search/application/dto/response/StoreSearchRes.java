@@ -0,0 +1,21 @@
+package com.palpal.dealightbe.domain.search.application.dto.response;
+
+import java.util.List;
+
+import com.palpal.dealightbe.domain.store.application.dto.response.StoreInfoSliceRes;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchSlice;
+
+public record StoreSearchRes(
+	List<StoreInfoSliceRes> storeInfoSliceRes,
+	boolean hasNext,
+	String cursor
+) {
+
+	public static StoreSearchRes of(StoreSearchSlice storeSearchSlice, String cursor) {
+		List<StoreInfoSliceRes> storeInfoSliceRes = storeSearchSlice.storeDocuments().stream()
+			.map(StoreInfoSliceRes::from)
+			.toList();
+
+		return new StoreSearchRes(storeInfoSliceRes, storeSearchSlice.hasNext(), cursor);
+	}
+}
@@ -0,0 +1,8 @@
+package com.palpal.dealightbe.domain.search.application.dto.response;
+
+import java.util.List;
+
+public record StoreSuggestRes(
+	List<String> keywords
+) {
+}
@@ -0,0 +1,45 @@
+package com.palpal.dealightbe.domain.search.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증분 색인이 어디까지 반영했는지를 (updatedAt, id) 쌍으로 기록한다.
+ * blue/green 인스턴스가 같은 위치에서 이어서 색인하도록 Redis 에 저장한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@RedisHash("index_watermarks")
+public class IndexWatermark {
+
+	private static final LocalDateTime INITIAL_UPDATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+	private static final Long INITIAL_ID = 0L;
+
+	@Id
+	private String name;
+
+	private LocalDateTime updatedAt;
+
+	private Long lastId;
+
+	private IndexWatermark(String name, LocalDateTime updatedAt, Long lastId) {
+		this.name = name;
+		this.updatedAt = updatedAt;
+		this.lastId = lastId;
+	}
+
+	public static IndexWatermark initial(String name) {
+		return new IndexWatermark(name, INITIAL_UPDATED_AT, INITIAL_ID);
+	}
+
+	public void advance(LocalDateTime updatedAt, Long lastId) {
+		this.updatedAt = updatedAt;
+		this.lastId = lastId;
+	}
+}
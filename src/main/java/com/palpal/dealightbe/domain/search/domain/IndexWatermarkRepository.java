@@ -0,0 +1,6 @@
+package com.palpal.dealightbe.domain.search.domain;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface IndexWatermarkRepository extends CrudRepository<IndexWatermark, String> {
+}
@@ -3,7 +3,11 @@ package com.palpal.dealightbe.domain.search.infrastructure;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.palpal.dealightbe.domain.search.application.ItemStockSyncService;
+import com.palpal.dealightbe.domain.search.application.SearchIndexSyncService;
 import com.palpal.dealightbe.domain.search.application.SearchService;
+import com.palpal.dealightbe.domain.search.application.StoreIndexConsistencyService;
+import com.palpal.dealightbe.global.lock.DistributedLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,16 +18,34 @@ import lombok.extern.slf4j.Slf4j;
 public class SearchESScheduler {
 
 	private final SearchService searchService;
+	private final SearchIndexSyncService searchIndexSyncService;
+	private final ItemStockSyncService itemStockSyncService;
+	private final StoreIndexConsistencyService storeIndexConsistencyService;
 
-	// 업로드 메서드를 1시간마다 실행
-	@Scheduled(cron = "0 0 0/1 * * *")
-	public void uploadToES() {
-		searchService.uploadToES();
+	// 이전 실행이 끝난 뒤 5초마다 변경분을 색인
+	@Scheduled(fixedDelayString = "${els.indexer-poll-interval-millis:5000}")
+	@DistributedLock(key = "scheduler:search-sync")
+	public void syncChanges() {
+		searchIndexSyncService.syncChanges();
+	}
+
+	// 인스턴스마다 모은 재고 변경을 1초마다 반영, 대기열이 인스턴스별이므로 분산 락을 걸지 않는다.
+	@Scheduled(fixedDelayString = "${els.stock-flush-interval-millis:1000}")
+	public void flushItemStocks() {
+		itemStockSyncService.flush();
 	}
 
 	// 업데이트 메서드를 30분마다 실행
 	@Scheduled(cron = "0 0/30 * * * *")
+	@DistributedLock(key = "scheduler:search-update", lockAtLeastFor = 60)
 	public void updateStatusToES() {
 		searchService.updateStatusToES();
 	}
+
+	// 검색이 적은 새벽에 색인과 원본의 정합성을 검사, 복구 여부는 els.consistency-repair-enabled 로 정한다.
+	@Scheduled(cron = "${els.consistency-cron:0 30 4 * * *}")
+	@DistributedLock(key = "scheduler:search-consistency", lockAtLeastFor = 60)
+	public void checkConsistency() {
+		storeIndexConsistencyService.check();
+	}
 }
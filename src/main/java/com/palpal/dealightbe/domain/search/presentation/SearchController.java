@@ -9,7 +9,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.palpal.dealightbe.domain.search.application.SearchService;
-import com.palpal.dealightbe.domain.store.application.dto.response.StoresInfoSliceRes;
+import com.palpal.dealightbe.domain.search.application.StoreIndexConsistencyService;
+import com.palpal.dealightbe.domain.search.application.StoreIndexRebuildService;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreIndexDriftRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreReindexStatusRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSuggestRes;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,34 +24,67 @@ import lombok.RequiredArgsConstructor;
 public class SearchController {
 
 	private final SearchService searchService;
+	private final StoreIndexRebuildService storeIndexRebuildService;
+	private final StoreIndexConsistencyService storeIndexConsistencyService;
 	private static final String DEFAULT_PAGING_SIZE = "10";
-
-	@PostMapping("/bulk")
-	public ResponseEntity<Void> uploadToES() {
-		searchService.uploadToES();
-		return ResponseEntity.noContent().build();
-	}
-
-	@PostMapping("/update")
-	public ResponseEntity<Void> updateStatusToES() {
-		searchService.updateStatusToES();
-		return ResponseEntity.noContent().build();
-	}
+	private static final String DEFAULT_SUGGEST_SIZE = "5";
 
 	@GetMapping
-	public ResponseEntity<StoresInfoSliceRes> searchByES(
+	public ResponseEntity<StoreSearchRes> searchByES(
 		@RequestParam("x-coordinate") double xCoordinate, @RequestParam("y-coordinate") double yCoordinate,
 		@RequestParam String keyword,
 		@RequestParam(required = false, defaultValue = "distance") String sortBy,
 		@RequestParam(required = false, defaultValue = "0") int page,
-		@RequestParam(required = false, defaultValue = DEFAULT_PAGING_SIZE) int size) {
+		@RequestParam(required = false, defaultValue = DEFAULT_PAGING_SIZE) int size,
+		@RequestParam(required = false) String cursor) {
 
 		page = Math.max(page - 1, 0);
 		PageRequest pageable = PageRequest.of(page, size);
 
-		StoresInfoSliceRes storeResponse = searchService.searchToES(xCoordinate, yCoordinate, keyword, sortBy,pageable);
+		StoreSearchRes storeResponse = searchService.searchToES(xCoordinate, yCoordinate, keyword, sortBy, cursor,
+			pageable);
 
 		return ResponseEntity.ok(storeResponse);
 	}
 
+	@GetMapping("/suggest")
+	public ResponseEntity<StoreSuggestRes> suggest(
+		@RequestParam String keyword,
+		@RequestParam(value = "x-coordinate", required = false) Double xCoordinate,
+		@RequestParam(value = "y-coordinate", required = false) Double yCoordinate,
+		@RequestParam(required = false, defaultValue = DEFAULT_SUGGEST_SIZE) int size) {
+
+		StoreSuggestRes storeSuggestRes = searchService.suggest(keyword, xCoordinate, yCoordinate, size);
+
+		return ResponseEntity.ok(storeSuggestRes);
+	}
+
+	@PostMapping("/admin/reindex")
+	public ResponseEntity<Void> reindex() {
+		storeIndexRebuildService.start();
+
+		return ResponseEntity.accepted().build();
+	}
+
+	@GetMapping("/admin/reindex")
+	public ResponseEntity<StoreReindexStatusRes> getReindexStatus() {
+		StoreReindexStatusRes storeReindexStatusRes = storeIndexRebuildService.status();
+
+		return ResponseEntity.ok(storeReindexStatusRes);
+	}
+
+	@PostMapping("/admin/consistency-check")
+	public ResponseEntity<Void> checkConsistency(
+		@RequestParam(required = false, defaultValue = "false") boolean repair) {
+		storeIndexConsistencyService.checkInBackground(repair);
+
+		return ResponseEntity.accepted().build();
+	}
+
+	@GetMapping("/admin/consistency-check")
+	public ResponseEntity<StoreIndexDriftRes> getConsistencyResult() {
+		return storeIndexConsistencyService.lastResult()
+			.map(ResponseEntity::ok)
+			.orElseGet(() -> ResponseEntity.noContent().build());
+	}
 }
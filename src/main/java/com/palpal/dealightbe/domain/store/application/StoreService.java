@@ -2,6 +2,7 @@ package com.palpal.dealightbe.domain.store.application;
 
 import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,8 @@ import com.palpal.dealightbe.domain.image.ImageService;
 import com.palpal.dealightbe.domain.image.application.dto.request.ImageUploadReq;
 import com.palpal.dealightbe.domain.image.application.dto.response.ImageRes;
 import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.StoreItemsChangedEvent;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.store.application.dto.request.StoreCreateReq;
@@ -49,6 +52,8 @@ public class StoreService {
 	private final ItemRepository itemRepository;
 	private final AddressService addressService;
 	private final ImageService imageService;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final MemberContext memberContext;
 
 	public StoreCreateRes register(Long providerId, StoreCreateReq req) {
 		Member member = memberRepository.findMemberByProviderId(providerId)
@@ -66,6 +71,7 @@ public class StoreService {
 
 		UpdatedStore updatedStore = UpdatedStore.from(store);
 		updatedStoreRepository.save(updatedStore);
+		memberContext.evict(providerId);
 
 		return StoreCreateRes.from(store);
 	}
@@ -93,6 +99,7 @@ public class StoreService {
 
 		Store updateStore = StoreUpdateReq.toStore(request);
 		store.updateInfo(updateStore);
+		applicationEventPublisher.publishEvent(new StoreItemsChangedEvent(store.getId()));
 
 		return StoreInfoRes.from(store);
 	}
@@ -112,6 +119,7 @@ public class StoreService {
 		updatedStore.updateStoreStatus(updateStatus);
 
 		deleteClosedStoreItems(store);
+		applicationEventPublisher.publishEvent(new StoreItemsChangedEvent(store.getId()));
 
 		return StoreStatusRes.from(store);
 	}
@@ -173,29 +181,22 @@ public class StoreService {
 	}
 
 	private Store getStoreByProviderId(Long providerId) {
-		Member member = memberRepository.findMemberByProviderId(providerId)
-			.orElseThrow(() -> {
-				log.warn("GET:READ:NOT_FOUND_MEMBER_BY_PROVIDER_ID : {}", providerId);
-				return new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER);
-			});
+		Long storeId = memberContext.getStoreId(providerId);
+		if (storeId == null) {
+			log.warn("GET:READ:NOT_FOUND_STORE_BY_PROVIDER_ID : {}", providerId);
+			throw new EntityNotFoundException(ErrorCode.NOT_FOUND_STORE);
+		}
 
-		Store store = storeRepository.findByMemberProviderId(member.getProviderId())
+		return storeRepository.findById(storeId)
 			.orElseThrow(() -> {
-				log.warn("GET:READ:NOT_FOUND_STORE_BY_PROVIDER_ID : {}", member.getProviderId());
+				log.warn("GET:READ:NOT_FOUND_STORE_BY_PROVIDER_ID : {}", providerId);
 				return new EntityNotFoundException(ErrorCode.NOT_FOUND_STORE);
 			});
-
-		store.isSameOwnerAndTheRequester(member, store);
-
-		return store;
 	}
 
+	// 요청자의 업체 id 는 MemberContext 에서 읽으므로 회원과 업체 소유자를 다시 조회하지 않고 id 만 비교한다.
 	private Store validateMemberAndStoreOwnerByProviderIdAndStoreId(Long providerId, Long storeId) {
-		Member member = memberRepository.findMemberByProviderId(providerId)
-			.orElseThrow(() -> {
-				log.warn("GET:READ:NOT_FOUND_MEMBER_BY_PROVIDER_ID : {}", providerId);
-				return new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER);
-			});
+		Long requesterStoreId = memberContext.getStoreId(providerId);
 
 		Store store = storeRepository.findById(storeId)
 			.orElseThrow(() -> {
@@ -203,7 +204,10 @@ public class StoreService {
 				return new EntityNotFoundException(ErrorCode.NOT_FOUND_STORE);
 			});
 
-		store.isSameOwnerAndTheRequester(member, store);
+		if (!Objects.equals(requesterStoreId, store.getId())) {
+			log.warn("GET:READ:NOT_MATCH_OWNER_AND_REQUESTER : storeId => {} providerId => {}", storeId, providerId);
+			throw new BusinessException(ErrorCode.NOT_MATCH_OWNER_AND_REQUESTER);
+		}
 
 		return store;
 	}
@@ -5,7 +5,6 @@ import java.util.List;
 import org.springframework.data.domain.Slice;
 
 import com.palpal.dealightbe.domain.store.domain.Store;
-import com.palpal.dealightbe.domain.store.domain.StoreDocument;
 
 public record StoresInfoSliceRes(
 	List<StoreInfoSliceRes> storeInfoSliceRes,
@@ -19,13 +18,4 @@ public record StoresInfoSliceRes(
 
 		return new StoresInfoSliceRes(storesInfoSliceRes, storeSlice.hasNext());
 	}
-
-	public static StoresInfoSliceRes fromDocuments(Slice<StoreDocument> storeDocuments) {
-
-		List<StoreInfoSliceRes> storesInfoSliceRes = storeDocuments.stream()
-			.map(StoreInfoSliceRes::from)
-			.toList();
-
-		return new StoresInfoSliceRes(storesInfoSliceRes, storeDocuments.hasNext());
-	}
 }
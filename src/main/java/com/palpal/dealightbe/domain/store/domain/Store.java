@@ -15,15 +15,20 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.palpal.dealightbe.domain.address.domain.Address;
 import com.palpal.dealightbe.domain.item.domain.Item;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.global.BaseEntity;
+import com.palpal.dealightbe.global.cache.EntityCacheRegion;
 import com.palpal.dealightbe.global.error.ErrorCode;
 import com.palpal.dealightbe.global.error.exception.BusinessException;
 
@@ -35,7 +40,8 @@ import lombok.extern.slf4j.Slf4j;
 
 @Getter
 @Entity
-@Table(name = "stores")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.STORE)
+@Table(name = "stores", indexes = {@Index(name = "index_status_close_minute", columnList = "storeStatus, closeMinuteOfDay")})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
 public class Store extends BaseEntity {
@@ -67,8 +73,12 @@ public class Store extends BaseEntity {
 
 	private LocalTime closeTime;
 
+	// 마감순 정렬이 시간 함수를 행마다 계산하지 않고 인덱스를 타도록 마감 시각을 분 단위로 함께 저장한다.
+	private Integer closeMinuteOfDay;
+
 	private String image;
 
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegion.STORE_DAY_OFFS)
 	@ElementCollection(targetClass = DayOff.class)
 	@CollectionTable(name = "store_day_off", joinColumns = @JoinColumn(name = "store_id"))
 	@Enumerated(EnumType.STRING)
@@ -88,6 +98,7 @@ public class Store extends BaseEntity {
 		this.telephone = telephone;
 		this.openTime = openTime;
 		this.closeTime = closeTime;
+		this.closeMinuteOfDay = toMinuteOfDay(closeTime);
 		this.dayOffs = dayOff;
 		this.image = DEFAULT_PATH;
 	}
@@ -101,6 +112,7 @@ public class Store extends BaseEntity {
 		this.address = store.getAddress();
 		this.openTime = store.getOpenTime();
 		this.closeTime = store.getCloseTime();
+		this.closeMinuteOfDay = toMinuteOfDay(store.getCloseTime());
 		this.dayOffs = store.getDayOffs();
 	}
 
@@ -136,6 +148,10 @@ public class Store extends BaseEntity {
 		this.items.add(item);
 	}
 
+	public static int toMinuteOfDay(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
 	private void validateBusinessTimes(LocalTime openTime, LocalTime closeTime) {
 		if (openTime.isAfter(closeTime)) {
 			if (openTime.isAfter(LocalTime.of(0, 0)) && closeTime.isBefore(LocalTime.of(5, 0))) {
@@ -1,6 +1,10 @@
 package com.palpal.dealightbe.domain.store.domain;
 
+import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.persistence.Id;
 
@@ -8,6 +12,7 @@ import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Mapping;
 import org.springframework.data.elasticsearch.annotations.Setting;
 import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.suggest.Completion;
 
 import com.palpal.dealightbe.domain.item.domain.ItemDocument;
 
@@ -21,7 +26,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Document(indexName = "store")
+@Document(indexName = "store", createIndex = false)
 @Mapping(mappingPath = "elastic/store-mapping.json")
 @Setting(settingPath = "elastic/store-setting.json")
 public class StoreDocument {
@@ -29,6 +34,9 @@ public class StoreDocument {
 	@Id
 	private String id;
 
+	// id 는 keyword 라 숫자 구간으로 조회할 수 없어, 정합성 검사가 id 구간별로 비교할 수 있도록 숫자로도 색인한다.
+	private long storeId;
+
 	private GeoPoint location;
 
 	private String name;
@@ -39,23 +47,70 @@ public class StoreDocument {
 
 	private String closeTime;
 
+	// 정렬용으로 색인 시점에 미리 계산해 두는 필드
+	private int closeMinuteOfDay;
+
+	private double maxDiscountRate;
+
 	private String image;
 
 	private List<ItemDocument> items;
 
+	// 자동완성 후보: 업체명, 업체명의 각 단어, 상품명
+	private Completion suggest;
+
 	public static StoreDocument from(UpdatedStore updatedStore) {
+		return of(String.valueOf(updatedStore.getId()), updatedStore.getXCoordinate(), updatedStore.getYCoordinate(),
+			updatedStore.getName(), updatedStore.getStoreStatus(), updatedStore.getOpenTime(),
+			updatedStore.getCloseTime(), updatedStore.getImage(),
+			ItemDocument.convertToItemDocuments(updatedStore.getItems()));
+	}
+
+	// 엔티티로 읽든 재구축 커서로 읽든 정렬/자동완성 필드를 같게 계산한다.
+	public static StoreDocument of(String id, double xCoordinate, double yCoordinate, String name,
+		StoreStatus storeStatus, LocalTime openTime, LocalTime closeTime, String image, List<ItemDocument> items) {
 		return StoreDocument.builder()
-			.id(String.valueOf(updatedStore.getId()))
-			.location(new GeoPoint(updatedStore.getYCoordinate(), updatedStore.getXCoordinate()))
-			.name(updatedStore.getName())
-			.storeStatus(updatedStore.getStoreStatus())
-			.openTime(updatedStore.getOpenTime().toString())
-			.closeTime(updatedStore.getCloseTime().toString())
-			.image(updatedStore.getImage())
-			.items(ItemDocument.convertToItemDocuments(updatedStore.getItems()))
+			.id(id)
+			.storeId(Long.parseLong(id))
+			.location(new GeoPoint(yCoordinate, xCoordinate))
+			.name(name)
+			.storeStatus(storeStatus)
+			.openTime(openTime.toString())
+			.closeTime(closeTime.toString())
+			.closeMinuteOfDay(toMinuteOfDay(closeTime))
+			.maxDiscountRate(maxDiscountRateOf(items))
+			.image(image)
+			.items(items)
+			.suggest(suggestionOf(name, items))
 			.build();
 	}
 
+	public static Completion suggestionOf(String name, List<ItemDocument> items) {
+		Stream<String> itemNames = items == null ? Stream.empty() : items.stream().map(ItemDocument::getName);
+		String[] inputs = Stream.of(Stream.of(name), Arrays.stream(name.split("\\s+")), itemNames)
+			.flatMap(Function.identity())
+			.filter(input -> !input.isBlank())
+			.distinct()
+			.toArray(String[]::new);
+
+		return new Completion(inputs);
+	}
+
+	public static int toMinuteOfDay(LocalTime time) {
+		return Store.toMinuteOfDay(time);
+	}
+
+	public static double maxDiscountRateOf(List<ItemDocument> items) {
+		if (items == null) {
+			return 0.0;
+		}
+
+		return items.stream()
+			.mapToDouble(ItemDocument::getDiscountRate)
+			.max()
+			.orElse(0.0);
+	}
+
 	public static List<StoreDocument> convertToStoreDocuments(List<UpdatedStore> stores) {
 		if (stores == null) {
 			return null;
@@ -1,8 +1,10 @@
 package com.palpal.dealightbe.domain.store.domain;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,4 +12,21 @@ public interface StoreRepository extends JpaRepository<Store, Long>, StoreReposi
 
 	@Query("SELECT s FROM Store s JOIN FETCH s.member m WHERE m.providerId = :providerId")
 	Optional<Store> findByMemberProviderId(@Param("providerId") Long providerId);
+
+	@Query("SELECT s.id FROM Store s WHERE s.member.providerId = :providerId")
+	Optional<Long> findIdByMemberProviderId(@Param("providerId") Long providerId);
+
+	// 삭제된 상품은 Item 의 @Where 로 빠진다.
+	@Query("""
+		SELECT DISTINCT s FROM Store s JOIN FETCH s.address LEFT JOIN FETCH s.items
+		WHERE s.id BETWEEN :fromId AND :toId
+		""")
+	List<Store> findAllWithAddressAndItemsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+	@Modifying
+	@Query(value = """
+		UPDATE Store s SET s.closeMinuteOfDay = HOUR(s.closeTime) * 60 + MINUTE(s.closeTime)
+		WHERE s.closeMinuteOfDay IS NULL AND s.closeTime IS NOT NULL
+		""")
+	int fillMissingCloseMinutes();
 }
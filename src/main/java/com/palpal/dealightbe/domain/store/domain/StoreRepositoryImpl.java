@@ -1,20 +1,29 @@
 package com.palpal.dealightbe.domain.store.domain;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
+import com.palpal.dealightbe.domain.address.domain.GeoDistanceExpressions;
 import com.palpal.dealightbe.domain.address.domain.QAddress;
 import com.palpal.dealightbe.domain.item.domain.QItem;
 import com.palpal.dealightbe.global.ListSortType;
+import com.palpal.dealightbe.global.fulltext.FullTextIndexStatus;
+import com.palpal.dealightbe.global.fulltext.MatchAgainstFunction;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.BooleanTemplate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberTemplate;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -23,13 +32,14 @@ import lombok.RequiredArgsConstructor;
 public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
+	private final FullTextIndexStatus fullTextIndexStatus;
 	private QStore store = QStore.store;
 	private QItem item = QItem.item;
 	private QAddress address = QAddress.address;
-	private final static String HAVERSINE = "(6371 * ACOS(COS(RADIANS({0})) * COS(RADIANS({1}.yCoordinate)) * COS(RADIANS({1}.xCoordinate) - RADIANS({2})) + SIN(RADIANS({0})) * SIN(RADIANS({1}.yCoordinate))))";
-	private final static String DEADLINE = "ABS(EXTRACT(HOUR FROM {0}) * 60 + EXTRACT(MINUTE FROM {0}) - " +
-		"(EXTRACT(HOUR FROM CURRENT_TIME) * 60 + EXTRACT(MINUTE FROM CURRENT_TIME)))";
-	private final static String DISCOUNT_RATE = "(item.originalPrice - item.discountPrice) * 1.0 / item.originalPrice";
+	private final static double SEARCH_RADIUS_KM = 3;
+	private final static String DEADLINE = "ABS({0} - {1})";
+	private final static String MATCH_AGAINST = MatchAgainstFunction.NAME + "({0}, {1})";
+	private final static int NGRAM_TOKEN_SIZE = 2;
 
 	@Override
 	public Slice<Store> findByKeywordAndDistanceWithin3KmAndSortCondition(double xCoordinate, double yCoordinate, String keyword, String sortBy, Long cursor, Pageable pageable) {
@@ -37,21 +47,37 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
 		BooleanExpression keywordPredicate = getKeywordPredicate(keyword);
 
-		orderSpecifiers(xCoordinate, yCoordinate, sortBy);
-
-		List<Store> result = queryFactory
-			.selectFrom(store)
+		// 정렬에 쓰는 상품 값은 업체 단위로 모아 업체당 한 행만 남기므로, limit 이 업체 수 기준으로 걸린다.
+		List<Long> storeIds = queryFactory
+			.select(store.id)
+			.from(store)
 			.join(store.address, address)
 			.leftJoin(item)
-			.on(store.eq(item.store)
-				.and(item.store.id.eq(store.id)))
+			.on(item.store.id.eq(store.id))
 			.where(store.storeStatus.eq(StoreStatus.OPENED),
 				distancePredicate,
 				keywordPredicate,
 				ltStoreId(cursor))
+			.groupBy(store.id, address.xCoordinate, address.yCoordinate, store.closeMinuteOfDay)
 			.orderBy(orderSpecifiers(xCoordinate, yCoordinate, sortBy))
 			.limit(pageable.getPageSize() + 1)
-			.fetch().stream().distinct().collect(Collectors.toList());
+			.fetch();
+
+		if (storeIds.isEmpty()) {
+			return checkLastPage(pageable, new ArrayList<>());
+		}
+
+		Map<Long, Store> storesById = queryFactory
+			.selectFrom(store)
+			.join(store.address, address).fetchJoin()
+			.where(store.id.in(storeIds))
+			.fetch().stream()
+			.collect(Collectors.toMap(Store::getId, Function.identity()));
+
+		List<Store> result = storeIds.stream()
+			.map(storesById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
 
 		return checkLastPage(pageable, result);
 	}
@@ -62,16 +88,16 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
 		switch (sortType) {
 			case DISTANCE:
-				orderSpecifiers = new OrderSpecifier[]{getDistanceByNear(xCoordinate, yCoordinate).asc(), item.updatedAt.desc()};
+				orderSpecifiers = new OrderSpecifier[]{getDistanceByNear(xCoordinate, yCoordinate).asc(), item.updatedAt.max().desc()};
 				break;
 			case DISCOUNT_RATE:
-				orderSpecifiers = new OrderSpecifier[]{getBigDiscountRate().desc(), item.updatedAt.desc()};
+				orderSpecifiers = new OrderSpecifier[]{item.discountRate.max().desc(), item.updatedAt.max().desc()};
 				break;
 			case DEADLINE:
-				orderSpecifiers = new OrderSpecifier[]{getDeadlineImminent().asc(), item.updatedAt.desc()};
+				orderSpecifiers = new OrderSpecifier[]{getDeadlineImminent().asc(), item.updatedAt.max().desc()};
 				break;
 			default:
-				orderSpecifiers = new OrderSpecifier[]{getDistanceByNear(xCoordinate, yCoordinate).asc(), item.updatedAt.desc()};
+				orderSpecifiers = new OrderSpecifier[]{getDistanceByNear(xCoordinate, yCoordinate).asc(), item.updatedAt.max().desc()};
 				break;
 		}
 		return orderSpecifiers;
@@ -85,14 +111,38 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 		return store.id.gt(storeId);
 	}
 
-	private BooleanTemplate getDistanceWithin3KmPredicate(double xCoordinate, double yCoordinate) {
-		return Expressions.booleanTemplate(HAVERSINE + " <= 3", yCoordinate, address, xCoordinate);
+	private BooleanExpression getDistanceWithin3KmPredicate(double xCoordinate, double yCoordinate) {
+		return GeoDistanceExpressions.within(address, xCoordinate, yCoordinate, SEARCH_RADIUS_KM);
 	}
 
+	// 업체명 또는 상품명이 검색어를 포함하는 업체. 상품은 EXISTS 로 확인해 상품 수만큼 행이 늘지 않는다.
 	private BooleanExpression getKeywordPredicate(String keyword) {
-		BooleanExpression keywordPredicate = store.name.like("%" + keyword + "%")
-			.or(item.name.like("%" + keyword + "%"));
-		return keywordPredicate;
+		String phrase = keyword.replace("\"", "").trim();
+		QItem matchedItem = new QItem("matchedItem");
+
+		// ngram 토큰보다 짧은 검색어와 FULLTEXT 인덱스가 아직 없는 DB 에서는 LIKE 로 찾는다.
+		if (phrase.length() < NGRAM_TOKEN_SIZE || !fullTextIndexStatus.isAvailable()) {
+			return store.name.contains(phrase)
+				.or(JPAExpressions.selectOne()
+					.from(matchedItem)
+					.where(matchedItem.store.id.eq(store.id),
+						matchedItem.name.contains(phrase))
+					.exists());
+		}
+
+		// 큰따옴표로 감싼 구문 검색은 ngram 토큰이 이어서 나오는 경우만 찾으므로 부분 문자열 검색과 같은 결과가 된다.
+		String booleanModePhrase = "\"" + phrase + "\"";
+
+		return matchAgainst(store.name, booleanModePhrase)
+			.or(JPAExpressions.selectOne()
+				.from(matchedItem)
+				.where(matchedItem.store.id.eq(store.id),
+					matchAgainst(matchedItem.name, booleanModePhrase))
+				.exists());
+	}
+
+	private BooleanExpression matchAgainst(StringPath column, String phrase) {
+		return Expressions.numberTemplate(Double.class, MATCH_AGAINST, column, phrase).gt(0);
 	}
 
 	private Slice<Store> checkLastPage(Pageable pageable, List<Store> resultList) {
@@ -107,14 +157,11 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
 	}
 
 	private NumberTemplate<Double> getDeadlineImminent() {
-		return Expressions.numberTemplate(Double.class, DEADLINE, store.closeTime);
-	}
-
-	private static NumberTemplate<Double> getBigDiscountRate() {
-		return Expressions.numberTemplate(Double.class, DISCOUNT_RATE);
+		return Expressions.numberTemplate(Double.class, DEADLINE, store.closeMinuteOfDay,
+			Store.toMinuteOfDay(LocalTime.now()));
 	}
 
 	private NumberTemplate<Double> getDistanceByNear(double xCoordinate, double yCoordinate) {
-		return Expressions.numberTemplate(Double.class, HAVERSINE, yCoordinate, address, xCoordinate);
+		return GeoDistanceExpressions.distanceKm(address, xCoordinate, yCoordinate);
 	}
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.persistence.CascadeType;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
@@ -46,6 +47,10 @@ public class UpdatedStore extends BaseEntity {
 	@Enumerated(EnumType.STRING)
 	private DocumentStatus documentStatus = DocumentStatus.READY;
 
+	// 변경이 생길 때마다 증가시켜 updatedAt 이 갱신되도록 한다. 증분 색인은 updatedAt 을 기준으로 변경분을 읽는다.
+	@Column(nullable = false, columnDefinition = "bigint default 0")
+	private long revision;
+
 	@OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "store")
 	private List<UpdatedItem> items = new ArrayList<>();
 
@@ -77,6 +82,7 @@ public class UpdatedStore extends BaseEntity {
 
 	public void addItem(UpdatedItem item) {
 		this.items.add(item);
+		this.revision++;
 	}
 
 	public void updateDocumentStatus(DocumentStatus status) {
@@ -85,6 +91,7 @@ public class UpdatedStore extends BaseEntity {
 
 	public void updateStoreStatus(StoreStatus storeStatus) {
 		this.storeStatus = storeStatus;
+		this.revision++;
 	}
 
 	public void markAsDone() {
@@ -1,15 +1,45 @@
 package com.palpal.dealightbe.domain.store.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UpdatedStoreRepository extends JpaRepository<UpdatedStore, Long> {
 
-	@Query("SELECT us FROM UpdatedStore us WHERE us.documentStatus != 'DONE'")
-	List<UpdatedStore> findAllByDocumentStatusIsReady();
+	@Query("SELECT DISTINCT us FROM UpdatedStore us LEFT JOIN FETCH us.items WHERE us.documentStatus != 'READY'")
+	List<UpdatedStore> findAllWithItemsByDocumentStatusIsDone();
 
-	@Query("SELECT us FROM UpdatedStore us WHERE us.documentStatus != 'READY'")
-	List<UpdatedStore> findAllByDocumentStatusIsDone();
+	@Query("""
+		SELECT us FROM UpdatedStore us
+		WHERE (us.updatedAt > :updatedAt OR (us.updatedAt = :updatedAt AND us.id > :lastId))
+			AND us.updatedAt <= :until
+		ORDER BY us.updatedAt ASC, us.id ASC
+		""")
+	List<UpdatedStore> findChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("lastId") Long lastId,
+		@Param("until") LocalDateTime until, Pageable pageable);
+
+	@Query("""
+		SELECT COUNT(us) FROM UpdatedStore us
+		WHERE us.updatedAt > :updatedAt OR (us.updatedAt = :updatedAt AND us.id > :lastId)
+		""")
+	long countChangesAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("lastId") Long lastId);
+
+	@Query("SELECT COALESCE(MAX(us.id), 0) FROM UpdatedStore us")
+	long findMaxId();
+
+	@Query("SELECT DISTINCT us FROM UpdatedStore us LEFT JOIN FETCH us.items WHERE us.id BETWEEN :fromId AND :toId")
+	List<UpdatedStore> findAllWithItemsByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+	@Query("SELECT DISTINCT us FROM UpdatedStore us LEFT JOIN FETCH us.items WHERE us.id IN :ids")
+	List<UpdatedStore> findAllWithItemsByIdIn(@Param("ids") List<Long> ids);
+
+	// 벌크 쿼리는 엔티티 리스너를 거치지 않으므로 updatedAt 을 건드리지 않는다.
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE UpdatedStore us SET us.documentStatus = 'DONE' WHERE us.id IN :ids")
+	int markAllAsDoneByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,158 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.IOUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 색인 디렉터리 하나와 그 writer, searcher 를 묶는다.
+ * 업체 하나는 상품(자식) 문서들 뒤에 업체(부모) 문서를 두는 블록으로 색인하고, 블록 전체를 업체 id 로 교체한다.
+ * 참조 수를 세어, 닫힌 뒤에도 이미 시작한 검색이 끝날 때까지는 searcher 와 파일을 남겨 둔다.
+ */
+@RequiredArgsConstructor
+class LuceneStoreIndex implements Closeable {
+
+	static final String BLOCK_FIELD = "_block";
+
+	@Getter
+	private final String name;
+	private final Path path;
+	private final Directory directory;
+	private final IndexWriter writer;
+	private final SearcherManager searcherManager;
+
+	// 소유자의 참조 하나와 실행 중인 검색 수. 0 이 되면 실제로 닫는다.
+	private final AtomicInteger references = new AtomicInteger(1);
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private volatile boolean deleteFilesOnClose;
+
+	// 원본을 읽어 고친 뒤 다시 쓰는 부분 갱신이 그 사이에 커밋된 다른 쓰기를 덮어쓰지 않도록, 한 색인의 쓰기는 하나씩 실행한다.
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	static LuceneStoreIndex open(String name, Path path, Analyzer analyzer) throws IOException {
+		Directory directory = new MMapDirectory(path);
+		IndexWriter writer = new IndexWriter(directory,
+			new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+
+		return new LuceneStoreIndex(name, path, directory, writer, new SearcherManager(writer, null));
+	}
+
+	void update(String storeId, List<Document> block) throws IOException {
+		ensureOpen();
+		writer.updateDocuments(new Term(BLOCK_FIELD, storeId), block);
+	}
+
+	void delete(String storeId) throws IOException {
+		ensureOpen();
+		writer.deleteDocuments(new Term(BLOCK_FIELD, storeId));
+	}
+
+	// 커밋해 디스크에 남기고, 바로 다음 검색부터 보이도록 searcher 를 갱신한다.
+	void commit() throws IOException {
+		ensureOpen();
+		writer.commit();
+		searcherManager.maybeRefreshBlocking();
+	}
+
+	// 쓰기 작업은 커밋까지 마친 뒤 잠금을 놓아야 다음 쓰기가 읽는 원본에 변경이 보인다.
+	void write(WriterTask task) throws IOException {
+		writeLock.lock();
+		try {
+			task.run();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	// 이미 닫힌 색인이면 검색을 시작하기 전에 AlreadyClosedException 을 던진다.
+	<T> T search(SearcherFunction<T> function) throws IOException {
+		if (!tryIncRef()) {
+			throw new AlreadyClosedException("index closed : " + name);
+		}
+
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				return function.apply(searcher);
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} finally {
+			decRef();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed.compareAndSet(false, true)) {
+			decRef();
+		}
+	}
+
+	// 실행 중인 검색이 있으면 마지막 검색이 끝날 때 닫고 파일을 지운다.
+	void closeAndDeleteFiles() throws IOException {
+		deleteFilesOnClose = true;
+		close();
+	}
+
+	private boolean tryIncRef() {
+		int count;
+		do {
+			count = references.get();
+			if (count <= 0 || closed.get()) {
+				return false;
+			}
+		} while (!references.compareAndSet(count, count + 1));
+
+		return true;
+	}
+
+	private void decRef() throws IOException {
+		if (references.decrementAndGet() > 0) {
+			return;
+		}
+
+		IOUtils.close(searcherManager, writer, directory);
+		if (deleteFilesOnClose) {
+			IOUtils.rm(path);
+		}
+	}
+
+	// 교체된 색인에 늦게 쓴 변경은 사라지므로 호출한 쪽이 실패로 보고 다시 시도하게 한다.
+	private void ensureOpen() {
+		if (closed.get()) {
+			throw new AlreadyClosedException("index closed : " + name);
+		}
+	}
+
+	@FunctionalInterface
+	interface SearcherFunction<T> {
+
+		T apply(IndexSearcher searcher) throws IOException;
+	}
+
+	@FunctionalInterface
+	interface WriterTask {
+
+		void run() throws IOException;
+	}
+}
@@ -0,0 +1,788 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import static com.palpal.dealightbe.domain.store.infrastructure.LuceneStoreIndex.BLOCK_FIELD;
+import static com.palpal.dealightbe.global.error.ErrorCode.INVALID_SEARCH_CURSOR;
+import static com.palpal.dealightbe.global.error.ErrorCode.SEARCH_INDEX_OPERATION_FAILED;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.document.DoubleDocValuesField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.LatLonPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.DoubleValues;
+import org.apache.lucene.search.DoubleValuesSource;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.search.join.ScoreMode;
+import org.apache.lucene.search.join.ToParentBlockJoinQuery;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.QueryBuilder;
+import org.elasticsearch.geometry.utils.Geohash;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchCustomConversions;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Repository;
+
+import com.palpal.dealightbe.config.LuceneSearchProperty;
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.global.ListSortType;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ES 없이 단일 노드에서 검색을 제공하는 내장 Lucene 구현. 색인은 MMapDirectory 에 두고 재시작해도 유지한다.
+ * 업체 문서의 원본(_source)을 ES 와 같은 형식으로 저장해 두고, 부분 갱신은 원본을 고친 뒤 블록을 다시 색인한다.
+ * 분석기(nori mixed), 3km 거리 필터, 품절 상품 제외, 정렬 기준은 StoreSearchRepositoryImpl 의 질의와 같게 맞춘다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "search.backend", havingValue = "lucene")
+public class LuceneStoreSearchRepository implements StoreSearchRepository {
+
+	private static final String CURRENT_FILE = "CURRENT";
+	private static final String TYPE_FIELD = "_type";
+	private static final String STORE_TYPE = "store";
+	private static final String SOURCE_FIELD = "_source";
+	private static final String ID_FIELD = "id";
+	private static final String STORE_ID_FIELD = "storeId";
+	private static final String ITEM_ID_FIELD = "itemId";
+	private static final String NAME_FIELD = "name";
+	private static final String STATUS_FIELD = "storeStatus";
+	private static final String LOCATION_FIELD = "location";
+	private static final String GEOHASH_FIELD = "geohash";
+	private static final String CLOSE_MINUTE_FIELD = "closeMinuteOfDay";
+	private static final String MAX_DISCOUNT_RATE_FIELD = "maxDiscountRate";
+	private static final String SUGGEST_FIELD = "suggest";
+	private static final String SUGGEST_INPUT_FIELD = "suggestInput";
+	private static final String ITEMS_FIELD = "items";
+	private static final String ITEM_NAME_FIELD = "items.name";
+	private static final String ITEM_STOCK_FIELD = "items.stock";
+	private static final double SEARCH_RADIUS_METERS = 3_000;
+	private static final int SUGGEST_GEO_PRECISION = 5;
+	private static final ZoneId STORE_ZONE = ZoneId.of("Asia/Seoul");
+
+	// store-setting.json 의 nori 분석기(nori_tokenizer, decompound_mode=mixed, 필터 없음)와 같다.
+	private static final Analyzer NORI_MIXED = new Analyzer() {
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			return new TokenStreamComponents(new KoreanTokenizer(TokenStream.DEFAULT_TOKEN_ATTRIBUTE_FACTORY, null,
+				KoreanTokenizer.DecompoundMode.MIXED, false));
+		}
+	};
+
+	private final LuceneSearchProperty luceneSearchProperty;
+	private final MappingElasticsearchConverter converter = createConverter();
+	private final QueryBuilder queryBuilder = new QueryBuilder(NORI_MIXED);
+	private final BitSetProducer storeFilter = new QueryBitSetProducer(new TermQuery(new Term(TYPE_FIELD, STORE_TYPE)));
+	private final AtomicReference<LuceneStoreIndex> current = new AtomicReference<>();
+	private final Map<String, LuceneStoreIndex> rebuildTargets = new ConcurrentHashMap<>();
+
+	private Path basePath;
+
+	public LuceneStoreSearchRepository(LuceneSearchProperty luceneSearchProperty) {
+		this.luceneSearchProperty = luceneSearchProperty;
+	}
+
+	/**
+	 * CURRENT 파일이 가리키는 색인을 연다. 중단된 재구축이 남긴 디렉터리는 정리한다.
+	 */
+	@PostConstruct
+	public void open() throws IOException {
+		basePath = Paths.get(luceneSearchProperty.getIndexPath()).toAbsolutePath();
+		Files.createDirectories(basePath);
+
+		Path currentFile = basePath.resolve(CURRENT_FILE);
+		String name = Files.exists(currentFile)
+			? Files.readString(currentFile, StandardCharsets.UTF_8).strip()
+			: StoreIndexManager.newIndexName();
+		current.set(LuceneStoreIndex.open(name, basePath.resolve(name), NORI_MIXED));
+		writeCurrent(name);
+
+		try (Stream<Path> directories = Files.list(basePath)) {
+			for (Path directory : directories.filter(Files::isDirectory).toList()) {
+				if (!directory.getFileName().toString().equals(name)) {
+					IOUtils.rm(directory);
+				}
+			}
+		}
+		log.info("SEARCH:LUCENE:OPENED : index => {}", basePath.resolve(name));
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		for (LuceneStoreIndex target : rebuildTargets.values()) {
+			target.close();
+		}
+		rebuildTargets.clear();
+		current.get().close();
+	}
+
+	@Override
+	public BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments) {
+		return insertOrUpdate(current.get(), storeDocuments);
+	}
+
+	@Override
+	public BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments, String target) {
+		return insertOrUpdate(rebuildTarget(target), storeDocuments);
+	}
+
+	@Override
+	public List<StoreDocument> findAllByIds(List<String> ids) {
+		Map<String, org.springframework.data.elasticsearch.core.document.Document> sources;
+		try {
+			sources = ids.isEmpty() ? Collections.emptyMap() : searchCurrent(searcher -> readSources(searcher, ids));
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:READ_FAILED : ids => {}", ids, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+
+		return ids.stream()
+			.map(sources::get)
+			.filter(Objects::nonNull)
+			.map(this::toStoreDocument)
+			.toList();
+	}
+
+	@Override
+	public BulkIndexResult bulkUpdateStatusAndItems(Map<String, StoreStatus> changedStatuses,
+		Map<String, StoreDocument> itemChangedStores) {
+		Set<String> storeIds = new LinkedHashSet<>(changedStatuses.keySet());
+		storeIds.addAll(itemChangedStores.keySet());
+
+		return partialUpdate(storeIds, (storeId, source) -> {
+			StoreStatus storeStatus = changedStatuses.get(storeId);
+			if (storeStatus != null) {
+				source.put(STATUS_FIELD, storeStatus.name());
+			}
+
+			StoreDocument storeDocument = itemChangedStores.get(storeId);
+			if (storeDocument != null) {
+				source.put(ITEMS_FIELD, storeDocument.getItems().stream().map(converter::mapObject).toList());
+				source.put(MAX_DISCOUNT_RATE_FIELD, storeDocument.getMaxDiscountRate());
+				source.put(SUGGEST_FIELD, converter.mapObject(storeDocument.getSuggest()));
+			}
+
+			return true;
+		});
+	}
+
+	// ES 의 스크립트 갱신과 같이 재고가 달라진 상품만 고치고, 바뀐 값이 없으면 다시 색인하지 않는다.
+	@Override
+	@SuppressWarnings("unchecked")
+	public BulkIndexResult bulkUpdateItemStocks(Map<String, Map<String, Integer>> stocksByStoreId) {
+		return partialUpdate(stocksByStoreId.keySet(), (storeId, source) -> {
+			Map<String, Integer> stocks = stocksByStoreId.get(storeId);
+			Object items = source.get(ITEMS_FIELD);
+			if (!(items instanceof List<?>)) {
+				return false;
+			}
+
+			boolean changed = false;
+			for (Map<String, Object> item : (List<Map<String, Object>>)items) {
+				Integer stock = stocks.get(String.valueOf(item.get(ITEM_ID_FIELD)));
+				if (stock != null && !stock.equals(item.get("stock"))) {
+					item.put("stock", stock);
+					changed = true;
+				}
+			}
+
+			return changed;
+		});
+	}
+
+	/**
+	 * 영업 중인 업체의 자동완성 후보 중 접두어로 시작하는 것을 고른다.
+	 * 좌표가 있으면 ES 의 geo 컨텍스트처럼 정밀도 5 geohash 셀과 이웃 셀에 있는 업체로 좁힌다.
+	 */
+	@Override
+	public List<String> suggestKeywords(String prefix, Double x, Double y, int size) {
+		String normalizedPrefix = prefix.toLowerCase(Locale.ROOT);
+		BooleanQuery.Builder query = new BooleanQuery.Builder()
+			.add(new PrefixQuery(new Term(SUGGEST_FIELD, normalizedPrefix)), Occur.FILTER)
+			.add(new TermQuery(new Term(STATUS_FIELD, StoreStatus.OPENED.name())), Occur.FILTER);
+		if (x != null && y != null) {
+			query.add(geohashQuery(x, y), Occur.FILTER);
+		}
+
+		try {
+			return searchCurrent(searcher -> {
+				Set<String> suggestions = new TreeSet<>();
+				for (ScoreDoc scoreDoc : searcher.search(query.build(), luceneSearchProperty.getSuggestScanSize())
+					.scoreDocs) {
+					for (IndexableField input : searcher.doc(scoreDoc.doc, Set.of(SUGGEST_INPUT_FIELD))
+						.getFields(SUGGEST_INPUT_FIELD)) {
+						if (input.stringValue().toLowerCase(Locale.ROOT).startsWith(normalizedPrefix)) {
+							suggestions.add(input.stringValue());
+						}
+					}
+				}
+
+				return suggestions.stream().limit(size).toList();
+			});
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:SUGGEST_FAILED : prefix => {}", prefix, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public StoreSearchSlice searchStores(double x, double y, String keyword, String sortBy, long searchedAt,
+		List<Object> searchAfter, Pageable pageable) {
+		Query query = buildStoreSearchQuery(x, y, keyword);
+		Sort sort = sortOf(x, y, ListSortType.findSortType(sortBy), searchedAt);
+		FieldDoc after = searchAfter == null ? null : toFieldDoc(sort, searchAfter);
+		int from = after == null ? (int)pageable.getOffset() : 0;
+		int pageSize = pageable.getPageSize();
+
+		try {
+			return searchCurrent(searcher -> {
+				TopFieldDocs topDocs = searcher.searchAfter(after, query, from + pageSize + 1, sort);
+				List<ScoreDoc> hits = List.of(topDocs.scoreDocs);
+				hits = hits.subList(Math.min(from, hits.size()), hits.size());
+
+				boolean hasNext = hits.size() > pageSize;
+				List<ScoreDoc> contents = hasNext ? hits.subList(0, pageSize) : hits;
+				List<StoreDocument> storeDocuments = new ArrayList<>();
+				for (ScoreDoc hit : contents) {
+					storeDocuments.add(toStoreDocument(readSource(searcher, hit.doc)));
+				}
+				List<Object> lastSortValues = contents.isEmpty() ? null
+					: toSortValues((FieldDoc)contents.get(contents.size() - 1));
+
+				return new StoreSearchSlice(storeDocuments, hasNext, lastSortValues);
+			});
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:SEARCH_FAILED : keyword => {}", keyword, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public List<StoreDocument> findAllInIdRange(long fromId, long toId, int maxSize) {
+		Sort sort = new Sort(new SortField(STORE_ID_FIELD, SortField.Type.LONG));
+
+		try {
+			return searchCurrent(searcher -> {
+				List<StoreDocument> storeDocuments = new ArrayList<>();
+				for (ScoreDoc scoreDoc : searcher.search(LongPoint.newRangeQuery(STORE_ID_FIELD, fromId, toId), maxSize,
+					sort).scoreDocs) {
+					storeDocuments.add(toStoreDocument(readSource(searcher, scoreDoc.doc)));
+				}
+
+				return storeDocuments;
+			});
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:READ_FAILED : from => {}, to => {}", fromId, toId, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public List<String> findIdsWithoutStoreId(int maxSize) {
+		Query query = new BooleanQuery.Builder()
+			.add(new TermQuery(new Term(TYPE_FIELD, STORE_TYPE)), Occur.FILTER)
+			.add(new DocValuesFieldExistsQuery(STORE_ID_FIELD), Occur.MUST_NOT)
+			.build();
+
+		try {
+			return searchCurrent(searcher -> {
+				List<String> ids = new ArrayList<>();
+				for (ScoreDoc scoreDoc : searcher.search(query, maxSize).scoreDocs) {
+					ids.add(toStoreDocument(readSource(searcher, scoreDoc.doc)).getId());
+				}
+
+				return ids;
+			});
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:READ_FAILED : query => {}", query, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public BulkIndexResult bulkDelete(List<String> ids) {
+		long startedAt = System.nanoTime();
+		LuceneStoreIndex index = current.get();
+		List<BulkIndexFailure> failures = new ArrayList<>();
+
+		try {
+			index.write(() -> {
+				for (String id : ids) {
+					index.delete(id);
+				}
+				index.commit();
+			});
+		} catch (IOException | AlreadyClosedException e) {
+			log.error("SEARCH:LUCENE:WRITE_FAILED : index => {}", index.getName(), e);
+			ids.forEach(id -> failures.add(failureOf(index, id, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage())));
+		}
+
+		return new BulkIndexResult(ids.size(), failures, Duration.ofNanos(System.nanoTime() - startedAt));
+	}
+
+	@Override
+	public String createRebuildTarget() {
+		String name = StoreIndexManager.newIndexName();
+
+		try {
+			rebuildTargets.put(name, LuceneStoreIndex.open(name, basePath.resolve(name), NORI_MIXED));
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:CREATE_FAILED : index => {}", name, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+
+		return name;
+	}
+
+	@Override
+	public void finishLoading(String target) {
+		try {
+			rebuildTarget(target).commit();
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:COMMIT_FAILED : index => {}", target, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public long count(String target) {
+		LuceneStoreIndex index = target.equals(current.get().getName()) ? current.get() : rebuildTarget(target);
+
+		try {
+			return index.search(searcher -> searcher.count(new TermQuery(new Term(TYPE_FIELD, STORE_TYPE))));
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:COUNT_FAILED : index => {}", target, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	/**
+	 * 새 색인으로 조회/쓰기 대상을 바꾸고 CURRENT 파일을 원자적으로 교체해 재시작 후에도 새 색인을 연다.
+	 * 교체 직전에 이전 색인에서 실행 중이던 검색은 끝까지 응답하고, 이전 색인은 마지막 검색이 끝난 뒤 닫혀 지워진다.
+	 */
+	@Override
+	public void publish(String target) {
+		LuceneStoreIndex next = rebuildTarget(target);
+
+		try {
+			writeCurrent(target);
+			rebuildTargets.remove(target);
+			LuceneStoreIndex previous = current.getAndSet(next);
+			previous.closeAndDeleteFiles();
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:PUBLISH_FAILED : index => {}", target, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	@Override
+	public void discard(String target) {
+		LuceneStoreIndex index = rebuildTargets.remove(target);
+		if (index == null) {
+			return;
+		}
+
+		try {
+			index.closeAndDeleteFiles();
+		} catch (IOException e) {
+			log.warn("SEARCH:LUCENE:DISCARD_FAILED : index => {}", target, e);
+		}
+	}
+
+	// 필드 구성이 코드에 정의돼 있어 열 때마다 현재 구성으로 색인하므로 매핑이 어긋날 일이 없다.
+	@Override
+	public boolean requiresRebuild() {
+		return false;
+	}
+
+	private Query buildStoreSearchQuery(double x, double y, String keyword) {
+		// 품절 상품은 상품명 검색에서 제외한다.
+		Query itemQuery = new BooleanQuery.Builder()
+			.add(matchQuery(ITEM_NAME_FIELD, keyword, Occur.SHOULD), Occur.MUST)
+			.add(IntPoint.newRangeQuery(ITEM_STOCK_FIELD, Integer.MIN_VALUE, 0), Occur.MUST_NOT)
+			.build();
+		Query keywordQuery = new BooleanQuery.Builder()
+			.add(matchQuery(NAME_FIELD, keyword, Occur.MUST), Occur.SHOULD)
+			.add(new ToParentBlockJoinQuery(itemQuery, storeFilter, ScoreMode.None), Occur.SHOULD)
+			.build();
+
+		return new BooleanQuery.Builder()
+			.add(LatLonPoint.newDistanceQuery(LOCATION_FIELD, y, x, SEARCH_RADIUS_METERS), Occur.FILTER)
+			.add(new TermQuery(new Term(STATUS_FIELD, StoreStatus.OPENED.name())), Occur.FILTER)
+			.add(keywordQuery, Occur.MUST)
+			.build();
+	}
+
+	// ES match 질의처럼 분석된 토큰이 없으면 아무 문서도 찾지 않는다.
+	private Query matchQuery(String field, String text, Occur operator) {
+		Query query = queryBuilder.createBooleanQuery(field, text, operator);
+
+		return query == null ? new MatchNoDocsQuery() : query;
+	}
+
+	private Query geohashQuery(double x, double y) {
+		String cell = Geohash.stringEncode(x, y, SUGGEST_GEO_PRECISION);
+		List<BytesRef> cells = new ArrayList<>();
+		cells.add(new BytesRef(cell));
+		Geohash.getNeighbors(cell).forEach(neighbor -> cells.add(new BytesRef(neighbor)));
+
+		return new TermInSetQuery(GEOHASH_FIELD, cells);
+	}
+
+	// search_after 는 정렬 값이 같은 문서끼리의 순서가 고정되어야 하므로 id 를 마지막 정렬 기준으로 둔다.
+	private Sort sortOf(double x, double y, ListSortType sortType, long searchedAt) {
+		SortField tieBreaker = new SortField(ID_FIELD, SortField.Type.STRING);
+
+		return switch (sortType) {
+			case DEADLINE -> new Sort(new DeadlineDistanceSource(searchedAt).getSortField(false), tieBreaker);
+			case DISCOUNT_RATE -> new Sort(new SortField(MAX_DISCOUNT_RATE_FIELD, SortField.Type.DOUBLE, true),
+				tieBreaker);
+			default -> new Sort(LatLonDocValuesField.newDistanceSort(LOCATION_FIELD, y, x), tieBreaker);
+		};
+	}
+
+	private FieldDoc toFieldDoc(Sort sort, List<Object> sortValues) {
+		SortField[] sortFields = sort.getSort();
+		if (sortValues.size() != sortFields.length) {
+			throw new BusinessException(INVALID_SEARCH_CURSOR);
+		}
+
+		Object[] fields = new Object[sortFields.length];
+		try {
+			for (int i = 0; i < sortFields.length; i++) {
+				Object value = sortValues.get(i);
+				fields[i] = sortFields[i].getType() == SortField.Type.STRING
+					? new BytesRef(value.toString())
+					: ((Number)value).doubleValue();
+			}
+		} catch (ClassCastException | NullPointerException e) {
+			throw new BusinessException(INVALID_SEARCH_CURSOR);
+		}
+
+		return new FieldDoc(Integer.MAX_VALUE, Float.NaN, fields);
+	}
+
+	private List<Object> toSortValues(FieldDoc fieldDoc) {
+		return Stream.of(fieldDoc.fields)
+			.map(value -> value instanceof BytesRef bytesRef ? bytesRef.utf8ToString() : value)
+			.toList();
+	}
+
+	private BulkIndexResult insertOrUpdate(LuceneStoreIndex index, List<StoreDocument> storeDocuments) {
+		long startedAt = System.nanoTime();
+		List<BulkIndexFailure> failures = new ArrayList<>();
+
+		try {
+			index.write(() -> {
+				for (StoreDocument storeDocument : storeDocuments) {
+					index.update(storeDocument.getId(), toBlock(storeDocument));
+				}
+				index.commit();
+			});
+		} catch (IOException | AlreadyClosedException e) {
+			log.error("SEARCH:LUCENE:WRITE_FAILED : index => {}", index.getName(), e);
+			storeDocuments.forEach(storeDocument -> failures.add(failureOf(index, storeDocument.getId(),
+				HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage())));
+		}
+
+		return new BulkIndexResult(storeDocuments.size(), failures, Duration.ofNanos(System.nanoTime() - startedAt));
+	}
+
+	/**
+	 * 저장된 원본을 읽어 modifier 로 고친 뒤 다시 색인한다. 원본이 없는 업체는 ES 의 부분 갱신처럼 404 실패로 돌려준다.
+	 * 읽기부터 커밋까지를 색인의 쓰기 잠금 안에서 실행해, 재고 반영과 상태/상품 갱신이 겹쳐도 서로의 변경을 덮어쓰지 않는다.
+	 */
+	private BulkIndexResult partialUpdate(Collection<String> storeIds,
+		BiPredicate<String, org.springframework.data.elasticsearch.core.document.Document> modifier) {
+		long startedAt = System.nanoTime();
+		LuceneStoreIndex index = current.get();
+		List<BulkIndexFailure> failures = new ArrayList<>();
+
+		try {
+			index.write(() -> {
+				Map<String, org.springframework.data.elasticsearch.core.document.Document> sources = findSources(
+					index, storeIds);
+				for (String storeId : storeIds) {
+					org.springframework.data.elasticsearch.core.document.Document source = sources.get(storeId);
+					if (source == null) {
+						failures.add(failureOf(index, storeId, HttpStatus.NOT_FOUND, "document missing"));
+						continue;
+					}
+					if (modifier.test(storeId, source)) {
+						index.update(storeId, toBlock(toStoreDocument(source)));
+					}
+				}
+				index.commit();
+			});
+		} catch (IOException | AlreadyClosedException e) {
+			log.error("SEARCH:LUCENE:WRITE_FAILED : index => {}", index.getName(), e);
+			failures.clear();
+			storeIds.forEach(storeId -> failures.add(failureOf(index, storeId, HttpStatus.INTERNAL_SERVER_ERROR,
+				e.getMessage())));
+		}
+
+		return new BulkIndexResult(storeIds.size(), failures, Duration.ofNanos(System.nanoTime() - startedAt));
+	}
+
+	private Map<String, org.springframework.data.elasticsearch.core.document.Document> findSources(
+		LuceneStoreIndex index, Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		try {
+			return index.search(searcher -> readSources(searcher, ids));
+		} catch (IOException e) {
+			log.error("SEARCH:LUCENE:READ_FAILED : ids => {}", ids, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+	}
+
+	private Map<String, org.springframework.data.elasticsearch.core.document.Document> readSources(
+		IndexSearcher searcher, Collection<String> ids) throws IOException {
+		Query query = new TermInSetQuery(ID_FIELD, ids.stream().map(BytesRef::new).toList());
+		Map<String, org.springframework.data.elasticsearch.core.document.Document> sources = new HashMap<>();
+		for (ScoreDoc scoreDoc : searcher.search(query, ids.size()).scoreDocs) {
+			org.springframework.data.elasticsearch.core.document.Document source = readSource(searcher, scoreDoc.doc);
+			sources.put(String.valueOf(source.get(ID_FIELD)), source);
+		}
+
+		return sources;
+	}
+
+	// publish 와 겹쳐 이미 닫힌 색인을 잡았다면 교체된 색인에서 다시 검색한다.
+	private <T> T searchCurrent(LuceneStoreIndex.SearcherFunction<T> function) throws IOException {
+		LuceneStoreIndex index = current.get();
+		try {
+			return index.search(function);
+		} catch (AlreadyClosedException e) {
+			LuceneStoreIndex replaced = current.get();
+			if (replaced == index) {
+				throw e;
+			}
+
+			return replaced.search(function);
+		}
+	}
+
+	private org.springframework.data.elasticsearch.core.document.Document readSource(IndexSearcher searcher,
+		int docId) throws IOException {
+		String json = searcher.doc(docId, Set.of(SOURCE_FIELD)).get(SOURCE_FIELD);
+
+		return org.springframework.data.elasticsearch.core.document.Document.parse(json);
+	}
+
+	private StoreDocument toStoreDocument(org.springframework.data.elasticsearch.core.document.Document source) {
+		return converter.read(StoreDocument.class, source);
+	}
+
+	private List<org.apache.lucene.document.Document> toBlock(StoreDocument storeDocument) {
+		String storeId = storeDocument.getId();
+		List<org.apache.lucene.document.Document> block = new ArrayList<>();
+
+		List<ItemDocument> items = storeDocument.getItems() == null ? List.of() : storeDocument.getItems();
+		for (ItemDocument item : items) {
+			org.apache.lucene.document.Document child = new org.apache.lucene.document.Document();
+			child.add(new StringField(BLOCK_FIELD, storeId, Field.Store.NO));
+			child.add(new TextField(ITEM_NAME_FIELD, item.getName(), Field.Store.NO));
+			child.add(new IntPoint(ITEM_STOCK_FIELD, item.getStock()));
+			block.add(child);
+		}
+
+		org.apache.lucene.document.Document parent = new org.apache.lucene.document.Document();
+		parent.add(new StringField(BLOCK_FIELD, storeId, Field.Store.NO));
+		parent.add(new StringField(TYPE_FIELD, STORE_TYPE, Field.Store.NO));
+		parent.add(new StringField(ID_FIELD, storeId, Field.Store.NO));
+		parent.add(new SortedDocValuesField(ID_FIELD, new BytesRef(storeId)));
+		parent.add(new LongPoint(STORE_ID_FIELD, storeDocument.getStoreId()));
+		parent.add(new NumericDocValuesField(STORE_ID_FIELD, storeDocument.getStoreId()));
+		parent.add(new TextField(NAME_FIELD, storeDocument.getName(), Field.Store.NO));
+		parent.add(new StringField(STATUS_FIELD, storeDocument.getStoreStatus().name(), Field.Store.NO));
+		parent.add(new NumericDocValuesField(CLOSE_MINUTE_FIELD, storeDocument.getCloseMinuteOfDay()));
+		parent.add(new DoubleDocValuesField(MAX_DISCOUNT_RATE_FIELD, storeDocument.getMaxDiscountRate()));
+
+		GeoPoint location = storeDocument.getLocation();
+		if (location != null) {
+			parent.add(new LatLonPoint(LOCATION_FIELD, location.getLat(), location.getLon()));
+			parent.add(new LatLonDocValuesField(LOCATION_FIELD, location.getLat(), location.getLon()));
+			parent.add(new StringField(GEOHASH_FIELD,
+				Geohash.stringEncode(location.getLon(), location.getLat(), SUGGEST_GEO_PRECISION), Field.Store.NO));
+		}
+
+		if (storeDocument.getSuggest() != null) {
+			for (String input : storeDocument.getSuggest().getInput()) {
+				parent.add(new StringField(SUGGEST_FIELD, input.toLowerCase(Locale.ROOT), Field.Store.NO));
+				parent.add(new StoredField(SUGGEST_INPUT_FIELD, input));
+			}
+		}
+
+		parent.add(new StoredField(SOURCE_FIELD, converter.mapObject(storeDocument).toJson()));
+		block.add(parent);
+
+		return block;
+	}
+
+	private LuceneStoreIndex rebuildTarget(String target) {
+		LuceneStoreIndex index = rebuildTargets.get(target);
+		if (index == null) {
+			log.warn("SEARCH:LUCENE:UNKNOWN_TARGET : index => {}", target);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+
+		return index;
+	}
+
+	private void writeCurrent(String name) throws IOException {
+		Path temp = basePath.resolve(CURRENT_FILE + ".tmp");
+		Files.writeString(temp, name, StandardCharsets.UTF_8);
+		Files.move(temp, basePath.resolve(CURRENT_FILE), StandardCopyOption.ATOMIC_MOVE,
+			StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private BulkIndexFailure failureOf(LuceneStoreIndex index, String id, HttpStatus status, String message) {
+		return new BulkIndexFailure(index.getName(), id, status.value(), message);
+	}
+
+	// ES 색인과 같은 필드 이름/형식으로 원본을 만들고 읽도록 Spring Data Elasticsearch 의 변환기를 그대로 쓴다.
+	private static MappingElasticsearchConverter createConverter() {
+		SimpleElasticsearchMappingContext mappingContext = new SimpleElasticsearchMappingContext();
+		ElasticsearchCustomConversions conversions = new ElasticsearchCustomConversions(Collections.emptyList());
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		MappingElasticsearchConverter converter = new MappingElasticsearchConverter(mappingContext);
+		converter.setConversions(conversions);
+		converter.afterPropertiesSet();
+
+		return converter;
+	}
+
+	/**
+	 * ES 의 마감 임박순(closeMinuteOfDay 에 대한 지수 감쇠 점수 내림차순)과 같은 순서를 내는 |마감 분 - 검색 시각 분| 값.
+	 * 감쇠 함수는 거리에 대해 단조 감소하므로 거리 오름차순 정렬과 순서가 같다.
+	 */
+	private static class DeadlineDistanceSource extends DoubleValuesSource {
+
+		private final int originMinute;
+
+		DeadlineDistanceSource(long searchedAt) {
+			LocalTime searchedTime = Instant.ofEpochMilli(searchedAt).atZone(STORE_ZONE).toLocalTime();
+			this.originMinute = StoreDocument.toMinuteOfDay(searchedTime);
+		}
+
+		@Override
+		public DoubleValues getValues(LeafReaderContext context, DoubleValues scores) throws IOException {
+			NumericDocValues closeMinutes = DocValues.getNumeric(context.reader(), CLOSE_MINUTE_FIELD);
+
+			return new DoubleValues() {
+				@Override
+				public double doubleValue() throws IOException {
+					return Math.abs(closeMinutes.longValue() - originMinute);
+				}
+
+				@Override
+				public boolean advanceExact(int doc) throws IOException {
+					return closeMinutes.advanceExact(doc);
+				}
+			};
+		}
+
+		@Override
+		public boolean needsScores() {
+			return false;
+		}
+
+		@Override
+		public DoubleValuesSource rewrite(IndexSearcher searcher) {
+			return this;
+		}
+
+		@Override
+		public boolean isCacheable(LeafReaderContext context) {
+			return DocValues.isCacheable(context, CLOSE_MINUTE_FIELD);
+		}
+
+		@Override
+		public int hashCode() {
+			return Integer.hashCode(originMinute);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof DeadlineDistanceSource source && source.originMinute == originMinute;
+		}
+
+		@Override
+		public String toString() {
+			return "deadlineDistance(" + originMinute + ")";
+		}
+	}
+}
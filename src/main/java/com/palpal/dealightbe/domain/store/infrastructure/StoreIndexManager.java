@@ -0,0 +1,250 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import static com.palpal.dealightbe.global.error.ErrorCode.SEARCH_INDEX_OPERATION_FAILED;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.elasticsearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.client.indices.GetMappingsRequest;
+import org.elasticsearch.cluster.metadata.MappingMetadata;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * store 색인은 버전이 붙은 실제 인덱스(store-v{시각})와 두 개의 별칭으로 운영한다.
+ * 조회는 store, 쓰기는 store-write 별칭을 사용하므로 재구축 후 별칭만 바꿔 끊김 없이 교체할 수 있다.
+ * 교체 후에는 되돌리기용으로 최근 버전 몇 개만 남기고 이전 버전 인덱스를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "elasticsearch", matchIfMissing = true)
+public class StoreIndexManager {
+
+	public static final String READ_ALIAS = "store";
+	public static final String WRITE_ALIAS = "store-write";
+
+	private static final String INDEX_PREFIX = "store-v";
+	private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final String REPLICAS_SETTING = "index.number_of_replicas";
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String DEFAULT_REPLICAS = "1";
+	private static final String PROPERTIES = "properties";
+	private static final String ID_FIELD = "id";
+	private static final String KEYWORD_TYPE = "keyword";
+
+	private final RestHighLevelClient elasticsearchClient;
+	private final ElasticsearchOperations operations;
+	private final ElasticSearchProperty elasticSearchProperty;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initializeAliases() {
+		try {
+			if (!findIndicesOf(WRITE_ALIAS).isEmpty()) {
+				return;
+			}
+
+			if (!exists(READ_ALIAS)) {
+				String index = createIndex(Map.of());
+				swapAliases(index);
+				log.info("SEARCH:INDEX:CREATED : index => {}", index);
+				return;
+			}
+
+			// 별칭 도입 이전의 store 인덱스는 재구축 전까지 그대로 쓰기 대상으로 사용한다.
+			Set<String> readIndices = findIndicesOf(READ_ALIAS);
+			String target = readIndices.isEmpty() ? READ_ALIAS : readIndices.iterator().next();
+			updateAliases(new IndicesAliasesRequest()
+				.addAliasAction(AliasActions.add().index(target).alias(WRITE_ALIAS)));
+			log.info("SEARCH:INDEX:WRITE_ALIAS_ATTACHED : index => {}", target);
+		} catch (IOException e) {
+			log.error("SEARCH:INDEX:INITIALIZE_FAILED", e);
+		}
+	}
+
+	// 대량 적재 동안은 복제와 refresh 를 끄고, 적재가 끝나면 finishBulkLoading 으로 되돌린다.
+	public String createIndexForBulkLoading() {
+		return createIndex(Map.of(REPLICAS_SETTING, "0", REFRESH_INTERVAL_SETTING, "-1"));
+	}
+
+	public void finishBulkLoading(String index) {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put(REPLICAS_SETTING, currentReplicas());
+		settings.put(REFRESH_INTERVAL_SETTING, null);
+
+		try {
+			elasticsearchClient.indices().putSettings(new UpdateSettingsRequest(index).settings(settings),
+				RequestOptions.DEFAULT);
+		} catch (IOException e) {
+			log.error("SEARCH:INDEX:PUT_SETTINGS_FAILED : index => {}", index, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+
+		operations.indexOps(IndexCoordinates.of(index)).refresh();
+	}
+
+	public long count(String index) {
+		return operations.count(Query.findAll(), StoreDocument.class, IndexCoordinates.of(index));
+	}
+
+	public void delete(String index) {
+		operations.indexOps(IndexCoordinates.of(index)).delete();
+	}
+
+	/**
+	 * 기존 인덱스에서 두 별칭을 떼고 새 인덱스에 붙이는 작업을 하나의 요청으로 보내 원자적으로 교체한다.
+	 * 별칭 도입 이전의 store 인덱스가 남아 있다면 같은 요청에서 삭제해 이름을 별칭에 넘겨준다.
+	 */
+	public void swapAliases(String newIndex) {
+		try {
+			IndicesAliasesRequest request = new IndicesAliasesRequest();
+			Set<String> readIndices = findIndicesOf(READ_ALIAS);
+			boolean legacyIndex = readIndices.isEmpty() && exists(READ_ALIAS);
+
+			if (legacyIndex) {
+				request.addAliasAction(AliasActions.removeIndex().index(READ_ALIAS));
+			}
+			readIndices.forEach(index -> request.addAliasAction(AliasActions.remove().index(index).alias(READ_ALIAS)));
+			findIndicesOf(WRITE_ALIAS).stream()
+				.filter(index -> !(legacyIndex && READ_ALIAS.equals(index)))
+				.forEach(index -> request.addAliasAction(AliasActions.remove().index(index).alias(WRITE_ALIAS)));
+
+			request.addAliasAction(AliasActions.add().index(newIndex).alias(READ_ALIAS));
+			request.addAliasAction(AliasActions.add().index(newIndex).alias(WRITE_ALIAS));
+			updateAliases(request);
+		} catch (IOException e) {
+			log.error("SEARCH:INDEX:SWAP_FAILED : index => {}", newIndex, e);
+			throw new BusinessException(SEARCH_INDEX_OPERATION_FAILED);
+		}
+
+		pruneOldVersions(newIndex);
+	}
+
+	/**
+	 * search_after 의 마지막 정렬 기준이 id 이므로, 조회 중인 인덱스의 id 가 keyword 가 아니면 정렬이 실패한다.
+	 * id 가 text 로 매핑돼 있던 이전 버전 인덱스를 찾기 위해 사용하며, 인덱스가 아직 없거나 확인에 실패하면 재구축하지 않도록 true 를 돌려준다.
+	 */
+	public boolean isSortableById() {
+		try {
+			Map<String, MappingMetadata> mappings = elasticsearchClient.indices()
+				.getMapping(new GetMappingsRequest().indices(READ_ALIAS), RequestOptions.DEFAULT)
+				.mappings();
+
+			return mappings.values().stream().allMatch(mapping -> KEYWORD_TYPE.equals(idTypeOf(mapping)));
+		} catch (IOException | ElasticsearchException e) {
+			log.warn("SEARCH:INDEX:READ_MAPPING_FAILED : index => {}", READ_ALIAS, e);
+			return true;
+		}
+	}
+
+	// 교체는 이미 끝났으므로 정리에 실패해도 다음 교체 때 다시 시도한다.
+	void pruneOldVersions(String currentIndex) {
+		try {
+			String[] versions = elasticsearchClient.indices()
+				.get(new GetIndexRequest(INDEX_PREFIX + "*"), RequestOptions.DEFAULT)
+				.getIndices();
+			Set<String> aliased = findIndicesOf(READ_ALIAS);
+			Set<String> writeAliased = findIndicesOf(WRITE_ALIAS);
+
+			List<String> expired = Arrays.stream(versions)
+				.filter(index -> index.compareTo(currentIndex) < 0)
+				.sorted(Comparator.reverseOrder())
+				.skip(Math.max(elasticSearchProperty.getRetainedIndexVersions(), 0))
+				.filter(index -> !aliased.contains(index) && !writeAliased.contains(index))
+				.toList();
+
+			for (String index : expired) {
+				delete(index);
+				log.info("SEARCH:INDEX:PRUNED : index => {}", index);
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("SEARCH:INDEX:PRUNE_FAILED : current => {}", currentIndex, e);
+		}
+	}
+
+	static String newIndexName() {
+		return INDEX_PREFIX + LocalDateTime.now().format(VERSION_FORMAT);
+	}
+
+	private String createIndex(Map<String, String> overrides) {
+		String index = newIndexName();
+		IndexOperations templateOps = operations.indexOps(StoreDocument.class);
+
+		Map<String, Object> settings = new HashMap<>(templateOps.createSettings());
+		settings.putAll(overrides);
+		operations.indexOps(IndexCoordinates.of(index)).create(settings, templateOps.createMapping());
+
+		return index;
+	}
+
+	private String currentReplicas() {
+		try {
+			GetSettingsResponse response = elasticsearchClient.indices().getSettings(
+				new GetSettingsRequest().indices(READ_ALIAS).names(REPLICAS_SETTING), RequestOptions.DEFAULT);
+
+			return response.getIndexToSettings().values().stream()
+				.map(settings -> settings.get(REPLICAS_SETTING))
+				.filter(Objects::nonNull)
+				.findFirst()
+				.orElse(DEFAULT_REPLICAS);
+		} catch (IOException | RuntimeException e) {
+			log.warn("SEARCH:INDEX:READ_REPLICAS_FAILED : fallback => {}", DEFAULT_REPLICAS);
+			return DEFAULT_REPLICAS;
+		}
+	}
+
+	private Set<String> findIndicesOf(String alias) throws IOException {
+		return elasticsearchClient.indices()
+			.getAlias(new GetAliasesRequest(alias), RequestOptions.DEFAULT)
+			.getAliases()
+			.keySet();
+	}
+
+	private String idTypeOf(MappingMetadata mapping) {
+		if (mapping.sourceAsMap().get(PROPERTIES) instanceof Map<?, ?> properties
+			&& properties.get(ID_FIELD) instanceof Map<?, ?> id) {
+			return String.valueOf(id.get("type"));
+		}
+
+		return null;
+	}
+
+	private boolean exists(String name) throws IOException {
+		return elasticsearchClient.indices().exists(new GetIndexRequest(name), RequestOptions.DEFAULT);
+	}
+
+	private void updateAliases(IndicesAliasesRequest request) throws IOException {
+		elasticsearchClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+	}
+}
@@ -0,0 +1,55 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+/**
+ * 업체 검색 색인 저장소. search.backend 설정으로 Elasticsearch(기본) 또는 내장 Lucene 구현을 고른다.
+ * 두 구현은 같은 변경 피드(updated_stores, 재고 변경)로 갱신되며 같은 조건의 검색에 같은 결과를 돌려준다.
+ */
+public interface StoreSearchRepository {
+
+	BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments);
+
+	List<StoreDocument> findAllByIds(List<String> ids);
+
+	BulkIndexResult bulkUpdateStatusAndItems(Map<String, StoreStatus> changedStatuses,
+		Map<String, StoreDocument> itemChangedStores);
+
+	BulkIndexResult bulkUpdateItemStocks(Map<String, Map<String, Integer>> stocksByStoreId);
+
+	List<String> suggestKeywords(String prefix, Double x, Double y, int size);
+
+	StoreSearchSlice searchStores(double x, double y, String keyword, String sortBy, long searchedAt,
+		List<Object> searchAfter, Pageable pageable);
+
+	// 정합성 검사: 업체 id 구간의 문서를 비교에 필요한 필드(상태, 마감 시각, 상품 id/재고)만 읽고, 원본에 없는 문서를 지운다.
+	List<StoreDocument> findAllInIdRange(long fromId, long toId, int maxSize);
+
+	// storeId 필드가 생기기 전에 색인된 문서는 id 구간 조회에 잡히지 않으므로 문서 id 로 따로 찾는다.
+	List<String> findIdsWithoutStoreId(int maxSize);
+
+	BulkIndexResult bulkDelete(List<String> ids);
+
+	// 재구축: 새 색인을 만들어 적재하고, 검증한 뒤 조회 대상을 한 번에 교체한다.
+	String createRebuildTarget();
+
+	BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments, String target);
+
+	void finishLoading(String target);
+
+	long count(String target);
+
+	void publish(String target);
+
+	void discard(String target);
+
+	// 조회 중인 색인이 현재 매핑보다 오래돼(id 가 text 인 이전 버전 등) 재구축해야 하는지 확인한다.
+	boolean requiresRebuild();
+}
@@ -1,115 +1,300 @@
 package com.palpal.dealightbe.domain.store.infrastructure;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apache.lucene.search.join.ScoreMode;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.geo.GeoPoint;
+import org.elasticsearch.common.lucene.search.function.CombineFunction;
 import org.elasticsearch.common.unit.DistanceUnit;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders;
 import org.elasticsearch.script.Script;
 import org.elasticsearch.script.ScriptType;
-import org.elasticsearch.search.sort.NestedSortBuilder;
-import org.elasticsearch.search.sort.ScriptSortBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.search.suggest.SuggestBuilder;
+import org.elasticsearch.search.suggest.SuggestBuilders;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestion;
+import org.elasticsearch.search.suggest.completion.CompletionSuggestionBuilder;
+import org.elasticsearch.search.suggest.completion.context.CategoryQueryContext;
+import org.elasticsearch.search.suggest.completion.context.GeoQueryContext;
+import org.elasticsearch.xcontent.ToXContent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.document.Document;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
-import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Repository;
 
 import com.palpal.dealightbe.domain.item.domain.ItemDocument;
 import com.palpal.dealightbe.domain.store.domain.StoreDocument;
 import com.palpal.dealightbe.domain.store.domain.StoreStatus;
 import com.palpal.dealightbe.global.ListSortType;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexer;
+import com.palpal.dealightbe.global.error.ErrorCode;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
-public class StoreSearchRepositoryImpl {
+@ConditionalOnProperty(name = "search.backend", havingValue = "elasticsearch", matchIfMissing = true)
+public class StoreSearchRepositoryImpl implements StoreSearchRepository {
+
+	private static final IndexCoordinates WRITE_INDEX = IndexCoordinates.of(StoreIndexManager.WRITE_ALIAS);
+	private static final String CLOSE_MINUTE_FIELD = "closeMinuteOfDay";
+	private static final String MAX_DISCOUNT_RATE_FIELD = "maxDiscountRate";
+	private static final ZoneId STORE_ZONE = ZoneId.of("Asia/Seoul");
+	private static final int DEADLINE_DECAY_SCALE_MINUTES = 60;
+	private static final String SUGGEST_FIELD = "suggest";
+	private static final String STATUS_CONTEXT = "status";
+	private static final String LOCATION_CONTEXT = "location";
+	private static final int SUGGEST_GEO_PRECISION = 5;
+	private static final String STOCKS_PARAM = "stocks";
+	private static final int STOCK_UPDATE_RETRY_ON_CONFLICT = 3;
+	private static final String[] CONSISTENCY_FIELDS = {"id", "storeStatus", "closeTime", "items.id", "items.stock"};
+
+	// 재고가 달라진 상품만 덮어쓰고, 바뀐 값이 없으면 noop 으로 끝내 불필요한 재색인을 막는다.
+	private static final String ITEM_STOCK_SCRIPT = """
+		boolean changed = false;
+		if (ctx._source.items != null) {
+			for (def item : ctx._source.items) {
+				def stock = params.stocks.get(String.valueOf(item.itemId));
+				if (stock != null && item.stock != stock) {
+					item.stock = stock;
+					changed = true;
+				}
+			}
+		}
+		if (!changed) {
+			ctx.op = 'noop';
+		}
+		""";
 
 	private final ElasticsearchOperations operations;
-	private static final int BATCH_SIZE = 500;
+	private final RestHighLevelClient elasticsearchClient;
+	private final BulkIndexer bulkIndexer;
+	private final StoreIndexManager storeIndexManager;
 
-	public void bulkInsertOrUpdate(List<StoreDocument> storeDocuments) {
-		for (int i = 0; i < storeDocuments.size(); i += BATCH_SIZE) {
-			int endIndex = Math.min(i + BATCH_SIZE, storeDocuments.size());
-			List<StoreDocument> batch = storeDocuments.subList(i, endIndex);
+	@Override
+	public BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments) {
+		return bulkInsertOrUpdate(storeDocuments, WRITE_INDEX);
+	}
 
-			bulkIndexBatch(batch);
-		}
+	@Override
+	public BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments, String target) {
+		return bulkInsertOrUpdate(storeDocuments, IndexCoordinates.of(target));
+	}
+
+	public BulkIndexResult bulkInsertOrUpdate(List<StoreDocument> storeDocuments, IndexCoordinates index) {
+		return bulkIndexer.upsertAll(storeDocuments, StoreDocument::getId, index);
 	}
 
-	private void bulkIndexBatch(List<StoreDocument> batch) {
-		batch.forEach(storeDocument -> {
-			Document document = operations.getElasticsearchConverter().mapObject(storeDocument);
+	@Override
+	public String createRebuildTarget() {
+		return storeIndexManager.createIndexForBulkLoading();
+	}
 
-			UpdateQuery updateQuery = UpdateQuery.builder(String.valueOf(storeDocument.getId()))
-				.withDocument(document)
-				.withDocAsUpsert(true)
-				.build();
+	@Override
+	public void finishLoading(String target) {
+		storeIndexManager.finishBulkLoading(target);
+	}
 
-			operations.update(updateQuery, IndexCoordinates.of("store"));
-		});
+	@Override
+	public long count(String target) {
+		return storeIndexManager.count(target);
 	}
 
-	public void updateStoreItems(String storeId, List<ItemDocument> updatedItems) {
-		List<Map<String, Object>> itemDocuments = updatedItems.stream()
-			.map(item -> operations.getElasticsearchConverter().mapObject(item))
-			.collect(Collectors.toList());
+	@Override
+	public void publish(String target) {
+		storeIndexManager.swapAliases(target);
+	}
 
-		UpdateQuery updateQuery = UpdateQuery.builder(storeId)
-			.withDocument(Document.from(Collections.singletonMap("items", itemDocuments)))
+	@Override
+	public void discard(String target) {
+		storeIndexManager.delete(target);
+	}
+
+	@Override
+	public boolean requiresRebuild() {
+		return !storeIndexManager.isSortableById();
+	}
+
+	@Override
+	public List<StoreDocument> findAllByIds(List<String> ids) {
+		NativeSearchQuery multiGetQuery = new NativeSearchQueryBuilder()
+			.withIds(ids)
 			.build();
 
-		operations.update(updateQuery, operations.getIndexCoordinatesFor(StoreDocument.class));
+		return operations.multiGet(multiGetQuery, StoreDocument.class, operations.getIndexCoordinatesFor(StoreDocument.class))
+			.stream()
+			.filter(MultiGetItem::hasItem)
+			.map(MultiGetItem::getItem)
+			.toList();
+	}
+
+	@Override
+	public BulkIndexResult bulkUpdateStatusAndItems(Map<String, StoreStatus> changedStatuses,
+		Map<String, StoreDocument> itemChangedStores) {
+		Map<String, Map<String, Object>> partialDocuments = new HashMap<>();
+
+		changedStatuses.forEach((storeId, storeStatus) ->
+			partialDocuments.computeIfAbsent(storeId, id -> new HashMap<>()).put("storeStatus", storeStatus.name()));
+		itemChangedStores.forEach((storeId, storeDocument) -> {
+			Map<String, Object> partialDocument = partialDocuments.computeIfAbsent(storeId, id -> new HashMap<>());
+			partialDocument.put("items", toItemSources(storeDocument.getItems()));
+			partialDocument.put(MAX_DISCOUNT_RATE_FIELD, storeDocument.getMaxDiscountRate());
+			partialDocument.put(SUGGEST_FIELD,
+				operations.getElasticsearchConverter().mapObject(storeDocument.getSuggest()));
+		});
+
+		return bulkIndexer.partialUpdateAll(partialDocuments, WRITE_INDEX);
+	}
+
+	/**
+	 * 업체 문서마다 하나의 스크립트 갱신으로 nested items 의 재고만 바꾼다.
+	 * 문서 전체를 다시 보내지 않으므로 주문과 동시에 들어온 다른 변경을 덮어쓰지 않는다.
+	 */
+	@Override
+	public BulkIndexResult bulkUpdateItemStocks(Map<String, Map<String, Integer>> stocksByStoreId) {
+		List<UpdateRequest> requests = stocksByStoreId.entrySet().stream()
+			.map(entry -> new UpdateRequest(WRITE_INDEX.getIndexName(), entry.getKey())
+				.script(new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, ITEM_STOCK_SCRIPT,
+					Map.<String, Object>of(STOCKS_PARAM, entry.getValue())))
+				.retryOnConflict(STOCK_UPDATE_RETRY_ON_CONFLICT))
+			.toList();
+
+		return bulkIndexer.execute(requests, WRITE_INDEX.getIndexName());
 	}
 
-	public void updateStoreStatus(String storeId, StoreStatus newStatus) {
-		UpdateQuery updateQuery = UpdateQuery.builder(storeId)
-			.withDocument(Document.from(Collections.singletonMap("storeStatus", newStatus)))
+	/**
+	 * 점수 계산 없이 storeId 범위 필터와 필요한 필드만 읽고 전체 건수도 세지 않아, 검색 트래픽과 함께 돌아도 부담이 작다.
+	 */
+	@Override
+	public List<StoreDocument> findAllInIdRange(long fromId, long toId, int maxSize) {
+		NativeSearchQuery rangeQuery = new NativeSearchQueryBuilder()
+			.withQuery(QueryBuilders.constantScoreQuery(QueryBuilders.rangeQuery("storeId").gte(fromId).lte(toId)))
+			.withSourceFilter(new FetchSourceFilter(CONSISTENCY_FIELDS, null))
+			.withSorts(SortBuilders.fieldSort("storeId").order(SortOrder.ASC))
+			.withTrackTotalHits(false)
 			.build();
+		rangeQuery.setMaxResults(maxSize);
 
-		operations.update(updateQuery, operations.getIndexCoordinatesFor(StoreDocument.class));
+		return operations.search(rangeQuery, StoreDocument.class).getSearchHits().stream()
+			.map(SearchHit::getContent)
+			.toList();
 	}
 
-	public StoreDocument findById(String id) {
-		NativeSearchQuery searchQuery = new NativeSearchQueryBuilder()
-			.withQuery(QueryBuilders.matchQuery("id", id))
+	@Override
+	public List<String> findIdsWithoutStoreId(int maxSize) {
+		NativeSearchQuery legacyQuery = new NativeSearchQueryBuilder()
+			.withQuery(QueryBuilders.constantScoreQuery(
+				QueryBuilders.boolQuery().mustNot(QueryBuilders.existsQuery("storeId"))))
+			.withSourceFilter(new FetchSourceFilter(new String[] {"id"}, null))
+			.withTrackTotalHits(false)
 			.build();
+		legacyQuery.setMaxResults(maxSize);
+
+		return operations.search(legacyQuery, StoreDocument.class).getSearchHits().stream()
+			.map(SearchHit::getId)
+			.toList();
+	}
+
+	@Override
+	public BulkIndexResult bulkDelete(List<String> ids) {
+		List<DeleteRequest> requests = ids.stream()
+			.map(id -> new DeleteRequest(WRITE_INDEX.getIndexName(), id))
+			.toList();
+
+		return bulkIndexer.execute(requests, WRITE_INDEX.getIndexName());
+	}
+
+	/**
+	 * completion 필드의 FST 만 조회하므로 nested 문서나 정렬 없이 빠르게 응답한다.
+	 * 영업 중인 업체만 제안하고, 좌표가 있으면 주변(약 5km 셀과 이웃 셀) 업체로 좁힌다.
+	 */
+	@Override
+	public List<String> suggestKeywords(String prefix, Double x, Double y, int size) {
+		Map<String, List<? extends ToXContent>> contexts = new HashMap<>();
+		contexts.put(STATUS_CONTEXT, List.of(CategoryQueryContext.builder()
+			.setCategory(StoreStatus.OPENED.name())
+			.build()));
+		if (x != null && y != null) {
+			contexts.put(LOCATION_CONTEXT, List.of(GeoQueryContext.builder()
+				.setGeoPoint(new GeoPoint(y, x))
+				.setPrecision(SUGGEST_GEO_PRECISION)
+				.build()));
+		}
 
-		SearchHits<StoreDocument> searchHits = operations.search(searchQuery, StoreDocument.class);
-		if (!searchHits.isEmpty()) {
-			SearchHit<StoreDocument> searchHit = searchHits.getSearchHit(0);
-			return searchHit.getContent();
-		} else {
-			return null;
+		CompletionSuggestionBuilder suggestion = SuggestBuilders.completionSuggestion(SUGGEST_FIELD)
+			.prefix(prefix)
+			.skipDuplicates(true)
+			.size(size)
+			.contexts(contexts);
+		SearchSourceBuilder source = new SearchSourceBuilder()
+			.size(0)
+			.fetchSource(false)
+			.suggest(new SuggestBuilder().addSuggestion(SUGGEST_FIELD, suggestion));
+
+		try {
+			SearchResponse response = elasticsearchClient.search(
+				new SearchRequest(StoreIndexManager.READ_ALIAS).source(source), RequestOptions.DEFAULT);
+			CompletionSuggestion completionSuggestion = response.getSuggest().getSuggestion(SUGGEST_FIELD);
+
+			return completionSuggestion.getOptions().stream()
+				.map(option -> option.getText().string())
+				.toList();
+		} catch (IOException e) {
+			log.error("SEARCH:SUGGEST:FAILED : prefix => {}", prefix, e);
+			throw new BusinessException(ErrorCode.SEARCH_INDEX_OPERATION_FAILED);
 		}
 	}
 
-	public Slice<StoreDocument> searchStores(double x, double y, String keyword, String sortBy, Pageable pageable) {
-		NativeSearchQuery searchQuery = buildStoreSearchQuery(x, y, keyword, sortBy, pageable);
-		SearchHits<StoreDocument> results = operations.search(searchQuery, StoreDocument.class);
-		List<StoreDocument> storeDocuments = results.stream().map(SearchHit::getContent).toList();
+	/**
+	 * 요청한 크기보다 하나 더 가져와 다음 페이지 여부를 정확히 판단한다.
+	 * searchAfter 가 있으면 from 대신 마지막 문서의 정렬 값 이후부터 읽으므로 깊은 페이지도 같은 비용으로 조회된다.
+	 */
+	@Override
+	public StoreSearchSlice searchStores(double x, double y, String keyword, String sortBy, long searchedAt,
+		List<Object> searchAfter, Pageable pageable) {
+		NativeSearchQuery searchQuery = buildStoreSearchQuery(x, y, keyword, sortBy, searchedAt, pageable);
+		searchQuery.setMaxResults(pageable.getPageSize() + 1);
+		if (searchAfter != null) {
+			searchQuery.setSearchAfter(searchAfter);
+		}
+
+		List<SearchHit<StoreDocument>> searchHits = operations.search(searchQuery, StoreDocument.class)
+			.getSearchHits();
 
-		return toSlice(storeDocuments, pageable);
+		return toSlice(searchHits, pageable.getPageSize());
 	}
 
-	public NativeSearchQuery buildStoreSearchQuery(double x, double y, String keyword, String sortBy, Pageable pageable) {
+	public NativeSearchQuery buildStoreSearchQuery(double x, double y, String keyword, String sortBy, long searchedAt,
+		Pageable pageable) {
 		BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
 
 		// 거리 필터링
@@ -120,27 +305,46 @@ public class StoreSearchRepositoryImpl {
 		// 업체 상태 필터링
 		QueryBuilder statusQuery = QueryBuilders.matchQuery("storeStatus", "OPENED");
 
-		// Keyword 검색 (업체명 또는 아이템명)
+		// Keyword 검색 (업체명 또는 아이템명), 품절 상품은 상품명 검색에서 제외한다. 재고가 없는 이전 문서는 그대로 검색된다.
+		QueryBuilder itemQuery = QueryBuilders.boolQuery()
+			.must(QueryBuilders.matchQuery("items.name", keyword))
+			.mustNot(QueryBuilders.rangeQuery("items.stock").lte(0));
 		QueryBuilder keywordQuery = QueryBuilders.boolQuery()
 			.should(QueryBuilders.matchQuery("name", keyword).operator(Operator.AND))
-			.should(QueryBuilders.nestedQuery("items", QueryBuilders.matchQuery("items.name", keyword), ScoreMode.None));
+			.should(QueryBuilders.nestedQuery("items", itemQuery, ScoreMode.None));
 
 		boolQuery.must(geoQuery);
 		boolQuery.must(keywordQuery);
 		boolQuery.must(statusQuery);
 
-		SortBuilder<?> sortBuilder = getSortBuilder(x, y, sortBy);
+		ListSortType sortType = ListSortType.findSortType(sortBy);
+		QueryBuilder query = sortType == ListSortType.DEADLINE ? withDeadlineScore(boolQuery, searchedAt) : boolQuery;
+		SortBuilder<?> sortBuilder = getSortBuilder(x, y, sortType);
+
+		// search_after 는 정렬 값이 같은 문서끼리의 순서가 고정되어야 하므로 id 를 마지막 정렬 기준으로 둔다.
+		SortBuilder<?> tieBreaker = SortBuilders.fieldSort("id").order(SortOrder.ASC);
 
 		return new NativeSearchQueryBuilder()
-			.withQuery(boolQuery)
-			.withSorts(sortBuilder)
+			.withQuery(query)
+			.withSorts(sortBuilder, tieBreaker)
 			.withPageable(pageable)
 			.build();
 	}
 
-	private SortBuilder<?> getSortBuilder(double x, double y, String sortBy) {
-		ListSortType sortType = ListSortType.findSortType(sortBy);
+	/**
+	 * 마감 시각이 현재 시각에 가까울수록 높은 점수를 주는 지수 감쇠 점수로 검색 점수를 대체한다.
+	 * 색인 시점에 계산한 closeMinuteOfDay 의 doc values 만 읽으므로 문서마다 스크립트를 실행하지 않는다.
+	 */
+	private QueryBuilder withDeadlineScore(QueryBuilder query, long searchedAt) {
+		LocalTime searchedTime = Instant.ofEpochMilli(searchedAt).atZone(STORE_ZONE).toLocalTime();
+
+		return QueryBuilders.functionScoreQuery(query,
+				ScoreFunctionBuilders.exponentialDecayFunction(CLOSE_MINUTE_FIELD,
+					StoreDocument.toMinuteOfDay(searchedTime), DEADLINE_DECAY_SCALE_MINUTES))
+			.boostMode(CombineFunction.REPLACE);
+	}
 
+	private SortBuilder<?> getSortBuilder(double x, double y, ListSortType sortType) {
 		switch (sortType) {
 			case DISTANCE:
 				return SortBuilders.geoDistanceSort("location", y, x)
@@ -148,19 +352,10 @@ public class StoreSearchRepositoryImpl {
 					.unit(DistanceUnit.KILOMETERS)
 					.order(SortOrder.ASC);
 			case DEADLINE:
-				long currentTimeMillis = System.currentTimeMillis();
-
-				String script = "Math.abs(doc['closeTime'].value.toInstant().toEpochMilli() - params.currentTimeMillis)";
-				Map<String, Object> params = Collections.singletonMap("currentTimeMillis", currentTimeMillis);
-
-				return SortBuilders.scriptSort(new Script(ScriptType.INLINE, "painless", script, params),
-						ScriptSortBuilder.ScriptSortType.NUMBER)
+				return SortBuilders.scoreSort()
 					.order(SortOrder.DESC);
 			case DISCOUNT_RATE:
-				String nestedPath = "items";
-
-				return SortBuilders.fieldSort("items.discountRate")
-					.setNestedSort(new NestedSortBuilder(nestedPath))
+				return SortBuilders.fieldSort(MAX_DISCOUNT_RATE_FIELD)
 					.order(SortOrder.DESC);
 			default:
 				return SortBuilders.geoDistanceSort("location", y, x)
@@ -170,19 +365,17 @@ public class StoreSearchRepositoryImpl {
 		}
 	}
 
-	private Slice<StoreDocument> toSlice(List<StoreDocument> contents, Pageable pageable) {
-		boolean hasNext = isContentSizeGreaterThanPageSize(contents, pageable);
-		if (hasNext) {
-			return new SliceImpl<>(subtractLastContent(contents, pageable), pageable, true);
-		}
-		return new SliceImpl<>(contents, pageable, false);
+	private List<Map<String, Object>> toItemSources(List<ItemDocument> items) {
+		return items.stream()
+			.map(item -> (Map<String, Object>)operations.getElasticsearchConverter().mapObject(item))
+			.toList();
 	}
 
-	private boolean isContentSizeGreaterThanPageSize(List<StoreDocument> contents, Pageable pageable) {
-		return pageable.isPaged() && contents.size() > pageable.getPageSize() - 1;
-	}
+	private StoreSearchSlice toSlice(List<SearchHit<StoreDocument>> searchHits, int pageSize) {
+		boolean hasNext = searchHits.size() > pageSize;
+		List<SearchHit<StoreDocument>> contents = hasNext ? searchHits.subList(0, pageSize) : searchHits;
+		List<Object> lastSortValues = contents.isEmpty() ? null : contents.get(contents.size() - 1).getSortValues();
 
-	private List<StoreDocument> subtractLastContent(List<StoreDocument> content, Pageable pageable) {
-		return content.subList(0, pageable.getPageSize() - 1);
+		return new StoreSearchSlice(contents.stream().map(SearchHit::getContent).toList(), hasNext, lastSortValues);
 	}
 }
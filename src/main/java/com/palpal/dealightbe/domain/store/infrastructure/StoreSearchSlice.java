@@ -0,0 +1,12 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import java.util.List;
+
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+
+public record StoreSearchSlice(
+	List<StoreDocument> storeDocuments,
+	boolean hasNext,
+	List<Object> lastSortValues
+) {
+}
@@ -0,0 +1,193 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 증분 색인, 정합성 검사와 같은 색인 원본(updated_stores, updated_items)에서 재구축할 업체 문서를 읽는다.
+ * 세 경로가 같은 테이블을 읽어야 재구축 직후 정합성 검사가 원본 테이블과 색인 원본의 차이를 드리프트로 보고하지 않는다.
+ * 그래서 재구축은 원본 테이블(stores, items)과 색인 원본 사이의 차이를 고치지 못하며, 그 차이는 정합성 검사의 copyDrift 로 확인한다.
+ * 업체 id 구간 하나를 forward-only 커서로 한 번 훑으며 업체 단위로 상품을 묶으므로, 메모리에는 현재 업체와 배치 하나만 남는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreSourceReader {
+
+	private static final String ID_RANGE_QUERY = "SELECT MIN(us.id), MAX(us.id) FROM updated_stores us";
+
+	// 상품이 없는 업체도 색인하도록 updated_items 는 LEFT JOIN 하고, 업체별로 상품이 이어서 나오도록 (업체 id, 상품 id) 순으로 읽는다.
+	// 상품 문서 id 는 ItemDocument.from(UpdatedItem) 과 같이 updated_items 의 id 를 쓴다.
+	private static final String STORE_ROWS_QUERY = """
+		SELECT us.id, us.name, us.store_status, us.open_time, us.close_time, us.image,
+			us.x_coordinate, us.y_coordinate,
+			ui.id AS updated_item_id, ui.item_id, ui.name AS item_name, ui.stock, ui.discount_price,
+			ui.original_price
+		FROM updated_stores us
+		LEFT JOIN updated_items ui ON ui.store_id = us.id
+		WHERE us.id BETWEEN ? AND ?
+		ORDER BY us.id, ui.id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public Optional<IdRange> findIdRange() {
+		return jdbcTemplate.queryForObject(ID_RANGE_QUERY, (resultSet, rowNum) -> {
+			long minId = resultSet.getLong(1);
+			if (resultSet.wasNull()) {
+				return Optional.empty();
+			}
+
+			return Optional.of(new IdRange(minId, resultSet.getLong(2)));
+		});
+	}
+
+	/**
+	 * 구간의 업체 문서를 batchSize 개씩 batchConsumer 에 넘기고, 읽은 업체 수를 돌려준다.
+	 * MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 이거나 useCursorFetch=true 일 때만 결과를 나눠 받는다.
+	 */
+	public long stream(IdRange range, int fetchSize, int batchSize, Consumer<List<StoreDocument>> batchConsumer) {
+		StoreRowAssembler assembler = new StoreRowAssembler(batchSize, batchConsumer);
+
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(STORE_ROWS_QUERY, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			statement.setLong(1, range.fromId());
+			statement.setLong(2, range.toId());
+
+			return statement;
+		}, assembler);
+
+		return assembler.finish();
+	}
+
+	public record IdRange(
+		long fromId,
+		long toId
+	) {
+
+		// 구간을 partitions 개 이하의 연속된 구간으로 나눈다. id 가 비어 있는 구간은 빈 결과로 끝난다.
+		public List<IdRange> split(int partitions) {
+			long step = Math.max(1, (toId - fromId) / partitions + 1);
+			List<IdRange> ranges = new ArrayList<>();
+			for (long start = fromId; start <= toId; start += step) {
+				ranges.add(new IdRange(start, Math.min(toId, start + step - 1)));
+			}
+
+			return ranges;
+		}
+	}
+
+	private static class StoreRowAssembler implements RowCallbackHandler {
+
+		private final int batchSize;
+		private final Consumer<List<StoreDocument>> batchConsumer;
+
+		private List<StoreDocument> batch = new ArrayList<>();
+		private StoreRow current;
+		private long storeCount;
+
+		StoreRowAssembler(int batchSize, Consumer<List<StoreDocument>> batchConsumer) {
+			this.batchSize = batchSize;
+			this.batchConsumer = batchConsumer;
+		}
+
+		@Override
+		public void processRow(ResultSet resultSet) throws SQLException {
+			long storeId = resultSet.getLong("id");
+			if (current == null || current.id != storeId) {
+				complete();
+				current = StoreRow.from(resultSet);
+			}
+
+			long updatedItemId = resultSet.getLong("updated_item_id");
+			if (!resultSet.wasNull()) {
+				current.items.add(ItemDocument.builder()
+					.id(String.valueOf(updatedItemId))
+					.itemId(resultSet.getObject("item_id", Long.class))
+					.name(resultSet.getString("item_name"))
+					.storeId(String.valueOf(storeId))
+					.discountPrice(resultSet.getInt("discount_price"))
+					.originalPrice(resultSet.getInt("original_price"))
+					.stock(resultSet.getInt("stock"))
+					.build());
+			}
+		}
+
+		long finish() {
+			complete();
+			flush();
+
+			return storeCount;
+		}
+
+		private void complete() {
+			if (current == null) {
+				return;
+			}
+
+			batch.add(current.toDocument());
+			storeCount++;
+			current = null;
+			if (batch.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		private void flush() {
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			batchConsumer.accept(batch);
+			batch = new ArrayList<>();
+		}
+	}
+
+	private record StoreRow(
+		long id,
+		String name,
+		StoreStatus storeStatus,
+		LocalTime openTime,
+		LocalTime closeTime,
+		String image,
+		double xCoordinate,
+		double yCoordinate,
+		List<ItemDocument> items
+	) {
+
+		static StoreRow from(ResultSet resultSet) throws SQLException {
+			return new StoreRow(
+				resultSet.getLong("id"),
+				resultSet.getString("name"),
+				StoreStatus.valueOf(resultSet.getString("store_status")),
+				resultSet.getObject("open_time", LocalTime.class),
+				resultSet.getObject("close_time", LocalTime.class),
+				resultSet.getString("image"),
+				resultSet.getDouble("x_coordinate"),
+				resultSet.getDouble("y_coordinate"),
+				new ArrayList<>());
+		}
+
+		StoreDocument toDocument() {
+			return StoreDocument.of(String.valueOf(id), xCoordinate, yCoordinate, name, storeStatus, openTime,
+				closeTime, image, items);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.palpal.dealightbe.global.aop;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * 핸들러 메서드마다 이름이 맞는 파라미터의 위치를 처음 호출될 때 한 번만 찾아 두고,
+ * 이후 호출에서는 저장된 위치에만 값을 채운다. 이미 값이 들어 있는 파라미터를 만나면 그 뒤는 건드리지 않는다.
+ */
+class NamedParameterBinder {
+
+	private final Set<String> parameterNames;
+	private final Map<Method, int[]> parameterIndexes = new ConcurrentHashMap<>();
+
+	NamedParameterBinder(Set<String> parameterNames) {
+		this.parameterNames = parameterNames;
+	}
+
+	Object[] bind(ProceedingJoinPoint proceedingJoinPoint, Object value) {
+		MethodSignature signature = (MethodSignature)proceedingJoinPoint.getSignature();
+
+		return bind(signature.getMethod(), proceedingJoinPoint.getArgs(), value);
+	}
+
+	Object[] bind(Method method, Object[] args, Object value) {
+		for (int index : parameterIndexes.computeIfAbsent(method, this::findParameterIndexes)) {
+			if (args[index] != null) {
+				break;
+			}
+			args[index] = value;
+		}
+
+		return args;
+	}
+
+	private int[] findParameterIndexes(Method method) {
+		Parameter[] parameters = method.getParameters();
+
+		return IntStream.range(0, parameters.length)
+			.filter(i -> parameterNames.contains(parameters[i].getName()))
+			.toArray();
+	}
+}
@@ -1,12 +1,10 @@
 package com.palpal.dealightbe.global.aop;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
+import java.util.Set;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -15,19 +13,31 @@ import com.palpal.dealightbe.domain.auth.domain.JwtAuthenticationToken;
 import com.palpal.dealightbe.domain.auth.exception.RequiredAuthenticationException;
 import com.palpal.dealightbe.global.error.ErrorCode;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
-@Slf4j
-@RequiredArgsConstructor
+/**
+ * 인증된 요청의 토큰을 @AccessToken 은 accessToken, @RefreshToken 은 refreshToken 파라미터에 넣는다.
+ */
 @Aspect
 @Component
-public class RefreshTokenAop {
+public class PrincipalTokenAop {
+
+	private static final String ACCESS_TOKEN = "accessToken";
+	private static final String REFRESH_TOKEN = "refreshToken";
 
-	private static final String TOKEN = "refreshToken";
+	private final NamedParameterBinder accessTokenBinder = new NamedParameterBinder(Set.of(ACCESS_TOKEN));
+	private final NamedParameterBinder refreshTokenBinder = new NamedParameterBinder(Set.of(REFRESH_TOKEN));
+
+	@Around("@annotation(com.palpal.dealightbe.global.aop.AccessToken)")
+	public Object getAccessToken(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+		return proceedWithToken(proceedingJoinPoint, accessTokenBinder);
+	}
 
 	@Around("@annotation(com.palpal.dealightbe.global.aop.RefreshToken)")
-	public Object getProviderId(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+	public Object getRefreshToken(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+		return proceedWithToken(proceedingJoinPoint, refreshTokenBinder);
+	}
+
+	private Object proceedWithToken(ProceedingJoinPoint proceedingJoinPoint, NamedParameterBinder binder)
+		throws Throwable {
 		JwtAuthenticationToken authentication = (JwtAuthenticationToken)SecurityContextHolder.getContext()
 			.getAuthentication();
 		if (authentication == null) {
@@ -36,27 +46,8 @@ public class RefreshTokenAop {
 		JwtAuthentication principal = (JwtAuthentication)authentication.getPrincipal();
 		String token = principal.getToken();
 
-		Object[] modifiedArgs = modifyArgsWithToken(token, proceedingJoinPoint);
+		Object[] modifiedArgs = binder.bind(proceedingJoinPoint, token);
 
 		return proceedingJoinPoint.proceed(modifiedArgs);
 	}
-
-	private Object[] modifyArgsWithToken(String token, ProceedingJoinPoint proceedingJoinPoint) {
-		Object[] parameters = proceedingJoinPoint.getArgs();
-		MethodSignature signature = (MethodSignature)proceedingJoinPoint.getSignature();
-		Method method = signature.getMethod();
-		Parameter[] methodParameters = method.getParameters();
-
-		for (int i = 0; i < methodParameters.length; i++) {
-			String parameterName = methodParameters[i].getName();
-			if (parameterName.equals(TOKEN)) {
-				if (parameters[i] != null) {
-					break;
-				}
-				parameters[i] = token;
-			}
-		}
-
-		return parameters;
-	}
 }
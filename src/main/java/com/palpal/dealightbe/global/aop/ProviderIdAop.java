@@ -1,13 +1,10 @@
 package com.palpal.dealightbe.global.aop;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.util.Set;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -29,6 +26,8 @@ public class ProviderIdAop {
 
 	private static final String PROVIDER_ID = "providerId";
 
+	private final NamedParameterBinder namedParameterBinder = new NamedParameterBinder(Set.of(PROVIDER_ID));
+
 	@Around("@annotation(ProviderId)")
 	public Object getProviderId(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
 		AbstractAuthenticationToken authentication = (AbstractAuthenticationToken)SecurityContextHolder.getContext()
@@ -41,27 +40,8 @@ public class ProviderIdAop {
 		JwtAuthentication principal = (JwtAuthentication)authentication.getPrincipal();
 		Long providerId = Long.parseLong(principal.getUsername());
 
-		Object[] modifiedArgs = modifyArgsWithProviderId(providerId, proceedingJoinPoint);
+		Object[] modifiedArgs = namedParameterBinder.bind(proceedingJoinPoint, providerId);
 
 		return proceedingJoinPoint.proceed(modifiedArgs);
 	}
-
-	private Object[] modifyArgsWithProviderId(Long providerId, ProceedingJoinPoint proceedingJoinPoint) {
-		Object[] parameters = proceedingJoinPoint.getArgs();
-		MethodSignature signature = (MethodSignature)proceedingJoinPoint.getSignature();
-		Method method = signature.getMethod();
-		Parameter[] methodParameters = method.getParameters();
-
-		for (int i = 0; i < methodParameters.length; i++) {
-			String parameterName = methodParameters[i].getName();
-			if (parameterName.equals(PROVIDER_ID)) {
-				if (parameters[i] != null) {
-					break;
-				}
-				parameters[i] = providerId;
-			}
-		}
-
-		return parameters;
-	}
 }
@@ -13,6 +13,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.palpal.dealightbe.config.BatchConfig;
+import com.palpal.dealightbe.global.lock.DistributedLock;
+import com.palpal.dealightbe.global.lock.LockTokenHolder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,10 +28,13 @@ public class JobScheduler {
 	private final BatchConfig batchConfig;
 
 	@Scheduled(cron = "0 0 2 ? * THU")
+	@DistributedLock(key = "scheduler:notification-job", lockAtLeastFor = 60)
 	public void runJob() {
 
 		Map<String, JobParameter> confMap = new HashMap<>();
 		confMap.put("time", new JobParameter(System.currentTimeMillis()));
+		LockTokenHolder.get()
+			.ifPresent(lockToken -> confMap.put("lockToken", new JobParameter(lockToken)));
 		JobParameters jobParameters = new JobParameters(confMap);
 
 		try {
@@ -0,0 +1,74 @@
+package com.palpal.dealightbe.global.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom filter. mightContain 이 false 면 확실히 없는 키이고, true 면 실제로 있는지 따로 확인해야 한다.
+ * 원소를 지울 수 없으므로 만료된 키를 걸러내려면 새로 만들어 교체한다.
+ * 여러 스레드가 동시에 put, mightContain 을 호출해도 안전하다.
+ */
+public class BloomFilter {
+
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long size = (long)Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+		int words = (int)Math.max(1, (size + Long.SIZE - 1) / Long.SIZE);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * Long.SIZE;
+		this.hashCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * LN2));
+	}
+
+	public void put(String key) {
+		long hash = hash64(key);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long index = bitIndex(hash1 + i * hash2);
+			int word = (int)(index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+			} while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long hash = hash64(key);
+		int hash1 = (int)hash;
+		int hash2 = (int)(hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long index = bitIndex(hash1 + i * hash2);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private long bitIndex(int combinedHash) {
+		return (combinedHash & Integer.MAX_VALUE) % bitSize;
+	}
+
+	// FNV-1a 64bit 를 섞어 두 개의 32bit 해시로 나눠 쓴다.
+	private long hash64(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+}
@@ -0,0 +1,179 @@
+package com.palpal.dealightbe.global.cache;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate 2차 캐시는 인스턴스마다 따로 있으므로, 캐시되는 엔티티나 컬렉션이 바뀌면 커밋 이후 Redis 로 알려 다른 인스턴스의 항목을 지운다.
+ * 자신의 캐시는 Hibernate 가 이미 갱신했으므로 자신이 보낸 메시지는 무시한다.
+ * 메시지는 "인스턴스 id" 한 줄 뒤에 "E|엔티티 이름|id" 또는 "C|컬렉션 role|소유 엔티티 id" 를 한 줄씩 담는다.
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator implements PostUpdateEventListener, PostDeleteEventListener {
+
+	static final String INVALIDATION_CHANNEL = "entity-cache:invalidate";
+	private static final String LINE_DELIMITER = "\n";
+	private static final String FIELD_DELIMITER = "|";
+	private static final String ENTITY = "E";
+	private static final String COLLECTION = "C";
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final SessionFactoryImplementor sessionFactory;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+	}
+
+	@PostConstruct
+	public void initialize() {
+		EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry()
+			.getService(EventListenerRegistry.class);
+		eventListenerRegistry.appendListeners(EventType.POST_UPDATE, this);
+		eventListenerRegistry.appendListeners(EventType.POST_DELETE, this);
+		eventListenerRegistry.appendListeners(EventType.POST_COLLECTION_RECREATE,
+			(PostCollectionRecreateEventListener)this::onCollectionChanged);
+		eventListenerRegistry.appendListeners(EventType.POST_COLLECTION_UPDATE,
+			(PostCollectionUpdateEventListener)this::onCollectionChanged);
+		eventListenerRegistry.appendListeners(EventType.POST_COLLECTION_REMOVE,
+			(PostCollectionRemoveEventListener)this::onCollectionChanged);
+
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> evictLocally(new String(message.getBody(), StandardCharsets.UTF_8)),
+			ChannelTopic.of(INVALIDATION_CHANNEL));
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		onEntityChanged(event.getPersister(), event.getId());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		onEntityChanged(event.getPersister(), event.getId());
+	}
+
+	// 커밋 이후의 전파는 트랜잭션 동기화로 직접 처리하므로 Hibernate 의 커밋 후 처리는 필요 없다.
+	@Override
+	public boolean requiresPostCommitHanding(EntityPersister persister) {
+		return false;
+	}
+
+	private void onEntityChanged(EntityPersister persister, Serializable id) {
+		if (persister.canWriteToCache()) {
+			publishAfterCommit(String.join(FIELD_DELIMITER, ENTITY, persister.getEntityName(), String.valueOf(id)));
+		}
+	}
+
+	private void onCollectionChanged(AbstractCollectionEvent event) {
+		String role = event.getCollection().getRole();
+		Serializable ownerId = event.getAffectedOwnerIdOrNull();
+		if (role == null || ownerId == null || !sessionFactory.getMetamodel().collectionPersister(role).hasCache()) {
+			return;
+		}
+
+		publishAfterCommit(String.join(FIELD_DELIMITER, COLLECTION, role, String.valueOf(ownerId)));
+	}
+
+	// 롤백된 변경을 알리지 않도록 트랜잭션마다 모았다가 커밋 이후 한 번에 보낸다.
+	@SuppressWarnings("unchecked")
+	private void publishAfterCommit(String eviction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(Set.of(eviction));
+			return;
+		}
+
+		Set<String> pending = (Set<String>)TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			Set<String> evictions = new LinkedHashSet<>();
+			TransactionSynchronizationManager.bindResource(this, evictions);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publish(evictions);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheInvalidator.this);
+				}
+			});
+			pending = evictions;
+		}
+		pending.add(eviction);
+	}
+
+	private void publish(Set<String> evictions) {
+		String message = instanceId + LINE_DELIMITER + String.join(LINE_DELIMITER, evictions);
+
+		try {
+			stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+		} catch (RuntimeException e) {
+			log.warn("CACHE:ENTITY:PUBLISH_FAILED : evictions => {}", evictions, e);
+		}
+	}
+
+	void evictLocally(String message) {
+		List<String> lines = List.of(message.split(LINE_DELIMITER));
+		if (lines.isEmpty() || instanceId.equals(lines.get(0))) {
+			return;
+		}
+
+		CacheImplementor cache = sessionFactory.getCache();
+		for (String line : lines.subList(1, lines.size())) {
+			String[] fields = line.split("\\" + FIELD_DELIMITER);
+			if (fields.length != 3) {
+				log.warn("CACHE:ENTITY:INVALID_MESSAGE : {}", line);
+				continue;
+			}
+
+			// 캐시되는 엔티티는 모두 Long id 를 쓴다.
+			Long id;
+			try {
+				id = Long.valueOf(fields[2]);
+			} catch (NumberFormatException e) {
+				log.warn("CACHE:ENTITY:INVALID_ID : {}", line);
+				continue;
+			}
+			if (ENTITY.equals(fields[0])) {
+				cache.evictEntityData(fields[1], id);
+			} else if (COLLECTION.equals(fields[0])) {
+				cache.evictCollectionData(fields[1], id);
+			}
+		}
+	}
+}
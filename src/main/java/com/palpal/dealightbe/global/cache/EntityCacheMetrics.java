@@ -0,0 +1,83 @@
+package com.palpal.dealightbe.global.cache;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 2차 캐시 영역별 적중/실패/저장 횟수와 적중률을 region 태그로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheMetrics {
+
+	private static final String REQUEST_METRIC = "entity.cache.requests";
+	private static final String PUT_METRIC = "entity.cache.puts";
+	private static final String HIT_RATIO_METRIC = "entity.cache.hit.ratio";
+	private static final String REGION_TAG = "region";
+	private static final String RESULT_TAG = "result";
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	public void registerMetrics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		for (String region : EntityCacheRegion.ALL) {
+			FunctionCounter.builder(REQUEST_METRIC, statistics, count(region, CacheRegionStatistics::getHitCount))
+				.tags(REGION_TAG, region, RESULT_TAG, "hit")
+				.register(meterRegistry);
+			FunctionCounter.builder(REQUEST_METRIC, statistics, count(region, CacheRegionStatistics::getMissCount))
+				.tags(REGION_TAG, region, RESULT_TAG, "miss")
+				.register(meterRegistry);
+			FunctionCounter.builder(PUT_METRIC, statistics, count(region, CacheRegionStatistics::getPutCount))
+				.tag(REGION_TAG, region)
+				.register(meterRegistry);
+			Gauge.builder(HIT_RATIO_METRIC, statistics, target -> hitRatio(target, region))
+				.tag(REGION_TAG, region)
+				.register(meterRegistry);
+		}
+	}
+
+	static double hitRatio(Statistics statistics, String region) {
+		CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+		if (regionStatistics == null) {
+			return 0;
+		}
+
+		long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+
+		return requests == 0 ? 0 : (double)regionStatistics.getHitCount() / requests;
+	}
+
+	private static ToDoubleFunction<Statistics> count(String region,
+		ToLongFunction<CacheRegionStatistics> counter) {
+		return statistics -> {
+			CacheRegionStatistics regionStatistics = regionStatistics(statistics, region);
+
+			return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+		};
+	}
+
+	// 2차 캐시를 끄면 영역이 만들어지지 않으므로 통계가 없다.
+	private static CacheRegionStatistics regionStatistics(Statistics statistics, String region) {
+		try {
+			return statistics.getDomainDataRegionStatistics(region);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.palpal.dealightbe.global.cache;
+
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 2차 캐시 영역 이름. 엔티티의 @Cache, 캐시 생성, 적중률 지표가 같은 이름을 쓴다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EntityCacheRegion {
+
+	public static final String STORE = "store";
+	public static final String STORE_DAY_OFFS = "store-day-offs";
+	public static final String ADDRESS = "address";
+	public static final String ROLE = "role";
+
+	public static final List<String> ALL = List.of(STORE, STORE_DAY_OFFS, ADDRESS, ROLE);
+}
@@ -0,0 +1,14 @@
+package com.palpal.dealightbe.global.elasticsearch;
+
+public record BulkIndexFailure(
+	String index,
+	String id,
+	int status,
+	String message
+) {
+
+	// 408, 429, 5xx 는 다시 보내면 성공할 수 있지만, 그 밖의 4xx(매핑 오류 등)는 같은 문서로는 계속 실패한다.
+	public boolean isRetryable() {
+		return status == 408 || status == 429 || status >= 500;
+	}
+}
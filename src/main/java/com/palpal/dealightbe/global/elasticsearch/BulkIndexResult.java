@@ -0,0 +1,52 @@
+package com.palpal.dealightbe.global.elasticsearch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record BulkIndexResult(
+	int total,
+	List<BulkIndexFailure> failures,
+	Duration elapsed
+) {
+
+	public static BulkIndexResult empty() {
+		return new BulkIndexResult(0, List.of(), Duration.ZERO);
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	public int succeeded() {
+		return total - failures.size();
+	}
+
+	public Set<String> failedIds() {
+		return failures.stream()
+			.map(BulkIndexFailure::id)
+			.collect(Collectors.toSet());
+	}
+
+	public Set<String> retryableFailedIds() {
+		return failures.stream()
+			.filter(BulkIndexFailure::isRetryable)
+			.map(BulkIndexFailure::id)
+			.collect(Collectors.toSet());
+	}
+
+	public List<BulkIndexFailure> permanentFailures() {
+		return failures.stream()
+			.filter(failure -> !failure.isRetryable())
+			.toList();
+	}
+
+	public double docsPerSecond() {
+		if (elapsed.isZero()) {
+			return 0;
+		}
+
+		return succeeded() * 1000.0 / Math.max(elapsed.toMillis(), 1);
+	}
+}
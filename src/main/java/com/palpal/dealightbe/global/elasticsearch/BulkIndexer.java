@@ -0,0 +1,207 @@
+package com.palpal.dealightbe.global.elasticsearch;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.rest.RestStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청을 바이트 크기 기준으로 묶어 _bulk API 로 전송한다.
+ * 429(TOO_MANY_REQUESTS) 로 거절된 요청은 지수 백오프로 재시도하고, 항목별 실패는 결과로 돌려준다.
+ * 제한 시간 안에 응답을 받지 못한 요청도 색인되었다고 볼 수 없으므로 408 실패로 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.backend", havingValue = "elasticsearch", matchIfMissing = true)
+public class BulkIndexer {
+
+	private static final String INDEX_TAG = "index";
+	private static final String OUTCOME_TAG = "outcome";
+
+	private final RestHighLevelClient elasticsearchClient;
+	private final ElasticsearchOperations operations;
+	private final ElasticSearchProperty elasticSearchProperty;
+	private final MeterRegistry meterRegistry;
+
+	public <T> BulkIndexResult upsertAll(List<T> documents, Function<T, String> idMapper, IndexCoordinates index) {
+		List<UpdateRequest> requests = documents.stream()
+			.map(document -> new UpdateRequest(index.getIndexName(), idMapper.apply(document))
+				.doc(toSource(document))
+				.docAsUpsert(true))
+			.toList();
+
+		return execute(requests, index.getIndexName());
+	}
+
+	public BulkIndexResult partialUpdateAll(Map<String, Map<String, Object>> partialDocumentsById,
+		IndexCoordinates index) {
+		List<UpdateRequest> requests = partialDocumentsById.entrySet().stream()
+			.map(entry -> new UpdateRequest(index.getIndexName(), entry.getKey()).doc(entry.getValue()))
+			.toList();
+
+		return execute(requests, index.getIndexName());
+	}
+
+	public BulkIndexResult execute(List<? extends DocWriteRequest<?>> requests, String metricIndexName) {
+		if (requests.isEmpty()) {
+			return BulkIndexResult.empty();
+		}
+
+		Queue<BulkIndexFailure> failures = new ConcurrentLinkedQueue<>();
+		Set<DocWriteRequest<?>> acknowledged = Collections.synchronizedSet(
+			Collections.newSetFromMap(new IdentityHashMap<>()));
+		long startedAt = System.nanoTime();
+
+		BulkProcessor bulkProcessor = BulkProcessor.builder(
+				(request, listener) -> elasticsearchClient.bulkAsync(request, RequestOptions.DEFAULT, listener),
+				new FailureCollectingListener(failures, acknowledged), "bulk-indexer-" + metricIndexName)
+			.setBulkActions(-1)
+			.setBulkSize(new ByteSizeValue(elasticSearchProperty.getBulkSizeMb(), ByteSizeUnit.MB))
+			.setConcurrentRequests(elasticSearchProperty.getBulkConcurrentRequests())
+			.setBackoffPolicy(BackoffPolicy.exponentialBackoff(
+				TimeValue.timeValueMillis(elasticSearchProperty.getBulkInitialBackoffMillis()),
+				elasticSearchProperty.getBulkMaxRetries()))
+			.build();
+
+		requests.forEach(bulkProcessor::add);
+
+		try {
+			if (!bulkProcessor.awaitClose(elasticSearchProperty.getBulkCloseTimeoutSeconds(), TimeUnit.SECONDS)) {
+				log.error("BULK:TIMEOUT : index => {}, requests => {}", metricIndexName, requests.size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("BULK:INTERRUPTED : index => {}", metricIndexName);
+		}
+		addUnacknowledged(requests, acknowledged, failures);
+
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+		BulkIndexResult result = new BulkIndexResult(requests.size(), List.copyOf(failures), elapsed);
+		record(metricIndexName, result);
+
+		return result;
+	}
+
+	private void addUnacknowledged(List<? extends DocWriteRequest<?>> requests, Set<DocWriteRequest<?>> acknowledged,
+		Queue<BulkIndexFailure> failures) {
+		synchronized (acknowledged) {
+			requests.stream()
+				.filter(request -> !acknowledged.contains(request))
+				.forEach(request -> failures.add(new BulkIndexFailure(request.index(), request.id(),
+					RestStatus.REQUEST_TIMEOUT.getStatus(), "bulk response not received")));
+			// 늦게 도착한 응답이 같은 요청을 다시 실패로 더하지 않게 한다.
+			acknowledged.addAll(requests);
+		}
+	}
+
+	private Map<String, Object> toSource(Object document) {
+		return operations.getElasticsearchConverter().mapObject(document);
+	}
+
+	private void record(String indexName, BulkIndexResult result) {
+		Timer.builder("search.bulk.duration")
+			.tag(INDEX_TAG, indexName)
+			.register(meterRegistry)
+			.record(result.elapsed());
+		Counter.builder("search.bulk.docs")
+			.tag(INDEX_TAG, indexName)
+			.tag(OUTCOME_TAG, "success")
+			.register(meterRegistry)
+			.increment(result.succeeded());
+		Counter.builder("search.bulk.docs")
+			.tag(INDEX_TAG, indexName)
+			.tag(OUTCOME_TAG, "failure")
+			.register(meterRegistry)
+			.increment(result.failures().size());
+
+		log.info("BULK:DONE : index => {}, total => {}, failed => {}, elapsed => {}ms, docs/sec => {}",
+			indexName, result.total(), result.failures().size(), result.elapsed().toMillis(),
+			String.format("%.1f", result.docsPerSecond()));
+		result.failures().forEach(failure ->
+			log.warn("BULK:ITEM_FAILED : index => {}, id => {}, status => {}, message => {}",
+				failure.index(), failure.id(), failure.status(), failure.message()));
+	}
+
+	@RequiredArgsConstructor
+	private static class FailureCollectingListener implements BulkProcessor.Listener {
+
+		private final Queue<BulkIndexFailure> failures;
+		private final Set<DocWriteRequest<?>> acknowledged;
+
+		@Override
+		public void beforeBulk(long executionId, BulkRequest request) {
+			log.debug("BULK:SEND : executionId => {}, actions => {}, bytes => {}", executionId,
+				request.numberOfActions(), request.estimatedSizeInBytes());
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+			if (!acknowledge(request) || !response.hasFailures()) {
+				return;
+			}
+
+			for (BulkItemResponse item : response.getItems()) {
+				if (item.isFailed()) {
+					failures.add(new BulkIndexFailure(item.getIndex(), item.getId(), item.status().getStatus(),
+						item.getFailureMessage()));
+				}
+			}
+		}
+
+		@Override
+		public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+			log.error("BULK:REQUEST_FAILED : executionId => {}", executionId, failure);
+			if (!acknowledge(request)) {
+				return;
+			}
+
+			request.requests().forEach(action -> failures.add(
+				new BulkIndexFailure(action.index(), action.id(), RestStatus.INTERNAL_SERVER_ERROR.getStatus(),
+					failure.getMessage())));
+		}
+
+		// 이미 응답 없음으로 처리된 요청이면 false 를 돌려준다.
+		private boolean acknowledge(BulkRequest request) {
+			synchronized (acknowledged) {
+				if (request.requests().stream().anyMatch(acknowledged::contains)) {
+					return false;
+				}
+				acknowledged.addAll(request.requests());
+				return true;
+			}
+		}
+	}
+}
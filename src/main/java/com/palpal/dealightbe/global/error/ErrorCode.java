@@ -41,6 +41,7 @@ public enum ErrorCode {
 	INVALID_ITEM_QUANTITY("I004", "상품 재고가 부족합니다"),
 	STORE_HAS_NO_ITEM("I005", "요청하신 상품은 해당 업체에 등록되지 않은 상품입니다."),
 	UPDATABLE_ITEM_NOT_EXIST("I006","업데이트 가능한 상품이 없습니다."),
+	INVALID_ITEM_CURSOR("I007", "유효하지 않은 상품 목록 커서입니다."),
 
 	//파일
 	NOT_FOUND_IMAGE("F001", "존재하지 않는 이미지 입니다."),
@@ -84,6 +85,7 @@ public enum ErrorCode {
 	UNABLE_TO_GET_USER_INFO_FROM_RESOURCE_SERVER("AUTH011", "OAuth 서버로부터 유저 정보를 가져올 수 없습니다."),
 	NEED_NOT_CHANGE_ROLE("AUTH012", "사용자는 이미 ROLE_STORE 입니다."),
 	ROLE_CLAIM_IS_EMPTY("AUTH013", "토큰 생성시 Role 정보가 없습니다."),
+	REVOKED_TOKEN("AUTH014", "로그아웃 등으로 폐기된 토큰입니다."),
 
 	//리뷰
 	NOT_FOUND_REVIEW("R001", "존재하지 않는 리뷰입니다."),
@@ -96,6 +98,13 @@ public enum ErrorCode {
 	NOT_FOUND_NOTIFICATION("N001", "존재하지 않는 알림입니다."),
 	SSE_STREAM_ERROR("N002", "SSE 스트림 연결 중 오류가 발생했습니다."),
 	INVALID_REDIS_MESSAGE_FORMAT("N003", "Redis 메시지 형식이 유효하지 않습니다."),
+
+	//검색
+	SEARCH_REINDEX_ALREADY_RUNNING("SE001", "이미 검색 색인을 재구축하고 있습니다."),
+	SEARCH_REINDEX_FAILED("SE002", "검색 색인 재구축에 실패했습니다."),
+	SEARCH_REINDEX_COUNT_MISMATCH("SE003", "재구축한 색인의 문서 수가 원본과 일치하지 않습니다."),
+	SEARCH_INDEX_OPERATION_FAILED("SE004", "검색 색인 작업 중 오류가 발생했습니다."),
+	INVALID_SEARCH_CURSOR("SE005", "유효하지 않은 검색 커서입니다."),
 	;
 
 	private final String code;
@@ -0,0 +1,15 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+
+/**
+ * JPQL/QueryDSL 템플릿에서 쓸 수 있도록 전문 검색 함수를 Hibernate 에 등록한다.
+ */
+public class FullTextFunctionContributor implements MetadataBuilderContributor {
+
+	@Override
+	public void contribute(MetadataBuilder metadataBuilder) {
+		metadataBuilder.applySqlFunction(MatchAgainstFunction.NAME, new MatchAgainstFunction());
+	}
+}
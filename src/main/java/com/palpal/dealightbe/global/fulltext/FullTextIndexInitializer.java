@@ -0,0 +1,61 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.palpal.dealightbe.global.lock.DistributedLock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JPA 스키마 생성으로는 FULLTEXT 인덱스를 만들 수 없으므로, MySQL 이면 시작 시 업체명/상품명 ngram FULLTEXT 인덱스가 없을 때만 만든다.
+ * 한글은 띄어쓰기 단위로 나누면 부분 일치가 되지 않아 ngram 파서(기본 ngram_token_size=2)를 쓴다.
+ * 운영 DB 에서는 큰 테이블의 ALTER 가 배포와 겹치지 않도록 resources/db/fulltext-indexes.sql 을 직접 실행하고,
+ * 로컬/개발 DB 처럼 시작 시 만들어도 되는 곳에서만 fulltext.create-indexes-on-startup=true 로 켠다.
+ * 인덱스가 만들어지기 전까지 키워드 검색은 FullTextIndexStatus 에 따라 LIKE 로 찾는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fulltext.create-indexes-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+public class FullTextIndexInitializer {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FullTextIndexStatus fullTextIndexStatus;
+
+	// 여러 인스턴스가 동시에 떠도 한 인스턴스만 ALTER 를 실행한다. 락은 ALTER 가 끝날 때까지 갱신된다.
+	@EventListener(ApplicationReadyEvent.class)
+	@DistributedLock(key = "scheduler:fulltext-index")
+	public void createIndexes() {
+		try {
+			if (!fullTextIndexStatus.isMySql()) {
+				return;
+			}
+
+			FullTextIndexStatus.INDEXES.forEach(this::createIfAbsent);
+			fullTextIndexStatus.refresh();
+		} catch (DataAccessException e) {
+			log.error("FULLTEXT:INDEX:INITIALIZE_FAILED", e);
+		}
+	}
+
+	// 락을 잡기 전에 다른 방법으로 이미 만들어진 경우에는 실패를 남기고 넘어간다.
+	private void createIfAbsent(FullTextIndexStatus.FullTextIndex index) {
+		if (fullTextIndexStatus.exists(index)) {
+			return;
+		}
+
+		try {
+			jdbcTemplate.execute("ALTER TABLE " + index.table() + " ADD FULLTEXT INDEX " + index.name()
+				+ " (" + index.column() + ") WITH PARSER ngram");
+			log.info("FULLTEXT:INDEX:CREATED : index => {}", index.name());
+		} catch (DataAccessException e) {
+			log.warn("FULLTEXT:INDEX:CREATE_FAILED : index => {}", index.name(), e);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL 은 FULLTEXT 인덱스가 없는 컬럼에 MATCH ... AGAINST 를 쓰면 쿼리가 실패하므로,
+ * 업체명/상품명 FULLTEXT 인덱스가 모두 있는지 확인해 두고 없으면 키워드 검색이 LIKE 로 찾게 한다.
+ * 운영 스크립트로 인덱스를 나중에 만든 경우에도 재시작 없이 반영되도록 주기적으로 다시 확인한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FullTextIndexStatus {
+
+	static final List<FullTextIndex> INDEXES = List.of(
+		new FullTextIndex("stores", "index_stores_name_fulltext", "name"),
+		new FullTextIndex("items", "index_items_name_fulltext", "name"));
+
+	private static final String MYSQL = "MySQL";
+	private static final String INDEX_EXISTS_QUERY = """
+		SELECT COUNT(*) FROM information_schema.statistics
+		WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile boolean available;
+
+	// MySQL 이 아니면 match_against 가 LOCATE 로 바뀌므로 인덱스 없이도 쓸 수 있다.
+	@PostConstruct
+	@Scheduled(fixedDelayString = "${fulltext.index-check-interval-millis:300000}",
+		initialDelayString = "${fulltext.index-check-interval-millis:300000}")
+	public void refresh() {
+		boolean refreshed;
+		try {
+			refreshed = !isMySql() || INDEXES.stream().allMatch(this::exists);
+		} catch (DataAccessException e) {
+			log.warn("FULLTEXT:INDEX:CHECK_FAILED", e);
+			return;
+		}
+
+		if (refreshed != available) {
+			log.info("FULLTEXT:INDEX:AVAILABILITY_CHANGED : available => {}", refreshed);
+		}
+		available = refreshed;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	boolean exists(FullTextIndex index) {
+		Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_QUERY, Integer.class, index.table(), index.name());
+
+		return count != null && count > 0;
+	}
+
+	boolean isMySql() {
+		String databaseProduct = jdbcTemplate.execute(
+			(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+
+		return MYSQL.equalsIgnoreCase(databaseProduct);
+	}
+
+	record FullTextIndex(
+		String table,
+		String name,
+		String column
+	) {
+	}
+}
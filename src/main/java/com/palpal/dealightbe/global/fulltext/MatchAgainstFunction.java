@@ -0,0 +1,51 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import java.util.List;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+/**
+ * match_against(컬럼, 검색어) 를 MySQL 의 MATCH(컬럼) AGAINST(검색어 IN BOOLEAN MODE) 로 바꾼다. 결과는 관련도 점수이며 일치하면 0 보다 크다.
+ * MySQL 이 아닌 DB(개발용 H2 등)에서는 FULLTEXT 인덱스가 없으므로 큰따옴표를 뗀 검색어의 부분 문자열 위치(LOCATE)로 대신한다.
+ */
+public class MatchAgainstFunction implements SQLFunction {
+
+	public static final String NAME = "match_against";
+
+	@Override
+	public boolean hasArguments() {
+		return true;
+	}
+
+	@Override
+	public boolean hasParenthesesIfNoArguments() {
+		return true;
+	}
+
+	@Override
+	public Type getReturnType(Type firstArgumentType, Mapping mapping) throws QueryException {
+		return StandardBasicTypes.DOUBLE;
+	}
+
+	@Override
+	public String render(Type firstArgumentType, List arguments, SessionFactoryImplementor factory)
+		throws QueryException {
+		if (arguments.size() != 2) {
+			throw new QueryException(NAME + " requires (column, keyword) arguments");
+		}
+
+		Object column = arguments.get(0);
+		Object keyword = arguments.get(1);
+		if (factory.getJdbcServices().getDialect() instanceof MySQLDialect) {
+			return "MATCH(" + column + ") AGAINST(" + keyword + " IN BOOLEAN MODE)";
+		}
+
+		return "LOCATE(REPLACE(" + keyword + ", '\"', ''), " + column + ")";
+	}
+}
@@ -0,0 +1,25 @@
+package com.palpal.dealightbe.global.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스(blue/green)에서 동시에 실행되면 안 되는 작업에 사용한다.
+ * 락을 얻지 못한 인스턴스는 작업을 건너뛴다.
+ * lockAtLeastFor 를 주면 작업이 빨리 끝나도 그 시간까지 락을 유지해, 시계가 조금 늦은 인스턴스가 같은 cron 을 다시 실행하지 않게 한다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DistributedLock {
+
+	String key();
+
+	long leaseTime() default 30;
+
+	long lockAtLeastFor() default 0;
+
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
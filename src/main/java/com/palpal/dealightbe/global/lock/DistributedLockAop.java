@@ -0,0 +1,98 @@
+package com.palpal.dealightbe.global.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트랜잭션보다 먼저 락을 잡고 커밋 이후에 해제하도록 가장 바깥에서 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class DistributedLockAop {
+
+	private static final String LOCK_TAG = "lock";
+
+	private final RedisLockManager redisLockManager;
+	private final MeterRegistry meterRegistry;
+
+	@Around("@annotation(distributedLock)")
+	public Object lock(ProceedingJoinPoint proceedingJoinPoint, DistributedLock distributedLock) throws Throwable {
+		String key = distributedLock.key();
+		Duration leaseTime = Duration.of(distributedLock.leaseTime(), distributedLock.timeUnit().toChronoUnit());
+		Duration lockAtLeastFor = Duration.of(distributedLock.lockAtLeastFor(),
+			distributedLock.timeUnit().toChronoUnit());
+
+		long waitStartedAt = System.nanoTime();
+		Optional<LockHandle> lockHandle = tryLock(key, leaseTime);
+		timer("scheduler.lock.wait", key).record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+
+		if (lockHandle.isEmpty()) {
+			log.info("LOCK:SKIP:HELD_BY_OTHER_INSTANCE : {}", key);
+			counter("scheduler.lock.skipped", key).increment();
+			return null;
+		}
+
+		LockHandle handle = lockHandle.get();
+		counter("scheduler.lock.acquired", key).increment();
+		LockTokenHolder.set(handle.getToken());
+		try {
+			return proceedingJoinPoint.proceed();
+		} finally {
+			LockTokenHolder.clear();
+			timer("scheduler.lock.hold", key).record(System.nanoTime() - handle.getAcquiredAt(), TimeUnit.NANOSECONDS);
+			if (handle.isLost()) {
+				counter("scheduler.lock.lost", key).increment();
+			}
+			release(handle, lockAtLeastFor);
+		}
+	}
+
+	private void release(LockHandle handle, Duration lockAtLeastFor) {
+		Duration remaining = lockAtLeastFor.minusNanos(System.nanoTime() - handle.getAcquiredAt());
+		if (remaining.isNegative() || remaining.isZero()) {
+			redisLockManager.unlock(handle);
+			return;
+		}
+
+		redisLockManager.unlockAfter(handle, remaining);
+	}
+
+	private Optional<LockHandle> tryLock(String key, Duration leaseTime) {
+		try {
+			return redisLockManager.tryLock(key, leaseTime);
+		} catch (DataAccessException e) {
+			log.error("LOCK:ACQUIRE:FAILED : {}", key, e);
+			return Optional.empty();
+		}
+	}
+
+	private Timer timer(String name, String key) {
+		return Timer.builder(name)
+			.tag(LOCK_TAG, key)
+			.register(meterRegistry);
+	}
+
+	private Counter counter(String name, String key) {
+		return Counter.builder(name)
+			.tag(LOCK_TAG, key)
+			.register(meterRegistry);
+	}
+}
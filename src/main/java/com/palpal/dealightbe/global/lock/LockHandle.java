@@ -0,0 +1,37 @@
+package com.palpal.dealightbe.global.lock;
+
+import java.util.concurrent.ScheduledFuture;
+
+import lombok.Getter;
+
+@Getter
+public class LockHandle {
+
+	private final String key;
+	private final String value;
+	private final long token;
+	private final long acquiredAt;
+	private volatile boolean lost;
+	private ScheduledFuture<?> renewal;
+
+	LockHandle(String key, String value, long token) {
+		this.key = key;
+		this.value = value;
+		this.token = token;
+		this.acquiredAt = System.nanoTime();
+	}
+
+	void registerRenewal(ScheduledFuture<?> renewal) {
+		this.renewal = renewal;
+	}
+
+	void cancelRenewal() {
+		if (renewal != null) {
+			renewal.cancel(false);
+		}
+	}
+
+	void markAsLost() {
+		this.lost = true;
+	}
+}
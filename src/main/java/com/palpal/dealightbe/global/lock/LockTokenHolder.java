@@ -0,0 +1,28 @@
+package com.palpal.dealightbe.global.lock;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드가 보유한 분산 락의 획득 번호(lock token)를 보관한다.
+ * 락을 얻을 때마다 1씩 늘어나는 값이라 실행을 구분하거나 로그를 맞춰 볼 때 쓴다.
+ * 쓰기 대상이 이 값을 검사하지 않으므로 락을 잃은 인스턴스의 늦은 쓰기를 막아 주지는 않는다.
+ */
+public final class LockTokenHolder {
+
+	private static final ThreadLocal<Long> LOCK_TOKEN = new ThreadLocal<>();
+
+	private LockTokenHolder() {
+	}
+
+	public static Optional<Long> get() {
+		return Optional.ofNullable(LOCK_TOKEN.get());
+	}
+
+	static void set(long token) {
+		LOCK_TOKEN.set(token);
+	}
+
+	static void clear() {
+		LOCK_TOKEN.remove();
+	}
+}
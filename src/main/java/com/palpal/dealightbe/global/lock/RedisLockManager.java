@@ -0,0 +1,127 @@
+package com.palpal.dealightbe.global.lock;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class RedisLockManager {
+
+	private static final String LOCK_KEY_PREFIX = "lock:";
+	private static final String TOKEN_KEY_PREFIX = "lock:token:";
+	private static final int RENEWAL_DIVISOR = 3;
+
+	// 락을 잡은 경우에만 번호를 올려, 실패한 시도가 번호를 소모하지 않게 한다. 0 이면 다른 인스턴스가 보유 중이다.
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then "
+			+ "local token = redis.call('incr', KEYS[2]) "
+			+ "redis.call('set', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) "
+			+ "return token "
+			+ "else return 0 end",
+		Long.class);
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String instanceId;
+	private final ScheduledExecutorService renewalExecutor;
+
+	public RedisLockManager(StringRedisTemplate stringRedisTemplate) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.instanceId = resolveInstanceId();
+		this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "lock-renewal");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public Optional<LockHandle> tryLock(String name, Duration leaseTime) {
+		String lockKey = LOCK_KEY_PREFIX + name;
+		Long token = stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(lockKey, TOKEN_KEY_PREFIX + name),
+			instanceId, String.valueOf(leaseTime.toMillis()));
+		if (token == null || token == 0) {
+			return Optional.empty();
+		}
+
+		LockHandle lockHandle = new LockHandle(lockKey, instanceId + ":" + token, token);
+		long renewalPeriod = Math.max(leaseTime.toMillis() / RENEWAL_DIVISOR, 1);
+		lockHandle.registerRenewal(renewalExecutor.scheduleAtFixedRate(
+			() -> renew(lockHandle, leaseTime), renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS));
+
+		return Optional.of(lockHandle);
+	}
+
+	public void unlock(LockHandle lockHandle) {
+		lockHandle.cancelRenewal();
+
+		Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(lockHandle.getKey()),
+			lockHandle.getValue());
+		if (released == null || released == 0) {
+			log.warn("LOCK:RELEASE:ALREADY_EXPIRED : key => {}, token => {}", lockHandle.getKey(),
+				lockHandle.getToken());
+		}
+	}
+
+	// 갱신을 멈추고 남은 시간만 만료를 걸어 두어, 그 시간이 지나야 다른 인스턴스가 락을 얻을 수 있다.
+	public void unlockAfter(LockHandle lockHandle, Duration remaining) {
+		lockHandle.cancelRenewal();
+
+		Long held = stringRedisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(lockHandle.getKey()),
+			lockHandle.getValue(), String.valueOf(Math.max(remaining.toMillis(), 1)));
+		if (held == null || held == 0) {
+			log.warn("LOCK:RELEASE:ALREADY_EXPIRED : key => {}, token => {}", lockHandle.getKey(),
+				lockHandle.getToken());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		renewalExecutor.shutdownNow();
+	}
+
+	private void renew(LockHandle lockHandle, Duration leaseTime) {
+		try {
+			Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(lockHandle.getKey()),
+				lockHandle.getValue(), String.valueOf(leaseTime.toMillis()));
+			if (renewed == null || renewed == 0) {
+				log.warn("LOCK:RENEW:LOST : key => {}, token => {}", lockHandle.getKey(),
+					lockHandle.getToken());
+				lockHandle.markAsLost();
+				lockHandle.cancelRenewal();
+			}
+		} catch (RuntimeException e) {
+			log.error("LOCK:RENEW:FAILED : key => {}", lockHandle.getKey(), e);
+		}
+	}
+
+	private String resolveInstanceId() {
+		String uuid = UUID.randomUUID().toString();
+		try {
+			return InetAddress.getLocalHost().getHostName() + ":" + uuid;
+		} catch (UnknownHostException e) {
+			return uuid;
+		}
+	}
+}
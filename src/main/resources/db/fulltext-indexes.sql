@@ -0,0 +1,23 @@
+-- 업체명/상품명 키워드 검색(StoreRepositoryImpl 의 match_against)에 쓰는 ngram FULLTEXT 인덱스.
+-- 운영 DB 에서는 배포와 별도로 트래픽이 적은 시간에 한 번 실행한다. 이미 있는 인덱스는 건너뛴다.
+-- 한글 부분 일치를 위해 ngram 파서(기본 ngram_token_size=2)를 쓴다.
+
+SET @create_stores_index = (
+    SELECT IF(COUNT(*) = 0,
+              'ALTER TABLE stores ADD FULLTEXT INDEX index_stores_name_fulltext (name) WITH PARSER ngram',
+              'SELECT 1')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'stores' AND index_name = 'index_stores_name_fulltext');
+PREPARE statement FROM @create_stores_index;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @create_items_index = (
+    SELECT IF(COUNT(*) = 0,
+              'ALTER TABLE items ADD FULLTEXT INDEX index_items_name_fulltext (name) WITH PARSER ngram',
+              'SELECT 1')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'items' AND index_name = 'index_items_name_fulltext');
+PREPARE statement FROM @create_items_index;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.doNothing;
 import static org.mockito.BDDMockito.doThrow;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.when;
@@ -43,7 +45,9 @@ import com.palpal.dealightbe.domain.auth.application.dto.response.MemberAuthRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthLoginRes;
 import com.palpal.dealightbe.domain.auth.application.dto.response.OAuthUserInfoRes;
 import com.palpal.dealightbe.domain.auth.domain.Jwt;
+import com.palpal.dealightbe.domain.auth.domain.VerifiedJwt;
 import com.palpal.dealightbe.domain.image.ImageService;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.member.domain.MemberRole;
@@ -51,6 +55,7 @@ import com.palpal.dealightbe.domain.member.domain.MemberRoleRepository;
 import com.palpal.dealightbe.domain.member.domain.Role;
 import com.palpal.dealightbe.domain.member.domain.RoleRepository;
 import com.palpal.dealightbe.domain.member.domain.RoleType;
+import com.palpal.dealightbe.domain.notification.application.NotificationService;
 import com.palpal.dealightbe.domain.store.domain.StoreRepository;
 import com.palpal.dealightbe.global.error.exception.BusinessException;
 import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
@@ -70,6 +75,14 @@ class AuthServiceTest {
 	private StoreRepository storeRepository;
 	@Mock
 	private Jwt jwt;
+	@Mock
+	private MemberContext memberContext;
+	@Mock
+	private NotificationService notificationService;
+	@Mock
+	private TokenRevocationService tokenRevocationService;
+	@Mock
+	private VerifiedTokenCache verifiedTokenCache;
 
 	@InjectMocks
 	private AuthService authService;
@@ -387,6 +400,75 @@ class AuthServiceTest {
 			.findMemberByProviderId(providerId);
 	}
 
+	@DisplayName("로그아웃하면 요청에 쓴 Access Token 을 만료 시각까지 폐기하고 캐시에서 지운다")
+	@Test
+	void logoutRevokesAccessToken() {
+		// given
+		Long providerId = member.getProviderId();
+		String accessToken = "MOCK_ACCESS_TOKEN";
+		Date expiration = new Date(System.currentTimeMillis() + 60_000);
+		given(jwt.verify(accessToken))
+			.willReturn(new VerifiedJwt("token-id", String.valueOf(providerId), "ROLE_MEMBER", expiration));
+
+		// when
+		authService.logout(providerId, accessToken, null);
+
+		// then
+		verify(notificationService, times(1))
+			.deleteAll(providerId);
+		verify(tokenRevocationService, times(1))
+			.revoke("token-id", expiration);
+		verify(verifiedTokenCache, times(1))
+			.evict(accessToken);
+	}
+
+	@DisplayName("로그아웃에 Refresh Token 을 함께 보내면 Refresh Token 도 만료 시각까지 폐기한다")
+	@Test
+	void logoutRevokesRefreshToken() {
+		// given
+		Long providerId = member.getProviderId();
+		String accessToken = "MOCK_ACCESS_TOKEN";
+		String refreshToken = "MOCK_REFRESH_TOKEN";
+		Date accessTokenExpiration = new Date(System.currentTimeMillis() + 60_000);
+		Date refreshTokenExpiration = new Date(System.currentTimeMillis() + 600_000);
+		given(jwt.verify(accessToken))
+			.willReturn(new VerifiedJwt("access-token-id", String.valueOf(providerId), "ROLE_MEMBER",
+				accessTokenExpiration));
+		given(jwt.verify(refreshToken))
+			.willReturn(new VerifiedJwt("refresh-token-id", String.valueOf(providerId), "ROLE_MEMBER",
+				refreshTokenExpiration));
+
+		// when
+		authService.logout(providerId, accessToken, refreshToken);
+
+		// then
+		verify(tokenRevocationService, times(1))
+			.revoke("access-token-id", accessTokenExpiration);
+		verify(tokenRevocationService, times(1))
+			.revoke("refresh-token-id", refreshTokenExpiration);
+	}
+
+	@DisplayName("다른 사용자의 Refresh Token 으로는 로그아웃할 수 없다")
+	@Test
+	void failToLogoutWithOtherMembersRefreshToken() {
+		// given
+		Long providerId = member.getProviderId();
+		String accessToken = "MOCK_ACCESS_TOKEN";
+		String refreshToken = "OTHER_REFRESH_TOKEN";
+		Date expiration = new Date(System.currentTimeMillis() + 60_000);
+		given(jwt.verify(accessToken))
+			.willReturn(new VerifiedJwt("access-token-id", String.valueOf(providerId), "ROLE_MEMBER", expiration));
+		given(jwt.verify(refreshToken))
+			.willReturn(new VerifiedJwt("refresh-token-id", String.valueOf(providerId + 1), "ROLE_MEMBER",
+				expiration));
+
+		// when -> then
+		assertThatThrownBy(() -> authService.logout(providerId, accessToken, refreshToken))
+			.isInstanceOf(BusinessException.class);
+		verify(tokenRevocationService, never())
+			.revoke(eq("refresh-token-id"), any(Date.class));
+	}
+
 	@DisplayName("닉네임 중복 검사 실패")
 	@Test
 	void successNickNameDuplicateCheck() {
@@ -0,0 +1,146 @@
+package com.palpal.dealightbe.domain.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.palpal.dealightbe.config.TokenRevocationProperty;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private TokenRevocationService tokenRevocationService;
+
+	@BeforeEach
+	void setUp() {
+		tokenRevocationService = new TokenRevocationService(stringRedisTemplate, redisMessageListenerContainer,
+			new TokenRevocationProperty(), new SimpleMeterRegistry());
+	}
+
+	@DisplayName("Bloom filter 에 없는 토큰은 Redis 를 조회하지 않고 유효하다고 본다")
+	@Test
+	void notRevokedWithoutRedisLookup() {
+		// when
+		boolean revoked = tokenRevocationService.isRevoked("token-id");
+
+		// then
+		assertThat(revoked).isFalse();
+		verify(stringRedisTemplate, never()).hasKey(anyString());
+	}
+
+	@DisplayName("폐기한 토큰은 남은 유효기간만큼 Redis 에 저장하고 다른 인스턴스에 알린 뒤, 조회 시 Redis 로 확인한다")
+	@Test
+	void revokeAndCheck() {
+		// given
+		when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(stringRedisTemplate.hasKey("auth:revoked:token-id")).thenReturn(true);
+
+		// when
+		tokenRevocationService.revoke("token-id", new Date(System.currentTimeMillis() + 60_000));
+
+		// then
+		verify(valueOperations).set(eq("auth:revoked:token-id"), eq("1"), any(Duration.class));
+		verify(stringRedisTemplate).convertAndSend(TokenRevocationService.REVOKED_TOKEN_CHANNEL, "token-id");
+		assertThat(tokenRevocationService.isRevoked("token-id")).isTrue();
+	}
+
+	@DisplayName("Redis 를 확인할 수 없으면 Bloom filter 에 있는 토큰은 폐기된 것으로 본다")
+	@Test
+	void revokedIfRedisLookupFails() {
+		// given
+		tokenRevocationService.addLocally("token-id");
+		when(stringRedisTemplate.hasKey("auth:revoked:token-id")).thenThrow(new IllegalStateException());
+
+		// when
+		boolean revoked = tokenRevocationService.isRevoked("token-id");
+
+		// then
+		assertThat(revoked).isTrue();
+	}
+
+	@DisplayName("다시 만드는 동안 들어온 폐기는 교체된 Bloom filter 에도 남는다")
+	@Test
+	void keepRevocationReceivedDuringRebuild() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+			tokenRevocationService.addLocally("jti-during-rebuild");
+			return 0L;
+		});
+		when(stringRedisTemplate.hasKey("auth:revoked:jti-during-rebuild")).thenReturn(true);
+
+		// when
+		tokenRevocationService.rebuild();
+
+		// then
+		assertThat(tokenRevocationService.isRevoked("jti-during-rebuild")).isTrue();
+	}
+
+	@DisplayName("시작할 때 Redis 에서 폐기 목록을 불러오지 못하면 다시 시도한다")
+	@Test
+	void retryInitialRebuild() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("connection refused"))
+			.thenReturn(0L);
+		TokenRevocationProperty tokenRevocationProperty = new TokenRevocationProperty();
+		tokenRevocationProperty.setInitialRebuildBackoffMillis(0);
+		tokenRevocationService = new TokenRevocationService(stringRedisTemplate, redisMessageListenerContainer,
+			tokenRevocationProperty, new SimpleMeterRegistry());
+
+		// when
+		tokenRevocationService.initialize();
+
+		// then
+		verify(stringRedisTemplate, times(2)).execute(any(RedisCallback.class));
+	}
+
+	@DisplayName("시작할 때 끝내 폐기 목록을 불러오지 못하면 빈 Bloom filter 로 기동하지 않는다")
+	@Test
+	void failStartupWithoutRevokedTokens() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisCallback.class)))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+		TokenRevocationProperty tokenRevocationProperty = new TokenRevocationProperty();
+		tokenRevocationProperty.setInitialRebuildAttempts(3);
+		tokenRevocationProperty.setInitialRebuildBackoffMillis(0);
+		tokenRevocationService = new TokenRevocationService(stringRedisTemplate, redisMessageListenerContainer,
+			tokenRevocationProperty, new SimpleMeterRegistry());
+
+		// when -> then
+		assertThatThrownBy(() -> tokenRevocationService.initialize())
+			.isInstanceOf(IllegalStateException.class);
+		verify(stringRedisTemplate, times(3)).execute(any(RedisCallback.class));
+	}
+}
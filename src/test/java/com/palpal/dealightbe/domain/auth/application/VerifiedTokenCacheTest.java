@@ -0,0 +1,60 @@
+package com.palpal.dealightbe.domain.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.palpal.dealightbe.config.VerifiedTokenCacheProperty;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache.VerifiedToken;
+import com.palpal.dealightbe.domain.auth.domain.JwtAuthentication;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+	private static final String TOKEN = "header.payload.signature";
+
+	private VerifiedTokenCache verifiedTokenCache;
+
+	@BeforeEach
+	void setUp() {
+		verifiedTokenCache = new VerifiedTokenCache(new VerifiedTokenCacheProperty(), new SimpleMeterRegistry());
+	}
+
+	@DisplayName("검증된 토큰은 같은 토큰으로 다시 찾을 수 있고, 지우면 더 이상 찾을 수 없다")
+	@Test
+	void findAndEvict() {
+		// given
+		VerifiedToken verifiedToken = createVerifiedToken(System.currentTimeMillis() + 60_000);
+		verifiedTokenCache.put(TOKEN, verifiedToken);
+
+		// when
+		VerifiedToken found = verifiedTokenCache.find(TOKEN);
+		verifiedTokenCache.evict(TOKEN);
+
+		// then
+		assertThat(found).isEqualTo(verifiedToken);
+		assertThat(verifiedTokenCache.find(TOKEN)).isNull();
+		assertThat(verifiedTokenCache.find("other.token.value")).isNull();
+	}
+
+	@DisplayName("이미 만료된 토큰은 보관하지 않는다")
+	@Test
+	void skipExpiredToken() {
+		// given
+		verifiedTokenCache.put(TOKEN, createVerifiedToken(System.currentTimeMillis() - 1));
+
+		// when, then
+		assertThat(verifiedTokenCache.find(TOKEN)).isNull();
+	}
+
+	private VerifiedToken createVerifiedToken(long expiresAtMillis) {
+		return new VerifiedToken("token-id", new JwtAuthentication("123", TOKEN),
+			List.of(new SimpleGrantedAuthority("ROLE_MEMBER")), expiresAtMillis);
+	}
+}
@@ -74,9 +74,9 @@ class JwtTest {
 		String refreshToken = jwt.createRefreshToken(testMember);
 
 		// then
-		assertThatCode(() -> jwt.validateToken(accessToken))
+		assertThatCode(() -> jwt.verify(accessToken))
 			.doesNotThrowAnyException();
-		assertThatCode(() -> jwt.validateToken(refreshToken))
+		assertThatCode(() -> jwt.verify(refreshToken))
 			.doesNotThrowAnyException();
 	}
 
@@ -87,8 +87,8 @@ class JwtTest {
 		String accessToken = jwt.createAccessToken(testMember);
 		String refreshToken = jwt.createRefreshToken(testMember);
 
-		String accessTokenSubject = jwt.getSubject(accessToken);
-		String refreshTokenSubject = jwt.getSubject(refreshToken);
+		String accessTokenSubject = jwt.verify(accessToken).subject();
+		String refreshTokenSubject = jwt.verify(refreshToken).subject();
 
 		// then
 		assertThat(accessTokenSubject).isEqualTo("123");
@@ -105,8 +105,8 @@ class JwtTest {
 		String accessToken = jwt.createAccessToken(testMember);
 		String refreshToken = jwt.createRefreshToken(testMember);
 
-		Collection<? extends GrantedAuthority> accessTokenAuthorities = jwt.getAuthorities(accessToken);
-		Collection<? extends GrantedAuthority> refreshTokenAuthorities = jwt.getAuthorities(refreshToken);
+		Collection<? extends GrantedAuthority> accessTokenAuthorities = jwt.verify(accessToken).grantedAuthorities();
+		Collection<? extends GrantedAuthority> refreshTokenAuthorities = jwt.verify(refreshToken).grantedAuthorities();
 		String accessTokenAuthority = List.copyOf(accessTokenAuthorities)
 			.get(0)
 			.getAuthority();
@@ -136,63 +136,51 @@ class JwtTest {
 			.isInstanceOf(IllegalArgumentException.class);
 	}
 
-	@DisplayName("TokenSecret이 잘못된 경우 토큰 생성 실패")
+	@DisplayName("TokenSecret이 잘못된 경우 Jwt 객체 생성 실패")
 	@ValueSource(strings = {"12", "123", "fboacn", "fhuireVOFEAWRPK4532DCM"})
 	@ParameterizedTest
 	void createFailIfTokenSecretIsInvalid(String invalidTokenSecret) {
 		// given
 		jwtConfig.setTokenSecret(invalidTokenSecret);
-		Jwt testJwt = new Jwt(jwtConfig);
 
 		// when -> then
-		assertThatThrownBy(() -> testJwt.createAccessToken(testMember))
-			.isInstanceOf(InvalidKeyException.class);
-		assertThatThrownBy(() -> testJwt.createRefreshToken(testMember))
+		assertThatThrownBy(() -> new Jwt(jwtConfig))
 			.isInstanceOf(InvalidKeyException.class);
 	}
 
-	@DisplayName("TokenSecret의 길이가 1글자 이하일 때, 토큰 생성 실패")
+	@DisplayName("TokenSecret의 길이가 1글자 이하일 때, Jwt 객체 생성 실패")
 	@ValueSource(strings = {"!", "1", "a", "A"})
 	@ParameterizedTest
 	void createFailIfSecretLengthIsNotValid(String invalidLengthTokenSecret) {
 		// given
 		jwtConfig.setTokenSecret(invalidLengthTokenSecret);
-		Jwt testJwt = new Jwt(jwtConfig);
 
 		// when -> then
-		assertThatThrownBy(() -> testJwt.createAccessToken(testMember))
-			.isInstanceOf(IllegalArgumentException.class);
-		assertThatThrownBy(() -> testJwt.createRefreshToken(testMember))
+		assertThatThrownBy(() -> new Jwt(jwtConfig))
 			.isInstanceOf(IllegalArgumentException.class);
 	}
 
-	@DisplayName("8bit 이상의 안전한 TokenSecret(HS256)이 아니라면 토큰 생성에 실패")
+	@DisplayName("8bit 이상의 안전한 TokenSecret(HS256)이 아니라면 Jwt 객체 생성에 실패")
 	@ValueSource(strings = {"12", "ac", "AC", "123456789012345678901234", "AbCdEfGhIjKlMnOpQrStUvWx"})
 	@ParameterizedTest
 	void createFailIfSecretIsNotSafe(String notSafeTokenSecret) {
 		// given
 		jwtConfig.setTokenSecret(notSafeTokenSecret);
-		Jwt testJwt = new Jwt(jwtConfig);
 
 		// when -> then
-		assertThatThrownBy(() -> testJwt.createAccessToken(testMember))
-			.isInstanceOf(WeakKeyException.class);
-		assertThatThrownBy(() -> testJwt.createRefreshToken(testMember))
+		assertThatThrownBy(() -> new Jwt(jwtConfig))
 			.isInstanceOf(WeakKeyException.class);
 	}
 
-	@DisplayName("TokenSecret이 특수문자로만 구성된 경우 토큰 생성 실패")
+	@DisplayName("TokenSecret이 특수문자로만 구성된 경우 Jwt 객체 생성 실패")
 	@ValueSource(strings = {"!@#", "@!#$%!@#$%^", "!@#)(*&^%$#@", "#@$%^&*()_*&^%$#@!^&*()"})
 	@ParameterizedTest
 	void createFailIfTokenSecretHasNotValidCharacter(String invalidTokenSecret) {
 		// given
 		jwtConfig.setTokenSecret(invalidTokenSecret);
-		Jwt testJwt = new Jwt(jwtConfig);
 
 		// when -> then
-		assertThatThrownBy(() -> testJwt.createAccessToken(testMember))
-			.isInstanceOf(DecodingException.class);
-		assertThatThrownBy(() -> testJwt.createRefreshToken(testMember))
+		assertThatThrownBy(() -> new Jwt(jwtConfig))
 			.isInstanceOf(DecodingException.class);
 	}
 
@@ -224,9 +212,9 @@ class JwtTest {
 		String expiredRefreshToken = testJwt.createRefreshToken(testMember);
 
 		// then
-		assertThatThrownBy(() -> testJwt.validateToken(expiredAccessToken))
+		assertThatThrownBy(() -> testJwt.verify(expiredAccessToken))
 			.isInstanceOf(ExpiredJwtException.class);
-		assertThatThrownBy(() -> testJwt.validateToken(expiredRefreshToken))
+		assertThatThrownBy(() -> testJwt.verify(expiredRefreshToken))
 			.isInstanceOf(ExpiredJwtException.class);
 	}
 }
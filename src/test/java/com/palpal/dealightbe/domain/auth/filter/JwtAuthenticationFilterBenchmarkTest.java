@@ -0,0 +1,140 @@
+package com.palpal.dealightbe.domain.auth.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.palpal.dealightbe.config.JwtConfig;
+import com.palpal.dealightbe.config.TokenRevocationProperty;
+import com.palpal.dealightbe.config.VerifiedTokenCacheProperty;
+import com.palpal.dealightbe.domain.auth.application.TokenRevocationService;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache;
+import com.palpal.dealightbe.domain.auth.domain.Jwt;
+import com.palpal.dealightbe.domain.member.domain.Member;
+import com.palpal.dealightbe.domain.member.domain.MemberRole;
+import com.palpal.dealightbe.domain.member.domain.Role;
+import com.palpal.dealightbe.domain.member.domain.RoleType;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청마다 파서를 새로 만들어 세 번 검증하던 방식, 미리 만든 파서로 한 번만 검증하는 필터,
+ * 검증된 토큰 캐시를 거치는 필터를 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+	private static final String TOKEN_SECRET = "db3GuBkkt0VD1C2dIcN3eGVa2f0LE7KkXXv8eySXkTVk4c=";
+	private static final int WARM_UP = 20_000;
+	private static final int ITERATIONS = 100_000;
+
+	@DisplayName("JWT 인증 필터: 세 번 검증, 캐시된 파서로 한 번 검증, 검증된 토큰 캐시 비교")
+	@Test
+	void compareFilterHotPath() throws Exception {
+		Jwt jwt = new Jwt(createJwtConfig());
+		String token = jwt.createAccessToken(createMember());
+		TokenRevocationService tokenRevocationService = new TokenRevocationService(new StringRedisTemplate(),
+			new RedisMessageListenerContainer(), new TokenRevocationProperty(), new SimpleMeterRegistry());
+		JwtAuthenticationFilter singleParseFilter = new JwtAuthenticationFilter(jwt, createVerifiedTokenCache(0),
+			tokenRevocationService);
+		JwtAuthenticationFilter cachedFilter = new JwtAuthenticationFilter(jwt, createVerifiedTokenCache(600),
+			tokenRevocationService);
+
+		measure("three-parses", () -> {
+			parseLegacy(token);
+			String subject = parseLegacy(token).getSubject();
+			String authorities = parseLegacy(token).get("Authorities", String.class);
+			assertThat(subject).isNotNull();
+			assertThat(authorities).isNotNull();
+		});
+		measure("filter-single-parse", () -> authenticate(singleParseFilter, token));
+		measure("filter-verified-token-cache", () -> authenticate(cachedFilter, token));
+	}
+
+	private void authenticate(JwtAuthenticationFilter jwtAuthenticationFilter, String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+		SecurityContextHolder.clearContext();
+	}
+
+	private Claims parseLegacy(String token) {
+		return Jwts.parserBuilder()
+			.setSigningKey(TOKEN_SECRET)
+			.build()
+			.parseClaimsJws(token)
+			.getBody();
+	}
+
+	private void measure(String name, ThrowingRunnable task) throws Exception {
+		for (int i = 0; i < WARM_UP; i++) {
+			task.run();
+		}
+
+		long[] elapsedNanos = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			task.run();
+			elapsedNanos[i] = System.nanoTime() - startedAt;
+		}
+
+		Arrays.sort(elapsedNanos);
+		log.info("BENCHMARK:{} : avg => {}ns, p50 => {}ns, p99 => {}ns", name,
+			Arrays.stream(elapsedNanos).sum() / ITERATIONS, elapsedNanos[ITERATIONS / 2],
+			elapsedNanos[ITERATIONS * 99 / 100]);
+	}
+
+	private JwtConfig createJwtConfig() {
+		JwtConfig jwtConfig = new JwtConfig();
+		jwtConfig.setIssuer("benchmark");
+		jwtConfig.setTokenSecret(TOKEN_SECRET);
+		jwtConfig.setAccessTokenExpiry(3_600_000L);
+		jwtConfig.setRefreshTokenExpiry(1_296_000_000L);
+
+		return jwtConfig;
+	}
+
+	// maxTtlSeconds 가 0 이면 항목이 바로 만료되어 매 요청 검증한다.
+	private VerifiedTokenCache createVerifiedTokenCache(long maxTtlSeconds) {
+		VerifiedTokenCacheProperty verifiedTokenCacheProperty = new VerifiedTokenCacheProperty();
+		verifiedTokenCacheProperty.setMaxTtlSeconds(maxTtlSeconds);
+
+		return new VerifiedTokenCache(verifiedTokenCacheProperty, new SimpleMeterRegistry());
+	}
+
+	private Member createMember() {
+		Member member = Member.builder()
+			.providerId(123L)
+			.provider("benchmark")
+			.build();
+		List<MemberRole> memberRoles = new ArrayList<>();
+		memberRoles.add(new MemberRole(member, new Role(1L, RoleType.ROLE_MEMBER)));
+		member.updateMemberRoles(memberRoles);
+
+		return member;
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
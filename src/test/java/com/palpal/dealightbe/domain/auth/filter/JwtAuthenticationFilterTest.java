@@ -1,8 +1,13 @@
 package com.palpal.dealightbe.domain.auth.filter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.*;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.List;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -20,10 +25,16 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.palpal.dealightbe.domain.auth.application.TokenRevocationService;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache;
+import com.palpal.dealightbe.domain.auth.application.VerifiedTokenCache.VerifiedToken;
 import com.palpal.dealightbe.domain.auth.domain.Jwt;
+import com.palpal.dealightbe.domain.auth.domain.JwtAuthentication;
+import com.palpal.dealightbe.domain.auth.domain.VerifiedJwt;
 
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
@@ -36,6 +47,10 @@ class JwtAuthenticationFilterTest {
 	FilterChain mockFilterChain;
 	@Mock
 	Jwt mockJwt;
+	@Mock
+	VerifiedTokenCache mockVerifiedTokenCache;
+	@Mock
+	TokenRevocationService mockTokenRevocationService;
 	@InjectMocks
 	JwtAuthenticationFilter jwtAuthenticationFilter;
 	@Mock
@@ -45,13 +60,16 @@ class JwtAuthenticationFilterTest {
 
 	@BeforeEach
 	void setUp() {
-		jwtAuthenticationFilter = new JwtAuthenticationFilter(mockJwt);
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(mockJwt, mockVerifiedTokenCache,
+			mockTokenRevocationService);
 	}
 
 	@AfterEach
 	void tearDown() {
 		// MockTest 격리를 위한 값
-		Mockito.reset(mockRequest, mockResponse, mockFilterChain, mockJwt, mockAuthentication, mockSecurityContext);
+		Mockito.reset(mockRequest, mockResponse, mockFilterChain, mockJwt, mockVerifiedTokenCache,
+			mockTokenRevocationService, mockAuthentication, mockSecurityContext);
+		SecurityContextHolder.clearContext();
 	}
 
 	@DisplayName("JWT 인증이 정상적으로 완료된 경우")
@@ -60,6 +78,8 @@ class JwtAuthenticationFilterTest {
 		// given
 		when(mockRequest.getHeader(HttpHeaders.AUTHORIZATION))
 			.thenReturn("Bearer MOCK_JWT_TOKEN");
+		when(mockJwt.verify("MOCK_JWT_TOKEN"))
+			.thenReturn(new VerifiedJwt("MOCK_TOKEN_ID", "123", "ROLE_MEMBER", new Date()));
 
 		// when
 		jwtAuthenticationFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
@@ -68,11 +88,59 @@ class JwtAuthenticationFilterTest {
 		verify(mockRequest, times(1))
 			.getHeader(any());
 		verify(mockJwt, times(1))
-			.validateToken(any(String.class));
+			.verify(any(String.class));
+		verify(mockVerifiedTokenCache, times(1))
+			.put(eq("MOCK_JWT_TOKEN"), any(VerifiedToken.class));
+		verify(mockFilterChain, times(1))
+			.doFilter(mockRequest, mockResponse);
+	}
+
+	@DisplayName("이미 검증된 토큰은 서명을 다시 검증하지 않고 캐시된 인증 정보로 인증한다")
+	@Test
+	void authenticationWithVerifiedTokenCache() throws ServletException, IOException {
+		// given
+		when(mockRequest.getHeader(HttpHeaders.AUTHORIZATION))
+			.thenReturn("Bearer MOCK_JWT_TOKEN");
+		when(mockVerifiedTokenCache.find("MOCK_JWT_TOKEN"))
+			.thenReturn(createVerifiedToken());
+
+		// when
+		jwtAuthenticationFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
+
+		// then
+		verify(mockJwt, never())
+			.verify(any(String.class));
 		verify(mockFilterChain, times(1))
 			.doFilter(mockRequest, mockResponse);
 	}
 
+	@DisplayName("폐기된 토큰은 캐시에서 찾았더라도 401 Unauthorized 를 보내고 캐시에서 지운다")
+	@Test
+	void revokedToken() throws ServletException, IOException {
+		// given
+		StringWriter responseBody = new StringWriter();
+		when(mockRequest.getHeader(HttpHeaders.AUTHORIZATION))
+			.thenReturn("Bearer MOCK_JWT_TOKEN");
+		when(mockVerifiedTokenCache.find("MOCK_JWT_TOKEN"))
+			.thenReturn(createVerifiedToken());
+		when(mockTokenRevocationService.isRevoked("MOCK_TOKEN_ID"))
+			.thenReturn(true);
+		when(mockResponse.getWriter())
+			.thenReturn(new PrintWriter(responseBody));
+
+		// when
+		jwtAuthenticationFilter.doFilterInternal(mockRequest, mockResponse, mockFilterChain);
+
+		// then
+		verify(mockVerifiedTokenCache, times(1))
+			.evict("MOCK_JWT_TOKEN");
+		verify(mockResponse, times(1))
+			.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+		verify(mockFilterChain, never())
+			.doFilter(mockRequest, mockResponse);
+		assertThat(responseBody.toString()).contains("AUTH014");
+	}
+
 	@DisplayName("인증이 이미 완료된 경우")
 	@Test
 	void alreadyDoneAuthentication() throws ServletException, IOException {
@@ -105,4 +173,9 @@ class JwtAuthenticationFilterTest {
 		verify(mockFilterChain, times(1))
 			.doFilter(mockRequest, mockResponse);
 	}
+
+	private VerifiedToken createVerifiedToken() {
+		return new VerifiedToken("MOCK_TOKEN_ID", new JwtAuthentication("123", "MOCK_JWT_TOKEN"),
+			List.of(new SimpleGrantedAuthority("ROLE_MEMBER")), Long.MAX_VALUE);
+	}
 }
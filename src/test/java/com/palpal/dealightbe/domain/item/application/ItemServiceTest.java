@@ -25,8 +25,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
 
 import com.palpal.dealightbe.domain.address.domain.Address;
@@ -37,8 +37,10 @@ import com.palpal.dealightbe.domain.item.application.dto.response.ItemRes;
 import com.palpal.dealightbe.domain.item.application.dto.response.ItemsRes;
 import com.palpal.dealightbe.domain.item.domain.Item;
 import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemSlice;
 import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
 import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.store.domain.DayOff;
 import com.palpal.dealightbe.domain.store.domain.Store;
 import com.palpal.dealightbe.domain.store.domain.StoreRepository;
@@ -50,6 +52,8 @@ import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
 @ExtendWith(MockitoExtension.class)
 class ItemServiceTest {
 
+	private static final Long STORE_ID = 1L;
+
 	@InjectMocks
 	private ItemService itemService;
 
@@ -67,6 +71,15 @@ class ItemServiceTest {
 	@Mock
 	private ImageService imageService;
 
+	@Mock
+	private NearbyItemIndex nearbyItemIndex;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	private MemberContext memberContext;
+
 	private Store store;
 	private Store store2;
 	private Item item;
@@ -159,7 +172,8 @@ class ItemServiceTest {
 		ImageUploadReq imageUploadReq = new ImageUploadReq(file);
 		String imageUrl = "http://image-url.com/image.jpg";
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.of(store));
+		when(memberContext.getStoreId(any())).thenReturn(STORE_ID);
+		when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
 		when(itemRepository.existsByNameAndStoreId(any(), any())).thenReturn(false);
 		when(itemRepository.save(any(Item.class))).thenReturn(item);
 		when(imageService.store(file)).thenReturn(imageUrl);
@@ -190,7 +204,7 @@ class ItemServiceTest {
 		MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "Spring Framework".getBytes());
 		ImageUploadReq imageUploadReq = new ImageUploadReq(file);
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.empty());
+		when(memberContext.getStoreId(any())).thenReturn(null);
 
 		//when
 		//then
@@ -209,7 +223,8 @@ class ItemServiceTest {
 		MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "Spring Framework".getBytes());
 		ImageUploadReq imageUploadReq = new ImageUploadReq(file);
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.of(store));
+		when(memberContext.getStoreId(any())).thenReturn(STORE_ID);
+		when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
 		when(itemRepository.existsByNameAndStoreId(any(), any())).thenReturn(false);
 
 		//when
@@ -275,13 +290,14 @@ class ItemServiceTest {
 		items.add(item);
 		items.add(item3);
 
-		SliceImpl<Item> itemPage = new SliceImpl<>(items);
+		ItemSlice itemPage = new ItemSlice(items, pageRequest, false, null);
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.of(store));
-		when(itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(any(), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
+		when(memberContext.getStoreId(any())).thenReturn(STORE_ID);
+		when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
+		when(itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(any(), any(), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
 
 		//when
-		ItemsRes itemsRes = itemService.findAllForStore(providerId, pageRequest);
+		ItemsRes itemsRes = itemService.findAllForStore(providerId, null, pageRequest);
 
 		//then
 		assertThat(itemsRes.items()).hasSize(items.size());
@@ -300,15 +316,15 @@ class ItemServiceTest {
 		items.add(item);
 		items.add(item2);
 
-		SliceImpl<Item> itemPage = new SliceImpl<>(items);
+		ItemSlice itemPage = new ItemSlice(items, pageRequest, false, null);
 
 		double xCoordinate = 127.0221068;
 		double yCoordinate = 37.5912999;
 
-		when(itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(anyDouble(), anyDouble(), eq(sortBy), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
+		when(itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(anyDouble(), anyDouble(), eq(sortBy), any(), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
 
 		//when
-		ItemsRes itemsRes = itemService.findAllForMember(xCoordinate, yCoordinate, sortBy, pageRequest);
+		ItemsRes itemsRes = itemService.findAllForMember(xCoordinate, yCoordinate, sortBy, null, pageRequest);
 
 		//then
 		assertThat(itemsRes.items()).hasSize(items.size());
@@ -338,12 +354,12 @@ class ItemServiceTest {
 		items.add(item);
 		items.add(item3);
 
-		SliceImpl<Item> itemPage = new SliceImpl<>(items);
+		ItemSlice itemPage = new ItemSlice(items, pageRequest, false, null);
 
-		when(itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(any(), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
+		when(itemRepository.findAllByStoreIdOrderByUpdatedAtDesc(any(), any(), eq(PageRequest.of(page, size)))).thenReturn(itemPage);
 
 		//when
-		ItemsRes itemsRes = itemService.findAllByStoreId(storeId, pageRequest);
+		ItemsRes itemsRes = itemService.findAllByStoreId(storeId, null, pageRequest);
 
 		//then
 		assertThat(itemsRes.items()).hasSize(items.size());
@@ -361,7 +377,8 @@ class ItemServiceTest {
 		ImageUploadReq imageUploadReq = new ImageUploadReq(file);
 		String imageUrl = "http://image-url.com/image.jpg";
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.of(store));
+		when(memberContext.getStoreId(any())).thenReturn(STORE_ID);
+		when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
 		when(itemRepository.findById(any())).thenReturn(Optional.of(item));
 		when(imageService.store(file)).thenReturn(imageUrl);
 
@@ -389,7 +406,8 @@ class ItemServiceTest {
 		ImageUploadReq imageUploadReq = new ImageUploadReq(file);
 		String imageUrl = "http://image-url.com/image.jpg";
 
-		when(storeRepository.findByMemberProviderId(any())).thenReturn(Optional.of(store));
+		when(memberContext.getStoreId(any())).thenReturn(STORE_ID);
+		when(storeRepository.findById(STORE_ID)).thenReturn(Optional.of(store));
 		when(itemRepository.findById(any())).thenReturn(Optional.of(item));
 		when(imageService.store(file)).thenReturn(imageUrl);
 
@@ -0,0 +1,222 @@
+package com.palpal.dealightbe.domain.item.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.palpal.dealightbe.config.NearbyItemIndexProperty;
+import com.palpal.dealightbe.domain.address.domain.Address;
+import com.palpal.dealightbe.domain.item.application.dto.response.ItemRes;
+import com.palpal.dealightbe.domain.item.application.dto.response.ItemsRes;
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemCursor;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemStockChangedEvent;
+import com.palpal.dealightbe.domain.item.domain.StoreItemsChangedEvent;
+import com.palpal.dealightbe.domain.store.domain.DayOff;
+import com.palpal.dealightbe.domain.store.domain.Store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class NearbyItemIndexTest {
+
+	private static final double X = 127.0279372;
+	private static final double Y = 37.4980136;
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2023, 12, 1, 12, 0);
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private NearbyItemIndex nearbyItemIndex;
+
+	private Store nearStore;
+	private Store farStore;
+	private Store outOfRangeStore;
+
+	@BeforeEach
+	void setUp() {
+		nearbyItemIndex = new NearbyItemIndex(itemRepository, new NearbyItemIndexProperty(), new SimpleMeterRegistry(),
+			stringRedisTemplate, redisMessageListenerContainer);
+
+		// 약 0km, 약 1.1km, 약 11km
+		nearStore = createStore(1L, "분식천국", Y, X);
+		farStore = createStore(2L, "김밥나라", Y + 0.01, X);
+		outOfRangeStore = createStore(3L, "떡볶이 천국", Y + 0.1, X);
+	}
+
+	@DisplayName("첫 적재 전에는 비어 있는 값을 돌려줘 SQL 로 조회하게 한다")
+	@Test
+	void emptyBeforeWarmUp() {
+		// when, then
+		assertThat(nearbyItemIndex.findAll(X, Y, "distance", null, PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@DisplayName("3km 안의 업체 상품만 거리순, 할인율순으로 정렬하고 다음 페이지 여부를 알려준다")
+	@Test
+	void findAllWithinRadius() {
+		// given
+		when(itemRepository.findAllInOpenedStores()).thenReturn(List.of(
+			createItem(11L, "떡볶이", 3500, 4000, nearStore),
+			createItem(21L, "김밥", 2000, 4000, farStore),
+			createItem(31L, "순대", 1000, 4000, outOfRangeStore)));
+		nearbyItemIndex.reload();
+
+		// when
+		ItemsRes byDistance = nearbyItemIndex.findAll(X, Y, "distance", null, PageRequest.of(0, 1)).orElseThrow();
+		ItemsRes byDiscountRate = nearbyItemIndex.findAll(X, Y, "discount-rate", null, PageRequest.of(0, 10)).orElseThrow();
+
+		// then
+		assertThat(byDistance.items()).extracting(ItemRes::itemId).containsExactly(11L);
+		assertThat(byDistance.hasNext()).isTrue();
+		assertThat(byDiscountRate.items()).extracting(ItemRes::itemId).containsExactly(21L, 11L);
+		assertThat(byDiscountRate.hasNext()).isFalse();
+		assertThat(byDiscountRate.cursor()).isNull();
+	}
+
+	@DisplayName("커서를 넘기면 첫 페이지의 좌표 기준으로 마지막 상품 다음부터 이어서 돌려준다")
+	@Test
+	void findAllAfterCursor() {
+		// given
+		when(itemRepository.findAllInOpenedStores()).thenReturn(List.of(
+			createItem(11L, "떡볶이", 3500, 4000, nearStore),
+			createItem(12L, "튀김", 3000, 4000, nearStore),
+			createItem(21L, "김밥", 2000, 4000, farStore)));
+		nearbyItemIndex.reload();
+		ItemsRes firstPage = nearbyItemIndex.findAll(X, Y, "distance", null, PageRequest.of(0, 2)).orElseThrow();
+
+		// when
+		ItemsRes secondPage = nearbyItemIndex.findAll(0, 0, "distance", ItemCursor.decode(firstPage.cursor()),
+			PageRequest.of(0, 2)).orElseThrow();
+
+		// then
+		assertThat(firstPage.items()).extracting(ItemRes::itemId).containsExactly(12L, 11L);
+		assertThat(secondPage.items()).extracting(ItemRes::itemId).containsExactly(21L);
+		assertThat(secondPage.hasNext()).isFalse();
+	}
+
+	@DisplayName("커밋된 변경이 모인 업체는 다시 읽어 교체하고, 영업 중인 상품이 없으면 색인에서 뺀다")
+	@Test
+	void flushChangedStores() {
+		// given
+		when(itemRepository.findAllInOpenedStores()).thenReturn(List.of(
+			createItem(11L, "떡볶이", 3500, 4000, nearStore),
+			createItem(21L, "김밥", 2000, 4000, farStore)));
+		nearbyItemIndex.reload();
+		when(itemRepository.findAllInOpenedStoresByStoreIds(Set.of(1L, 2L))).thenReturn(List.of(
+			createItem(22L, "참치 김밥", 3000, 4000, farStore)));
+
+		// when
+		nearbyItemIndex.onStoreItemsChanged(new StoreItemsChangedEvent(1L));
+		nearbyItemIndex.onStoreItemsChanged(new StoreItemsChangedEvent(2L));
+		nearbyItemIndex.flush();
+
+		// then
+		assertThat(nearbyItemIndex.findAll(X, Y, "distance", null, PageRequest.of(0, 10)).orElseThrow().items())
+			.extracting(ItemRes::itemId)
+			.containsExactly(22L);
+	}
+
+	@DisplayName("이 인스턴스에서 모은 업체 id 는 반영할 때 다른 인스턴스에 알리고, 자신이 보낸 메시지는 다시 반영하지 않는다")
+	@Test
+	void publishChangedStores() {
+		// given
+		nearbyItemIndex.onStockChanged(new ItemStockChangedEvent(10L, 1L, false));
+
+		// when
+		nearbyItemIndex.flush();
+
+		// then
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(eq(NearbyItemIndex.CHANGED_CHANNEL), message.capture());
+		assertThat(message.getValue()).endsWith("\n1");
+
+		nearbyItemIndex.receive(message.getValue());
+		nearbyItemIndex.flush();
+		verify(itemRepository, never()).findAllInOpenedStoresByStoreIds(any());
+	}
+
+	@DisplayName("다른 인스턴스에서 알린 업체는 다음 반영 때 다시 읽어 교체한다")
+	@Test
+	void flushStoresChangedOnOtherInstance() {
+		// given
+		when(itemRepository.findAllInOpenedStores()).thenReturn(List.of(
+			createItem(11L, "떡볶이", 3500, 4000, nearStore)));
+		nearbyItemIndex.reload();
+		when(itemRepository.findAllInOpenedStoresByStoreIds(Set.of(1L, 2L))).thenReturn(List.of(
+			createItem(22L, "참치 김밥", 3000, 4000, farStore)));
+
+		// when
+		nearbyItemIndex.receive("other-instance\n1,2");
+		nearbyItemIndex.flush();
+
+		// then
+		assertThat(nearbyItemIndex.findAll(X, Y, "distance", null, PageRequest.of(0, 10)).orElseThrow().items())
+			.extracting(ItemRes::itemId)
+			.containsExactly(22L);
+		verify(stringRedisTemplate, never()).convertAndSend(any(), any());
+	}
+
+	private Store createStore(Long id, String name, double yCoordinate, double xCoordinate) {
+		Address address = Address.builder()
+			.name("서울시 강남구")
+			.xCoordinate(xCoordinate)
+			.yCoordinate(yCoordinate)
+			.build();
+		Store store = Store.builder()
+			.name(name)
+			.storeNumber("0000000")
+			.telephone("00000000")
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.dayOff(Collections.singleton(DayOff.MON))
+			.address(address)
+			.build();
+		ReflectionTestUtils.setField(store, "id", id);
+
+		return store;
+	}
+
+	private Item createItem(Long id, String name, int discountPrice, int originalPrice, Store store) {
+		Item item = Item.builder()
+			.name(name)
+			.stock(5)
+			.discountPrice(discountPrice)
+			.originalPrice(originalPrice)
+			.description(name + " 입니다.")
+			.image("https://fake-image.com/item.png")
+			.store(store)
+			.build();
+		ReflectionTestUtils.setField(item, "id", id);
+		ReflectionTestUtils.setField(item, "updatedAt", UPDATED_AT);
+
+		return item;
+	}
+}
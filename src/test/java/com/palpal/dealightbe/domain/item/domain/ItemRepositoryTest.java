@@ -14,6 +14,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +46,9 @@ class ItemRepositoryTest {
 	@Autowired
 	private ItemRepository itemRepository;
 
+	@Autowired
+	private TestEntityManager testEntityManager;
+
 	private Item item1;
 	private Item item2;
 	private Item item3;
@@ -222,7 +226,7 @@ class ItemRepositoryTest {
 		List<Item> expected = sortByStoreCloseTime(items);
 
 		//when
-		Slice<Item> sliceResult = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, pageable);
+		Slice<Item> sliceResult = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, null, pageable);
 		List<Item> result = sliceResult.stream().toList();
 
 		//then
@@ -243,7 +247,7 @@ class ItemRepositoryTest {
 		List<Item> expected = List.of(item3, item4, item5, item1);
 
 		//when
-		Slice<Item> result = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, pageable);
+		Slice<Item> result = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, null, pageable);
 		List<Item> items = result.stream().toList();
 
 		//then
@@ -264,7 +268,7 @@ class ItemRepositoryTest {
 		List<Item> expected = List.of(item1, item3, item5, item4);
 
 		//when
-		Slice<Item> result = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, pageable);
+		Slice<Item> result = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, null, pageable);
 		List<Item> items = result.stream().toList();
 
 		//then
@@ -272,6 +276,47 @@ class ItemRepositoryTest {
 		assertThat(items).containsExactlyElementsOf(expected);
 	}
 
+	@DisplayName("커서로 다음 페이지를 조회하면 앞 페이지의 마지막 상품 다음부터 같은 정렬로 이어진다")
+	@Test
+	void findAllByDistanceAfterCursor() {
+		//given
+		double standardXCoordinate = 127.0221068;
+		double standardYCoordinate = 37.5912999;
+		String sortBy = "distance";
+
+		Pageable pageable = PageRequest.of(0, 2);
+		ItemSlice firstPage = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, null, pageable);
+
+		//when
+		ItemSlice secondPage = itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(standardXCoordinate, standardYCoordinate, sortBy, firstPage.getNextCursor(), pageable);
+
+		//then
+		assertThat(firstPage.getContent()).containsExactly(item1, item3);
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(secondPage.getContent()).containsExactly(item5, item4);
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.getNextCursor()).isNull();
+	}
+
+	@DisplayName("할인율 컬럼이 생기기 전에 저장되어 비어 있는 상품의 할인율을 채운다")
+	@Test
+	void fillMissingDiscountRates() {
+		//given
+		testEntityManager.getEntityManager()
+			.createNativeQuery("UPDATE items SET discount_rate = NULL WHERE id = :id")
+			.setParameter("id", item1.getId())
+			.executeUpdate();
+
+		//when
+		int filled = itemRepository.fillMissingDiscountRates();
+		testEntityManager.clear();
+
+		//then
+		assertThat(filled).isEqualTo(1);
+		assertThat(itemRepository.findById(item1.getId()).orElseThrow().getDiscountRate())
+			.isEqualTo(Item.calculateDiscountRate(3300, 4800));
+	}
+
 	private Long calculateExpirationSeconds(LocalTime storeCloseTime) {
 		LocalDateTime currentDateTime = LocalDateTime.now();
 		LocalDateTime closeDateTime = getCloseDateTime(currentDateTime, storeCloseTime);
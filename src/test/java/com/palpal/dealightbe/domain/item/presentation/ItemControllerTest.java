@@ -499,9 +499,9 @@ class ItemControllerTest extends ControllerTest {
 		ItemRes itemRes3 = new ItemRes(2L, 1L, item3.getName(), item3.getStock(), item3.getDiscountPrice(), item3.getOriginalPrice(), item3.getDescription(), item3.getImage(), item3.getStore().getName(), item3.getStore().getCloseTime(), addressRes);
 		List<ItemRes> itemResList = List.of(itemRes, itemRes3);
 		boolean hasNext = false;
-		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext);
+		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext, null);
 
-		when(itemService.findAllForStore(any(), eq(pageRequest))).thenReturn(itemsRes);
+		when(itemService.findAllForStore(any(), any(), eq(pageRequest))).thenReturn(itemsRes);
 
 		//when
 		//then
@@ -535,7 +535,8 @@ class ItemControllerTest extends ControllerTest {
 				requestParameters(
 					List.of(
 						parameterWithName("size").description("한 페이지 당 상품 목록 개수"),
-						parameterWithName("page").description("페이지 번호")
+						parameterWithName("page").description("페이지 번호"),
+						parameterWithName("cursor").description("앞 페이지 응답의 다음 페이지 커서").optional()
 					)),
 				responseFields(
 					fieldWithPath("items").type(ARRAY).description("상품 목록"),
@@ -552,7 +553,8 @@ class ItemControllerTest extends ControllerTest {
 					fieldWithPath("items[0].storeAddress.name").type(STRING).description("업체 주소"),
 					fieldWithPath("items[0].storeAddress.xCoordinate").type(NUMBER).description("업체 주소 경도"),
 					fieldWithPath("items[0].storeAddress.yCoordinate").type(NUMBER).description("업체 주소 위도"),
-					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부")
+					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부"),
+					fieldWithPath("cursor").type(STRING).description("다음 페이지 커서").optional()
 				)
 			));
 	}
@@ -576,9 +578,9 @@ class ItemControllerTest extends ControllerTest {
 		ItemRes itemRes2 = new ItemRes(2L, 2L, item2.getName(), item2.getStock(), item2.getDiscountPrice(), item2.getOriginalPrice(), item2.getDescription(), item2.getImage(), item2.getStore().getName(), item2.getStore().getCloseTime(), addressRes2);
 		List<ItemRes> itemResList = List.of(itemRes, itemRes2);
 		boolean hasNext = false;
-		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext);
+		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext, null);
 
-		when(itemService.findAllForMember(anyDouble(), anyDouble(), eq(sortBy), eq(pageRequest))).thenReturn(itemsRes);
+		when(itemService.findAllForMember(anyDouble(), anyDouble(), eq(sortBy), any(), eq(pageRequest))).thenReturn(itemsRes);
 
 		//when
 		//then
@@ -613,7 +615,8 @@ class ItemControllerTest extends ControllerTest {
 						parameterWithName("y-coordinate").description("위도"),
 						parameterWithName("sort-by").description("정렬 기준"),
 						parameterWithName("size").description("한 페이지 당 상품 목록 개수"),
-						parameterWithName("page").description("페이지 번호")
+						parameterWithName("page").description("페이지 번호"),
+						parameterWithName("cursor").description("앞 페이지 응답의 다음 페이지 커서").optional()
 					)),
 				responseFields(
 					fieldWithPath("items").type(ARRAY).description("상품 목록"),
@@ -630,7 +633,8 @@ class ItemControllerTest extends ControllerTest {
 					fieldWithPath("items[0].storeAddress.name").type(STRING).description("업체 주소"),
 					fieldWithPath("items[0].storeAddress.xCoordinate").type(NUMBER).description("업체 주소 경도"),
 					fieldWithPath("items[0].storeAddress.yCoordinate").type(NUMBER).description("업체 주소 위도"),
-					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부")
+					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부"),
+					fieldWithPath("cursor").type(STRING).description("다음 페이지 커서").optional()
 				)
 			));
 	}
@@ -661,9 +665,9 @@ class ItemControllerTest extends ControllerTest {
 		ItemRes itemRes3 = new ItemRes(2L, storeId, item3.getName(), item3.getStock(), item3.getDiscountPrice(), item3.getOriginalPrice(), item3.getDescription(), item3.getImage(), item3.getStore().getName(), item3.getStore().getCloseTime(), addressRes);
 		List<ItemRes> itemResList = List.of(itemRes, itemRes3);
 		boolean hasNext = false;
-		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext);
+		ItemsRes itemsRes = new ItemsRes(itemResList, hasNext, null);
 
-		when(itemService.findAllByStoreId(any(), eq(pageRequest))).thenReturn(itemsRes);
+		when(itemService.findAllByStoreId(any(), any(), eq(pageRequest))).thenReturn(itemsRes);
 
 		//when
 		//then
@@ -696,7 +700,8 @@ class ItemControllerTest extends ControllerTest {
 				requestParameters(
 					List.of(
 						parameterWithName("size").description("한 페이지 당 상품 목록 개수"),
-						parameterWithName("page").description("페이지 번호")
+						parameterWithName("page").description("페이지 번호"),
+						parameterWithName("cursor").description("앞 페이지 응답의 다음 페이지 커서").optional()
 					)),
 				responseFields(
 					fieldWithPath("items").type(ARRAY).description("상품 목록"),
@@ -713,7 +718,8 @@ class ItemControllerTest extends ControllerTest {
 					fieldWithPath("items[0].storeAddress.name").type(STRING).description("업체 주소"),
 					fieldWithPath("items[0].storeAddress.xCoordinate").type(NUMBER).description("업체 주소 경도"),
 					fieldWithPath("items[0].storeAddress.yCoordinate").type(NUMBER).description("업체 주소 위도"),
-					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부")
+					fieldWithPath("hasNext").type(BOOLEAN).description("다음 데이터 존재 여부"),
+					fieldWithPath("cursor").type(STRING).description("다음 페이지 커서").optional()
 				)
 			));
 	}
@@ -0,0 +1,98 @@
+package com.palpal.dealightbe.domain.member.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.palpal.dealightbe.domain.member.domain.MemberSnapshot;
+import com.palpal.dealightbe.domain.member.domain.RoleType;
+import com.palpal.dealightbe.global.error.exception.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class MemberContextTest {
+
+	private static final Long PROVIDER_ID = 123L;
+
+	@Mock
+	private MemberSnapshotCache memberSnapshotCache;
+
+	private MemberContext memberContext;
+
+	@BeforeEach
+	void setUp() {
+		memberContext = new MemberContext(memberSnapshotCache);
+	}
+
+	@DisplayName("한 요청 안에서는 회원 정보를 한 번만 읽는다")
+	@Test
+	void getOncePerRequest() {
+		// given
+		MemberSnapshot snapshot = new MemberSnapshot(1L, PROVIDER_ID, List.of(RoleType.ROLE_STORE), 10L);
+		when(memberSnapshotCache.find(PROVIDER_ID)).thenReturn(Optional.of(snapshot));
+
+		// when
+		memberContext.get(PROVIDER_ID);
+		Long storeId = memberContext.getStoreId(PROVIDER_ID);
+
+		// then
+		assertThat(storeId).isEqualTo(10L);
+		verify(memberSnapshotCache, times(1)).find(PROVIDER_ID);
+		verify(memberSnapshotCache, never()).reload(PROVIDER_ID);
+	}
+
+	@DisplayName("업체가 없다고 캐시된 회원은 업체 id 를 찾을 때 DB 에서 다시 읽는다")
+	@Test
+	void reloadWhenStoreIsMissing() {
+		// given
+		when(memberSnapshotCache.find(PROVIDER_ID))
+			.thenReturn(Optional.of(new MemberSnapshot(1L, PROVIDER_ID, List.of(RoleType.ROLE_MEMBER), null)));
+		when(memberSnapshotCache.reload(PROVIDER_ID))
+			.thenReturn(Optional.of(new MemberSnapshot(1L, PROVIDER_ID, List.of(RoleType.ROLE_STORE), 10L)));
+
+		// when
+		Long storeId = memberContext.getStoreId(PROVIDER_ID);
+
+		// then
+		assertThat(storeId).isEqualTo(10L);
+		assertThat(memberContext.get(PROVIDER_ID).roles()).containsExactly(RoleType.ROLE_STORE);
+	}
+
+	@DisplayName("다시 읽으면 캐시된 권한 대신 DB 의 권한을 쓰고, 같은 요청의 다음 조회도 그 값을 쓴다")
+	@Test
+	void reloadChangedRoles() {
+		// given
+		when(memberSnapshotCache.reload(PROVIDER_ID))
+			.thenReturn(Optional.of(new MemberSnapshot(1L, PROVIDER_ID, List.of(RoleType.ROLE_STORE), 10L)));
+
+		// when
+		MemberSnapshot reloaded = memberContext.reload(PROVIDER_ID);
+
+		// then
+		assertThat(reloaded.roles()).containsExactly(RoleType.ROLE_STORE);
+		assertThat(memberContext.get(PROVIDER_ID)).isSameAs(reloaded);
+		verify(memberSnapshotCache, never()).find(PROVIDER_ID);
+	}
+
+	@DisplayName("존재하지 않는 회원이면 예외가 발생한다")
+	@Test
+	void notFoundMember() {
+		// given
+		when(memberSnapshotCache.find(PROVIDER_ID)).thenReturn(Optional.empty());
+
+		// when -> then
+		assertThrows(EntityNotFoundException.class, () -> memberContext.get(PROVIDER_ID));
+	}
+}
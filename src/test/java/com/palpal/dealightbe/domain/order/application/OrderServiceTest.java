@@ -29,11 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.notification.application.NotificationService;
@@ -59,6 +61,10 @@ class OrderServiceTest {
 	private StoreRepository storeRepository;
 	@Mock
 	private NotificationService notificationService;
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+	@Mock
+	private MemberContext memberContext;
 
 	@InjectMocks
 	private OrderService orderService;
@@ -415,6 +421,8 @@ class OrderServiceTest {
 
 				when(storeRepository.findById(storeId))
 					.thenReturn(Optional.ofNullable(store));
+				when(memberContext.getStoreId(storeOwner.getProviderId()))
+					.thenReturn(storeId);
 
 				// when
 				OrdersRes result = orderService.findAllByStoreId(storeId, storeOwner.getProviderId(), null,
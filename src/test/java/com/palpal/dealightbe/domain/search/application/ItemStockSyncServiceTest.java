@@ -0,0 +1,113 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+import com.palpal.dealightbe.domain.item.domain.ItemStockChangedEvent;
+import com.palpal.dealightbe.domain.item.domain.UpdatedItemRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ItemStockSyncServiceTest {
+
+	@Mock
+	private ItemRepository itemRepository;
+
+	@Mock
+	private UpdatedItemRepository updatedItemRepository;
+
+	@Mock
+	private StoreSearchRepository storeSearchRepository;
+
+	@Mock
+	private StoreSearchCache storeSearchCache;
+
+	private ItemStockSyncService itemStockSyncService;
+
+	@BeforeEach
+	void setUp() {
+		itemStockSyncService = new ItemStockSyncService(itemRepository, updatedItemRepository,
+			storeSearchRepository, storeSearchCache, new SimpleMeterRegistry());
+	}
+
+	@DisplayName("같은 업체 상품의 재고 변경은 반영 시점의 재고로 합쳐 한 번만 갱신한다")
+	@Test
+	void coalesceStockChangesPerStore() {
+		// given
+		itemStockSyncService.onStockChanged(new ItemStockChangedEvent(1L, 10L, false));
+		itemStockSyncService.onStockChanged(new ItemStockChangedEvent(1L, 10L, false));
+		itemStockSyncService.onStockChanged(new ItemStockChangedEvent(2L, 10L, false));
+
+		when(itemRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(createItem(1L, 3), createItem(2L, 7)));
+		when(storeSearchRepository.bulkUpdateItemStocks(anyMap()))
+			.thenReturn(new BulkIndexResult(1, List.of(), Duration.ofMillis(5)));
+
+		// when
+		itemStockSyncService.flush();
+		itemStockSyncService.flush();
+
+		// then
+		ArgumentCaptor<Map<String, Map<String, Integer>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(storeSearchRepository, times(1)).bulkUpdateItemStocks(captor.capture());
+		assertThat(captor.getValue()).isEqualTo(Map.of("10", Map.of("1", 3, "2", 7)));
+		verify(storeSearchCache, never()).evictAround(anyList());
+	}
+
+	@DisplayName("일시적으로 실패한 업체의 재고 변경은 다음 주기에 다시 반영한다")
+	@Test
+	void requeueRetryableFailures() {
+		// given
+		itemStockSyncService.onStockChanged(new ItemStockChangedEvent(1L, 10L, true));
+
+		when(itemRepository.findAllById(Set.of(1L))).thenReturn(List.of(createItem(1L, 0)));
+		when(storeSearchRepository.bulkUpdateItemStocks(anyMap()))
+			.thenReturn(new BulkIndexResult(1, List.of(new BulkIndexFailure("store-write", "10", 429, "rejected")),
+				Duration.ofMillis(5)))
+			.thenReturn(new BulkIndexResult(1, List.of(), Duration.ofMillis(5)));
+
+		// when
+		itemStockSyncService.flush();
+		itemStockSyncService.flush();
+
+		// then
+		verify(storeSearchRepository, times(2)).bulkUpdateItemStocks(Map.of("10", Map.of("1", 0)));
+		verify(storeSearchRepository, times(1)).findAllByIds(List.of("10"));
+	}
+
+	private Item createItem(Long id, int stock) {
+		Item item = Item.builder()
+			.name("떡볶이")
+			.stock(stock)
+			.discountPrice(3000)
+			.originalPrice(4000)
+			.build();
+		ReflectionTestUtils.setField(item, "id", id);
+
+		return item;
+	}
+}
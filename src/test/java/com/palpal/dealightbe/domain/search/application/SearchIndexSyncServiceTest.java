@@ -0,0 +1,179 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.item.infrastructure.ItemSearchRepositoryImpl;
+import com.palpal.dealightbe.domain.search.domain.IndexWatermark;
+import com.palpal.dealightbe.domain.search.domain.IndexWatermarkRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexSyncServiceTest {
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 11, 13, 10, 0);
+
+	@Mock
+	private UpdatedStoreRepository updatedStoreRepository;
+
+	@Mock
+	private IndexWatermarkRepository indexWatermarkRepository;
+
+	@Mock
+	private StoreSearchRepository storeSearchRepository;
+
+	@Mock
+	private ItemSearchRepositoryImpl itemSearchRepositoryImpl;
+
+	@Mock
+	private StoreSearchCache storeSearchCache;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SearchIndexSyncService searchIndexSyncService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		searchIndexSyncService = new SearchIndexSyncService(updatedStoreRepository, indexWatermarkRepository,
+			storeSearchRepository, Optional.of(itemSearchRepositoryImpl), storeSearchCache, new ElasticSearchProperty(),
+			meterRegistry);
+	}
+
+	@DisplayName("변경분을 색인한 뒤 마지막 업체 위치로 워터마크를 옮긴다")
+	@Test
+	void advanceWatermarkAfterIndexing() {
+		// given
+		UpdatedStore first = createUpdatedStore(1L, BASE_TIME);
+		UpdatedStore second = createUpdatedStore(2L, BASE_TIME.plusSeconds(1));
+
+		when(indexWatermarkRepository.findById("store")).thenReturn(Optional.empty());
+		when(updatedStoreRepository.findChangesAfter(any(), any(), any(), any())).thenReturn(List.of(first, second));
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList()))
+			.thenReturn(new BulkIndexResult(2, List.of(), Duration.ofMillis(10)));
+		when(itemSearchRepositoryImpl.bulkInsertOrUpdate(anyList())).thenReturn(BulkIndexResult.empty());
+
+		// when
+		searchIndexSyncService.syncChanges();
+
+		// then
+		ArgumentCaptor<IndexWatermark> captor = ArgumentCaptor.forClass(IndexWatermark.class);
+		verify(indexWatermarkRepository).save(captor.capture());
+		assertThat(captor.getValue().getUpdatedAt()).isEqualTo(BASE_TIME.plusSeconds(1));
+		assertThat(captor.getValue().getLastId()).isEqualTo(2L);
+		verify(updatedStoreRepository).markAllAsDoneByIdIn(List.of(1L, 2L));
+	}
+
+	@DisplayName("색인에 실패한 업체 앞에서 워터마크를 멈춰 다음 실행에서 다시 시도한다")
+	@Test
+	void stopWatermarkAtFirstFailure() {
+		// given
+		UpdatedStore first = createUpdatedStore(1L, BASE_TIME);
+		UpdatedStore second = createUpdatedStore(2L, BASE_TIME.plusSeconds(1));
+		UpdatedStore third = createUpdatedStore(3L, BASE_TIME.plusSeconds(2));
+		BulkIndexFailure failure = new BulkIndexFailure("store", "2", 429, "rejected");
+
+		when(indexWatermarkRepository.findById("store")).thenReturn(Optional.empty());
+		when(updatedStoreRepository.findChangesAfter(any(), any(), any(), any()))
+			.thenReturn(List.of(first, second, third));
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList()))
+			.thenReturn(new BulkIndexResult(3, List.of(failure), Duration.ofMillis(10)));
+		when(itemSearchRepositoryImpl.bulkInsertOrUpdate(anyList())).thenReturn(BulkIndexResult.empty());
+
+		// when
+		searchIndexSyncService.syncChanges();
+
+		// then
+		ArgumentCaptor<IndexWatermark> captor = ArgumentCaptor.forClass(IndexWatermark.class);
+		verify(indexWatermarkRepository).save(captor.capture());
+		assertThat(captor.getValue().getLastId()).isEqualTo(1L);
+		verify(updatedStoreRepository).markAllAsDoneByIdIn(List.of(1L));
+	}
+
+	@DisplayName("다시 보내도 실패할 문서(매핑 오류 등)는 기록만 하고 건너뛰어 워터마크를 계속 옮긴다")
+	@Test
+	void skipPermanentFailure() {
+		// given
+		UpdatedStore first = createUpdatedStore(1L, BASE_TIME);
+		UpdatedStore second = createUpdatedStore(2L, BASE_TIME.plusSeconds(1));
+		UpdatedStore third = createUpdatedStore(3L, BASE_TIME.plusSeconds(2));
+		BulkIndexFailure failure = new BulkIndexFailure("store", "2", 400, "mapper_parsing_exception");
+
+		when(indexWatermarkRepository.findById("store")).thenReturn(Optional.empty());
+		when(updatedStoreRepository.findChangesAfter(any(), any(), any(), any()))
+			.thenReturn(List.of(first, second, third));
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList()))
+			.thenReturn(new BulkIndexResult(3, List.of(failure), Duration.ofMillis(10)));
+		when(itemSearchRepositoryImpl.bulkInsertOrUpdate(anyList())).thenReturn(BulkIndexResult.empty());
+
+		// when
+		searchIndexSyncService.syncChanges();
+
+		// then
+		ArgumentCaptor<IndexWatermark> captor = ArgumentCaptor.forClass(IndexWatermark.class);
+		verify(indexWatermarkRepository).save(captor.capture());
+		assertThat(captor.getValue().getLastId()).isEqualTo(3L);
+		verify(updatedStoreRepository).markAllAsDoneByIdIn(List.of(1L, 2L, 3L));
+		assertThat(meterRegistry.get("search.indexer.skipped").tag("document", "store").counter().count())
+			.isEqualTo(1);
+	}
+
+	@DisplayName("변경분이 없으면 아무것도 색인하지 않는다")
+	@Test
+	void doNothingWithoutChanges() {
+		// given
+		when(indexWatermarkRepository.findById("store")).thenReturn(Optional.empty());
+		when(updatedStoreRepository.findChangesAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+		// when
+		searchIndexSyncService.syncChanges();
+
+		// then
+		verify(storeSearchRepository, never()).bulkInsertOrUpdate(anyList());
+		verify(indexWatermarkRepository, never()).save(any());
+		verify(updatedStoreRepository).countChangesAfter(any(), eq(0L));
+	}
+
+	private UpdatedStore createUpdatedStore(Long id, LocalDateTime updatedAt) {
+		UpdatedStore updatedStore = UpdatedStore.builder()
+			.id(id)
+			.xCoordinate(127.0)
+			.yCoordinate(37.5)
+			.name("업체" + id)
+			.storeStatus(StoreStatus.OPENED)
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.image("image")
+			.build();
+		ReflectionTestUtils.setField(updatedStore, "updatedAt", updatedAt);
+
+		return updatedStore;
+	}
+}
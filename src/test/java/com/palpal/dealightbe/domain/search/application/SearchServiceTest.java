@@ -0,0 +1,235 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.store.domain.Store;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchSlice;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+	private SearchService searchService;
+
+	@Mock
+	private UpdatedStoreRepository updatedStoreRepository;
+
+	@Mock
+	private StoreSearchRepository storeSearchRepository;
+
+	@Mock
+	private StoreSearchCache storeSearchCache;
+
+	@Mock
+	private StoreRepository storeRepository;
+
+	private final CircuitBreaker storeSearchCircuitBreaker = CircuitBreaker.ofDefaults("storeSearch");
+
+	@BeforeEach
+	void setUp() {
+		searchService = new SearchService(updatedStoreRepository, storeSearchRepository, storeSearchCache,
+			storeRepository, storeSearchCircuitBreaker);
+	}
+
+	@DisplayName("다음 페이지가 있으면 마지막 정렬 값을 담은 커서로 이어서 조회한다")
+	@Test
+	void searchNextPageWithCursor() {
+		// given
+		StoreDocument storeDocument = StoreDocument.from(createUpdatedStore(1L, StoreStatus.OPENED));
+		List<Object> lastSortValues = List.of(0.25, "1");
+
+		when(storeSearchCache.get(any(), any())).thenAnswer(invocation -> {
+			Function<StoreSearchCacheKey, StoreSearchRes> loader = invocation.getArgument(1);
+			return loader.apply(invocation.getArgument(0));
+		});
+		when(storeSearchRepository.searchStores(anyDouble(), anyDouble(), any(), any(), anyLong(), any(), any()))
+			.thenReturn(new StoreSearchSlice(List.of(storeDocument), true, lastSortValues))
+			.thenReturn(new StoreSearchSlice(List.of(storeDocument), false, null));
+
+		// when
+		StoreSearchRes firstPage = searchService.searchToES(127.0279372, 37.4980136, "떡볶이", "distance", null,
+			PageRequest.of(0, 1));
+		StoreSearchRes secondPage = searchService.searchToES(127.0279372, 37.4980136, "떡볶이", "distance",
+			firstPage.cursor(), PageRequest.of(0, 1));
+
+		// then
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.cursor()).isNull();
+		verify(storeSearchRepository).searchStores(anyDouble(), anyDouble(), any(), any(), anyLong(), isNull(),
+			any());
+		verify(storeSearchRepository).searchStores(anyDouble(), anyDouble(), any(), any(), anyLong(),
+			eq(lastSortValues), any());
+	}
+
+	@DisplayName("차단기가 열려 있으면 ES 를 호출하지 않고 MySQL 검색 결과로 첫 페이지를 응답한다")
+	@Test
+	void fallbackToDatabaseWhenCircuitIsOpen() {
+		// given
+		Store store = Store.builder()
+			.name("떡볶이 파는집")
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.build();
+
+		storeSearchCircuitBreaker.transitionToOpenState();
+		when(storeSearchCache.get(any(), any())).thenAnswer(invocation -> {
+			Function<StoreSearchCacheKey, StoreSearchRes> loader = invocation.getArgument(1);
+			return loader.apply(invocation.getArgument(0));
+		});
+		when(storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(anyDouble(), anyDouble(), any(), any(),
+			isNull(), any()))
+			.thenReturn(new SliceImpl<>(List.of(store), PageRequest.of(0, 10), true));
+
+		// when
+		StoreSearchRes storeSearchRes = searchService.searchToES(127.0279372, 37.4980136, "떡볶이", "distance", null,
+			PageRequest.of(0, 10));
+
+		// then
+		assertThat(storeSearchRes.storeInfoSliceRes()).hasSize(1);
+		assertThat(storeSearchRes.hasNext()).isFalse();
+		assertThat(storeSearchRes.cursor()).isNull();
+		verify(storeSearchRepository, never()).searchStores(anyDouble(), anyDouble(), any(), any(), anyLong(),
+			any(), any());
+	}
+
+	@DisplayName("ES 연결에 실패하면 MySQL 검색 결과로 첫 페이지를 응답한다")
+	@Test
+	void fallbackToDatabaseWhenSearchBackendFails() {
+		// given
+		when(storeSearchCache.get(any(), any()))
+			.thenThrow(new DataAccessResourceFailureException("Connection refused"));
+		when(storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(anyDouble(), anyDouble(), any(), any(),
+			isNull(), any()))
+			.thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+
+		// when
+		StoreSearchRes storeSearchRes = searchService.searchToES(127.0279372, 37.4980136, "떡볶이", "distance", null,
+			PageRequest.of(0, 10));
+
+		// then
+		assertThat(storeSearchRes.storeInfoSliceRes()).isEmpty();
+	}
+
+	@DisplayName("ES 장애가 아닌 예외는 MySQL 로 대신하지 않고 그대로 던진다")
+	@Test
+	void propagateNonSearchBackendFailure() {
+		// given
+		when(storeSearchCache.get(any(), any())).thenThrow(new NullPointerException());
+
+		// when -> then
+		assertThatThrownBy(() -> searchService.searchToES(127.0279372, 37.4980136, "떡볶이", "distance", null,
+			PageRequest.of(0, 10)))
+			.isInstanceOf(NullPointerException.class);
+		verify(storeRepository, never()).findByKeywordAndDistanceWithin3KmAndSortCondition(anyDouble(), anyDouble(),
+			any(), any(), any(), any());
+	}
+
+	@DisplayName("상태와 상품이 모두 같은 업체는 업데이트하지 않는다")
+	@Test
+	void skipUnchangedStores() {
+		// given
+		UpdatedStore updatedStore = createUpdatedStore(1L, StoreStatus.OPENED);
+		StoreDocument storeDocument = StoreDocument.from(updatedStore);
+
+		when(updatedStoreRepository.findAllWithItemsByDocumentStatusIsDone()).thenReturn(List.of(updatedStore));
+		when(storeSearchRepository.findAllByIds(List.of("1"))).thenReturn(List.of(storeDocument));
+
+		// when
+		searchService.updateStatusToES();
+
+		// then
+		verify(storeSearchRepository, never()).bulkUpdateStatusAndItems(any(), any());
+	}
+
+	@DisplayName("상태나 상품이 달라진 업체만 한 번의 bulk 요청으로 부분 업데이트한다")
+	@SuppressWarnings("unchecked")
+	@Test
+	void bulkUpdateChangedStores() {
+		// given
+		UpdatedStore unchangedStore = createUpdatedStore(1L, StoreStatus.OPENED);
+		StoreDocument unchangedDocument = StoreDocument.from(unchangedStore);
+
+		UpdatedStore closedStore = createUpdatedStore(2L, StoreStatus.OPENED);
+		StoreDocument openedDocument = StoreDocument.from(closedStore);
+		closedStore.updateStoreStatus(StoreStatus.CLOSED);
+
+		UpdatedStore storeWithNewItem = createUpdatedStore(3L, StoreStatus.OPENED);
+		StoreDocument documentWithoutItem = StoreDocument.from(storeWithNewItem);
+		UpdatedItem updatedItem = UpdatedItem.builder()
+			.id(10L)
+			.name("떡볶이")
+			.stock(3)
+			.discountPrice(3000)
+			.originalPrice(5000)
+			.store(storeWithNewItem)
+			.build();
+		storeWithNewItem.addItem(updatedItem);
+
+		when(updatedStoreRepository.findAllWithItemsByDocumentStatusIsDone())
+			.thenReturn(List.of(unchangedStore, closedStore, storeWithNewItem));
+		when(storeSearchRepository.findAllByIds(anyList()))
+			.thenReturn(List.of(unchangedDocument, openedDocument, documentWithoutItem));
+
+		// when
+		searchService.updateStatusToES();
+
+		// then
+		ArgumentCaptor<Map<String, StoreStatus>> statusCaptor = ArgumentCaptor.forClass(Map.class);
+		ArgumentCaptor<Map<String, StoreDocument>> itemsCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(storeSearchRepository).bulkUpdateStatusAndItems(statusCaptor.capture(), itemsCaptor.capture());
+
+		assertThat(statusCaptor.getValue()).containsOnlyKeys("2");
+		assertThat(statusCaptor.getValue().get("2")).isEqualTo(StoreStatus.CLOSED);
+		assertThat(itemsCaptor.getValue()).containsOnlyKeys("3");
+		assertThat(itemsCaptor.getValue().get("3").getItems()).hasSize(1);
+	}
+
+	private UpdatedStore createUpdatedStore(Long id, StoreStatus storeStatus) {
+		return UpdatedStore.builder()
+			.id(id)
+			.xCoordinate(127.0)
+			.yCoordinate(37.5)
+			.name("업체" + id)
+			.storeStatus(storeStatus)
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.image("image")
+			.build();
+	}
+}
@@ -0,0 +1,211 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.address.domain.Address;
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.UpdatedItem;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreIndexDriftRes;
+import com.palpal.dealightbe.domain.store.domain.DayOff;
+import com.palpal.dealightbe.domain.store.domain.Store;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreRepository;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStore;
+import com.palpal.dealightbe.domain.store.domain.UpdatedStoreRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class StoreIndexConsistencyServiceTest {
+
+	@Mock
+	private UpdatedStoreRepository updatedStoreRepository;
+
+	@Mock
+	private StoreRepository storeRepository;
+
+	@Mock
+	private StoreSearchRepository storeSearchRepository;
+
+	@Mock
+	private SearchIndexSyncService searchIndexSyncService;
+
+	@Mock
+	private StoreSearchCache storeSearchCache;
+
+	private StoreIndexConsistencyService storeIndexConsistencyService;
+
+	@BeforeEach
+	void setUp() {
+		ElasticSearchProperty elasticSearchProperty = new ElasticSearchProperty();
+		elasticSearchProperty.setConsistencyRangePauseMillis(0);
+		storeIndexConsistencyService = new StoreIndexConsistencyService(updatedStoreRepository, storeRepository,
+			storeSearchRepository, searchIndexSyncService, storeSearchCache, elasticSearchProperty,
+			new SimpleMeterRegistry());
+
+		// 원본: 1(일치), 2(재고 다름), 3(색인 누락) / 색인: 1, 2, 5(원본에 없음)
+		when(searchIndexSyncService.syncedUntil()).thenReturn(LocalDateTime.now());
+		when(updatedStoreRepository.findMaxId()).thenReturn(3L);
+		List<UpdatedStore> sources = List.of(createUpdatedStore(1L, 5), createUpdatedStore(2L, 0),
+			createUpdatedStore(3L, 5));
+		when(updatedStoreRepository.findAllWithItemsByIdBetween(1L, 3L)).thenReturn(sources);
+		when(updatedStoreRepository.findAllWithItemsByIdBetween(4L, Long.MAX_VALUE)).thenReturn(List.of());
+		when(storeSearchRepository.findAllInIdRange(eq(1L), eq(3L), anyInt())).thenReturn(List.of(
+			StoreDocument.from(sources.get(0)), StoreDocument.from(createUpdatedStore(2L, 5))));
+		when(storeSearchRepository.findAllInIdRange(eq(4L), eq(Long.MAX_VALUE), anyInt())).thenReturn(List.of(
+			StoreDocument.from(createUpdatedStore(5L, 5))));
+	}
+
+	@DisplayName("id 구간별로 누락, 원본에 없는 문서, 내용이 다른 문서를 찾아 보고한다")
+	@Test
+	void reportDrift() {
+		// when
+		StoreIndexDriftRes storeIndexDriftRes = storeIndexConsistencyService.check(false);
+
+		// then
+		assertThat(storeIndexDriftRes.sourceCount()).isEqualTo(3);
+		assertThat(storeIndexDriftRes.indexedCount()).isEqualTo(3);
+		assertThat(storeIndexDriftRes.missingIds()).containsExactly("3");
+		assertThat(storeIndexDriftRes.extraIds()).containsExactly("5");
+		assertThat(storeIndexDriftRes.mismatchedIds()).containsExactly("2");
+		verify(storeSearchRepository, never()).bulkInsertOrUpdate(anyList());
+		verify(storeSearchRepository, never()).bulkDelete(anyList());
+	}
+
+	@DisplayName("복구하면 누락되거나 다른 문서는 원본으로 다시 올리고, 원본에 없는 문서는 지운다")
+	@Test
+	void repairDrift() {
+		// given
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList()))
+			.thenReturn(new BulkIndexResult(2, List.of(), Duration.ofMillis(5)));
+		when(storeSearchRepository.bulkDelete(anyList()))
+			.thenReturn(new BulkIndexResult(1, List.of(), Duration.ofMillis(5)));
+
+		// when
+		StoreIndexDriftRes storeIndexDriftRes = storeIndexConsistencyService.check(true);
+
+		// then
+		ArgumentCaptor<List<StoreDocument>> upserts = ArgumentCaptor.forClass(List.class);
+		verify(storeSearchRepository).bulkInsertOrUpdate(upserts.capture());
+		assertThat(upserts.getValue()).extracting(StoreDocument::getId).containsExactly("2", "3");
+		verify(storeSearchRepository).bulkDelete(List.of("5"));
+		verify(storeSearchCache).evictAll();
+		assertThat(storeIndexDriftRes.repaired()).isTrue();
+	}
+
+	@DisplayName("storeId 가 없는 예전 문서는 문서 id 로 원본과 맞춰, 원본이 있으면 다시 올리고 없으면 원본에 없는 문서로 본다")
+	@Test
+	void reportLegacyDocuments() {
+		// given
+		when(storeSearchRepository.findIdsWithoutStoreId(anyInt())).thenReturn(List.of("3", "7"));
+
+		// when
+		StoreIndexDriftRes storeIndexDriftRes = storeIndexConsistencyService.check(false);
+
+		// then
+		assertThat(storeIndexDriftRes.indexedCount()).isEqualTo(5);
+		assertThat(storeIndexDriftRes.missingIds()).isEmpty();
+		assertThat(storeIndexDriftRes.mismatchedIds()).containsExactly("2", "3");
+		assertThat(storeIndexDriftRes.extraIds()).containsExactly("5", "7");
+		assertThat(storeIndexConsistencyService.lastResult()).contains(storeIndexDriftRes);
+	}
+
+	@DisplayName("색인 원본이 원본 테이블과 다르거나 색인 원본에 없는 업체는 copyDrift 로 보고하고 색인 복구로 고치지 않는다")
+	@Test
+	void reportCopyDrift() {
+		// given
+		Store closedStore = createStore(2L, 0);
+		closedStore.updateStatus(StoreStatus.CLOSED);
+		when(storeRepository.findAllWithAddressAndItemsByIdBetween(1L, 3L))
+			.thenReturn(List.of(createStore(1L, 5), closedStore, createStore(3L, 5)));
+		when(storeRepository.findAllWithAddressAndItemsByIdBetween(4L, Long.MAX_VALUE))
+			.thenReturn(List.of(createStore(4L, 5)));
+
+		// when
+		StoreIndexDriftRes storeIndexDriftRes = storeIndexConsistencyService.check(false);
+
+		// then
+		assertThat(storeIndexDriftRes.copyDriftCount()).isEqualTo(2);
+		assertThat(storeIndexDriftRes.copyDriftIds()).containsExactly("2", "4");
+	}
+
+	private Store createStore(Long id, int stock) {
+		Address address = Address.builder()
+			.name("주소" + id)
+			.xCoordinate(127.0)
+			.yCoordinate(37.5)
+			.build();
+		Store store = Store.builder()
+			.name("업체" + id)
+			.storeNumber("0000000")
+			.telephone("00000000")
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.dayOff(Collections.singleton(DayOff.MON))
+			.address(address)
+			.build();
+		store.updateStatus(StoreStatus.OPENED);
+		ReflectionTestUtils.setField(store, "id", id);
+
+		Item item = Item.builder()
+			.name("떡볶이")
+			.stock(stock)
+			.discountPrice(3000)
+			.originalPrice(4000)
+			.store(store)
+			.build();
+		ReflectionTestUtils.setField(item, "id", id * 100);
+		store.addItem(item);
+
+		return store;
+	}
+
+	private UpdatedStore createUpdatedStore(Long id, int stock) {
+		UpdatedStore updatedStore = UpdatedStore.builder()
+			.id(id)
+			.xCoordinate(127.0)
+			.yCoordinate(37.5)
+			.name("업체" + id)
+			.storeStatus(StoreStatus.OPENED)
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.image("image")
+			.build();
+		updatedStore.addItem(UpdatedItem.builder()
+			.id(id * 10)
+			.itemId(id * 100)
+			.name("떡볶이")
+			.stock(stock)
+			.discountPrice(3000)
+			.originalPrice(4000)
+			.store(updatedStore)
+			.build());
+
+		return updatedStore;
+	}
+}
@@ -0,0 +1,265 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreReindexRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreReindexStatusRes;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSearchRepository;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSourceReader;
+import com.palpal.dealightbe.domain.store.infrastructure.StoreSourceReader.IdRange;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexFailure;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+import com.palpal.dealightbe.global.error.ErrorCode;
+import com.palpal.dealightbe.global.error.exception.BusinessException;
+import com.palpal.dealightbe.global.lock.LockHandle;
+import com.palpal.dealightbe.global.lock.RedisLockManager;
+
+@ExtendWith(MockitoExtension.class)
+class StoreIndexRebuildServiceTest {
+
+	private static final String NEW_INDEX = "store-v20231113100000";
+
+	@Mock
+	private StoreSourceReader storeSourceReader;
+
+	@Mock
+	private StoreSearchRepository storeSearchRepository;
+
+	@Mock
+	private SearchIndexSyncService searchIndexSyncService;
+
+	@Mock
+	private StoreIndexConsistencyService storeIndexConsistencyService;
+
+	@Mock
+	private StoreSearchCache storeSearchCache;
+
+	@Mock
+	private RedisLockManager redisLockManager;
+
+	private StoreIndexRebuildService storeIndexRebuildService;
+
+	@BeforeEach
+	void setUp() {
+		storeIndexRebuildService = new StoreIndexRebuildService(storeSourceReader, storeSearchRepository,
+			searchIndexSyncService, storeIndexConsistencyService, storeSearchCache, redisLockManager,
+			new ElasticSearchProperty());
+	}
+
+	@AfterEach
+	void tearDown() {
+		storeIndexRebuildService.shutdown();
+	}
+
+	@DisplayName("모든 업체를 새 인덱스에 적재하고 문서 수가 맞으면 조회 대상을 교체한 뒤 정합성 검사로 재고를 맞춘다")
+	@Test
+	void publishAfterRebuild() {
+		// given
+		givenLocksAcquired();
+		givenStoresLoaded();
+		when(storeSearchRepository.count(NEW_INDEX)).thenReturn(2L);
+
+		// when
+		StoreReindexRes storeReindexRes = storeIndexRebuildService.rebuild();
+
+		// then
+		assertThat(storeReindexRes.index()).isEqualTo(NEW_INDEX);
+		assertThat(storeReindexRes.documentCount()).isEqualTo(2L);
+		verify(storeSearchRepository).finishLoading(NEW_INDEX);
+		verify(storeSearchRepository).publish(NEW_INDEX);
+		verify(searchIndexSyncService).rewindTo(any());
+		verify(storeIndexConsistencyService).checkInBackground(true);
+	}
+
+	@DisplayName("요청 스레드에서는 락만 잡고 돌아오며, 재구축이 끝나면 결과를 상태로 조회할 수 있다")
+	@Test
+	void rebuildInBackground() throws InterruptedException {
+		// given
+		givenLocksAcquired();
+		givenStoresLoaded();
+		when(storeSearchRepository.count(NEW_INDEX)).thenReturn(2L);
+
+		// when
+		storeIndexRebuildService.start();
+		StoreReindexStatusRes status = awaitFinished();
+
+		// then
+		assertThat(status.status()).isEqualTo("COMPLETED");
+		assertThat(status.result().index()).isEqualTo(NEW_INDEX);
+		verify(storeSearchRepository).publish(NEW_INDEX);
+	}
+
+	@DisplayName("다른 인스턴스가 재구축 중이면 재구축을 넘기지 않고 요청 스레드에서 예외가 발생한다")
+	@Test
+	void failToStartWhenRebuildIsRunning() {
+		// given
+		when(redisLockManager.tryLock(eq("search:store-rebuild"), any())).thenReturn(Optional.empty());
+
+		// when -> then
+		assertThatThrownBy(() -> storeIndexRebuildService.start())
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SEARCH_REINDEX_ALREADY_RUNNING);
+		assertThat(storeIndexRebuildService.status().status()).isEqualTo("IDLE");
+	}
+
+	@DisplayName("적재한 문서 수가 원본과 다르면 새 인덱스를 지우고 조회 대상을 교체하지 않는다")
+	@Test
+	void deleteNewIndexOnCountMismatch() {
+		// given
+		when(redisLockManager.tryLock(eq("search:store-rebuild"), any())).thenReturn(Optional.of(mock(LockHandle.class)));
+		givenStoresLoaded();
+		when(storeSearchRepository.count(NEW_INDEX)).thenReturn(1L);
+
+		// when -> then
+		assertThatThrownBy(() -> storeIndexRebuildService.rebuild())
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SEARCH_REINDEX_COUNT_MISMATCH);
+		verify(storeSearchRepository).discard(NEW_INDEX);
+		verify(storeSearchRepository, never()).publish(any());
+	}
+
+	@DisplayName("한 구간의 색인이 실패하면 새 인덱스를 지우고 조회 대상을 교체하지 않는다")
+	@Test
+	void deleteNewIndexOnPartitionFailure() {
+		// given
+		when(redisLockManager.tryLock(eq("search:store-rebuild"), any())).thenReturn(Optional.of(mock(LockHandle.class)));
+		when(storeSearchRepository.createRebuildTarget()).thenReturn(NEW_INDEX);
+		givenStoresStreamed();
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList(), eq(NEW_INDEX)))
+			.thenReturn(new BulkIndexResult(1, List.of(new BulkIndexFailure(NEW_INDEX, "1", 400, "mapper_parsing")),
+				Duration.ofMillis(10)));
+
+		// when -> then
+		assertThatThrownBy(() -> storeIndexRebuildService.rebuild())
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SEARCH_REINDEX_FAILED);
+		verify(storeSearchRepository).discard(NEW_INDEX);
+		verify(storeSearchRepository, never()).publish(any());
+	}
+
+	@DisplayName("다른 인스턴스가 재구축 중이면 예외가 발생한다")
+	@Test
+	void failWhenRebuildIsRunning() {
+		// given
+		when(redisLockManager.tryLock(eq("search:store-rebuild"), any())).thenReturn(Optional.empty());
+
+		// when -> then
+		assertThatThrownBy(() -> storeIndexRebuildService.rebuild())
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(ErrorCode.SEARCH_REINDEX_ALREADY_RUNNING);
+		verify(storeSearchRepository, never()).createRebuildTarget();
+	}
+
+	@DisplayName("조회 중인 색인의 매핑이 오래됐으면 시작할 때 새 인덱스로 재구축하고 조회 대상을 교체한다")
+	@Test
+	void rebuildOnStartupWhenMappingOutdated() throws InterruptedException {
+		// given
+		when(storeSearchRepository.requiresRebuild()).thenReturn(true);
+		givenLocksAcquired();
+		givenStoresLoaded();
+		when(storeSearchRepository.count(NEW_INDEX)).thenReturn(2L);
+
+		// when
+		storeIndexRebuildService.rebuildIfMappingOutdated();
+		StoreReindexStatusRes status = awaitFinished();
+
+		// then
+		assertThat(status.status()).isEqualTo("COMPLETED");
+		verify(storeSearchRepository).publish(NEW_INDEX);
+	}
+
+	@DisplayName("조회 중인 색인의 매핑이 최신이면 시작할 때 재구축하지 않는다")
+	@Test
+	void skipStartupRebuildWhenMappingCurrent() {
+		// given
+		when(storeSearchRepository.requiresRebuild()).thenReturn(false);
+
+		// when
+		storeIndexRebuildService.rebuildIfMappingOutdated();
+
+		// then
+		verify(redisLockManager, never()).tryLock(any(), any());
+		assertThat(storeIndexRebuildService.status().status()).isEqualTo("IDLE");
+	}
+
+	@DisplayName("다른 인스턴스가 이미 재구축 중이면 시작할 때의 재구축을 건너뛴다")
+	@Test
+	void skipStartupRebuildWhenRebuildIsRunning() {
+		// given
+		when(storeSearchRepository.requiresRebuild()).thenReturn(true);
+		when(redisLockManager.tryLock(eq("search:store-rebuild"), any())).thenReturn(Optional.empty());
+
+		// when
+		storeIndexRebuildService.rebuildIfMappingOutdated();
+
+		// then
+		verify(storeSearchRepository, never()).createRebuildTarget();
+	}
+
+	private StoreReindexStatusRes awaitFinished() throws InterruptedException {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while ("RUNNING".equals(storeIndexRebuildService.status().status()) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		return storeIndexRebuildService.status();
+	}
+
+	private void givenLocksAcquired() {
+		when(redisLockManager.tryLock(any(), any())).thenReturn(Optional.of(mock(LockHandle.class)));
+	}
+
+	private void givenStoresLoaded() {
+		when(storeSearchRepository.createRebuildTarget()).thenReturn(NEW_INDEX);
+		givenStoresStreamed();
+		when(storeSearchRepository.bulkInsertOrUpdate(anyList(), eq(NEW_INDEX)))
+			.thenReturn(new BulkIndexResult(1, List.of(), Duration.ofMillis(10)));
+	}
+
+	// 업체 id 1~2 는 구간 두 개로 나뉘고, 구간마다 업체 하나를 읽는다.
+	private void givenStoresStreamed() {
+		when(storeSourceReader.findIdRange()).thenReturn(Optional.of(new IdRange(1L, 2L)));
+		when(storeSourceReader.stream(any(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+			IdRange range = invocation.getArgument(0);
+			Consumer<List<StoreDocument>> batchConsumer = invocation.getArgument(3);
+			batchConsumer.accept(List.of(createStoreDocument(range.fromId())));
+
+			return 1L;
+		});
+	}
+
+	private StoreDocument createStoreDocument(long id) {
+		return StoreDocument.of(String.valueOf(id), 127.0, 37.5, "업체" + id, StoreStatus.OPENED, LocalTime.of(9, 0),
+			LocalTime.of(22, 0), "image", List.of());
+	}
+}
@@ -0,0 +1,100 @@
+package com.palpal.dealightbe.domain.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.palpal.dealightbe.config.ElasticSearchProperty;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSearchCacheTest {
+
+	// 강남역, 강남역에서 약 100m 떨어진 지점, 부산역
+	private static final double GANGNAM_X = 127.0279372;
+	private static final double GANGNAM_Y = 37.4980136;
+	private static final double NEAR_GANGNAM_X = 127.0285;
+	private static final double NEAR_GANGNAM_Y = 37.4985;
+	private static final double BUSAN_X = 129.0415;
+	private static final double BUSAN_Y = 35.1151;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private StoreSearchCache storeSearchCache;
+
+	@BeforeEach
+	void setUp() {
+		storeSearchCache = new StoreSearchCache(new ElasticSearchProperty(), stringRedisTemplate,
+			redisMessageListenerContainer, new SimpleMeterRegistry());
+	}
+
+	@DisplayName("같은 셀에서 들어온 같은 검색은 캐시된 결과를 사용한다")
+	@Test
+	void reuseResultInSameCell() {
+		// given
+		AtomicInteger searchCount = new AtomicInteger();
+		StoreSearchCacheKey first = StoreSearchCacheKey.of(GANGNAM_X, GANGNAM_Y, "떡볶이", "distance", null,
+			PageRequest.of(0, 10));
+		StoreSearchCacheKey second = StoreSearchCacheKey.of(NEAR_GANGNAM_X, NEAR_GANGNAM_Y, "  떡볶이 ", "DISTANCE", null,
+			PageRequest.of(0, 10));
+
+		// when
+		storeSearchCache.get(first, key -> search(searchCount));
+		storeSearchCache.get(second, key -> search(searchCount));
+
+		// then
+		assertThat(second).isEqualTo(first);
+		assertThat(searchCount.get()).isEqualTo(1);
+	}
+
+	@DisplayName("업체가 바뀌면 그 주변 셀의 결과만 비운다")
+	@Test
+	void evictOnlyAroundChangedStore() {
+		// given
+		AtomicInteger searchCount = new AtomicInteger();
+		StoreSearchCacheKey gangnam = StoreSearchCacheKey.of(GANGNAM_X, GANGNAM_Y, "떡볶이", "distance", null,
+			PageRequest.of(0, 10));
+		StoreSearchCacheKey busan = StoreSearchCacheKey.of(BUSAN_X, BUSAN_Y, "떡볶이", "distance", null,
+			PageRequest.of(0, 10));
+		storeSearchCache.get(gangnam, key -> search(searchCount));
+		storeSearchCache.get(busan, key -> search(searchCount));
+
+		StoreDocument changedStore = StoreDocument.builder()
+			.id("1")
+			.location(new GeoPoint(NEAR_GANGNAM_Y, NEAR_GANGNAM_X))
+			.build();
+
+		// when
+		storeSearchCache.evictAround(List.of(changedStore));
+		storeSearchCache.get(gangnam, key -> search(searchCount));
+		storeSearchCache.get(busan, key -> search(searchCount));
+
+		// then
+		assertThat(searchCount.get()).isEqualTo(3);
+	}
+
+	private StoreSearchRes search(AtomicInteger searchCount) {
+		searchCount.incrementAndGet();
+
+		return new StoreSearchRes(List.of(), false, null);
+	}
+}
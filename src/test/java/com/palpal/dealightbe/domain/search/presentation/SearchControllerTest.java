@@ -2,6 +2,7 @@ package com.palpal.dealightbe.domain.search.presentation;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -34,8 +35,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.palpal.dealightbe.config.SecurityConfig;
 import com.palpal.dealightbe.domain.search.application.SearchService;
+import com.palpal.dealightbe.domain.search.application.StoreIndexConsistencyService;
+import com.palpal.dealightbe.domain.search.application.StoreIndexRebuildService;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSearchRes;
+import com.palpal.dealightbe.domain.search.application.dto.response.StoreSuggestRes;
 import com.palpal.dealightbe.domain.store.application.dto.response.StoreInfoSliceRes;
-import com.palpal.dealightbe.domain.store.application.dto.response.StoresInfoSliceRes;
 
 @WebMvcTest(value = SearchController.class, excludeAutoConfiguration = {SecurityAutoConfiguration.class,
 	OAuth2ClientAutoConfiguration.class}, excludeFilters = {
@@ -52,6 +56,12 @@ class SearchControllerTest {
 	@MockBean
 	SearchService searchService;
 
+	@MockBean
+	StoreIndexRebuildService storeIndexRebuildService;
+
+	@MockBean
+	StoreIndexConsistencyService storeIndexConsistencyService;
+
 	@Test
 	@DisplayName("업체 검색")
 	void SearchByDefault() throws Exception {
@@ -67,11 +77,10 @@ class SearchControllerTest {
 
 		StoreInfoSliceRes store1 = new StoreInfoSliceRes(1L, "천하장사", LocalTime.of(19, 00), "image");
 		StoreInfoSliceRes store2 = new StoreInfoSliceRes(10L, "떡볶이 파는집", LocalTime.of(21, 30), "image");
-		StoresInfoSliceRes storesInfoSliceRes = new StoresInfoSliceRes(
-			List.of(store1, store2), false);
+		StoreSearchRes storeSearchRes = new StoreSearchRes(List.of(store1, store2), true, "eyJjZWxsIjoid3lkbTZ2OCJ9");
 
-		when(searchService.searchToES(anyDouble(), anyDouble(), any(), any(), any()))
-			.thenReturn(storesInfoSliceRes);
+		when(searchService.searchToES(anyDouble(), anyDouble(), any(), any(), any(), any()))
+			.thenReturn(storeSearchRes);
 
 		//when -> then
 		mockMvc.perform(RestDocumentationRequestBuilders.get("/api/search")
@@ -91,14 +100,53 @@ class SearchControllerTest {
 						parameterWithName("y-coordinate").description("위도"),
 						parameterWithName("keyword").description("검색어"),
 						parameterWithName("size").description("한 페이지 당 업체 목록 개수"),
-						parameterWithName("page").description("페이지 번호")
+						parameterWithName("page").description("페이지 번호"),
+						parameterWithName("cursor").description("이전 응답의 다음 페이지 커서 (첫 페이지는 생략)").optional()
 					)),
 				responseFields(
 					fieldWithPath("storeInfoSliceRes[0].storeId").description("조회된 업체 ID"),
 					fieldWithPath("storeInfoSliceRes[0].name").description("조회된 업체 이름"),
 					fieldWithPath("storeInfoSliceRes[0].closeTime").description("조회된 업체 마감 시간"),
 					fieldWithPath("storeInfoSliceRes[0].image").description("조회된 업체 이미지"),
-					fieldWithPath("hasNext").description("추가 결과 여부")
+					fieldWithPath("hasNext").description("추가 결과 여부"),
+					fieldWithPath("cursor").description("다음 페이지 조회에 사용할 커서")
+				)
+			));
+	}
+
+	@Test
+	@DisplayName("검색어 자동완성")
+	void suggest() throws Exception {
+
+		//given
+		double xCoordinate = 127.0279372;
+		double yCoordinate = 37.4980136;
+		String keyword = "떡";
+
+		StoreSuggestRes storeSuggestRes = new StoreSuggestRes(List.of("떡볶이", "떡볶이 파는집"));
+
+		when(searchService.suggest(any(), any(), any(), anyInt()))
+			.thenReturn(storeSuggestRes);
+
+		//when -> then
+		mockMvc.perform(RestDocumentationRequestBuilders.get("/api/search/suggest")
+				.contentType(APPLICATION_JSON)
+				.param("keyword", keyword)
+				.param("x-coordinate", String.valueOf(xCoordinate))
+				.param("y-coordinate", String.valueOf(yCoordinate)))
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(document("search/suggest",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					List.of(parameterWithName("keyword").description("입력 중인 검색어"),
+						parameterWithName("x-coordinate").description("경도 (생략하면 위치 제한 없음)").optional(),
+						parameterWithName("y-coordinate").description("위도 (생략하면 위치 제한 없음)").optional(),
+						parameterWithName("size").description("자동완성 후보 개수 (기본 5, 최대 10)").optional()
+					)),
+				responseFields(
+					fieldWithPath("keywords").description("자동완성 후보 검색어 목록")
 				)
 			));
 	}
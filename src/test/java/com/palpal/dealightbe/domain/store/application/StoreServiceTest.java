@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalTime;
@@ -20,10 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.palpal.dealightbe.domain.address.application.AddressService;
 import com.palpal.dealightbe.domain.address.domain.Address;
@@ -31,6 +35,7 @@ import com.palpal.dealightbe.domain.image.ImageService;
 import com.palpal.dealightbe.domain.image.application.dto.request.ImageUploadReq;
 import com.palpal.dealightbe.domain.image.application.dto.response.ImageRes;
 import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.member.application.MemberContext;
 import com.palpal.dealightbe.domain.member.domain.Member;
 import com.palpal.dealightbe.domain.member.domain.MemberRepository;
 import com.palpal.dealightbe.domain.store.application.dto.request.StoreCreateReq;
@@ -68,6 +73,12 @@ class StoreServiceTest {
 	@Mock
 	private ImageService imageService;
 
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	@Mock
+	private MemberContext memberContext;
+
 	@InjectMocks
 	private StoreService storeService;
 
@@ -135,6 +146,7 @@ class StoreServiceTest {
 			.build();
 		store.updateStatus(StoreStatus.OPENED);
 		store.updateMember(member);
+		ReflectionTestUtils.setField(store, "id", 1L);
 
 		store2 = Store.builder()
 			.storeNumber("8888")
@@ -308,9 +320,9 @@ class StoreServiceTest {
 	void getStoreInfoSuccessTest() throws Exception {
 
 		//given
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
-		when(storeRepository.findByMemberProviderId(member.getProviderId()))
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
+		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 
 		//when
@@ -328,26 +340,43 @@ class StoreServiceTest {
 	}
 
 	@Test
-	@DisplayName("업체 마이페이지 조회 실패 - 소유자와 요청자가 같지 않음")
+	@DisplayName("업체 마이페이지 조회 - 소유자와 요청자가 같지 않으면 요청자의 업체를 조회함")
 	void getStoreInfoSuccessTest_notMatchOwnerAndRequester() throws Exception {
 
 		//given
-		Member invalidMember = Member.builder()
-			.nickName("이홍섭")
-			.realName("김홍섭")
-			.phoneNumber("01330010101")
-			.provider("kakao")
-			.providerId(999L)
-			.build();
+		Long invalidProviderId = 999L;
+		ReflectionTestUtils.setField(store2, "id", 2L);
+
+		when(memberContext.getStoreId(invalidProviderId))
+			.thenReturn(store2.getId());
+		when(storeRepository.findById(store2.getId()))
+			.thenReturn(Optional.of(store2));
+
+		//when
+		StoreInfoRes infoRes = storeService.getInfo(invalidProviderId);
+
+		//then
+		assertThat(infoRes.name()).isEqualTo(store2.getName());
+		assertThat(infoRes.name()).isNotEqualTo(store.getName());
+		verify(storeRepository, never()).findById(store.getId());
+	}
+
+	@Test
+	@DisplayName("업체 상태 조회 실패 - 소유자와 요청자가 같지 않음")
+	void getStoreStatusFailureTest_notMatchOwnerAndRequester() throws Exception {
 
-		when(memberRepository.findMemberByProviderId(invalidMember.getProviderId()))
-			.thenReturn(Optional.of(invalidMember));
-		when(storeRepository.findByMemberProviderId(invalidMember.getProviderId()))
+		//given
+		Long invalidProviderId = 999L;
+		Long requesterStoreId = 2L;
+
+		when(memberContext.getStoreId(invalidProviderId))
+			.thenReturn(requesterStoreId);
+		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 
 		//when -> then
 		assertThrows(BusinessException.class, () -> {
-			storeService.getInfo(invalidMember.getProviderId());
+			storeService.getStatus(invalidProviderId, store.getId());
 		});
 	}
 
@@ -360,8 +389,8 @@ class StoreServiceTest {
 		LocalTime closeTime = LocalTime.of(12, 0);
 		StoreUpdateReq updateReq = new StoreUpdateReq("77777", "부산시 수영구", 123.123, 222.333, openTime, closeTime, Set.of(DayOff.TUE));
 
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
 		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 
@@ -387,8 +416,8 @@ class StoreServiceTest {
 		//given
 		StoreStatusReq requestStoreStatus = new StoreStatusReq(StoreStatus.OPENED);
 
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
 		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 		when(updatedStoreRepository.findById(any()))
@@ -411,8 +440,8 @@ class StoreServiceTest {
 		ImageUploadReq request = new ImageUploadReq(file);
 		String imageUrl = "http://fakeimageurl.com/image.jpg";
 
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
 		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 		when(imageService.store(file)).thenReturn(imageUrl);
@@ -432,8 +461,8 @@ class StoreServiceTest {
 		ImageUploadReq request = new ImageUploadReq(file);
 		String updatedImageUrl = "http://updatedfakeimageurl.com/updated_image.jpg";
 
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
 		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 
@@ -453,10 +482,9 @@ class StoreServiceTest {
 	void findByProviderIdSuccessTest() throws Exception {
 
 		//given
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
-
-		when((storeRepository.findByMemberProviderId(member.getProviderId())))
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(store.getId());
+		when(storeRepository.findById(store.getId()))
 			.thenReturn(Optional.of(store));
 
 		//when
@@ -472,10 +500,8 @@ class StoreServiceTest {
 	void findByProviderIdFailTest_notRegisterStore() throws Exception {
 
 		//given
-		when(memberRepository.findMemberByProviderId(member.getProviderId()))
-			.thenReturn(Optional.of(member));
-		when((storeRepository.findByMemberProviderId(member.getProviderId())))
-			.thenReturn(Optional.empty());
+		when(memberContext.getStoreId(member.getProviderId()))
+			.thenReturn(null);
 
 		//when -> then
 		assertThrows(EntityNotFoundException.class, () -> {
@@ -0,0 +1,151 @@
+package com.palpal.dealightbe.domain.store.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.palpal.dealightbe.config.FullTextConfig;
+import com.palpal.dealightbe.config.JpaConfig;
+import com.palpal.dealightbe.domain.address.domain.GeoBoundingBox;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 10만 개 업체에서 하버사인만 쓰는 주변 조회와 좌표 인덱스 사각형 범위를 먼저 거는 조회를 EXPLAIN 과 응답 시간으로 비교한다.
+ * 설정된 데이터소스(없으면 내장 H2)에서 돌며, ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@Import({JpaConfig.class, FullTextConfig.class})
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoreNearbyQueryBenchmarkTest {
+
+	private static final int STORE_COUNT = 100_000;
+	private static final int BATCH_SIZE = 5_000;
+	private static final long ID_OFFSET = 10_000_000L;
+	private static final int WARM_UP = 20;
+	private static final int ITERATIONS = 100;
+	private static final double X = 127.0279372;
+	private static final double Y = 37.4980136;
+	private static final String INDEX_NAME = "index_coordinates";
+
+	private static final String HAVERSINE = "(6371 * ACOS(COS(RADIANS(?)) * COS(RADIANS(a.y_coordinate)) "
+		+ "* COS(RADIANS(a.x_coordinate) - RADIANS(?)) + SIN(RADIANS(?)) * SIN(RADIANS(a.y_coordinate))))";
+	private static final String LEGACY_QUERY = "SELECT s.id FROM stores s JOIN addresses a ON a.id = s.address_id "
+		+ "WHERE s.store_status = 'OPENED' AND " + HAVERSINE + " <= 3 "
+		+ "ORDER BY " + HAVERSINE + ", s.id LIMIT 11";
+	private static final String BOUNDED_QUERY = "SELECT s.id FROM stores s JOIN addresses a ON a.id = s.address_id "
+		+ "WHERE s.store_status = 'OPENED' AND a.y_coordinate BETWEEN ? AND ? AND a.x_coordinate BETWEEN ? AND ? "
+		+ "AND " + HAVERSINE + " <= 3 "
+		+ "ORDER BY " + HAVERSINE + ", s.id LIMIT 11";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	@DisplayName("주변 업체 조회: 하버사인 전체 계산과 좌표 인덱스 사각형 범위 + 하버사인 비교")
+	@Test
+	void compareNearbyQueries() {
+		insertStores();
+		GeoBoundingBox boundingBox = GeoBoundingBox.around(X, Y, 3);
+		Object[] legacyArgs = {Y, X, Y, Y, X, Y};
+		Object[] boundedArgs = {boundingBox.minY(), boundingBox.maxY(), boundingBox.minX(), boundingBox.maxX(),
+			Y, X, Y, Y, X, Y};
+
+		String legacyPlan = explain(LEGACY_QUERY, legacyArgs);
+		String boundedPlan = explain(BOUNDED_QUERY, boundedArgs);
+		log.info("BENCHMARK:EXPLAIN:haversine : {}", legacyPlan);
+		log.info("BENCHMARK:EXPLAIN:bounding-box : {}", boundedPlan);
+		assertThat(boundedPlan.toLowerCase(Locale.ROOT)).contains(INDEX_NAME);
+
+		List<Long> legacyIds = measure("haversine", () -> jdbcTemplate.queryForList(LEGACY_QUERY, Long.class,
+			legacyArgs));
+		List<Long> boundedIds = measure("bounding-box", () -> jdbcTemplate.queryForList(BOUNDED_QUERY, Long.class,
+			boundedArgs));
+		assertThat(boundedIds).isEqualTo(legacyIds);
+
+		measure("store-repository", () -> storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(X, Y,
+			"가게", "distance", null, PageRequest.of(0, 10)).getContent());
+		measure("item-repository", () -> itemRepository.findAllByOpenedStatusAndDistanceWithin3KmAndSortCondition(X,
+			Y, "distance", null, PageRequest.of(0, 10)).getContent());
+	}
+
+	private String explain(String query, Object[] args) {
+		return jdbcTemplate.queryForList("EXPLAIN " + query, args).toString();
+	}
+
+	private <T> List<T> measure(String name, Supplier<List<T>> query) {
+		for (int i = 0; i < WARM_UP; i++) {
+			query.get();
+		}
+
+		long[] elapsedMicros = new long[ITERATIONS];
+		List<T> result = List.of();
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			result = query.get();
+			elapsedMicros[i] = (System.nanoTime() - startedAt) / 1_000;
+		}
+
+		Arrays.sort(elapsedMicros);
+		log.info("BENCHMARK:{} : rows => {}, avg => {}us, p50 => {}us, p95 => {}us", name, result.size(),
+			Arrays.stream(elapsedMicros).sum() / ITERATIONS, elapsedMicros[ITERATIONS / 2],
+			elapsedMicros[ITERATIONS * 95 / 100]);
+		return result;
+	}
+
+	// 대략 남한 전체 범위에 고르게 흩어진 업체, 업체마다 상품 하나
+	private void insertStores() {
+		Random random = new Random(42);
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		for (int start = 0; start < STORE_COUNT; start += BATCH_SIZE) {
+			List<Object[]> addresses = new ArrayList<>();
+			List<Object[]> stores = new ArrayList<>();
+			List<Object[]> items = new ArrayList<>();
+			for (int i = start; i < start + BATCH_SIZE; i++) {
+				long id = ID_OFFSET + i;
+				addresses.add(new Object[] {id, now, now, "주소 " + i, 126.0 + random.nextDouble() * 3.5,
+					33.0 + random.nextDouble() * 5.5});
+				stores.add(new Object[] {id, now, now, "가게 " + i, StoreStatus.OPENED.name(), "1234567890",
+					"0212345678", Time.valueOf(LocalTime.of(9, 0)), Time.valueOf(LocalTime.of(22, 0)), "image", id});
+				items.add(new Object[] {id, now, now, "상품 " + i, 10, 3000, 4000, "설명", "image", id, false});
+			}
+
+			jdbcTemplate.batchUpdate("INSERT INTO addresses(id, created_at, updated_at, name, x_coordinate, "
+				+ "y_coordinate) VALUES (?, ?, ?, ?, ?, ?)", addresses);
+			jdbcTemplate.batchUpdate("INSERT INTO stores(id, created_at, updated_at, name, store_status, "
+				+ "store_number, telephone, open_time, close_time, image, address_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", stores);
+			jdbcTemplate.batchUpdate("INSERT INTO items(id, created_at, updated_at, name, stock, discount_price, "
+				+ "original_price, description, image, store_id, is_deleted) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", items);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.palpal.dealightbe.domain.store.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.palpal.dealightbe.config.FullTextConfig;
+import com.palpal.dealightbe.config.JpaConfig;
+import com.palpal.dealightbe.domain.address.domain.Address;
+import com.palpal.dealightbe.domain.address.domain.AddressRepository;
+import com.palpal.dealightbe.domain.item.domain.Item;
+import com.palpal.dealightbe.domain.item.domain.ItemRepository;
+
+@Import({JpaConfig.class, FullTextConfig.class})
+@DataJpaTest
+class StoreRepositoryTest {
+
+	private static final double X = 127.0279372;
+	private static final double Y = 37.4980136;
+
+	@Autowired
+	private AddressRepository addressRepository;
+
+	@Autowired
+	private StoreRepository storeRepository;
+
+	@Autowired
+	private ItemRepository itemRepository;
+
+	private Store nearStore;
+	private Store middleStore;
+	private Store farStore;
+
+	// 거리순: nearStore(약 0km) < middleStore(약 0.5km) < farStore(약 1.1km), 업체마다 검색어에 맞는 상품이 여러 개 있다.
+	@BeforeEach
+	void setUp() {
+		nearStore = saveStore("동네 분식", Y, X, List.of("떡볶이", "치즈 떡볶이", "로제 떡볶이"));
+		middleStore = saveStore("가운데 분식", Y + 0.0045, X, List.of("떡볶이", "궁중 떡볶이"));
+		farStore = saveStore("떡볶이 천국", Y + 0.01, X, List.of("김밥", "떡볶이", "짜장 떡볶이"));
+		saveStore("김밥 나라", Y + 0.002, X, List.of("김밥", "참치 김밥"));
+	}
+
+	@DisplayName("상품이 여러 개 맞는 업체도 한 번만 나오고, 한 페이지가 업체 수만큼 채워진다")
+	@Test
+	void findByKeywordWithoutDuplicateStores() {
+		// when
+		Slice<Store> firstPage = storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(X, Y, "떡볶이",
+			"distance", null, PageRequest.of(0, 2));
+		Slice<Store> allStores = storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(X, Y, "떡볶이",
+			"distance", null, PageRequest.of(0, 10));
+
+		// then
+		assertThat(firstPage.getContent()).containsExactly(nearStore, middleStore);
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(allStores.getContent()).containsExactly(nearStore, middleStore, farStore);
+		assertThat(allStores.hasNext()).isFalse();
+	}
+
+	@DisplayName("업체명이나 상품명 중 하나만 맞아도 찾고, 둘 다 맞아도 한 번만 나온다")
+	@Test
+	void findByStoreNameOrItemName() {
+		// when
+		Slice<Store> stores = storeRepository.findByKeywordAndDistanceWithin3KmAndSortCondition(X, Y, "김밥",
+			"discount-rate", null, PageRequest.of(0, 10));
+
+		// then
+		assertThat(stores.getContent()).hasSize(2)
+			.doesNotHaveDuplicates()
+			.extracting(Store::getName)
+			.containsExactlyInAnyOrder("김밥 나라", "떡볶이 천국");
+	}
+
+	private Store saveStore(String name, double yCoordinate, double xCoordinate, List<String> itemNames) {
+		Address address = addressRepository.save(Address.builder()
+			.name(name + " 주소")
+			.xCoordinate(xCoordinate)
+			.yCoordinate(yCoordinate)
+			.build());
+
+		Store store = Store.builder()
+			.name(name)
+			.storeNumber("0000000")
+			.telephone("00000000")
+			.openTime(LocalTime.of(9, 0))
+			.closeTime(LocalTime.of(22, 0))
+			.dayOff(Collections.singleton(DayOff.MON))
+			.address(address)
+			.build();
+		store.updateStatus(StoreStatus.OPENED);
+		storeRepository.save(store);
+
+		for (String itemName : itemNames) {
+			itemRepository.save(Item.builder()
+				.name(itemName)
+				.stock(2)
+				.discountPrice(3000)
+				.originalPrice(4000)
+				.description(itemName + " 입니다.")
+				.image("https://fake-image.com/item.png")
+				.store(store)
+				.build());
+		}
+
+		return store;
+	}
+}
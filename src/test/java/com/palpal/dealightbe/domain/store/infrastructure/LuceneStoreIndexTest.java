@@ -0,0 +1,51 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LuceneStoreIndexTest {
+
+	@TempDir
+	Path basePath;
+
+	@DisplayName("검색 중에 색인이 교체되어 닫혀도 검색은 끝까지 응답하고, 파일은 검색이 끝난 뒤 지워진다")
+	@Test
+	void closeAfterRunningSearch() throws IOException {
+		// given
+		Path path = basePath.resolve("store-v1");
+		LuceneStoreIndex index = LuceneStoreIndex.open("store-v1", path, new StandardAnalyzer());
+		Document document = new Document();
+		document.add(new StringField(LuceneStoreIndex.BLOCK_FIELD, "1", Field.Store.NO));
+		index.update("1", List.of(document));
+		index.commit();
+
+		// when
+		int count = index.search(searcher -> {
+			index.closeAndDeleteFiles();
+			return searcher.count(new MatchAllDocsQuery());
+		});
+
+		// then
+		assertThat(count).isEqualTo(1);
+		assertThat(Files.exists(path)).isFalse();
+		assertThatThrownBy(() -> index.search(searcher -> searcher.count(new MatchAllDocsQuery())))
+			.isInstanceOf(AlreadyClosedException.class);
+		assertThatThrownBy(index::commit)
+			.isInstanceOf(AlreadyClosedException.class);
+	}
+}
@@ -0,0 +1,193 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+
+import com.palpal.dealightbe.config.LuceneSearchProperty;
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+import com.palpal.dealightbe.global.elasticsearch.BulkIndexResult;
+
+class LuceneStoreSearchRepositoryTest {
+
+	private static final double X = 127.0279372;
+	private static final double Y = 37.4980136;
+	private static final int ROUNDS = 200;
+
+	@TempDir
+	Path indexPath;
+
+	private LuceneStoreSearchRepository luceneStoreSearchRepository;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		LuceneSearchProperty luceneSearchProperty = new LuceneSearchProperty();
+		luceneSearchProperty.setIndexPath(indexPath.toString());
+		luceneStoreSearchRepository = new LuceneStoreSearchRepository(luceneSearchProperty);
+		luceneStoreSearchRepository.open();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		luceneStoreSearchRepository.close();
+	}
+
+	@DisplayName("3km 안의 영업 중인 업체를 업체명 또는 재고가 남은 상품명으로 찾고, 커서로 다음 페이지를 이어서 조회한다")
+	@Test
+	void searchStores() {
+		// given
+		luceneStoreSearchRepository.bulkInsertOrUpdate(List.of(
+			createStore("1", "신전 떡볶이", StoreStatus.OPENED, Y, X, createItem("11", "치즈 김밥", 3)),
+			createStore("2", "분식천국", StoreStatus.OPENED, Y + 0.001, X, createItem("21", "떡볶이", 5)),
+			createStore("3", "김밥나라", StoreStatus.OPENED, Y + 0.002, X, createItem("31", "떡볶이", 0)),
+			createStore("4", "엽기 떡볶이", StoreStatus.CLOSED, Y, X),
+			createStore("5", "동대문 떡볶이", StoreStatus.OPENED, Y + 0.1, X)));
+
+		// when
+		StoreSearchSlice first = luceneStoreSearchRepository.searchStores(X, Y, "떡볶이", "distance",
+			System.currentTimeMillis(), null, PageRequest.of(0, 1));
+		StoreSearchSlice second = luceneStoreSearchRepository.searchStores(X, Y, "떡볶이", "distance",
+			System.currentTimeMillis(), first.lastSortValues(), PageRequest.of(0, 1));
+
+		// then
+		assertThat(first.storeDocuments()).extracting(StoreDocument::getId).containsExactly("1");
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.storeDocuments()).extracting(StoreDocument::getId).containsExactly("2");
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@DisplayName("재고와 영업 상태의 부분 갱신을 검색 결과에 바로 반영하고, 색인되지 않은 업체는 404 실패로 돌려준다")
+	@Test
+	void partialUpdates() {
+		// given
+		luceneStoreSearchRepository.bulkInsertOrUpdate(List.of(
+			createStore("1", "분식천국", StoreStatus.OPENED, Y, X, createItem("11", "떡볶이", 5)),
+			createStore("2", "김밥나라", StoreStatus.CLOSED, Y, X, createItem("21", "떡볶이", 5))));
+
+		// when
+		BulkIndexResult stockResult = luceneStoreSearchRepository.bulkUpdateItemStocks(
+			Map.of("1", Map.of("11", 0), "99", Map.of("991", 1)));
+		luceneStoreSearchRepository.bulkUpdateStatusAndItems(Map.of("2", StoreStatus.OPENED), Map.of());
+
+		// then
+		assertThat(stockResult.failures()).singleElement()
+			.satisfies(failure -> {
+				assertThat(failure.id()).isEqualTo("99");
+				assertThat(failure.status()).isEqualTo(404);
+			});
+		assertThat(luceneStoreSearchRepository.findAllByIds(List.of("1")).get(0).getItems().get(0).getStock())
+			.isZero();
+		assertThat(luceneStoreSearchRepository.searchStores(X, Y, "떡볶이", "distance", System.currentTimeMillis(),
+			null, PageRequest.of(0, 10)).storeDocuments())
+			.extracting(StoreDocument::getId)
+			.containsExactly("2");
+	}
+
+	@DisplayName("재구축한 색인을 검증한 뒤 조회 대상으로 교체하면 재시작 후에도 새 색인을 연다")
+	@Test
+	void publishRebuildTarget() throws IOException {
+		// given
+		luceneStoreSearchRepository.bulkInsertOrUpdate(List.of(
+			createStore("1", "분식천국", StoreStatus.OPENED, Y, X)));
+		String target = luceneStoreSearchRepository.createRebuildTarget();
+		luceneStoreSearchRepository.bulkInsertOrUpdate(List.of(
+			createStore("2", "김밥나라", StoreStatus.OPENED, Y, X),
+			createStore("3", "떡볶이 천국", StoreStatus.OPENED, Y, X)), target);
+		luceneStoreSearchRepository.finishLoading(target);
+
+		// when
+		long count = luceneStoreSearchRepository.count(target);
+		luceneStoreSearchRepository.publish(target);
+		luceneStoreSearchRepository.close();
+		luceneStoreSearchRepository.open();
+
+		// then
+		assertThat(count).isEqualTo(2);
+		assertThat(luceneStoreSearchRepository.findAllByIds(List.of("1", "2", "3")))
+			.extracting(StoreDocument::getId)
+			.containsExactly("2", "3");
+	}
+
+	@DisplayName("재고 반영과 영업 상태 변경이 동시에 실행되어도 서로의 변경을 덮어쓰지 않는다")
+	@Test
+	void concurrentPartialUpdates() throws Exception {
+		// given
+		luceneStoreSearchRepository.bulkInsertOrUpdate(List.of(
+			createStore("1", "분식천국", StoreStatus.OPENED, Y, X, createItem("11", "떡볶이", 0))));
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+			for (int round = 1; round <= ROUNDS; round++) {
+				int stock = round;
+				StoreStatus storeStatus = round % 2 == 0 ? StoreStatus.OPENED : StoreStatus.CLOSED;
+				CountDownLatch start = new CountDownLatch(1);
+
+				// when
+				Future<?> stockFlush = executorService.submit(() -> {
+					start.await();
+					return luceneStoreSearchRepository.bulkUpdateItemStocks(Map.of("1", Map.of("11", stock)));
+				});
+				Future<?> statusChange = executorService.submit(() -> {
+					start.await();
+					return luceneStoreSearchRepository.bulkUpdateStatusAndItems(Map.of("1", storeStatus), Map.of());
+				});
+				start.countDown();
+				stockFlush.get();
+				statusChange.get();
+
+				// then
+				StoreDocument storeDocument = luceneStoreSearchRepository.findAllByIds(List.of("1")).get(0);
+				assertThat(storeDocument.getStoreStatus()).isEqualTo(storeStatus);
+				assertThat(storeDocument.getItems().get(0).getStock()).isEqualTo(stock);
+			}
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private StoreDocument createStore(String id, String name, StoreStatus storeStatus, double lat, double lon,
+		ItemDocument... items) {
+		List<ItemDocument> itemDocuments = List.of(items);
+
+		return StoreDocument.builder()
+			.id(id)
+			.location(new GeoPoint(lat, lon))
+			.name(name)
+			.storeStatus(storeStatus)
+			.openTime("09:00")
+			.closeTime("21:00")
+			.closeMinuteOfDay(21 * 60)
+			.maxDiscountRate(StoreDocument.maxDiscountRateOf(itemDocuments))
+			.items(itemDocuments)
+			.suggest(StoreDocument.suggestionOf(name, itemDocuments))
+			.build();
+	}
+
+	private ItemDocument createItem(String id, String name, int stock) {
+		return ItemDocument.builder()
+			.id(id)
+			.itemId(Long.valueOf(id))
+			.name(name)
+			.discountPrice(3000)
+			.originalPrice(4000)
+			.stock(stock)
+			.build();
+	}
+}
@@ -0,0 +1,190 @@
+package com.palpal.dealightbe.domain.store.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.apache.lucene.search.join.ScoreMode;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.sort.NestedSortBuilder;
+import org.elasticsearch.search.sort.ScriptSortBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+
+import com.palpal.dealightbe.common.IntegrationTest;
+import com.palpal.dealightbe.domain.item.domain.ItemDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreDocument;
+import com.palpal.dealightbe.domain.store.domain.StoreStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 10만 개 업체에서 스크립트/nested 정렬과 색인 시점 필드 정렬의 응답 시간을 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class StoreSortBenchmarkTest extends IntegrationTest {
+
+	private static final IndexCoordinates BENCHMARK_INDEX = IndexCoordinates.of("store-sort-benchmark");
+	private static final int STORE_COUNT = 100_000;
+	private static final int BATCH_SIZE = 5_000;
+	private static final int WARM_UP = 20;
+	private static final int ITERATIONS = 100;
+	private static final double X = 127.0279372;
+	private static final double Y = 37.4980136;
+	private static final String KEYWORD = "떡볶이";
+
+	@Autowired
+	private ElasticsearchOperations operations;
+
+	@Autowired
+	private StoreSearchRepositoryImpl storeSearchRepositoryImpl;
+
+	@BeforeEach
+	void setUp() {
+		IndexOperations templateOps = operations.indexOps(StoreDocument.class);
+		IndexOperations benchmarkOps = operations.indexOps(BENCHMARK_INDEX);
+		if (benchmarkOps.exists()) {
+			benchmarkOps.delete();
+		}
+		benchmarkOps.create(templateOps.createSettings(), templateOps.createMapping());
+
+		Random random = new Random(42);
+		for (int start = 0; start < STORE_COUNT; start += BATCH_SIZE) {
+			List<StoreDocument> storeDocuments = new ArrayList<>();
+			for (int id = start; id < start + BATCH_SIZE; id++) {
+				storeDocuments.add(createStoreDocument(id, random));
+			}
+			assertThat(storeSearchRepositoryImpl.bulkInsertOrUpdate(storeDocuments, BENCHMARK_INDEX).hasFailures())
+				.isFalse();
+		}
+		benchmarkOps.refresh();
+	}
+
+	@AfterEach
+	void tearDown() {
+		operations.indexOps(BENCHMARK_INDEX).delete();
+	}
+
+	@DisplayName("마감 임박순: painless 스크립트 정렬과 감쇠 점수 정렬 비교")
+	@Test
+	void compareDeadlineSort() {
+		long now = System.currentTimeMillis();
+		String script = "Math.abs(doc['closeTime'].value.toInstant().toEpochMilli() - params.currentTimeMillis)";
+		SortBuilder<?> scriptSort = SortBuilders.scriptSort(
+				new Script(ScriptType.INLINE, "painless", script, Collections.singletonMap("currentTimeMillis", now)),
+				ScriptSortBuilder.ScriptSortType.NUMBER)
+			.order(SortOrder.DESC);
+
+		measure("deadline:script", () -> legacyQuery(scriptSort));
+		measure("deadline:decay", () -> storeSearchRepositoryImpl.buildStoreSearchQuery(X, Y, KEYWORD, "deadline",
+			now, PageRequest.of(0, 10)));
+	}
+
+	@DisplayName("할인율순: nested 정렬과 maxDiscountRate 필드 정렬 비교")
+	@Test
+	void compareDiscountRateSort() {
+		SortBuilder<?> nestedSort = SortBuilders.fieldSort("items.discountRate")
+			.setNestedSort(new NestedSortBuilder("items"))
+			.order(SortOrder.DESC);
+
+		measure("discount-rate:nested", () -> legacyQuery(nestedSort));
+		measure("discount-rate:field", () -> storeSearchRepositoryImpl.buildStoreSearchQuery(X, Y, KEYWORD,
+			"discount-rate", System.currentTimeMillis(), PageRequest.of(0, 10)));
+	}
+
+	private NativeSearchQuery legacyQuery(SortBuilder<?> sortBuilder) {
+		BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
+			.must(QueryBuilders.geoDistanceQuery("location").point(Y, X).distance("3km"))
+			.must(QueryBuilders.boolQuery()
+				.should(QueryBuilders.matchQuery("name", KEYWORD).operator(Operator.AND))
+				.should(QueryBuilders.nestedQuery("items", QueryBuilders.matchQuery("items.name", KEYWORD),
+					ScoreMode.None)))
+			.must(QueryBuilders.matchQuery("storeStatus", "OPENED"));
+
+		return new NativeSearchQueryBuilder()
+			.withQuery(boolQuery)
+			.withSorts(sortBuilder)
+			.withPageable(PageRequest.of(0, 10))
+			.build();
+	}
+
+	private void measure(String name, Supplier<NativeSearchQuery> querySupplier) {
+		for (int i = 0; i < WARM_UP; i++) {
+			operations.search(querySupplier.get(), StoreDocument.class, BENCHMARK_INDEX);
+		}
+
+		long[] elapsedMicros = new long[ITERATIONS];
+		long totalHits = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			SearchHits<StoreDocument> searchHits = operations.search(querySupplier.get(), StoreDocument.class,
+				BENCHMARK_INDEX);
+			elapsedMicros[i] = (System.nanoTime() - startedAt) / 1_000;
+			totalHits = searchHits.getTotalHits();
+		}
+
+		Arrays.sort(elapsedMicros);
+		log.info("BENCHMARK:{} : hits => {}, avg => {}us, p50 => {}us, p95 => {}us", name, totalHits,
+			Arrays.stream(elapsedMicros).sum() / ITERATIONS, elapsedMicros[ITERATIONS / 2],
+			elapsedMicros[ITERATIONS * 95 / 100]);
+	}
+
+	// 검색 반경(3km) 안에 고르게 흩어진 영업 중 업체
+	private StoreDocument createStoreDocument(int id, Random random) {
+		List<ItemDocument> items = List.of(createItem(id, 0, random), createItem(id, 1, random),
+			createItem(id, 2, random));
+		LocalTime closeTime = LocalTime.of(random.nextInt(24), random.nextInt(60));
+
+		return StoreDocument.builder()
+			.id(String.valueOf(id))
+			.location(new GeoPoint(Y + (random.nextDouble() - 0.5) * 0.04, X + (random.nextDouble() - 0.5) * 0.04))
+			.name(KEYWORD + " 가게 " + id)
+			.storeStatus(StoreStatus.OPENED)
+			.openTime("09:00")
+			.closeTime(closeTime.toString())
+			.closeMinuteOfDay(StoreDocument.toMinuteOfDay(closeTime))
+			.maxDiscountRate(StoreDocument.maxDiscountRateOf(items))
+			.image("image")
+			.items(items)
+			.build();
+	}
+
+	private ItemDocument createItem(int storeId, int index, Random random) {
+		int originalPrice = 10_000 + random.nextInt(10_000);
+
+		return ItemDocument.builder()
+			.id(storeId + "-" + index)
+			.name("상품 " + index)
+			.storeId(String.valueOf(storeId))
+			.originalPrice(originalPrice)
+			.discountPrice(originalPrice - random.nextInt(originalPrice / 2))
+			.build();
+	}
+}
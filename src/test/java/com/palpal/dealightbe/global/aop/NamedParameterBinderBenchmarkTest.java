@@ -0,0 +1,82 @@
+package com.palpal.dealightbe.global.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출마다 파라미터 이름을 비교하던 방식과 메서드별로 위치를 한 번만 찾아 두는 방식의 인자 주입 비용을 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class NamedParameterBinderBenchmarkTest {
+
+	private static final String PROVIDER_ID = "providerId";
+	private static final int WARM_UP = 100_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	@DisplayName("providerId 주입: 호출마다 리플렉션으로 찾기와 메서드별 위치 캐시 비교")
+	@Test
+	void compareParameterBinding() throws NoSuchMethodException {
+		Method method = Handler.class.getDeclaredMethod("handle", Long.class, Long.class, String.class);
+		NamedParameterBinder namedParameterBinder = new NamedParameterBinder(Set.of(PROVIDER_ID));
+
+		measure("reflection-per-call", () -> bindLegacy(method, new Object[] {null, 10L, "type"}, 1L));
+		measure("cached-parameter-index", () -> namedParameterBinder.bind(method, new Object[] {null, 10L, "type"},
+			1L));
+	}
+
+	// 기존 ProviderIdAop 의 방식
+	private Object[] bindLegacy(Method method, Object[] parameters, Long providerId) {
+		Parameter[] methodParameters = method.getParameters();
+
+		for (int i = 0; i < methodParameters.length; i++) {
+			String parameterName = methodParameters[i].getName();
+			if (parameterName.equals(PROVIDER_ID)) {
+				if (parameters[i] != null) {
+					break;
+				}
+				parameters[i] = providerId;
+			}
+		}
+
+		return parameters;
+	}
+
+	private void measure(String name, Supplier<Object[]> task) {
+		for (int i = 0; i < WARM_UP; i++) {
+			task.get();
+		}
+
+		long[] elapsedNanos = new long[ITERATIONS];
+		Object[] args = null;
+		for (int i = 0; i < ITERATIONS; i++) {
+			long startedAt = System.nanoTime();
+			args = task.get();
+			elapsedNanos[i] = System.nanoTime() - startedAt;
+		}
+
+		assertThat(args).containsExactly(1L, 10L, "type");
+		Arrays.sort(elapsedNanos);
+		log.info("BENCHMARK:{} : avg => {}ns, p50 => {}ns, p99 => {}ns", name,
+			Arrays.stream(elapsedNanos).sum() / ITERATIONS, elapsedNanos[ITERATIONS / 2],
+			elapsedNanos[ITERATIONS * 99 / 100]);
+	}
+
+	private static class Handler {
+
+		void handle(Long providerId, Long itemId, String type) {
+		}
+	}
+}
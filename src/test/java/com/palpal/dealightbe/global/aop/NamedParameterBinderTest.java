@@ -0,0 +1,48 @@
+package com.palpal.dealightbe.global.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NamedParameterBinderTest {
+
+	private final NamedParameterBinder namedParameterBinder = new NamedParameterBinder(Set.of("providerId"));
+
+	@DisplayName("이름이 맞는 비어 있는 파라미터에만 값을 채운다")
+	@Test
+	void bindNamedParameter() throws NoSuchMethodException {
+		// given
+		Method method = Handler.class.getDeclaredMethod("handle", Long.class, Long.class);
+
+		// when
+		Object[] first = namedParameterBinder.bind(method, new Object[] {null, 10L}, 1L);
+		Object[] second = namedParameterBinder.bind(method, new Object[] {null, 20L}, 2L);
+
+		// then
+		assertThat(first).containsExactly(1L, 10L);
+		assertThat(second).containsExactly(2L, 20L);
+	}
+
+	@DisplayName("이미 값이 들어 있으면 덮어쓰지 않는다")
+	@Test
+	void keepBoundParameter() throws NoSuchMethodException {
+		// given
+		Method method = Handler.class.getDeclaredMethod("handle", Long.class, Long.class);
+
+		// when
+		Object[] args = namedParameterBinder.bind(method, new Object[] {5L, 10L}, 1L);
+
+		// then
+		assertThat(args).containsExactly(5L, 10L);
+	}
+
+	private static class Handler {
+
+		void handle(Long providerId, Long itemId) {
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.palpal.dealightbe.global.cache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheInvalidatorTest {
+
+	private static final String STORE_ENTITY = "com.palpal.dealightbe.domain.store.domain.Store";
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactoryImplementor sessionFactory;
+
+	@Mock
+	private CacheImplementor cache;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	private EntityCacheInvalidator entityCacheInvalidator;
+
+	@BeforeEach
+	void setUp() {
+		when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+		entityCacheInvalidator = new EntityCacheInvalidator(entityManagerFactory, stringRedisTemplate,
+			redisMessageListenerContainer);
+	}
+
+	@DisplayName("다른 인스턴스가 보낸 메시지의 엔티티와 컬렉션을 캐시에서 지운다")
+	@Test
+	void evictFromOtherInstance() {
+		// given
+		when(sessionFactory.getCache()).thenReturn(cache);
+
+		// when
+		entityCacheInvalidator.evictLocally("other-instance\nE|" + STORE_ENTITY + "|1\nC|" + STORE_ENTITY + ".dayOffs|1");
+
+		// then
+		verify(cache).evictEntityData(STORE_ENTITY, 1L);
+		verify(cache).evictCollectionData(STORE_ENTITY + ".dayOffs", 1L);
+	}
+
+	@DisplayName("id 가 숫자가 아닌 줄은 건너뛰고 나머지 줄은 캐시에서 지운다")
+	@Test
+	void skipInvalidId() {
+		// given
+		when(sessionFactory.getCache()).thenReturn(cache);
+
+		// when
+		entityCacheInvalidator.evictLocally("other-instance\nE|" + STORE_ENTITY + "|abc\nE|" + STORE_ENTITY + "|2");
+
+		// then
+		verify(cache).evictEntityData(anyString(), any());
+		verify(cache).evictEntityData(STORE_ENTITY, 2L);
+	}
+
+	@DisplayName("캐시되는 엔티티가 바뀌면 알리고, 자신이 보낸 메시지로는 캐시를 지우지 않는다")
+	@Test
+	void publishAndIgnoreOwnMessage() {
+		// given
+		EntityPersister persister = mock(EntityPersister.class);
+		when(persister.canWriteToCache()).thenReturn(true);
+		when(persister.getEntityName()).thenReturn(STORE_ENTITY);
+		PostUpdateEvent event = new PostUpdateEvent(null, 1L, null, null, null, persister, null);
+
+		// when
+		entityCacheInvalidator.onPostUpdate(event);
+
+		// then
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(eq(EntityCacheInvalidator.INVALIDATION_CHANNEL), message.capture());
+		entityCacheInvalidator.evictLocally(message.getValue());
+		verify(cache, never()).evictEntityData(anyString(), any());
+	}
+}
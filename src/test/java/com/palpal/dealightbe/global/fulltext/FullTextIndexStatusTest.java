@@ -0,0 +1,62 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FullTextIndexStatusTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@InjectMocks
+	private FullTextIndexStatus fullTextIndexStatus;
+
+	@DisplayName("MySQL 에 FULLTEXT 인덱스가 하나라도 없으면 키워드 검색에 쓰지 않고, 인덱스가 생기면 다시 쓴다")
+	@Test
+	@SuppressWarnings("unchecked")
+	void availableOnlyWhenAllIndexesExist() {
+		// given
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+		when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("stores"),
+			eq("index_stores_name_fulltext"))).thenReturn(1);
+		when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("items"),
+			eq("index_items_name_fulltext"))).thenReturn(0, 1);
+
+		// when
+		fullTextIndexStatus.refresh();
+		boolean beforeCreated = fullTextIndexStatus.isAvailable();
+		fullTextIndexStatus.refresh();
+		boolean afterCreated = fullTextIndexStatus.isAvailable();
+
+		// then
+		assertThat(beforeCreated).isFalse();
+		assertThat(afterCreated).isTrue();
+	}
+
+	@DisplayName("MySQL 이 아니면 match_against 가 LOCATE 로 바뀌므로 인덱스 없이 쓴다")
+	@Test
+	@SuppressWarnings("unchecked")
+	void availableWithoutMySql() {
+		// given
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+		// when
+		fullTextIndexStatus.refresh();
+
+		// then
+		assertThat(fullTextIndexStatus.isAvailable()).isTrue();
+	}
+}
@@ -0,0 +1,51 @@
+package com.palpal.dealightbe.global.fulltext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MatchAgainstFunctionTest {
+
+	private final MatchAgainstFunction matchAgainstFunction = new MatchAgainstFunction();
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private SessionFactoryImplementor sessionFactory;
+
+	@DisplayName("MySQL 에서는 BOOLEAN MODE 의 MATCH ... AGAINST 로 바꾼다")
+	@Test
+	void renderMySql() {
+		// given
+		when(sessionFactory.getJdbcServices().getDialect()).thenReturn(new MySQL8Dialect());
+
+		// when
+		String sql = matchAgainstFunction.render(null, List.of("store0_.name", "?"), sessionFactory);
+
+		// then
+		assertThat(sql).isEqualTo("MATCH(store0_.name) AGAINST(? IN BOOLEAN MODE)");
+	}
+
+	@DisplayName("FULLTEXT 인덱스가 없는 DB 에서는 큰따옴표를 뗀 검색어의 부분 문자열 위치로 대신한다")
+	@Test
+	void renderOtherDatabase() {
+		// given
+		when(sessionFactory.getJdbcServices().getDialect()).thenReturn(new H2Dialect());
+
+		// when
+		String sql = matchAgainstFunction.render(null, List.of("store0_.name", "?"), sessionFactory);
+
+		// then
+		assertThat(sql).isEqualTo("LOCATE(REPLACE(?, '\"', ''), store0_.name)");
+	}
+}
@@ -0,0 +1,118 @@
+package com.palpal.dealightbe.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedLockAopTest {
+
+	private static final String KEY = "scheduler:test";
+
+	@Mock
+	private RedisLockManager redisLockManager;
+
+	@Mock
+	private ProceedingJoinPoint proceedingJoinPoint;
+
+	private SimpleMeterRegistry meterRegistry;
+	private DistributedLockAop distributedLockAop;
+	private DistributedLock distributedLock;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		distributedLockAop = new DistributedLockAop(redisLockManager, meterRegistry);
+
+		distributedLock = mock(DistributedLock.class);
+		when(distributedLock.key()).thenReturn(KEY);
+		when(distributedLock.leaseTime()).thenReturn(30L);
+		when(distributedLock.timeUnit()).thenReturn(TimeUnit.SECONDS);
+	}
+
+	@DisplayName("락을 획득하면 작업을 실행하고 lock token 을 노출한 뒤 락을 해제한다")
+	@Test
+	void proceedWhenLockAcquired() throws Throwable {
+		// given
+		LockHandle lockHandle = new LockHandle("lock:" + KEY, "instance:7", 7L);
+		when(redisLockManager.tryLock(KEY, Duration.ofSeconds(30))).thenReturn(Optional.of(lockHandle));
+		when(proceedingJoinPoint.proceed()).thenAnswer(invocation -> LockTokenHolder.get().orElse(null));
+
+		// when
+		Object result = distributedLockAop.lock(proceedingJoinPoint, distributedLock);
+
+		// then
+		assertThat(result).isEqualTo(7L);
+		assertThat(LockTokenHolder.get()).isEmpty();
+		verify(redisLockManager).unlock(lockHandle);
+		assertThat(meterRegistry.get("scheduler.lock.hold").tag("lock", KEY).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("scheduler.lock.acquired").tag("lock", KEY).counter().count()).isEqualTo(1);
+	}
+
+	@DisplayName("lockAtLeastFor 전에 작업이 끝나면 락을 바로 지우지 않고 남은 시간만큼 유지한다")
+	@Test
+	void holdLockAtLeastFor() throws Throwable {
+		// given
+		LockHandle lockHandle = new LockHandle("lock:" + KEY, "instance:7", 7L);
+		when(distributedLock.lockAtLeastFor()).thenReturn(60L);
+		when(redisLockManager.tryLock(KEY, Duration.ofSeconds(30))).thenReturn(Optional.of(lockHandle));
+
+		// when
+		distributedLockAop.lock(proceedingJoinPoint, distributedLock);
+
+		// then
+		ArgumentCaptor<Duration> remaining = ArgumentCaptor.forClass(Duration.class);
+		verify(redisLockManager).unlockAfter(eq(lockHandle), remaining.capture());
+		assertThat(remaining.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(60));
+		verify(redisLockManager, never()).unlock(any());
+	}
+
+	@DisplayName("다른 인스턴스가 락을 보유 중이면 작업을 건너뛴다")
+	@Test
+	void skipWhenLockHeldByOtherInstance() throws Throwable {
+		// given
+		when(redisLockManager.tryLock(eq(KEY), any())).thenReturn(Optional.empty());
+
+		// when
+		distributedLockAop.lock(proceedingJoinPoint, distributedLock);
+
+		// then
+		verify(proceedingJoinPoint, never()).proceed();
+		verify(redisLockManager, never()).unlock(any());
+		assertThat(meterRegistry.get("scheduler.lock.skipped").tag("lock", KEY).counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("scheduler.lock.wait").tag("lock", KEY).timer().count()).isEqualTo(1);
+	}
+
+	@DisplayName("Redis 에 접근할 수 없으면 작업을 건너뛴다")
+	@Test
+	void skipWhenRedisUnavailable() throws Throwable {
+		// given
+		when(redisLockManager.tryLock(eq(KEY), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+		// when
+		distributedLockAop.lock(proceedingJoinPoint, distributedLock);
+
+		// then
+		verify(proceedingJoinPoint, never()).proceed();
+	}
+}
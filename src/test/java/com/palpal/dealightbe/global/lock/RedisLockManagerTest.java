@@ -0,0 +1,77 @@
+package com.palpal.dealightbe.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLockManagerTest {
+
+	private static final String NAME = "scheduler:test";
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	private RedisLockManager redisLockManager;
+
+	@BeforeEach
+	void setUp() {
+		redisLockManager = new RedisLockManager(stringRedisTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisLockManager.shutdown();
+	}
+
+	@DisplayName("락을 얻으면 같은 스크립트에서 발급한 번호를 핸들에 담는다")
+	@Test
+	void tryLockSuccess() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("lock:" + NAME, "lock:token:" + NAME)),
+			anyString(), eq("30000"))).thenReturn(8L);
+
+		// when
+		Optional<LockHandle> lockHandle = redisLockManager.tryLock(NAME, Duration.ofSeconds(30));
+
+		// then
+		assertThat(lockHandle).isPresent();
+		assertThat(lockHandle.get().getKey()).isEqualTo("lock:" + NAME);
+		assertThat(lockHandle.get().getToken()).isEqualTo(8L);
+		assertThat(lockHandle.get().getValue()).endsWith(":8");
+		lockHandle.get().cancelRenewal();
+	}
+
+	@DisplayName("다른 인스턴스가 락을 보유 중이면 번호를 발급하지 않고 빈 값을 돌려준다")
+	@Test
+	void tryLockHeldByOtherInstance() {
+		// given
+		when(stringRedisTemplate.execute(any(RedisScript.class), any(List.class), anyString(), anyString()))
+			.thenReturn(0L);
+
+		// when
+		Optional<LockHandle> lockHandle = redisLockManager.tryLock(NAME, Duration.ofSeconds(30));
+
+		// then
+		assertThat(lockHandle).isEmpty();
+		verify(stringRedisTemplate, never()).opsForValue();
+	}
+}